@@ -26,10 +26,12 @@ package net.runelite.cache.fs.jagex;
 
 import java.io.Closeable;
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -39,24 +41,79 @@ public class DataFile implements Closeable
 
 	private static final int SECTOR_SIZE = 520;
 
+	// Sectors per mapped region. Regions start on a sector boundary so no sector
+	// is split between two of them, and each stays below the 2GB mapping limit.
+	private static final int REGION_SECTORS = 1 << 20;
+
 	private final RandomAccessFile dat;
 
-	public DataFile(File file) throws FileNotFoundException
+	// Only set for read only data files
+	private final MappedByteBuffer[] regions;
+	private final long length;
+
+	public DataFile(File file) throws IOException
 	{
-		this.dat = new RandomAccessFile(file, "rw");
+		this(file, false);
+	}
+
+	/**
+	 * Opens a data file. A read only data file is memory mapped, and can be read from
+	 * by multiple threads at once. It must not be modified while it is open.
+	 *
+	 * @param file the data file
+	 * @param readOnly whether to open the data file read only
+	 * @throws IOException
+	 */
+	public DataFile(File file, boolean readOnly) throws IOException
+	{
+		if (!readOnly)
+		{
+			this.dat = new RandomAccessFile(file, "rw");
+			this.regions = null;
+			this.length = -1L;
+			return;
+		}
+
+		this.dat = null;
+
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ))
+		{
+			this.length = channel.size();
+
+			long regionSize = (long) REGION_SECTORS * SECTOR_SIZE;
+			this.regions = new MappedByteBuffer[(int) ((length + regionSize - 1) / regionSize)];
+			for (int i = 0; i < regions.length; ++i)
+			{
+				long position = i * regionSize;
+				regions[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(regionSize, length - position));
+			}
+		}
 	}
 
 	@Override
 	public void close() throws IOException
 	{
-		dat.close();
+		// mapped regions are unmapped once they are garbage collected
+		if (dat != null)
+		{
+			dat.close();
+		}
 	}
 
 	public void clear() throws IOException
 	{
+		checkWritable();
 		dat.setLength(0L);
 	}
 
+	private void checkWritable() throws IOException
+	{
+		if (dat == null)
+		{
+			throw new IOException("data file is read only");
+		}
+	}
+
 	/**
 	 *
 	 * @param indexId expected index of archive of contents being read
@@ -66,7 +123,20 @@ public class DataFile implements Closeable
 	 * @return
 	 * @throws IOException
 	 */
-	public synchronized byte[] read(int indexId, int archiveId, int sector, int size) throws IOException
+	public byte[] read(int indexId, int archiveId, int sector, int size) throws IOException
+	{
+		if (regions != null)
+		{
+			return readMapped(indexId, archiveId, sector, size);
+		}
+
+		synchronized (this)
+		{
+			return readFile(indexId, archiveId, sector, size);
+		}
+	}
+
+	private byte[] readFile(int indexId, int archiveId, int sector, int size) throws IOException
 	{
 		if (sector <= 0L || dat.length() / SECTOR_SIZE < (long) sector)
 		{
@@ -169,8 +239,83 @@ public class DataFile implements Closeable
 		return buffer.array();
 	}
 
+	/**
+	 * Reads a file by walking its sector chain in the mapped regions. Each sector gets
+	 * its own view of its region, so this doesn't need to lock.
+	 */
+	private byte[] readMapped(int indexId, int archiveId, int sector, int size)
+	{
+		long sectors = length / SECTOR_SIZE;
+		if (sector <= 0L || sectors < (long) sector)
+		{
+			logger.warn("bad read, dat length {}, requested sector {}", length, sector);
+			return null;
+		}
+
+		int headerSize = archiveId > 0xFFFF ? 10 : 8;
+		byte[] data = new byte[size];
+
+		for (int part = 0, readBytesCount = 0, nextSector;
+			size > readBytesCount;
+			sector = nextSector)
+		{
+			if (sector == 0)
+			{
+				logger.warn("Unexpected end of file");
+				return null;
+			}
+
+			int dataBlockSize = Math.min(size - readBytesCount, SECTOR_SIZE - headerSize);
+			if ((long) sector * SECTOR_SIZE + headerSize + dataBlockSize > length)
+			{
+				logger.warn("Short read when reading file data for {}/{}", indexId, archiveId);
+				return null;
+			}
+
+			ByteBuffer buffer = regions[sector / REGION_SECTORS].duplicate();
+			buffer.position(sector % REGION_SECTORS * SECTOR_SIZE);
+
+			int currentArchive;
+			if (headerSize == 10)
+			{
+				currentArchive = buffer.getInt();
+			}
+			else
+			{
+				currentArchive = buffer.getShort() & 0xFFFF;
+			}
+			int currentPart = buffer.getShort() & 0xFFFF;
+			nextSector = (buffer.get() & 0xFF) << 16 | buffer.getShort() & 0xFFFF;
+			int currentIndex = buffer.get() & 0xFF;
+
+			if (archiveId != currentArchive || currentPart != part || indexId != currentIndex)
+			{
+				logger.warn("data mismatch {} != {}, {} != {}, {} != {}",
+					archiveId, currentArchive,
+					part, currentPart,
+					indexId, currentIndex);
+				return null;
+			}
+
+			if (sectors < (long) nextSector)
+			{
+				logger.warn("Invalid next sector");
+				return null;
+			}
+
+			buffer.get(data, readBytesCount, dataBlockSize);
+			readBytesCount += dataBlockSize;
+
+			++part;
+		}
+
+		return data;
+	}
+
 	public synchronized DataFileWriteResult write(int indexId, int archiveId, byte[] compressedData) throws IOException
 	{
+		checkWritable();
+
 		int sector;
 		int startSector;
 
@@ -25,10 +25,9 @@
 package net.runelite.cache.fs.jagex;
 
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.Container;
 import net.runelite.cache.fs.Index;
@@ -47,17 +46,33 @@ public class DiskStorage implements Storage
 	private static final String MAIN_FILE_CACHE_IDX = "main_file_cache.idx";
 
 	private final File folder;
+	private final boolean readOnly;
 
 	private final DataFile data;
 	private final IndexFile index255;
-	private final List<IndexFile> indexFiles = new ArrayList<>();
+	private final List<IndexFile> indexFiles = new CopyOnWriteArrayList<>();
 
 	public DiskStorage(File folder) throws IOException
+	{
+		this(folder, false);
+	}
+
+	/**
+	 * Opens a disk store. A read only store memory maps the data and index files,
+	 * which lets archives be loaded from multiple threads at once. It can't be saved to,
+	 * and the cache must not be modified by anything else while it is open.
+	 *
+	 * @param folder the cache folder
+	 * @param readOnly whether to open the store read only
+	 * @throws IOException
+	 */
+	public DiskStorage(File folder, boolean readOnly) throws IOException
 	{
 		this.folder = folder;
+		this.readOnly = readOnly;
 
-		this.data = new DataFile(new File(folder, MAIN_FILE_CACHE_DAT));
-		this.index255 = new IndexFile(255, new File(folder, MAIN_FILE_CACHE_IDX + "255"));
+		this.data = new DataFile(new File(folder, MAIN_FILE_CACHE_DAT), readOnly);
+		this.index255 = new IndexFile(255, new File(folder, MAIN_FILE_CACHE_IDX + "255"), readOnly);
 	}
 
 	@Override
@@ -83,13 +98,33 @@ public class DiskStorage implements Storage
 		}
 	}
 
-	private IndexFile getIndex(int i) throws FileNotFoundException
+	private IndexFile getIndex(int i) throws IOException
 	{
 		if (i == 255)
 		{
 			return index255;
 		}
 
+		IndexFile indexFile = findIndex(i);
+		if (indexFile != null)
+		{
+			return indexFile;
+		}
+
+		synchronized (indexFiles)
+		{
+			indexFile = findIndex(i);
+			if (indexFile == null)
+			{
+				indexFile = new IndexFile(i, new File(folder, MAIN_FILE_CACHE_IDX + i), readOnly);
+				indexFiles.add(indexFile);
+			}
+			return indexFile;
+		}
+	}
+
+	private IndexFile findIndex(int i)
+	{
 		for (IndexFile indexFile : indexFiles)
 		{
 			if (indexFile.getIndexFileId() == i)
@@ -97,10 +132,7 @@ public class DiskStorage implements Storage
 				return indexFile;
 			}
 		}
-
-		IndexFile indexFile = new IndexFile(i, new File(folder, MAIN_FILE_CACHE_IDX + i));
-		indexFiles.add(indexFile);
-		return indexFile;
+		return null;
 	}
 
 	@Override
@@ -26,9 +26,11 @@ package net.runelite.cache.fs.jagex;
 
 import java.io.Closeable;
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 import java.util.Objects;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,24 +46,67 @@ public class IndexFile implements Closeable
 	private final RandomAccessFile idx;
 	private final byte[] buffer = new byte[INDEX_ENTRY_LEN];
 
-	public IndexFile(int indexFileId, File file) throws FileNotFoundException
+	// Only set for read only index files
+	private final MappedByteBuffer mapped;
+
+	public IndexFile(int indexFileId, File file) throws IOException
+	{
+		this(indexFileId, file, false);
+	}
+
+	/**
+	 * Opens an index file. A read only index file is memory mapped, and can be read from
+	 * by multiple threads at once. It must not be modified while it is open.
+	 *
+	 * @param indexFileId the id of the index
+	 * @param file the index file
+	 * @param readOnly whether to open the index file read only
+	 * @throws IOException
+	 */
+	public IndexFile(int indexFileId, File file, boolean readOnly) throws IOException
 	{
 		this.indexFileId = indexFileId;
 		this.file = file;
-		this.idx = new RandomAccessFile(file, "rw");
+
+		if (!readOnly)
+		{
+			this.idx = new RandomAccessFile(file, "rw");
+			this.mapped = null;
+			return;
+		}
+
+		this.idx = null;
+
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ))
+		{
+			this.mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size());
+		}
 	}
 
 	@Override
 	public void close() throws IOException
 	{
-		idx.close();
+		// the mapping is released once it is garbage collected
+		if (idx != null)
+		{
+			idx.close();
+		}
 	}
 
 	public void clear() throws IOException
 	{
+		checkWritable();
 		idx.setLength(0L);
 	}
 
+	private void checkWritable() throws IOException
+	{
+		if (idx == null)
+		{
+			throw new IOException("index file " + indexFileId + " is read only");
+		}
+	}
+
 	@Override
 	public int hashCode()
 	{
@@ -96,6 +141,8 @@ public class IndexFile implements Closeable
 
 	public synchronized void write(IndexEntry entry) throws IOException
 	{
+		checkWritable();
+
 		idx.seek(entry.getId() * INDEX_ENTRY_LEN);
 
 		buffer[0] = (byte) (entry.getLength() >> 16);
@@ -109,18 +156,38 @@ public class IndexFile implements Closeable
 		idx.write(buffer);
 	}
 
-	public synchronized IndexEntry read(int id) throws IOException
+	public IndexEntry read(int id) throws IOException
 	{
-		idx.seek(id * INDEX_ENTRY_LEN);
-		int i = idx.read(buffer);
-		if (i != INDEX_ENTRY_LEN)
+		int length, sector;
+		if (mapped != null)
 		{
-			logger.debug("short read for id {} on index {}: {}", id, indexFileId, i);
-			return null;
+			// absolute reads don't move the buffer's position, so this doesn't need to lock
+			int pos = id * INDEX_ENTRY_LEN;
+			if (pos < 0 || pos + INDEX_ENTRY_LEN > mapped.capacity())
+			{
+				logger.debug("short read for id {} on index {}", id, indexFileId);
+				return null;
+			}
+
+			length = (mapped.get(pos) & 0xFF) << 16 | (mapped.get(pos + 1) & 0xFF) << 8 | mapped.get(pos + 2) & 0xFF;
+			sector = (mapped.get(pos + 3) & 0xFF) << 16 | (mapped.get(pos + 4) & 0xFF) << 8 | mapped.get(pos + 5) & 0xFF;
+		}
+		else
+		{
+			synchronized (this)
+			{
+				idx.seek(id * INDEX_ENTRY_LEN);
+				int i = idx.read(buffer);
+				if (i != INDEX_ENTRY_LEN)
+				{
+					logger.debug("short read for id {} on index {}: {}", id, indexFileId, i);
+					return null;
+				}
+
+				length = ((buffer[0] & 0xFF) << 16) | ((buffer[1] & 0xFF) << 8) | (buffer[2] & 0xFF);
+				sector = ((buffer[3] & 0xFF) << 16) | ((buffer[4] & 0xFF) << 8) | (buffer[5] & 0xFF);
+			}
 		}
-
-		int length = ((buffer[0] & 0xFF) << 16) | ((buffer[1] & 0xFF) << 8) | (buffer[2] & 0xFF);
-		int sector = ((buffer[3] & 0xFF) << 16) | ((buffer[4] & 0xFF) << 8) | (buffer[5] & 0xFF);
 
 		if (length <= 0 || sector <= 0)
 		{
@@ -131,8 +198,16 @@ public class IndexFile implements Closeable
 		return new IndexEntry(this, id, sector, length);
 	}
 
-	public synchronized int getIndexCount() throws IOException
+	public int getIndexCount() throws IOException
 	{
-		return (int) (idx.length() / INDEX_ENTRY_LEN);
+		if (mapped != null)
+		{
+			return mapped.capacity() / INDEX_ENTRY_LEN;
+		}
+
+		synchronized (this)
+		{
+			return (int) (idx.length() / INDEX_ENTRY_LEN);
+		}
 	}
 }
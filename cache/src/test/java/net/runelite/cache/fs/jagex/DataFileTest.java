@@ -26,6 +26,7 @@ package net.runelite.cache.fs.jagex;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Random;
 import net.runelite.cache.StoreLocation;
 import net.runelite.cache.fs.Container;
 import org.junit.Assert;
@@ -167,4 +168,45 @@ public class DataFileTest
 		Assert.assertEquals("testtesttesttest1", str);
 		Assert.assertEquals(42, res2.revision);
 	}
+
+	@Test
+	public void testReadOnly() throws IOException
+	{
+		File file = folder.newFile();
+		Random random = new Random(42);
+
+		byte[] small = new byte[100];
+		byte[] large = new byte[5000];
+		random.nextBytes(small);
+		random.nextBytes(large);
+
+		DataFileWriteResult res, res2, res3;
+		try (DataFile df = new DataFile(file))
+		{
+			res = df.write(42, 3, small);
+			res2 = df.write(42, 4, large);
+			res3 = df.write(42, 0x1FFFF, large);
+		}
+
+		try (DataFile df = new DataFile(file, true))
+		{
+			Assert.assertArrayEquals(small, df.read(42, 3, res.sector, res.compressedLength));
+			Assert.assertArrayEquals(large, df.read(42, 4, res2.sector, res2.compressedLength));
+			Assert.assertArrayEquals(large, df.read(42, 0x1FFFF, res3.sector, res3.compressedLength));
+
+			// wrong archive, and past the end of the file
+			Assert.assertNull(df.read(42, 5, res2.sector, res2.compressedLength));
+			Assert.assertNull(df.read(42, 4, res2.sector, res2.compressedLength + 10000));
+			Assert.assertNull(df.read(42, 4, 10000, 10));
+		}
+	}
+
+	@Test(expected = IOException.class)
+	public void testReadOnlyWrite() throws IOException
+	{
+		try (DataFile df = new DataFile(folder.newFile(), true))
+		{
+			df.write(42, 3, new byte[10]);
+		}
+	}
 }
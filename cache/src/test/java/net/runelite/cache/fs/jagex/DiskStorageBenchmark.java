@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs.jagex;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import net.runelite.cache.StoreLocation;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Storage;
+import net.runelite.cache.fs.Store;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class DiskStorageBenchmark
+{
+	private static final Logger logger = LoggerFactory.getLogger(DiskStorageBenchmark.class);
+
+	private static final int ROUNDS = 5;
+	private static final int THREADS = Runtime.getRuntime().availableProcessors();
+
+	@Test
+	@Ignore
+	public void benchmark() throws Exception
+	{
+		File base = StoreLocation.LOCATION;
+
+		long disk = Long.MAX_VALUE, mapped = Long.MAX_VALUE, mappedParallel = Long.MAX_VALUE;
+		for (int round = 0; round < ROUNDS; ++round)
+		{
+			disk = Math.min(disk, time(new DiskStorage(base), 1));
+			mapped = Math.min(mapped, time(new DiskStorage(base, true), 1));
+			mappedParallel = Math.min(mappedParallel, time(new DiskStorage(base, true), THREADS));
+		}
+
+		logger.info("Best of {}: disk storage {}ms, read only {}ms, read only with {} threads {}ms",
+			ROUNDS, disk, mapped, THREADS, mappedParallel);
+	}
+
+	/**
+	 * Loads the store and every archive in it, returning the time taken in ms
+	 */
+	private static long time(Storage storage, int threads) throws Exception
+	{
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		long start = System.nanoTime();
+		long bytes = 0;
+
+		try (Store store = new Store(storage))
+		{
+			store.load();
+
+			List<Future<byte[]>> futures = new ArrayList<>();
+			for (Index index : store.getIndexes())
+			{
+				for (Archive archive : index.getArchives())
+				{
+					futures.add(executor.submit(() -> storage.loadArchive(archive)));
+				}
+			}
+
+			for (Future<byte[]> future : futures)
+			{
+				byte[] data = future.get();
+				if (data != null)
+				{
+					bytes += data.length;
+				}
+			}
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+
+		long time = (System.nanoTime() - start) / 1_000_000L;
+		logger.debug("Loaded {} bytes in {}ms", bytes, time);
+		return time;
+	}
+}
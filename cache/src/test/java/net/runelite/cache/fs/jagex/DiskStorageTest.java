@@ -25,6 +25,13 @@
 package net.runelite.cache.fs.jagex;
 
 import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import net.runelite.cache.StoreLocation;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.Container;
@@ -101,4 +108,67 @@ public class DiskStorageTest
 		}
 	}
 
+	@Test
+	public void testReadOnly() throws Exception
+	{
+		File file = folder.newFolder();
+		Random random = new Random(42);
+		byte[][] archiveData = new byte[200][];
+
+		DiskStorage storage = new DiskStorage(file);
+		try (Store store = new Store(storage))
+		{
+			Index index = store.addIndex(0);
+			for (int i = 0; i < archiveData.length; ++i)
+			{
+				Archive archive = index.addArchive(i);
+				archive.setFileData(new FileData[]{new FileData()});
+
+				byte[] data = new byte[random.nextInt(2000)];
+				random.nextBytes(data);
+
+				Container container = new Container(archive.getCompression(), -1);
+				container.compress(data, null);
+				archive.setCrc(container.crc);
+				storage.saveArchive(archive, container.data);
+				archiveData[i] = data;
+			}
+
+			store.save();
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		DiskStorage readOnlyStorage = new DiskStorage(file, true);
+		try (Store store = new Store(readOnlyStorage))
+		{
+			store.load();
+			Index index = store.findIndex(0);
+			assertEquals(archiveData.length, index.getArchives().size());
+
+			List<Future<byte[]>> futures = new ArrayList<>();
+			for (Archive archive : index.getArchives())
+			{
+				futures.add(executor.submit(() -> archive.decompress(readOnlyStorage.loadArchive(archive))));
+			}
+
+			for (int i = 0; i < archiveData.length; ++i)
+			{
+				assertArrayEquals(archiveData[i], futures.get(i).get());
+			}
+
+			try
+			{
+				readOnlyStorage.store(0, 0, new byte[10]);
+				fail();
+			}
+			catch (IOException ex)
+			{
+				// expected
+			}
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
 }
@@ -47,4 +47,24 @@ public class IndexFileTest
 		IndexEntry entry2 = index.read(7);
 		Assert.assertEquals(entry, entry2);
 	}
+
+	@Test
+	public void testReadOnly() throws IOException
+	{
+		File file = folder.newFile();
+		try (IndexFile index = new IndexFile(5, file))
+		{
+			index.write(new IndexEntry(index, 7, 8, 9));
+			index.write(new IndexEntry(index, 2, 0x123456, 0x654321));
+		}
+
+		try (IndexFile index = new IndexFile(5, file, true))
+		{
+			Assert.assertEquals(8, index.getIndexCount());
+			Assert.assertEquals(new IndexEntry(index, 7, 8, 9), index.read(7));
+			Assert.assertEquals(new IndexEntry(index, 2, 0x123456, 0x654321), index.read(2));
+			Assert.assertNull(index.read(0));
+			Assert.assertNull(index.read(8));
+		}
+	}
 }
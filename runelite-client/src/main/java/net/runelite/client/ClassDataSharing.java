@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client;
+
+import com.google.common.hash.Hashing;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Creates and locates a dynamic AppCDS archive of the classes loaded during client startup.
+ * <p>
+ * A training run is started with {@code --cds-training}, which starts a child JVM with the same
+ * classpath and {@code -XX:ArchiveClassesAtExit}. The child runs the normal client startup and
+ * exits once plugins have started, at which point the JVM writes the archive. Alongside the
+ * archive an argument file is written, which the launcher can pass to the JVM as
+ * {@code @<file>} to map the archive in on subsequent launches.
+ * <p>
+ * Archives are only valid for the JVM and classpath that created them, so both are part of
+ * the archive name. The argument file uses {@code -Xshare:auto}, so a stale archive is ignored
+ * by the JVM rather than being fatal.
+ */
+@Slf4j
+class ClassDataSharing
+{
+	private static final File CDS_DIR = new File(RuneLite.CACHE_DIR, "cds");
+	static final File ARGS_FILE = new File(CDS_DIR, "jvm.args");
+	private static final String TRAINING_PROPERTY = "runelite.cds.training";
+	private static final int MIN_JAVA_VERSION = 13; // -XX:ArchiveClassesAtExit
+
+	static boolean isTraining()
+	{
+		return Boolean.getBoolean(TRAINING_PROPERTY);
+	}
+
+	static boolean isArchiveInUse()
+	{
+		return ManagementFactory.getRuntimeMXBean().getInputArguments().stream()
+			.anyMatch(arg -> arg.startsWith("-XX:SharedArchiveFile="));
+	}
+
+	/**
+	 * The archive for the running JVM and classpath, which may not exist
+	 */
+	static File getArchive()
+	{
+		return new File(CDS_DIR, "client-" + archiveKey(System.getProperty("java.vm.version"),
+			System.getProperty("java.home"), System.getProperty("java.class.path")) + ".jsa");
+	}
+
+	private static String archiveKey(String vmVersion, String javaHome, String classPath)
+	{
+		return Hashing.sha256().newHasher()
+			.putString(vmVersion, StandardCharsets.UTF_8)
+			.putChar('\0')
+			.putString(javaHome, StandardCharsets.UTF_8)
+			.putChar('\0')
+			.putString(classPath, StandardCharsets.UTF_8)
+			.hash()
+			.toString()
+			.substring(0, 16);
+	}
+
+	/**
+	 * Run a training start of the client in a child JVM and install the archive it produces.
+	 *
+	 * @param args client arguments to pass to the training run
+	 * @return true if an archive was created
+	 */
+	static boolean createArchive(List<String> args) throws IOException, InterruptedException
+	{
+		if (Runtime.version().feature() < MIN_JAVA_VERSION)
+		{
+			log.warn("Dynamic class data sharing archives require Java {}, running {}", MIN_JAVA_VERSION, Runtime.version());
+			return false;
+		}
+
+		if (RuneLite.class.getClassLoader() != ClassLoader.getSystemClassLoader())
+		{
+			// the classpath of a client started reflectively by the launcher is not known to the JVM
+			log.warn("Unable to create a class data sharing archive when not loaded from the application classpath");
+			return false;
+		}
+
+		final String classPath = System.getProperty("java.class.path");
+		for (String entry : classPath.split(File.pathSeparator))
+		{
+			if (new File(entry).isDirectory())
+			{
+				log.warn("Class data sharing archives can only be created from jars, but the classpath contains {}", entry);
+				return false;
+			}
+		}
+
+		CDS_DIR.mkdirs();
+		final File archive = getArchive();
+		final File tmp = new File(CDS_DIR, archive.getName() + ".tmp");
+		Files.deleteIfExists(tmp.toPath());
+
+		final List<String> command = new ArrayList<>();
+		command.add(new File(System.getProperty("java.home"), "bin/java").getPath());
+		command.add("-XX:ArchiveClassesAtExit=" + tmp.getAbsolutePath());
+		command.add("-D" + TRAINING_PROPERTY + "=true");
+		for (String arg : ManagementFactory.getRuntimeMXBean().getInputArguments())
+		{
+			// the training run can't itself be mapping an archive
+			if (!arg.startsWith("-XX:SharedArchiveFile=") && !arg.startsWith("-Xshare:"))
+			{
+				command.add(arg);
+			}
+		}
+		command.add("-cp");
+		command.add(classPath);
+		command.add(RuneLite.class.getName());
+		command.addAll(args);
+
+		log.info("Starting class data sharing training run: {}", String.join(" ", command));
+
+		final long start = System.nanoTime();
+		final Process process = new ProcessBuilder(command)
+			.inheritIO()
+			.start();
+		final int exit = process.waitFor();
+		if (exit != 0 || !tmp.exists())
+		{
+			log.warn("Training run exited with {} and did not produce an archive", exit);
+			Files.deleteIfExists(tmp.toPath());
+			return false;
+		}
+
+		Files.move(tmp.toPath(), archive.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		Files.write(ARGS_FILE.toPath(), jvmArguments(archive), StandardCharsets.UTF_8);
+
+		// archives for other JVMs or classpaths will never be used again
+		final File[] files = CDS_DIR.listFiles((dir, name) -> name.endsWith(".jsa") && !name.equals(archive.getName()));
+		if (files != null)
+		{
+			for (File file : files)
+			{
+				Files.deleteIfExists(file.toPath());
+			}
+		}
+
+		log.info("Created class data sharing archive {} ({} KiB) in {}ms", archive, archive.length() / 1024,
+			(System.nanoTime() - start) / 1_000_000L);
+		return true;
+	}
+
+	private static List<String> jvmArguments(File archive)
+	{
+		// Paths in argument files are quoted as they may contain spaces
+		return List.of(
+			"-Xshare:auto",
+			"\"-XX:SharedArchiveFile=" + archive.getAbsolutePath().replace("\\", "\\\\") + "\""
+		);
+	}
+}
@@ -53,6 +53,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.annotation.Nullable;
 import javax.inject.Provider;
@@ -90,6 +91,7 @@ import net.runelite.client.ui.overlay.tooltip.TooltipOverlay;
 import net.runelite.client.ui.overlay.worldmap.WorldMapOverlay;
 import net.runelite.client.util.OSType;
 import net.runelite.client.util.ReflectUtil;
+import net.runelite.client.util.StartupTimeline;
 import net.runelite.http.api.RuneLiteAPI;
 import okhttp3.Cache;
 import okhttp3.OkHttpClient;
@@ -178,6 +180,8 @@ public class RuneLite
 		parser.accepts("disable-telemetry", "Disable telemetry");
 		parser.accepts("profile", "Configuration profile to use").withRequiredArg();
 		parser.accepts("noupdate", "Skips the launcher update");
+		parser.accepts("startup-trace", "Write a Chrome trace of client startup to the logs directory");
+		parser.accepts("cds-training", "Run a training start of the client to create a class data sharing archive");
 
 		final ArgumentAcceptingOptionSpec<File> sessionfile = parser.accepts("sessionfile", "Use a specified session file")
 			.withRequiredArg()
@@ -215,6 +219,19 @@ public class RuneLite
 			logger.setLevel(Level.DEBUG);
 		}
 
+		if (options.has("startup-trace"))
+		{
+			StartupTimeline.enable();
+		}
+
+		if (options.has("cds-training"))
+		{
+			final List<String> trainingArgs = Arrays.stream(args)
+				.filter(arg -> !arg.startsWith("--cds-training"))
+				.collect(Collectors.toList());
+			System.exit(ClassDataSharing.createArchive(trainingArgs) ? 0 : 1);
+		}
+
 		Thread.setDefaultUncaughtExceptionHandler((thread, throwable) ->
 		{
 			log.error("Uncaught exception:", throwable);
@@ -238,7 +255,10 @@ public class RuneLite
 			new Thread(() ->
 			{
 				clientLoader.get();
-				ClassPreloader.preload();
+				try (var ignored = StartupTimeline.span("ClassPreloader.preload"))
+				{
+					ClassPreloader.preload();
+				}
 			}, "Preloader").start();
 
 			final boolean developerMode = options.has("developer-mode") && RuneLiteProperties.getLauncherVersion() == null;
@@ -268,24 +288,45 @@ public class RuneLite
 			log.info("Java VM arguments: {}", String.join(" ", runtime.getInputArguments()));
 
 			final long start = System.currentTimeMillis();
-			injector = Guice.createInjector(new RuneLiteModule(
-				okHttpClient,
-				clientLoader,
-				runtimeConfigLoader,
-				developerMode,
-				options.has("safe-mode"),
-				options.has("disable-telemetry"),
-				options.valueOf(sessionfile),
-				(String) options.valueOf("profile"),
-				options.has(insecureWriteCredentials),
-				options.has("noupdate")
-			));
-
-			injector.getInstance(RuneLite.class).start();
+			try (var ignored = StartupTimeline.span("Guice.createInjector"))
+			{
+				injector = Guice.createInjector(new RuneLiteModule(
+					okHttpClient,
+					clientLoader,
+					runtimeConfigLoader,
+					developerMode,
+					options.has("safe-mode"),
+					options.has("disable-telemetry"),
+					options.valueOf(sessionfile),
+					(String) options.valueOf("profile"),
+					options.has(insecureWriteCredentials),
+					options.has("noupdate")
+				));
+			}
+
+			try (var ignored = StartupTimeline.span("RuneLite.start"))
+			{
+				injector.getInstance(RuneLite.class).start();
+			}
 
 			final long end = System.currentTimeMillis();
 			final long uptime = runtime.getUptime();
 			log.info("Client initialization took {}ms. Uptime: {}ms", end - start, uptime);
+
+			if (ClassDataSharing.isTraining())
+			{
+				log.info("Class data sharing training run complete");
+				System.exit(0);
+			}
+			else if (!ClassDataSharing.isArchiveInUse() && ClassDataSharing.getArchive().exists())
+			{
+				log.info("A class data sharing archive is available, add @{} to the JVM arguments to use it", ClassDataSharing.ARGS_FILE);
+			}
+
+			if (StartupTimeline.isEnabled())
+			{
+				StartupTimeline.write(new File(LOGS_DIR, "startup-trace.json"));
+			}
 		}
 		catch (Exception e)
 		{
@@ -325,17 +366,26 @@ public class RuneLite
 			System.setProperty("jagex.disableBouncyCastle", "true");
 			System.setProperty("jagex.userhome", RUNELITE_DIR.getAbsolutePath());
 
-			applet.init();
-			applet.start();
+			try (var ignored = StartupTimeline.span("Applet.init"))
+			{
+				applet.init();
+				applet.start();
+			}
 		}
 
 		SplashScreen.stage(.57, null, "Loading configuration");
 
 		// Load the session so that the session profiles can be loaded next
-		sessionManager.loadSession();
+		try (var ignored = StartupTimeline.span("SessionManager.loadSession"))
+		{
+			sessionManager.loadSession();
+		}
 
 		// Load user configuration
-		configManager.load();
+		try (var ignored = StartupTimeline.span("ConfigManager.load"))
+		{
+			configManager.load();
+		}
 
 		// Tell the plugin manager if client is outdated or not
 		pluginManager.setOutdated(isOutdated);
@@ -346,15 +396,24 @@ public class RuneLite
 
 		// Load the plugins, but does not start them yet.
 		// This will initialize configuration
-		pluginManager.loadCorePlugins();
+		try (var ignored = StartupTimeline.span("PluginManager.loadCorePlugins"))
+		{
+			pluginManager.loadCorePlugins();
+		}
 		pluginManager.loadSideLoadPlugins();
-		externalPluginManager.loadExternalPlugins();
+		try (var ignored = StartupTimeline.span("ExternalPluginManager.loadExternalPlugins"))
+		{
+			externalPluginManager.loadExternalPlugins();
+		}
 
 		SplashScreen.stage(.70, null, "Finalizing configuration");
 
 		// Plugins have provided their config, so set default config
 		// to main settings
-		pluginManager.loadDefaultPluginConfiguration(null);
+		try (var ignored = StartupTimeline.span("PluginManager.loadDefaultPluginConfiguration"))
+		{
+			pluginManager.loadDefaultPluginConfiguration(null);
+		}
 
 		// Start client session
 		clientSessionManager.start();
@@ -363,7 +422,10 @@ public class RuneLite
 		SplashScreen.stage(.75, null, "Starting core interface");
 
 		// Initialize UI
-		clientUI.init();
+		try (var ignored = StartupTimeline.span("ClientUI.init"))
+		{
+			clientUI.init();
+		}
 
 		// Initialize Discord service
 		discordService.init();
@@ -385,7 +447,10 @@ public class RuneLite
 		}
 
 		// Start plugins
-		pluginManager.startPlugins();
+		try (var ignored = StartupTimeline.span("PluginManager.startPlugins"))
+		{
+			pluginManager.startPlugins();
+		}
 
 		SplashScreen.stop();
 
@@ -24,11 +24,14 @@
  */
 package net.runelite.client.config;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.util.ReflectUtil;
 
@@ -39,33 +42,68 @@ class ConfigInvocationHandler implements InvocationHandler
 	private static final Object NULL = new Object();
 
 	private final ConfigManager manager;
-	private final Cache<Method, Object> cache = CacheBuilder.newBuilder()
-		.maximumSize(256)
-		.build();
+	// Method -> resolved slot. Slots are never evicted, only their values are, so the annotation
+	// lookups and key building happen once per method instead of once per invalidation.
+	private final Map<Method, Slot> slots = new ConcurrentHashMap<>();
+	// group.key -> slots which read that key, for targeted invalidation
+	private final Map<String, List<Slot>> slotsByKey = new ConcurrentHashMap<>();
 
 	ConfigInvocationHandler(ConfigManager manager)
 	{
 		this.manager = manager;
 	}
 
+	/**
+	 * The resolved binding of a config interface method to its config key, plus the cached value
+	 * for getters.
+	 */
+	private static final class Slot
+	{
+		private final ConfigGroup group;
+		private final ConfigItem item;
+		private final Type returnType;
+		private final boolean isDefault;
+
+		private volatile Object value;
+		private volatile int generation;
+
+		private Slot(ConfigGroup group, ConfigItem item, Method method)
+		{
+			this.group = group;
+			this.item = item;
+			this.returnType = method.getGenericReturnType();
+			this.isDefault = method.isDefault();
+		}
+
+		private void clear()
+		{
+			generation++;
+			value = null;
+		}
+	}
+
 	@Override
 	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable
 	{
+		Slot slot = slots.get(method);
+		if (slot == null)
+		{
+			slot = slots.computeIfAbsent(method, m -> createSlot(proxy, m));
+		}
+
 		// Use cached configuration value if available
 		if (args == null)
 		{
-			Object cachedValue = cache.getIfPresent(method);
+			Object cachedValue = slot.value;
 			if (cachedValue != null)
 			{
 				return cachedValue == NULL ? null : cachedValue;
 			}
 		}
 
-		Class<?> iface = proxy.getClass().getInterfaces()[0];
-
 		if ("toString".equals(method.getName()) && args == null)
 		{
-			return iface.getSimpleName();
+			return proxy.getClass().getInterfaces()[0].getSimpleName();
 		}
 
 		if ("hashCode".equals(method.getName()) && args == null)
@@ -78,8 +116,8 @@ class ConfigInvocationHandler implements InvocationHandler
 			return proxy == args[0];
 		}
 
-		ConfigGroup group = iface.getAnnotation(ConfigGroup.class);
-		ConfigItem item = method.getAnnotation(ConfigItem.class);
+		ConfigGroup group = slot.group;
+		ConfigItem item = slot.item;
 
 		if (group == null)
 		{
@@ -95,35 +133,39 @@ class ConfigInvocationHandler implements InvocationHandler
 
 		if (args == null)
 		{
-			log.trace("cache miss (size: {}, group: {}, key: {})", cache.size(), group.value(), item.keyName());
+			log.trace("cache miss (group: {}, key: {})", group.value(), item.keyName());
+
+			// A concurrent invalidation bumps the generation, in which case the value read here
+			// may already be stale and must not be cached
+			int generation = slot.generation;
 
 			// Getting configuration item
 			String value = manager.getConfiguration(group.value(), item.keyName());
 
 			if (value == null)
 			{
-				if (method.isDefault())
+				if (slot.isDefault)
 				{
 					Object defaultValue = callDefaultMethod(proxy, method, null);
-					cache.put(method, defaultValue == null ? NULL : defaultValue);
+					store(slot, generation, defaultValue);
 					return defaultValue;
 				}
 
-				cache.put(method, NULL);
+				store(slot, generation, null);
 				return null;
 			}
 
 			// Convert value to return type
 			try
 			{
-				Object objectValue = manager.stringToObject(value, method.getGenericReturnType());
-				cache.put(method, objectValue == null ? NULL : objectValue);
+				Object objectValue = manager.stringToObject(value, slot.returnType);
+				store(slot, generation, objectValue);
 				return objectValue;
 			}
 			catch (Exception e)
 			{
 				log.warn("Unable to unmarshal {}.{} ", group.value(), item.keyName(), e);
-				if (method.isDefault())
+				if (slot.isDefault)
 				{
 					return callDefaultMethod(proxy, method, null);
 				}
@@ -150,7 +192,7 @@ class ConfigInvocationHandler implements InvocationHandler
 				return null;
 			}
 
-			if (method.isDefault())
+			if (slot.isDefault)
 			{
 				Object defaultValue = callDefaultMethod(proxy, method, args);
 
@@ -175,6 +217,33 @@ class ConfigInvocationHandler implements InvocationHandler
 		}
 	}
 
+	private Slot createSlot(Object proxy, Method method)
+	{
+		Class<?> iface = proxy.getClass().getInterfaces()[0];
+		ConfigGroup group = iface.getAnnotation(ConfigGroup.class);
+		ConfigItem item = method.getAnnotation(ConfigItem.class);
+		Slot slot = new Slot(group, item, method);
+
+		if (group != null && item != null && method.getParameterCount() == 0)
+		{
+			List<Slot> keySlots = slotsByKey.computeIfAbsent(group.value() + "." + item.keyName(), k -> new ArrayList<>(1));
+			synchronized (keySlots)
+			{
+				keySlots.add(slot);
+			}
+		}
+
+		return slot;
+	}
+
+	private static void store(Slot slot, int generation, Object value)
+	{
+		if (slot.generation == generation)
+		{
+			slot.value = value == null ? NULL : value;
+		}
+	}
+
 	static Object callDefaultMethod(Object proxy, Method method, Object[] args) throws Throwable
 	{
 		Class<?> declaringClass = method.getDeclaringClass();
@@ -187,6 +256,27 @@ class ConfigInvocationHandler implements InvocationHandler
 	void invalidate()
 	{
 		log.trace("cache invalidate");
-		cache.invalidateAll();
+		for (Slot slot : slots.values())
+		{
+			slot.clear();
+		}
+	}
+
+	void invalidate(String groupName, String key)
+	{
+		List<Slot> keySlots = slotsByKey.get(groupName + "." + key);
+		if (keySlots == null)
+		{
+			return;
+		}
+
+		log.trace("cache invalidate {}.{}", groupName, key);
+		synchronized (keySlots)
+		{
+			for (Slot slot : keySlots)
+			{
+				slot.clear();
+			}
+		}
 	}
 }
@@ -629,6 +629,7 @@ public class ConfigManager
 
 			this.profile = profile;
 			configProfile = new ConfigData(ProfileManager.profileConfigFile(profile));
+			handler.invalidate();
 		}
 
 		eventBus.post(new ProfileChanged());
@@ -888,7 +889,10 @@ public class ConfigManager
 		}
 
 		log.debug("Setting configuration value for {} to {}", wholeKey, value);
-		handler.invalidate();
+		if (profile == null)
+		{
+			handler.invalidate(groupName, key);
+		}
 
 		ConfigChanged configChanged = new ConfigChanged();
 		configChanged.setGroup(groupName);
@@ -979,7 +983,10 @@ public class ConfigManager
 		}
 
 		log.debug("Unsetting configuration value for {}", wholeKey);
-		handler.invalidate();
+		if (profile == null)
+		{
+			handler.invalidate(groupName, key);
+		}
 
 		ConfigChanged configChanged = new ConfigChanged();
 		configChanged.setGroup(groupName);
@@ -24,6 +24,8 @@
  */
 package net.runelite.client.game;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
@@ -33,10 +35,13 @@ import java.awt.Color;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -71,6 +76,13 @@ public class ItemManager
 		private final boolean stackable;
 	}
 
+	@Value
+	private static class PriceTables
+	{
+		private final int[] jagexPrices;
+		private final int[] wikiPrices;
+	}
+
 	@Value
 	private static class OutlineKey
 	{
@@ -80,9 +92,14 @@ public class ItemManager
 	}
 
 	private final Client client;
+	private final ScheduledExecutorService scheduledExecutorService;
 	private final ClientThread clientThread;
 	private final ItemClient itemClient;
 	private final RuneLiteConfig runeLiteConfig;
+	private final ItemSpriteAtlas spriteAtlas;
+	// revision of the game cache the sprites are rendered from, or 0 if not yet known
+	private volatile int spriteRevision;
+	private boolean spriteRevisionRequested;
 
 	@Inject(optional = true)
 	@Named("activePriceThreshold")
@@ -95,6 +112,14 @@ public class ItemManager
 	private int lowPriceThreshold = 1000;
 
 	private Map<Integer, ItemPrice> itemPrices = Collections.emptyMap();
+	// Prices indexed by item id, with worn items and item mappings resolved
+	private volatile PriceTables priceTables = buildPriceTables(Collections.emptyMap());
+	// The item id to price each item id as, plus 1, or 0 if not yet known. This is filled in on demand since
+	// resolving noted items requires the item composition.
+	private volatile int[] priceIds = new int[0];
+	private volatile ItemNameIndex priceNameIndex = new ItemNameIndex(new int[0], new String[0]);
+	// index of the names of every item in the cache, built on first use
+	private ItemNameIndex itemNameIndex;
 	private Map<Integer, ItemStats> itemStats = Collections.emptyMap();
 	private final LoadingCache<ImageKey, AsyncBufferedImage> itemImages;
 	private final LoadingCache<OutlineKey, BufferedImage> itemOutlines;
@@ -188,12 +213,14 @@ public class ItemManager
 
 	@Inject
 	public ItemManager(Client client, ScheduledExecutorService scheduledExecutorService, ClientThread clientThread,
-		ItemClient itemClient, RuneLiteConfig runeLiteConfig)
+		ItemClient itemClient, RuneLiteConfig runeLiteConfig, ItemSpriteAtlas spriteAtlas)
 	{
 		this.client = client;
+		this.scheduledExecutorService = scheduledExecutorService;
 		this.clientThread = clientThread;
 		this.itemClient = itemClient;
 		this.runeLiteConfig = runeLiteConfig;
+		this.spriteAtlas = spriteAtlas;
 
 		scheduledExecutorService.scheduleWithFixedDelay(this::loadPrices, 0, 30, TimeUnit.MINUTES);
 		scheduledExecutorService.submit(this::loadStats);
@@ -236,6 +263,8 @@ public class ItemManager
 					map.put(price.getId(), price);
 				}
 				itemPrices = map.build();
+				priceTables = buildPriceTables(itemPrices);
+				priceNameIndex = buildPriceNameIndex(prices);
 			}
 
 			log.debug("Loaded {} prices", itemPrices.size());
@@ -283,6 +312,87 @@ public class ItemManager
 	 * @return item price
 	 */
 	public int getItemPriceWithSource(int itemID, boolean useWikiPrice)
+	{
+		final PriceTables tables = priceTables;
+		final int[] prices = useWikiPrice ? tables.wikiPrices : tables.jagexPrices;
+		final int priceId = getPriceId(itemID);
+		return priceId < prices.length ? prices[priceId] : 0;
+	}
+
+	/**
+	 * Look up the total price of a set of items
+	 *
+	 * @param ids item ids, ids less than 0 are ignored
+	 * @param qtys item quantities
+	 * @return the sum of each item's price multiplied by its quantity
+	 */
+	public long priceOf(int[] ids, int[] qtys)
+	{
+		Preconditions.checkArgument(ids.length == qtys.length, "ids and qtys must be the same length");
+
+		final PriceTables tables = priceTables;
+		final int[] prices = runeLiteConfig.useWikiItemPrices() ? tables.wikiPrices : tables.jagexPrices;
+		long total = 0;
+		for (int i = 0; i < ids.length; ++i)
+		{
+			if (ids[i] < 0 || qtys[i] == 0)
+			{
+				continue;
+			}
+
+			final int priceId = getPriceId(ids[i]);
+			if (priceId < prices.length)
+			{
+				total += (long) prices[priceId] * qtys[i];
+			}
+		}
+		return total;
+	}
+
+	/**
+	 * Get the item id an item is priced as, which is the unnoted item for noted items
+	 */
+	private int getPriceId(int itemID)
+	{
+		int[] ids = priceIds;
+		if (itemID < ids.length && ids[itemID] != 0)
+		{
+			return ids[itemID] - 1;
+		}
+
+		final ItemComposition itemComposition = getItemComposition(itemID);
+		final int priceId = itemComposition.getNote() != -1 ? itemComposition.getLinkedNoteId() : itemID;
+
+		if (itemID >= ids.length)
+		{
+			// a racing resize may drop some entries, which are just resolved again
+			ids = Arrays.copyOf(ids, Math.max(itemID + 1, Math.max(ids.length * 2, 1024)));
+			priceIds = ids;
+		}
+		ids[itemID] = priceId + 1;
+		return priceId;
+	}
+
+	private PriceTables buildPriceTables(Map<Integer, ItemPrice> itemPrices)
+	{
+		final Set<Integer> itemIds = new HashSet<>(itemPrices.keySet());
+		itemIds.addAll(WORN_ITEMS.keySet());
+		itemIds.addAll(ItemMapping.MAPPINGS.keySet());
+		itemIds.add(COINS_995);
+		itemIds.add(PLATINUM_TOKEN);
+
+		final int size = Collections.max(itemIds) + 1;
+		final int[] jagexPrices = new int[size];
+		final int[] wikiPrices = new int[size];
+		for (int itemId : itemIds)
+		{
+			jagexPrices[itemId] = computeItemPrice(itemPrices, itemId, false);
+			wikiPrices[itemId] = computeItemPrice(itemPrices, itemId, true);
+		}
+		return new PriceTables(jagexPrices, wikiPrices);
+	}
+
+	private int computeItemPrice(Map<Integer, ItemPrice> itemPrices, int itemID, boolean useWikiPrice)
 	{
 		if (itemID == COINS_995)
 		{
@@ -293,11 +403,6 @@ public class ItemManager
 			return 1000;
 		}
 
-		ItemComposition itemComposition = getItemComposition(itemID);
-		if (itemComposition.getNote() != -1)
-		{
-			itemID = itemComposition.getLinkedNoteId();
-		}
 		itemID = WORN_ITEMS.getOrDefault(itemID, itemID);
 
 		int price = 0;
@@ -317,7 +422,7 @@ public class ItemManager
 		{
 			for (final ItemMapping mappedItem : mappedItems)
 			{
-				price += getItemPriceWithSource(mappedItem.getTradeableItem(), useWikiPrice) * mappedItem.getQuantity();
+				price += computeItemPrice(itemPrices, mappedItem.getTradeableItem(), useWikiPrice) * mappedItem.getQuantity();
 			}
 		}
 
@@ -388,17 +493,18 @@ public class ItemManager
 	 * Search for tradeable items based on item name
 	 *
 	 * @param itemName item name
-	 * @return
+	 * @return matching items, best matches first
 	 */
 	public List<ItemPrice> search(String itemName)
 	{
-		itemName = itemName.toLowerCase();
+		final Map<Integer, ItemPrice> prices = itemPrices;
+		final int[] ids = priceNameIndex.search(itemName);
 
-		List<ItemPrice> result = new ArrayList<>();
-		for (ItemPrice itemPrice : itemPrices.values())
+		List<ItemPrice> result = new ArrayList<>(ids.length);
+		for (int id : ids)
 		{
-			final String name = itemPrice.getName();
-			if (name.toLowerCase().contains(itemName))
+			final ItemPrice itemPrice = prices.get(id);
+			if (itemPrice != null)
 			{
 				result.add(itemPrice);
 			}
@@ -406,6 +512,53 @@ public class ItemManager
 		return result;
 	}
 
+	private static ItemNameIndex buildPriceNameIndex(ItemPrice[] prices)
+	{
+		final int[] ids = new int[prices.length];
+		final String[] names = new String[prices.length];
+		for (int i = 0; i < prices.length; ++i)
+		{
+			ids[i] = prices[i].getId();
+			names[i] = prices[i].getName();
+		}
+		return new ItemNameIndex(ids, names);
+	}
+
+	/**
+	 * Get the name index of every item in the cache. It is built on first use, which must be
+	 * on the client thread.
+	 *
+	 * @return the item name index
+	 */
+	public ItemNameIndex getItemNameIndex()
+	{
+		assert client.isClientThread();
+
+		// The item definitions can't change without a client restart, so the index only needs to be built once
+		final int itemCount = client.getItemCount();
+		if (itemNameIndex == null || itemNameIndex.size() == 0 && itemCount > 0)
+		{
+			final int[] ids = new int[itemCount];
+			final String[] names = new String[itemCount];
+			int count = 0;
+			for (int i = 0; i < itemCount; ++i)
+			{
+				final String name = getItemComposition(i).getName();
+				// The client assigns "null" to item names of items it doesn't know about
+				if (name != null && !name.equals("null"))
+				{
+					ids[count] = i;
+					names[count] = name;
+					++count;
+				}
+			}
+
+			itemNameIndex = new ItemNameIndex(Arrays.copyOf(ids, count), Arrays.copyOf(names, count));
+			log.debug("Built item name index of {} items", count);
+		}
+		return itemNameIndex;
+	}
+
 	/**
 	 * Look up an item's composition
 	 *
@@ -439,7 +592,7 @@ public class ItemManager
 	}
 
 	/**
-	 * Loads item sprite from game, makes transparent, and generates image
+	 * Loads item sprite from the sprite atlas, or from the game if it is not in the atlas
 	 *
 	 * @param itemId
 	 * @return
@@ -447,12 +600,44 @@ public class ItemManager
 	private AsyncBufferedImage loadImage(int itemId, int quantity, boolean stackable)
 	{
 		AsyncBufferedImage img = new AsyncBufferedImage(clientThread, Constants.ITEM_SPRITE_WIDTH, Constants.ITEM_SPRITE_HEIGHT, BufferedImage.TYPE_INT_ARGB);
+		final int revision = spriteRevision;
+		if (revision != 0 && spriteAtlas.contains(revision, itemId, quantity, stackable))
+		{
+			scheduledExecutorService.execute(() ->
+			{
+				if (spriteAtlas.read(revision, itemId, quantity, stackable, img))
+				{
+					clientThread.invoke(img::loaded);
+				}
+				else
+				{
+					renderImage(img, itemId, quantity, stackable);
+				}
+			});
+			return img;
+		}
+
+		renderImage(img, itemId, quantity, stackable);
+		return img;
+	}
+
+	private void renderImage(AsyncBufferedImage img, int itemId, int quantity, boolean stackable)
+	{
 		clientThread.invoke(() ->
 		{
 			if (client.getGameState().ordinal() < GameState.LOGIN_SCREEN.ordinal())
 			{
 				return false;
 			}
+
+			if (!spriteRevisionRequested)
+			{
+				// the game cache is up to date once the login screen is reached
+				spriteRevisionRequested = true;
+				final int clientRevision = client.getRevision();
+				scheduledExecutorService.execute(() -> loadSpriteRevision(clientRevision));
+			}
+
 			SpritePixels sprite = client.createItemSprite(itemId, quantity, 1, SpritePixels.DEFAULT_SHADOW_COLOR,
 				stackable ? ItemQuantityMode.ALWAYS : ItemQuantityMode.NEVER, false, CLIENT_DEFAULT_ZOOM);
 			if (sprite == null)
@@ -461,9 +646,46 @@ public class ItemManager
 			}
 			sprite.toBufferedImage(img);
 			img.loaded();
+
+			final int revision = spriteRevision;
+			if (revision != 0)
+			{
+				scheduledExecutorService.execute(() -> spriteAtlas.write(revision, itemId, quantity, stackable, img));
+			}
 			return true;
 		});
-		return img;
+	}
+
+	private void loadSpriteRevision(int clientRevision)
+	{
+		try
+		{
+			int revision = ItemSpriteAtlas.cacheRevision(clientRevision, ItemSpriteAtlas.JAGEX_CACHE_DIR);
+			spriteAtlas.open();
+			spriteRevision = revision;
+		}
+		catch (IOException ex)
+		{
+			log.warn("unable to read the game cache revision, item sprites will not be stored", ex);
+		}
+	}
+
+	/**
+	 * Round a quantity down to the smallest quantity which draws the same quantity text, so that
+	 * sprites with large quantities can share one image
+	 */
+	@VisibleForTesting
+	static int spriteQuantity(int quantity)
+	{
+		if (quantity < 100_000)
+		{
+			return quantity;
+		}
+		else if (quantity < 10_000_000)
+		{
+			return quantity / 1000 * 1000;
+		}
+		return quantity / 1_000_000 * 1_000_000;
 	}
 
 	/**
@@ -496,7 +718,7 @@ public class ItemManager
 	{
 		try
 		{
-			return itemImages.get(new ImageKey(itemId, quantity, stackable));
+			return itemImages.get(new ImageKey(itemId, spriteQuantity(quantity), stackable));
 		}
 		catch (ExecutionException ex)
 		{
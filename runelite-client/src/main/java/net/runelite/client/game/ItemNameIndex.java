@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A case insensitive substring index of item names. Names are lowercased once and stored end to
+ * end in a single char array, and a trigram index is used to find candidate names for queries of
+ * three or more characters. Shorter queries scan the char array.
+ * <p>
+ * Results are ranked: exact matches, then prefix matches, then matches at the start of a word, then
+ * any other matches, with shorter names first within each group.
+ */
+public class ItemNameIndex
+{
+	private static final int[] EMPTY = new int[0];
+
+	private static final int RANK_EXACT = 0;
+	private static final int RANK_PREFIX = 1;
+	private static final int RANK_WORD = 2;
+	private static final int RANK_SUBSTRING = 3;
+
+	private final int[] ids;
+	private final char[] chars;
+	// name i is chars[offsets[i], offsets[i + 1])
+	private final int[] offsets;
+	private final Map<Long, int[]> trigrams;
+
+	/**
+	 * Build an index of the given names
+	 *
+	 * @param ids item ids
+	 * @param names item names, in the same order as the ids
+	 */
+	public ItemNameIndex(int[] ids, String[] names)
+	{
+		if (ids.length != names.length)
+		{
+			throw new IllegalArgumentException("ids and names must be the same length");
+		}
+
+		this.ids = ids.clone();
+		offsets = new int[names.length + 1];
+
+		final StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < names.length; ++i)
+		{
+			offsets[i] = sb.length();
+			sb.append(names[i].toLowerCase());
+		}
+		offsets[names.length] = sb.length();
+
+		chars = new char[sb.length()];
+		sb.getChars(0, sb.length(), chars, 0);
+
+		final Map<Long, List<Integer>> postings = new HashMap<>();
+		final Set<Long> seen = new HashSet<>();
+		for (int i = 0; i < names.length; ++i)
+		{
+			seen.clear();
+			for (int j = offsets[i]; j + 3 <= offsets[i + 1]; ++j)
+			{
+				final long trigram = trigram(chars, j);
+				if (seen.add(trigram))
+				{
+					postings.computeIfAbsent(trigram, k -> new ArrayList<>()).add(i);
+				}
+			}
+		}
+
+		trigrams = new HashMap<>(postings.size() * 4 / 3 + 1);
+		for (Map.Entry<Long, List<Integer>> entry : postings.entrySet())
+		{
+			trigrams.put(entry.getKey(), entry.getValue().stream().mapToInt(Integer::intValue).toArray());
+		}
+	}
+
+	public int size()
+	{
+		return ids.length;
+	}
+
+	/**
+	 * Search for items whose name contains the query, ignoring case
+	 *
+	 * @param query search text
+	 * @return ids of the matching items, best matches first
+	 */
+	public int[] search(String query)
+	{
+		final char[] q = query.toLowerCase().toCharArray();
+		if (q.length == 0)
+		{
+			return EMPTY;
+		}
+
+		// rank, name length and entry packed so that sorting them sorts by rank
+		long[] matches = new long[16];
+		int count = 0;
+
+		final int[] candidates = candidates(q);
+		final int numCandidates = candidates != null ? candidates.length : ids.length;
+		for (int c = 0; c < numCandidates; ++c)
+		{
+			final int entry = candidates != null ? candidates[c] : c;
+			final int rank = rank(entry, q);
+			if (rank < 0)
+			{
+				continue;
+			}
+
+			if (count == matches.length)
+			{
+				matches = Arrays.copyOf(matches, count * 2);
+			}
+			final int length = offsets[entry + 1] - offsets[entry];
+			matches[count++] = (long) rank << 56 | (long) Math.min(length, 0xFFFF) << 32 | entry;
+		}
+
+		Arrays.sort(matches, 0, count);
+
+		final int[] result = new int[count];
+		for (int i = 0; i < count; ++i)
+		{
+			result[i] = ids[(int) matches[i]];
+		}
+		return result;
+	}
+
+	/**
+	 * Get the entries which contain every trigram of the query, or null if the query is too short
+	 * to use the trigram index
+	 */
+	private int[] candidates(char[] q)
+	{
+		if (q.length < 3)
+		{
+			return null;
+		}
+
+		// The rarest trigram alone keeps the candidate set small, and each candidate is verified anyway
+		int[] smallest = null;
+		for (int i = 0; i + 3 <= q.length; ++i)
+		{
+			final int[] posting = trigrams.get(trigram(q, i));
+			if (posting == null)
+			{
+				return EMPTY;
+			}
+
+			if (smallest == null || posting.length < smallest.length)
+			{
+				smallest = posting;
+			}
+		}
+		return smallest;
+	}
+
+	/**
+	 * Rank the match of the query against an entry, or -1 if the entry does not contain the query
+	 */
+	private int rank(int entry, char[] q)
+	{
+		final int start = offsets[entry];
+		final int end = offsets[entry + 1];
+		int best = -1;
+		for (int i = start; i + q.length <= end; ++i)
+		{
+			if (!regionMatches(i, q))
+			{
+				continue;
+			}
+
+			final int rank;
+			if (i == start)
+			{
+				rank = i + q.length == end ? RANK_EXACT : RANK_PREFIX;
+			}
+			else
+			{
+				rank = Character.isLetterOrDigit(chars[i - 1]) ? RANK_SUBSTRING : RANK_WORD;
+			}
+
+			if (best == -1 || rank < best)
+			{
+				best = rank;
+			}
+
+			if (best <= RANK_WORD)
+			{
+				// only a match at the start could improve on this, and that has been checked
+				break;
+			}
+		}
+		return best;
+	}
+
+	private boolean regionMatches(int offset, char[] q)
+	{
+		for (int i = 0; i < q.length; ++i)
+		{
+			if (chars[offset + i] != q[i])
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static long trigram(char[] chars, int offset)
+	{
+		long hi = chars[offset];
+		return hi << 32 | (chars[offset + 1] << 16 | chars[offset + 2]) & 0xFFFF_FFFFL;
+	}
+}
@@ -0,0 +1,387 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import com.google.common.primitives.Ints;
+import java.awt.image.BufferedImage;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Constants;
+import net.runelite.client.RuneLite;
+
+/**
+ * A persistent store of rendered item sprites, so that item images do not have to be rendered
+ * by the client again on every start.
+ * <p>
+ * The sprites are stored as packed ARGB in a memory mapped file. Every sprite in the file belongs
+ * to the same cache revision; storing a sprite for a different revision discards the others.
+ * The revision is a checksum of the reference tables of the game's cache on disk, see
+ * {@link #cacheRevision(int, File)}.
+ */
+@Singleton
+@Slf4j
+class ItemSpriteAtlas
+{
+	private static final File ATLAS_FILE = new File(RuneLite.CACHE_DIR, "item-sprites.dat");
+	static final File JAGEX_CACHE_DIR = new File(RuneLite.RUNELITE_DIR, "jagexcache");
+
+	// the jagex cache data file layout
+	private static final String REFERENCE_INDEX_FILE = "main_file_cache.idx255";
+	private static final String DATA_FILE = "main_file_cache.dat2";
+	private static final int INDEX_ENTRY_SIZE = 6;
+	private static final int SECTOR_SIZE = 520;
+	private static final int SECTOR_HEADER_SIZE = 8;
+
+	private static final int MAGIC = 0x52_4c_49_53; // RLIS
+	private static final int VERSION = 1;
+
+	// magic, version, revision, sprite count
+	private static final int HEADER_SIZE = 16;
+	private static final int SPRITE_SIZE = Constants.ITEM_SPRITE_WIDTH * Constants.ITEM_SPRITE_HEIGHT;
+	// item id, quantity, stackable, padding, then the pixels
+	private static final int SLOT_SIZE = 16 + SPRITE_SIZE * Integer.BYTES;
+	private static final int CHUNK_SLOTS = 256;
+	private static final int MAX_SLOTS = 4096;
+
+	@Value
+	private static class SpriteKey
+	{
+		private final int itemId;
+		private final int quantity;
+		private final boolean stackable;
+	}
+
+	private final File file;
+	private final Map<SpriteKey, Integer> slots = new HashMap<>();
+	private final List<MappedByteBuffer> chunks = new ArrayList<>();
+	private boolean opened;
+	private FileChannel channel;
+	private MappedByteBuffer header;
+	private int revision;
+	private int count;
+
+	@Inject
+	ItemSpriteAtlas()
+	{
+		this(ATLAS_FILE);
+	}
+
+	ItemSpriteAtlas(File file)
+	{
+		this.file = file;
+	}
+
+	/**
+	 * Check if a sprite is in the atlas, without opening it
+	 *
+	 * @param revision the current cache revision
+	 * @param itemId item id
+	 * @param quantity item quantity
+	 * @param stackable whether the quantity is drawn
+	 * @return true if the sprite can be read
+	 */
+	synchronized boolean contains(int revision, int itemId, int quantity, boolean stackable)
+	{
+		return channel != null && revision == this.revision && slots.containsKey(new SpriteKey(itemId, quantity, stackable));
+	}
+
+	/**
+	 * Read a sprite into an image
+	 *
+	 * @param revision the current cache revision
+	 * @param itemId item id
+	 * @param quantity item quantity
+	 * @param stackable whether the quantity is drawn
+	 * @param image a {@link BufferedImage#TYPE_INT_ARGB} image of the item sprite size
+	 * @return true if the sprite was found
+	 */
+	synchronized boolean read(int revision, int itemId, int quantity, boolean stackable, BufferedImage image)
+	{
+		open();
+		if (channel == null || revision != this.revision)
+		{
+			return false;
+		}
+
+		Integer slot = slots.get(new SpriteKey(itemId, quantity, stackable));
+		if (slot == null)
+		{
+			return false;
+		}
+
+		int[] pixels = new int[SPRITE_SIZE];
+		pixels(slot).get(pixels);
+		image.getRaster().setDataElements(0, 0, Constants.ITEM_SPRITE_WIDTH, Constants.ITEM_SPRITE_HEIGHT, pixels);
+		return true;
+	}
+
+	/**
+	 * Store the sprite from an image
+	 *
+	 * @param revision the current cache revision
+	 * @param itemId item id
+	 * @param quantity item quantity
+	 * @param stackable whether the quantity is drawn
+	 * @param image a {@link BufferedImage#TYPE_INT_ARGB} image of the item sprite size
+	 */
+	synchronized void write(int revision, int itemId, int quantity, boolean stackable, BufferedImage image)
+	{
+		open();
+		if (channel == null)
+		{
+			return;
+		}
+
+		if (revision != this.revision || count == MAX_SLOTS)
+		{
+			reset(revision);
+		}
+
+		SpriteKey key = new SpriteKey(itemId, quantity, stackable);
+		if (slots.containsKey(key))
+		{
+			return;
+		}
+
+		int slot = count;
+		try
+		{
+			ensureCapacity(slot + 1);
+		}
+		catch (IOException ex)
+		{
+			log.warn("unable to grow item sprite atlas", ex);
+			return;
+		}
+
+		int[] pixels = (int[]) image.getRaster().getDataElements(0, 0, Constants.ITEM_SPRITE_WIDTH, Constants.ITEM_SPRITE_HEIGHT, null);
+		ByteBuffer buf = slotBuffer(slot);
+		buf.putInt(itemId);
+		buf.putInt(quantity);
+		buf.putInt(stackable ? 1 : 0);
+		buf.putInt(0);
+		buf.asIntBuffer().put(pixels);
+
+		// the count is written last, so that a partially written sprite is never read back
+		slots.put(key, slot);
+		count = slot + 1;
+		header.putInt(12, count);
+	}
+
+	synchronized void open()
+	{
+		if (opened)
+		{
+			return;
+		}
+		opened = true;
+
+		try
+		{
+			file.getParentFile().mkdirs();
+			FileChannel fc = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+			if (fc.tryLock() == null)
+			{
+				// another client owns the atlas
+				log.debug("item sprite atlas is in use");
+				fc.close();
+				return;
+			}
+
+			channel = fc;
+			header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+			if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION)
+			{
+				header.putInt(0, MAGIC);
+				header.putInt(4, VERSION);
+				reset(0);
+				return;
+			}
+
+			revision = header.getInt(8);
+			int stored = header.getInt(12);
+			if (stored < 0 || stored > MAX_SLOTS || HEADER_SIZE + (long) stored * SLOT_SIZE > channel.size())
+			{
+				reset(0);
+				return;
+			}
+
+			ensureCapacity(stored);
+			for (int slot = 0; slot < stored; ++slot)
+			{
+				ByteBuffer buf = slotBuffer(slot);
+				slots.put(new SpriteKey(buf.getInt(), buf.getInt(), buf.getInt() != 0), slot);
+			}
+			count = stored;
+			log.debug("loaded {} item sprites from atlas", count);
+		}
+		catch (IOException ex)
+		{
+			log.warn("unable to open item sprite atlas", ex);
+			close();
+		}
+	}
+
+	synchronized void close()
+	{
+		try
+		{
+			if (channel != null)
+			{
+				channel.close();
+			}
+		}
+		catch (IOException ex)
+		{
+			log.debug(null, ex);
+		}
+		channel = null;
+		header = null;
+		chunks.clear();
+		slots.clear();
+		count = 0;
+	}
+
+	/**
+	 * Compute the cache revision of the sprites a client renders. Every archive of the cache is listed in
+	 * the reference tables with its crc and version, so this checksum changes with any cache update,
+	 * including the models, textures and fonts the sprites are drawn from. The client does not expose its
+	 * index crcs, so the reference tables are read from the game's caches on disk.
+	 *
+	 * @param clientRevision the client revision
+	 * @param jagexCacheDir the directory holding the game's caches
+	 * @return the cache revision
+	 * @throws IOException if there is no cache or it can not be read
+	 */
+	static int cacheRevision(int clientRevision, File jagexCacheDir) throws IOException
+	{
+		List<Path> referenceIndexes;
+		try (Stream<Path> files = Files.walk(jagexCacheDir.toPath(), 3))
+		{
+			referenceIndexes = files
+				.filter(path -> path.getFileName().toString().equals(REFERENCE_INDEX_FILE))
+				.sorted()
+				.collect(Collectors.toList());
+		}
+
+		if (referenceIndexes.isEmpty())
+		{
+			throw new FileNotFoundException("no game cache in " + jagexCacheDir);
+		}
+
+		CRC32 crc = new CRC32();
+		crc.update(Ints.toByteArray(clientRevision));
+		for (Path referenceIndex : referenceIndexes)
+		{
+			byte[] entries = Files.readAllBytes(referenceIndex);
+			try (FileChannel data = FileChannel.open(referenceIndex.resolveSibling(DATA_FILE), StandardOpenOption.READ))
+			{
+				ByteBuffer sector = ByteBuffer.allocate(SECTOR_SIZE);
+				for (int entry = 0; entry + INDEX_ENTRY_SIZE <= entries.length; entry += INDEX_ENTRY_SIZE)
+				{
+					int remaining = medium(entries, entry);
+					int sectorId = medium(entries, entry + 3);
+					while (remaining > 0 && sectorId != 0)
+					{
+						int length = Math.min(remaining, SECTOR_SIZE - SECTOR_HEADER_SIZE);
+						sector.clear();
+						sector.limit(SECTOR_HEADER_SIZE + length);
+						long position = (long) sectorId * SECTOR_SIZE;
+						while (sector.hasRemaining())
+						{
+							if (data.read(sector, position + sector.position()) == -1)
+							{
+								throw new EOFException("truncated game cache " + referenceIndex);
+							}
+						}
+
+						crc.update(sector.array(), SECTOR_HEADER_SIZE, length);
+						remaining -= length;
+						sectorId = medium(sector.array(), 4);
+					}
+				}
+			}
+		}
+		return (int) crc.getValue();
+	}
+
+	private static int medium(byte[] b, int offset)
+	{
+		return (b[offset] & 0xff) << 16 | (b[offset + 1] & 0xff) << 8 | b[offset + 2] & 0xff;
+	}
+
+	private void reset(int revision)
+	{
+		this.revision = revision;
+		slots.clear();
+		count = 0;
+		header.putInt(8, revision);
+		header.putInt(12, 0);
+	}
+
+	private void ensureCapacity(int numSlots) throws IOException
+	{
+		while (chunks.size() * CHUNK_SLOTS < numSlots)
+		{
+			long position = HEADER_SIZE + (long) chunks.size() * CHUNK_SLOTS * SLOT_SIZE;
+			chunks.add(channel.map(FileChannel.MapMode.READ_WRITE, position, (long) CHUNK_SLOTS * SLOT_SIZE));
+		}
+	}
+
+	private ByteBuffer slotBuffer(int slot)
+	{
+		ByteBuffer buf = chunks.get(slot / CHUNK_SLOTS).duplicate();
+		buf.position((slot % CHUNK_SLOTS) * SLOT_SIZE);
+		buf.limit(buf.position() + SLOT_SIZE);
+		return buf.slice();
+	}
+
+	private IntBuffer pixels(int slot)
+	{
+		ByteBuffer buf = slotBuffer(slot);
+		buf.position(16);
+		return buf.slice().asIntBuffer();
+	}
+}
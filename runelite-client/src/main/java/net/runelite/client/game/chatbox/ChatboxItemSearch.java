@@ -307,14 +307,17 @@ public class ChatboxItemSearch extends ChatboxTextInput
 		}
 
 		Set<ItemIcon> itemIcons = new HashSet<>();
-		for (int i = 0; i < client.getItemCount() && results.size() < MAX_RESULTS; i++)
+		for (int itemId : itemManager.getItemNameIndex().search(search))
 		{
-			ItemComposition itemComposition = itemManager.getItemComposition(itemManager.canonicalize(i));
-			String name = itemComposition.getName().toLowerCase();
+			if (results.size() >= MAX_RESULTS)
+			{
+				break;
+			}
+
+			ItemComposition itemComposition = itemManager.getItemComposition(itemManager.canonicalize(itemId));
 
-			// The client assigns "null" to item names of items it doesn't know about
-			// and the item might already be in the results from canonicalize
-			if (!name.equals("null") && name.contains(search) && !results.containsKey(itemComposition.getId()))
+			// The item might already be in the results from canonicalize
+			if (!results.containsKey(itemComposition.getId()))
 			{
 				// Check if the results already contain the same item image
 				ItemIcon itemIcon = new ItemIcon(itemComposition.getInventoryModel(),
@@ -88,12 +88,17 @@ public class HiscoreClient
 			}
 
 			@Override
-			public void onResponse(Call call, Response response) throws IOException
+			public void onResponse(Call call, Response response)
 			{
 				try (response)
 				{
 					future.complete(processResponse(username, response));
 				}
+				catch (IOException | RuntimeException e)
+				{
+					// okhttp only logs exceptions thrown from here, and the future must complete
+					future.completeExceptionally(e);
+				}
 			}
 		});
 
@@ -24,18 +24,26 @@
  */
 package net.runelite.client.hiscore;
 
+import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.LoadingCache;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.Futures;
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
 
 @Singleton
+@Slf4j
 public class HiscoreManager
 {
 	@AllArgsConstructor
@@ -46,20 +54,34 @@ public class HiscoreManager
 		HiscoreEndpoint type;
 	}
 
-	static final HiscoreResult EMPTY = new HiscoreResult(null, ImmutableMap.of());
 	static final HiscoreResult NONE = new HiscoreResult(null, ImmutableMap.of());
 
-	private final LoadingCache<HiscoreKey, HiscoreResult> hiscoreCache;
+	// the number of hiscore requests in flight at once
+	private static final int MAX_REQUESTS = 4;
+	// longest a synchronous lookup waits, including the time spent queued behind other requests
+	private static final long LOOKUP_TIMEOUT_SECONDS = 60;
+
+	private final Cache<HiscoreKey, HiscoreResult> hiscoreCache;
+	private final ScheduledExecutorService executor;
 	private final HiscoreClient hiscoreClient;
+	private final HiscoreStore hiscoreStore;
+
+	// lookups waiting on a request, so that lookups of the same player share one request
+	private final Map<HiscoreKey, CompletableFuture<HiscoreResult>> pendingLookups = new ConcurrentHashMap<>();
+	// requests waiting for one of the others to finish
+	private final Queue<HiscoreKey> queuedRequests = new ArrayDeque<>();
+	private int requests;
 
 	@Inject
-	private HiscoreManager(ScheduledExecutorService executor, HiscoreClient hiscoreClient)
+	private HiscoreManager(ScheduledExecutorService executor, HiscoreClient hiscoreClient, HiscoreStore hiscoreStore)
 	{
+		this.executor = executor;
 		this.hiscoreClient = hiscoreClient;
+		this.hiscoreStore = hiscoreStore;
 		hiscoreCache = CacheBuilder.newBuilder()
 			.maximumSize(128L)
-			.expireAfterWrite(1, TimeUnit.HOURS)
-			.build(new HiscoreLoader(executor, hiscoreClient));
+			.expireAfterWrite(HiscoreStore.TTL, TimeUnit.MILLISECONDS)
+			.build();
 	}
 
 	/**
@@ -74,20 +96,21 @@ public class HiscoreManager
 	{
 		HiscoreKey hiscoreKey = new HiscoreKey(username, endpoint);
 		HiscoreResult hiscoreResult = hiscoreCache.getIfPresent(hiscoreKey);
-		if (hiscoreResult != null && hiscoreResult != EMPTY)
+		if (hiscoreResult == null)
 		{
-			return hiscoreResult == NONE ? null : hiscoreResult;
+			hiscoreResult = hiscoreStore.get(username, endpoint);
+			if (hiscoreResult != null)
+			{
+				hiscoreCache.put(hiscoreKey, hiscoreResult);
+			}
 		}
 
-		hiscoreResult = hiscoreClient.lookup(username, endpoint);
 		if (hiscoreResult == null)
 		{
-			hiscoreCache.put(hiscoreKey, NONE);
-			return null;
+			hiscoreResult = Futures.getChecked(request(hiscoreKey), IOException.class, LOOKUP_TIMEOUT_SECONDS, TimeUnit.SECONDS);
 		}
 
-		hiscoreCache.put(hiscoreKey, hiscoreResult);
-		return hiscoreResult;
+		return hiscoreResult == NONE ? null : hiscoreResult;
 	}
 
 	/**
@@ -101,12 +124,122 @@ public class HiscoreManager
 	{
 		HiscoreKey hiscoreKey = new HiscoreKey(username, endpoint);
 		HiscoreResult hiscoreResult = hiscoreCache.getIfPresent(hiscoreKey);
-		if (hiscoreResult != null && hiscoreResult != EMPTY)
+		if (hiscoreResult != null)
 		{
 			return hiscoreResult == NONE ? null : hiscoreResult;
 		}
 
-		hiscoreCache.refresh(hiscoreKey);
+		// register the lookup before it is scheduled, so that it is only scheduled once
+		CompletableFuture<HiscoreResult> future = new CompletableFuture<>();
+		if (pendingLookups.putIfAbsent(hiscoreKey, future) != null)
+		{
+			return null;
+		}
+
+		future.whenComplete((result, ex) ->
+		{
+			if (ex != null)
+			{
+				log.warn("Unable to look up hiscore!", ex);
+				// don't retry this player until the lookup expires
+				hiscoreCache.put(hiscoreKey, NONE);
+			}
+		});
+
+		executor.execute(() ->
+		{
+			HiscoreResult stored = hiscoreStore.get(username, endpoint);
+			if (stored != null)
+			{
+				hiscoreCache.put(hiscoreKey, stored);
+				pendingLookups.remove(hiscoreKey);
+				future.complete(stored);
+				return;
+			}
+
+			submit(hiscoreKey);
+		});
 		return null;
 	}
+
+	/**
+	 * Request a hiscore, or join the request already made for it
+	 */
+	private CompletableFuture<HiscoreResult> request(HiscoreKey hiscoreKey)
+	{
+		CompletableFuture<HiscoreResult> future = new CompletableFuture<>();
+		CompletableFuture<HiscoreResult> pending = pendingLookups.putIfAbsent(hiscoreKey, future);
+		if (pending != null)
+		{
+			return pending;
+		}
+
+		submit(hiscoreKey);
+		return future;
+	}
+
+	/**
+	 * Send the request for a pending lookup, or queue it if too many requests are running
+	 */
+	private void submit(HiscoreKey hiscoreKey)
+	{
+		synchronized (this)
+		{
+			if (requests >= MAX_REQUESTS)
+			{
+				queuedRequests.add(hiscoreKey);
+				return;
+			}
+			++requests;
+		}
+
+		send(hiscoreKey);
+	}
+
+	private void send(HiscoreKey hiscoreKey)
+	{
+		log.debug("Submitting hiscore lookup for {} type {}", hiscoreKey.getUsername(), hiscoreKey.getType());
+
+		CompletableFuture<HiscoreResult> lookup;
+		try
+		{
+			lookup = hiscoreClient.lookupAsync(hiscoreKey.getUsername(), hiscoreKey.getType());
+		}
+		catch (RuntimeException ex)
+		{
+			// complete the lookup below, so that the request slot is released
+			lookup = CompletableFuture.failedFuture(ex);
+		}
+
+		lookup.whenComplete((result, ex) ->
+		{
+			CompletableFuture<HiscoreResult> future = pendingLookups.remove(hiscoreKey);
+			if (ex != null)
+			{
+				future.completeExceptionally(ex);
+			}
+			else
+			{
+				HiscoreResult hiscoreResult = result != null ? result : NONE;
+				hiscoreCache.put(hiscoreKey, hiscoreResult);
+				executor.execute(() -> hiscoreStore.put(hiscoreKey.getUsername(), hiscoreKey.getType(), hiscoreResult));
+				future.complete(hiscoreResult);
+			}
+
+			HiscoreKey next;
+			synchronized (this)
+			{
+				next = queuedRequests.poll();
+				if (next == null)
+				{
+					--requests;
+				}
+			}
+
+			if (next != null)
+			{
+				send(next);
+			}
+		});
+	}
 }
@@ -0,0 +1,355 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.hiscore;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableMap;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.RuneLite;
+import static net.runelite.client.hiscore.HiscoreManager.NONE;
+
+/**
+ * Stores hiscore lookups on disk, so that they outlive the client.
+ * <p>
+ * The file starts with the names of the hiscore skills, which the lookups after it refer to by index,
+ * and lookups are appended to it as they are made. Expired lookups are dropped from memory as new ones
+ * are stored, and from the file when it is rewritten, which is on load and once it holds
+ * {@link #COMPACT_RATIO} times as many lookups as are still live.
+ */
+@Singleton
+@Slf4j
+class HiscoreStore
+{
+	private static final File STORE_FILE = new File(RuneLite.CACHE_DIR, "hiscores.dat");
+
+	private static final int MAGIC = 0x52_4c_48_53; // RLHS
+	private static final int VERSION = 1;
+
+	static final long TTL = TimeUnit.HOURS.toMillis(1);
+	private static final int MAX_ENTRIES = 1024;
+	private static final int COMPACT_RATIO = 2;
+	// the fewest lookups the file is compacted at, so a store of a few lookups isn't rewritten on every put
+	private static final int MIN_COMPACT_RECORDS = 64;
+
+	@Value
+	private static class Entry
+	{
+		private final long time;
+		private final HiscoreResult result;
+	}
+
+	private final File file;
+	private final LongSupplier clock;
+	// lookups by endpoint and username, oldest first
+	private final Map<String, Entry> entries = new LinkedHashMap<>();
+	private final HiscoreSkill[] skills = HiscoreSkill.values();
+	// the number of lookups in the file, including replaced and expired ones
+	private int records;
+	private boolean loaded;
+	private boolean broken;
+
+	@Inject
+	HiscoreStore()
+	{
+		this(STORE_FILE, System::currentTimeMillis);
+	}
+
+	@VisibleForTesting
+	HiscoreStore(File file, LongSupplier clock)
+	{
+		this.file = file;
+		this.clock = clock;
+	}
+
+	/**
+	 * Get a stored lookup
+	 *
+	 * @return the result, {@link HiscoreManager#NONE} if the player was not found, or null if there is no
+	 * unexpired lookup stored
+	 */
+	@Nullable
+	synchronized HiscoreResult get(String username, HiscoreEndpoint endpoint)
+	{
+		load();
+
+		final Entry entry = entries.get(key(username, endpoint));
+		if (entry == null || clock.getAsLong() - entry.time >= TTL)
+		{
+			return null;
+		}
+		return entry.result;
+	}
+
+	/**
+	 * Store a lookup
+	 *
+	 * @param result the result, or {@link HiscoreManager#NONE} if the player was not found
+	 */
+	synchronized void put(String username, HiscoreEndpoint endpoint, HiscoreResult result)
+	{
+		load();
+
+		final long now = clock.getAsLong();
+		final String key = key(username, endpoint);
+		final Entry entry = new Entry(now, result);
+		entries.remove(key);
+		entries.put(key, entry);
+		prune(now);
+
+		if (broken)
+		{
+			return;
+		}
+
+		if (records + 1 > COMPACT_RATIO * Math.max(entries.size(), MIN_COMPACT_RECORDS))
+		{
+			rewrite();
+			return;
+		}
+
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file, true))))
+		{
+			write(out, username, endpoint, entry);
+			++records;
+		}
+		catch (IOException ex)
+		{
+			log.warn("unable to store hiscore lookup", ex);
+		}
+	}
+
+	/**
+	 * Drop expired lookups, and the oldest lookups past {@link #MAX_ENTRIES}
+	 */
+	private void prune(long now)
+	{
+		final Iterator<Entry> it = entries.values().iterator();
+		for (int size = entries.size(); it.hasNext(); --size)
+		{
+			// entries are oldest first, so stop at the first one to keep
+			final Entry entry = it.next();
+			if (size <= MAX_ENTRIES && now - entry.time < TTL)
+			{
+				break;
+			}
+			it.remove();
+		}
+	}
+
+	private void load()
+	{
+		if (loaded)
+		{
+			return;
+		}
+		loaded = true;
+
+		int read = 0;
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file))))
+		{
+			if (in.readInt() == MAGIC && in.readInt() == VERSION)
+			{
+				final HiscoreSkill[] table = new HiscoreSkill[in.readUnsignedShort()];
+				for (int i = 0; i < table.length; ++i)
+				{
+					table[i] = skill(in.readUTF());
+				}
+
+				final long now = clock.getAsLong();
+				while (true)
+				{
+					final long time;
+					try
+					{
+						time = in.readLong();
+					}
+					catch (EOFException ex)
+					{
+						break;
+					}
+
+					final HiscoreEndpoint endpoint = endpoint(in.readUTF());
+					final String username = in.readUTF();
+					final HiscoreResult result = readResult(in, username, table);
+					++read;
+
+					if (endpoint != null && now - time < TTL)
+					{
+						final String key = key(username, endpoint);
+						entries.remove(key);
+						entries.put(key, new Entry(time, result));
+					}
+				}
+			}
+		}
+		catch (FileNotFoundException ex)
+		{
+			// nothing stored yet
+		}
+		catch (IOException ex)
+		{
+			// truncated by a crash, or not a hiscore file. Keep whatever was read.
+			log.debug("unable to read all stored hiscore lookups", ex);
+		}
+
+		prune(clock.getAsLong());
+		log.debug("Loaded {} of {} stored hiscore lookups", entries.size(), read);
+
+		// start over with only the unexpired lookups and the current skill table
+		rewrite();
+	}
+
+	private void rewrite()
+	{
+		final File tmp = new File(file.getParentFile(), file.getName() + ".tmp");
+		try
+		{
+			file.getParentFile().mkdirs();
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp))))
+			{
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+				out.writeShort(skills.length);
+				for (HiscoreSkill skill : skills)
+				{
+					out.writeUTF(skill.name());
+				}
+
+				for (Map.Entry<String, Entry> entry : entries.entrySet())
+				{
+					final String key = entry.getKey();
+					final int sep = key.indexOf(':');
+					write(out, key.substring(sep + 1), HiscoreEndpoint.valueOf(key.substring(0, sep)), entry.getValue());
+				}
+			}
+			Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			records = entries.size();
+			broken = false;
+		}
+		catch (IOException ex)
+		{
+			// lookups are still kept in memory
+			log.warn("unable to write hiscore store", ex);
+			broken = true;
+		}
+	}
+
+	private void write(DataOutputStream out, String username, HiscoreEndpoint endpoint, Entry entry) throws IOException
+	{
+		out.writeLong(entry.time);
+		out.writeUTF(endpoint.name());
+		out.writeUTF(username);
+
+		final HiscoreResult result = entry.result;
+		if (result == NONE)
+		{
+			out.writeShort(-1);
+			return;
+		}
+
+		out.writeShort(result.getSkills().size());
+		for (Map.Entry<HiscoreSkill, Skill> skill : result.getSkills().entrySet())
+		{
+			out.writeShort(skill.getKey().ordinal());
+			out.writeInt(skill.getValue().getRank());
+			out.writeInt(skill.getValue().getLevel());
+			out.writeLong(skill.getValue().getExperience());
+		}
+	}
+
+	private static HiscoreResult readResult(DataInputStream in, String username, HiscoreSkill[] table) throws IOException
+	{
+		final int count = in.readShort();
+		if (count == -1)
+		{
+			return NONE;
+		}
+
+		final ImmutableMap.Builder<HiscoreSkill, Skill> skills = ImmutableMap.builder();
+		for (int i = 0; i < count; ++i)
+		{
+			final int index = in.readUnsignedShort();
+			final Skill skill = new Skill(in.readInt(), in.readInt(), in.readLong());
+			// skills which no longer exist are dropped
+			if (index < table.length && table[index] != null)
+			{
+				skills.put(table[index], skill);
+			}
+		}
+		return new HiscoreResult(username, skills.build());
+	}
+
+	private static String key(String username, HiscoreEndpoint endpoint)
+	{
+		return endpoint.name() + ':' + username;
+	}
+
+	@Nullable
+	private static HiscoreSkill skill(String name)
+	{
+		try
+		{
+			return HiscoreSkill.valueOf(name);
+		}
+		catch (IllegalArgumentException ex)
+		{
+			return null;
+		}
+	}
+
+	@Nullable
+	private static HiscoreEndpoint endpoint(String name)
+	{
+		try
+		{
+			return HiscoreEndpoint.valueOf(name);
+		}
+		catch (IllegalArgumentException ex)
+		{
+			return null;
+		}
+	}
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.party;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import java.io.IOException;
+import javax.annotation.Nullable;
+import net.runelite.client.party.messages.WebsocketMessage;
+
+/**
+ * A compact binary encoding for a frequently sent party message, used in place of json.
+ * <p>
+ * Messages may be encoded as a delta against the previous message of the same type sent by the
+ * same member. The previous message is forgotten whenever a member joins or requests a sync, or the
+ * connection is reset, so codecs must be able to encode a complete message when it is {@code null}.
+ *
+ * @param <T> message type
+ * @see WSClient#registerMessage(Class, PartyMessageCodec)
+ */
+public interface PartyMessageCodec<T extends WebsocketMessage>
+{
+	/**
+	 * Encode a message
+	 *
+	 * @param message the message
+	 * @param previous the previous message of this type sent by the local member, if receivers know of it
+	 * @param out output
+	 * @throws IOException
+	 */
+	void encode(T message, @Nullable T previous, CodedOutputStream out) throws IOException;
+
+	/**
+	 * Decode a message
+	 *
+	 * @param in input
+	 * @param previous the previous message of this type received from the sending member, if any
+	 * @return the message
+	 * @throws IOException if the message is malformed, or is a delta and {@code previous} is {@code null}
+	 */
+	T decode(CodedInputStream in, @Nullable T previous) throws IOException;
+}
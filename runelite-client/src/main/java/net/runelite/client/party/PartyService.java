@@ -44,6 +44,7 @@ import net.runelite.api.ChatMessageType;
 import net.runelite.api.Client;
 import net.runelite.api.GameState;
 import net.runelite.api.ItemComposition;
+import net.runelite.api.events.PostClientTick;
 import net.runelite.client.chat.ChatMessageManager;
 import net.runelite.client.chat.QueuedMessage;
 import net.runelite.client.eventbus.EventBus;
@@ -70,6 +71,8 @@ public class PartyService
 	private final EventBus eventBus;
 	private final ChatMessageManager chat;
 	private final List<PartyMember> members = new ArrayList<>();
+	// messages sent during the current client tick, sent together at the end of it
+	private final List<PartyMessage> pending = new ArrayList<>();
 
 	@Getter
 	private long partyId; // secret party id
@@ -159,6 +162,10 @@ public class PartyService
 
 		log.debug("Party change to {} (id {})", passphrase, id);
 		members.clear();
+		synchronized (pending)
+		{
+			pending.clear();
+		}
 		partyId = id;
 		partyPassphrase = passphrase;
 
@@ -179,6 +186,12 @@ public class PartyService
 		wsClient.join(partyId, memberId);
 	}
 
+	/**
+	 * Send a message to the party. Messages are sent together at the end of the client tick,
+	 * and a message may be combined with an earlier one of the same type.
+	 *
+	 * @see PartyMessage#coalesce(PartyMessage)
+	 */
 	public <T extends PartyMessage> void send(T message)
 	{
 		if (!wsClient.isOpen())
@@ -191,7 +204,48 @@ public class PartyService
 			wsClient.join(partyId, memberId);
 		}
 
-		wsClient.send(message);
+		synchronized (pending)
+		{
+			for (int i = pending.size() - 1; i >= 0; --i)
+			{
+				final PartyMessage queued = pending.get(i);
+				if (queued.getClass() == message.getClass())
+				{
+					final PartyMessage coalesced = queued.coalesce(message);
+					if (coalesced != null)
+					{
+						pending.set(i, coalesced);
+						return;
+					}
+					break;
+				}
+			}
+
+			pending.add(message);
+		}
+	}
+
+	@Subscribe
+	public void onPostClientTick(PostClientTick event)
+	{
+		flush();
+	}
+
+	void flush()
+	{
+		final List<PartyMessage> messages;
+		synchronized (pending)
+		{
+			if (pending.isEmpty())
+			{
+				return;
+			}
+
+			messages = new ArrayList<>(pending);
+			pending.clear();
+		}
+
+		wsClient.send(messages);
 	}
 
 	@Subscribe(priority = 1) // run prior to plugins so that the member is joined by the time the plugins see it.
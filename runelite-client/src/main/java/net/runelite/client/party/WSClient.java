@@ -26,11 +26,19 @@ package net.runelite.client.party;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonParseException;
+import com.google.protobuf.CodedOutputStream;
 import com.google.protobuf.InvalidProtocolBufferException;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
@@ -41,6 +49,7 @@ import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.party.events.UserJoin;
 import net.runelite.client.party.events.UserPart;
 import net.runelite.client.party.messages.PartyMemberMessage;
+import net.runelite.client.party.messages.UserSync;
 import net.runelite.client.party.messages.WebsocketMessage;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
@@ -50,14 +59,37 @@ import okhttp3.WebSocket;
 import okhttp3.WebSocketListener;
 import okio.ByteString;
 
+/**
+ * Party websocket client.
+ * <p>
+ * Members announce the encodings they can read with a capability flag in their {@link UserSync}, and a member
+ * seen sending an encoding can read it too. Binary encodings and batched frames are only sent while every
+ * member of the party is known to support them, so that older clients keep receiving json.
+ */
 @Slf4j
 @Singleton
 public class WSClient extends WebSocketListener implements AutoCloseable
 {
+	// json always starts with '{', so these can't be confused with it
+	private static final byte BINARY_MARKER = 0;
+	private static final byte BATCH_MARKER = 1;
+	private static final String BATCH_TYPE = "Batch";
+
+	static final int CAPABILITY_BINARY = 1;
+	static final int CAPABILITY_BATCH = 2;
+	static final int CAPABILITIES = CAPABILITY_BINARY | CAPABILITY_BATCH;
+
 	private final EventBus eventBus;
 	private final OkHttpClient okHttpClient;
 	private final HttpUrl runeliteWs;
 	private final Collection<Class<? extends WebsocketMessage>> messages = new HashSet<>();
+	private final Map<String, PartyMessageCodec<WebsocketMessage>> codecs = new ConcurrentHashMap<>();
+	// last message of each binary encoded type sent, and received from each member, for delta encoding
+	private final Map<String, WebsocketMessage> sent = new ConcurrentHashMap<>();
+	private final Map<Long, Map<String, WebsocketMessage>> received = new ConcurrentHashMap<>();
+	// capabilities of each member of the party, 0 until they are known
+	private final Map<Long, Integer> capabilities = new ConcurrentHashMap<>();
+	private volatile long partyId;
 
 	private volatile Gson gson;
 	@Getter
@@ -92,6 +124,8 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 		}
 
 		this.sessionId = sessionId;
+		received.clear();
+		capabilities.clear();
 
 		if (sessionId != null)
 		{
@@ -113,6 +147,13 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 			.header("User-Agent", RuneLite.USER_AGENT)
 			.build();
 
+		synchronized (sent)
+		{
+			sent.clear();
+		}
+		// the members rejoin and resend their state after a reconnect
+		received.clear();
+		capabilities.clear();
 		webSocket = okHttpClient.newWebSocket(request, this);
 	}
 
@@ -129,8 +170,35 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 		}
 	}
 
+	/**
+	 * Register a message which is sent in a binary encoding instead of json, while every member of the
+	 * party supports binary messages. Clients without the codec registered are not able to read the message.
+	 *
+	 * @param message message type
+	 * @param codec codec for the message
+	 */
+	@SuppressWarnings("unchecked")
+	public <T extends WebsocketMessage> void registerMessage(final Class<T> message, final PartyMessageCodec<T> codec)
+	{
+		codecs.put(message.getSimpleName(), (PartyMessageCodec<WebsocketMessage>) codec);
+		registerMessage(message);
+	}
+
 	public void unregisterMessage(final Class<? extends WebsocketMessage> message)
 	{
+		final String type = message.getSimpleName();
+		if (codecs.remove(type) != null)
+		{
+			// the codec may be registered again later, by which time the members have moved on
+			synchronized (sent)
+			{
+				sent.remove(type);
+			}
+			for (Map<String, WebsocketMessage> state : received.values())
+			{
+				state.remove(type);
+			}
+		}
 		if (messages.remove(message))
 		{
 			gson = WebsocketGsonFactory.build(WebsocketGsonFactory.factory(messages));
@@ -139,6 +207,10 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 
 	void join(long partyId, long memberId)
 	{
+		this.partyId = partyId;
+		capabilities.clear();
+		capabilities.put(memberId, CAPABILITIES);
+
 		final Party.Join join = Party.Join.newBuilder()
 			.setPartyId(partyId)
 			.setMemberId(memberId)
@@ -160,17 +232,139 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 	}
 
 	void send(WebsocketMessage message)
+	{
+		send(Collections.singletonList(message));
+	}
+
+	/**
+	 * Send messages in a single frame, or in a frame each if any member of the party does not support
+	 * batches. Receivers handle them in order, as if each had been sent on its own.
+	 *
+	 * @param messages messages to send
+	 */
+	void send(List<? extends WebsocketMessage> messages)
+	{
+		if (messages.isEmpty())
+		{
+			return;
+		}
+
+		// deltas must go out on the same connection, and in the same order, as the message they are against
+		synchronized (sent)
+		{
+			if (webSocket == null)
+			{
+				log.debug("Reconnecting to server");
+				connect();
+			}
+
+			if (messages.size() > 1 && !partySupports(CAPABILITY_BATCH))
+			{
+				for (WebsocketMessage message : messages)
+				{
+					final Party.Data data = data(message);
+					if (data != null)
+					{
+						send(Party.C2S.newBuilder()
+							.setData(data)
+							.build());
+					}
+				}
+				return;
+			}
+
+			Party.Data data;
+			if (messages.size() == 1)
+			{
+				data = data(messages.get(0));
+			}
+			else
+			{
+				final com.google.protobuf.ByteString.Output buf = com.google.protobuf.ByteString.newOutput(64 * messages.size());
+				buf.write(BATCH_MARKER);
+				try
+				{
+					for (WebsocketMessage message : messages)
+					{
+						final Party.Data d = data(message);
+						if (d != null)
+						{
+							d.writeDelimitedTo(buf);
+						}
+					}
+				}
+				catch (IOException ex)
+				{
+					// ByteString.Output does not throw
+					throw new IllegalStateException(ex);
+				}
+				data = Party.Data.newBuilder()
+					.setType(BATCH_TYPE)
+					.setData(buf.toByteString())
+					.build();
+			}
+
+			if (data != null)
+			{
+				final Party.C2S c2s = Party.C2S.newBuilder()
+					.setData(data)
+					.build();
+				send(c2s);
+			}
+		}
+	}
+
+	@Nullable
+	private Party.Data data(WebsocketMessage message)
 	{
 		log.debug("Sending: {}", message);
-		final String json = gson.toJson(message, WebsocketMessage.class);
-		final Party.Data data = Party.Data.newBuilder()
-			.setType(message.getClass().getSimpleName())
-			.setData(com.google.protobuf.ByteString.copyFromUtf8(json))
-			.build();
-		final Party.C2S c2s = Party.C2S.newBuilder()
-			.setData(data)
+		if (message instanceof UserSync)
+		{
+			((UserSync) message).setCapabilities(CAPABILITIES);
+		}
+
+		final String type = message.getClass().getSimpleName();
+		final PartyMessageCodec<WebsocketMessage> codec = codecs.get(type);
+		final com.google.protobuf.ByteString payload;
+		if (codec == null || !partySupports(CAPABILITY_BINARY))
+		{
+			payload = com.google.protobuf.ByteString.copyFromUtf8(gson.toJson(message, WebsocketMessage.class));
+			// members which missed a delta's baseline get a full message once binary is used again
+			sent.remove(type);
+		}
+		else
+		{
+			try
+			{
+				payload = encode(codec, message, sent.get(type));
+			}
+			catch (IOException ex)
+			{
+				log.warn("Failed to serialize message {}", message, ex);
+				return null;
+			}
+			sent.put(type, message);
+		}
+
+		return Party.Data.newBuilder()
+			.setType(type)
+			.setData(payload)
 			.build();
-		send(c2s);
+	}
+
+	/**
+	 * @return true if every member of the party is known to have the capability
+	 */
+	private boolean partySupports(int capability)
+	{
+		for (int c : capabilities.values())
+		{
+			if ((c & capability) == 0)
+			{
+				return false;
+			}
+		}
+		return true;
 	}
 
 	private void send(Party.C2S message)
@@ -184,6 +378,21 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 		webSocket.send(ByteString.of(message.toByteArray()));
 	}
 
+	private static com.google.protobuf.ByteString encode(PartyMessageCodec<WebsocketMessage> codec, WebsocketMessage message, WebsocketMessage previous) throws IOException
+	{
+		final com.google.protobuf.ByteString.Output buf = com.google.protobuf.ByteString.newOutput(32);
+		buf.write(BINARY_MARKER);
+		final CodedOutputStream out = CodedOutputStream.newInstance(buf, 32);
+		codec.encode(message, previous, out);
+		out.flush();
+		return buf.toByteString();
+	}
+
+	private static WebsocketMessage decode(PartyMessageCodec<WebsocketMessage> codec, com.google.protobuf.ByteString data, WebsocketMessage previous) throws IOException
+	{
+		return codec.decode(data.substring(1).newCodedInput(), previous);
+	}
+
 	@Override
 	public void close()
 	{
@@ -217,38 +426,107 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 		{
 			case JOIN:
 				Party.UserJoin join = s2c.getJoin();
+				synchronized (sent)
+				{
+					// the new member has nothing to apply deltas to
+					sent.clear();
+				}
+				if (join.getPartyId() == partyId)
+				{
+					capabilities.putIfAbsent(join.getMemberId(), 0);
+				}
 				UserJoin userJoin = new UserJoin(join.getPartyId(), join.getMemberId());
 				log.debug("Got: {}", userJoin);
 				eventBus.post(userJoin);
 				break;
 			case PART:
 				Party.UserPart part = s2c.getPart();
+				received.remove(part.getMemberId());
+				capabilities.remove(part.getMemberId());
 				UserPart userPart = new UserPart(part.getMemberId());
 				log.debug("Got: {}", userPart);
 				eventBus.post(userPart);
 				break;
 			case DATA:
 				Party.PartyData data = s2c.getData();
-				final WebsocketMessage message;
+				receive(data.getMemberId(), data.getType(), data.getData());
+		}
+	}
 
-				try
-				{
-					message = gson.fromJson(data.getData().toStringUtf8(), WebsocketMessage.class);
-				}
-				catch (JsonParseException e)
+	private void receive(long memberId, String type, com.google.protobuf.ByteString payload)
+	{
+		if (!payload.isEmpty() && payload.byteAt(0) == BATCH_MARKER)
+		{
+			capabilities.computeIfPresent(memberId, (k, c) -> c | CAPABILITY_BATCH);
+			try (InputStream in = payload.substring(1).newInput())
+			{
+				Party.Data data;
+				while ((data = Party.Data.parseDelimitedFrom(in)) != null)
 				{
-					log.debug("Failed to deserialize message", e);
-					return;
+					receive(memberId, data.getType(), data.getData());
 				}
+			}
+			catch (IOException e)
+			{
+				log.debug("Failed to deserialize batch", e);
+			}
+			return;
+		}
 
-				if (message instanceof PartyMemberMessage)
-				{
-					((PartyMemberMessage) message).setMemberId(data.getMemberId());
-				}
+		final WebsocketMessage message;
+		if (!payload.isEmpty() && payload.byteAt(0) == BINARY_MARKER)
+		{
+			final PartyMessageCodec<WebsocketMessage> codec = codecs.get(type);
+			if (codec == null)
+			{
+				log.debug("No codec for message type {}", type);
+				return;
+			}
+
+			capabilities.computeIfPresent(memberId, (k, c) -> c | CAPABILITY_BINARY);
+			final Map<String, WebsocketMessage> state = received.computeIfAbsent(memberId, k -> new ConcurrentHashMap<>());
+			try
+			{
+				message = decode(codec, payload, state.get(type));
+			}
+			catch (IOException e)
+			{
+				log.debug("Failed to deserialize message", e);
+				return;
+			}
+			state.put(type, message);
+		}
+		else
+		{
+			try
+			{
+				message = gson.fromJson(payload.toStringUtf8(), WebsocketMessage.class);
+			}
+			catch (JsonParseException e)
+			{
+				log.debug("Failed to deserialize message", e);
+				return;
+			}
+		}
 
-				log.debug("Got: {}", message);
-				eventBus.post(message);
+		if (message instanceof PartyMemberMessage)
+		{
+			((PartyMemberMessage) message).setMemberId(memberId);
 		}
+
+		if (message instanceof UserSync)
+		{
+			final int memberCapabilities = ((UserSync) message).getCapabilities();
+			capabilities.computeIfPresent(memberId, (k, c) -> c | memberCapabilities);
+			synchronized (sent)
+			{
+				// the state sent in reply to the sync must not depend on anything sent before it
+				sent.clear();
+			}
+		}
+
+		log.debug("Got: {}", message);
+		eventBus.post(message);
 	}
 
 	@Override
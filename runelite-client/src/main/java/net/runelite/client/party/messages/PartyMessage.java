@@ -24,6 +24,20 @@
  */
 package net.runelite.client.party.messages;
 
+import javax.annotation.Nullable;
+
 public abstract class PartyMessage extends WebsocketMessage
 {
+	/**
+	 * Combine this message with a newer message of the same type which was sent in the same client
+	 * tick, so that only one of them is sent.
+	 *
+	 * @param next the newer message
+	 * @return the combined message, or {@code null} if both messages must be sent
+	 */
+	@Nullable
+	public PartyMessage coalesce(PartyMessage next)
+	{
+		return null;
+	}
 }
@@ -24,6 +24,19 @@
  */
 package net.runelite.client.party.messages;
 
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
 public class UserSync extends PartyMemberMessage
 {
+	// encodings the sender can read, see WSClient
+	private int capabilities;
+
+	@Override
+	public PartyMessage coalesce(PartyMessage next)
+	{
+		return this;
+	}
 }
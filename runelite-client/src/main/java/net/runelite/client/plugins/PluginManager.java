@@ -26,19 +26,25 @@ package net.runelite.client.plugins;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Strings;
+import com.google.common.base.Throwables;
 import com.google.common.graph.Graph;
 import com.google.common.graph.GraphBuilder;
 import com.google.common.graph.Graphs;
 import com.google.common.graph.MutableGraph;
 import com.google.common.reflect.ClassPath;
 import com.google.common.reflect.ClassPath.ClassInfo;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.common.util.concurrent.Uninterruptibles;
 import com.google.inject.Binder;
 import com.google.inject.CreationException;
 import com.google.inject.Injector;
 import com.google.inject.Key;
 import com.google.inject.Module;
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.lang.invoke.CallSite;
 import java.lang.invoke.LambdaMetafactory;
 import java.lang.invoke.MethodHandle;
@@ -46,17 +52,29 @@ import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Provider;
@@ -78,6 +96,7 @@ import net.runelite.client.task.Scheduler;
 import net.runelite.client.ui.SplashScreen;
 import net.runelite.client.util.GameEventManager;
 import net.runelite.client.util.ReflectUtil;
+import net.runelite.client.util.StartupTimeline;
 
 @Singleton
 @Slf4j
@@ -88,6 +107,12 @@ public class PluginManager
 	 */
 	private static final String PLUGIN_PACKAGE = "net.runelite.client.plugins";
 	private static final File SIDELOADED_PLUGINS = new File(RuneLite.RUNELITE_DIR, "sideloaded-plugins");
+	/**
+	 * Index of the core plugin classes, generated at build time by runelite-maven-plugin
+	 */
+	private static final String PLUGIN_INDEX = "plugins.idx";
+	private static final int MAX_LOADER_THREADS = 4;
+	private static final long START_BATCH_NANOS = TimeUnit.MILLISECONDS.toNanos(25);
 
 	private final boolean developerMode;
 	private final boolean safeMode;
@@ -229,22 +254,30 @@ public class PluginManager
 	public void startPlugins()
 	{
 		List<Plugin> scannedPlugins = new ArrayList<>(plugins);
-		int loaded = 0;
-		for (Plugin plugin : scannedPlugins)
+		AtomicInteger loaded = new AtomicInteger();
+		while (loaded.get() < scannedPlugins.size())
 		{
 			try
 			{
+				// Start as many plugins per trip to the EDT as fit in the batch budget, instead of
+				// round tripping for each one, while still letting the splash screen repaint in between
 				SwingUtilities.invokeAndWait(() ->
 				{
-					try
+					long start = System.nanoTime();
+					do
 					{
-						startPlugin(plugin);
-					}
-					catch (PluginInstantiationException ex)
-					{
-						log.error("Unable to start plugin {}", plugin.getClass().getSimpleName(), ex);
-						plugins.remove(plugin);
+						Plugin plugin = scannedPlugins.get(loaded.getAndIncrement());
+						try
+						{
+							startPlugin(plugin);
+						}
+						catch (PluginInstantiationException ex)
+						{
+							log.error("Unable to start plugin {}", plugin.getClass().getSimpleName(), ex);
+							plugins.remove(plugin);
+						}
 					}
+					while (loaded.get() < scannedPlugins.size() && System.nanoTime() - start < START_BATCH_NANOS);
 				});
 			}
 			catch (InterruptedException | InvocationTargetException e)
@@ -252,8 +285,7 @@ public class PluginManager
 				throw new RuntimeException(e);
 			}
 
-			loaded++;
-			SplashScreen.stage(.80, 1, null, "Starting plugins", loaded, scannedPlugins.size(), false);
+			SplashScreen.stage(.80, 1, null, "Starting plugins", loaded.get(), scannedPlugins.size(), false);
 		}
 
 		for (Plugin plugin : plugins)
@@ -265,16 +297,54 @@ public class PluginManager
 	public void loadCorePlugins() throws IOException, PluginInstantiationException
 	{
 		SplashScreen.stage(.59, null, "Loading plugins");
-		ClassPath classPath = ClassPath.from(getClass().getClassLoader());
 
-		List<Class<?>> plugins = classPath.getTopLevelClassesRecursive(PLUGIN_PACKAGE).stream()
-			.map(ClassInfo::load)
-			.collect(Collectors.toList());
+		// The index is generated at build time, so it is not used in developer mode where it may be stale
+		List<Class<?>> plugins = developerMode ? null : readPluginIndex();
+		if (plugins == null)
+		{
+			ClassPath classPath = ClassPath.from(getClass().getClassLoader());
+
+			plugins = classPath.getTopLevelClassesRecursive(PLUGIN_PACKAGE).stream()
+				.map(ClassInfo::load)
+				.collect(Collectors.toList());
+		}
 
 		loadPlugins(plugins, (loaded, total) ->
 			SplashScreen.stage(.60, .70, null, "Loading plugins", loaded, total, false));
 	}
 
+	@Nullable
+	private List<Class<?>> readPluginIndex() throws IOException
+	{
+		InputStream in = PluginManager.class.getResourceAsStream(PLUGIN_INDEX);
+		if (in == null)
+		{
+			return null;
+		}
+
+		List<Class<?>> plugins = new ArrayList<>();
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)))
+		{
+			ClassLoader classLoader = getClass().getClassLoader();
+			String line;
+			while ((line = reader.readLine()) != null)
+			{
+				if (!line.isEmpty())
+				{
+					plugins.add(classLoader.loadClass(line));
+				}
+			}
+		}
+		catch (ClassNotFoundException ex)
+		{
+			log.warn("Plugin index is out of date, scanning for plugins instead", ex);
+			return null;
+		}
+
+		log.debug("Read {} plugins from plugin index", plugins.size());
+		return plugins;
+	}
+
 	public void loadSideLoadPlugins()
 	{
 		if (!developerMode)
@@ -380,34 +450,96 @@ public class PluginManager
 			throw new PluginInstantiationException("Plugin dependency graph contains a cycle!");
 		}
 
-		List<Class<? extends Plugin>> sortedPlugins = topologicalSort(graph);
+		List<List<Class<? extends Plugin>>> layers = topologicalLayers(graph);
+		int total = graph.nodes().size();
+
+		ExecutorService executor = null;
+		if (total > 1)
+		{
+			executor = Executors.newFixedThreadPool(Math.min(MAX_LOADER_THREADS, Runtime.getRuntime().availableProcessors()),
+				new ThreadFactoryBuilder()
+					.setNameFormat("plugin-loader-%d")
+					.setDaemon(true)
+					.build());
+		}
 
 		int loaded = 0;
 		List<Plugin> newPlugins = new ArrayList<>();
-		for (Class<? extends Plugin> pluginClazz : sortedPlugins)
+		try
 		{
-			Plugin plugin;
-			try
+			for (List<Class<? extends Plugin>> layer : layers)
 			{
-				plugin = instantiate(this.plugins, (Class<Plugin>) pluginClazz);
-				newPlugins.add(plugin);
-				this.plugins.add(plugin);
-			}
-			catch (PluginInstantiationException ex)
-			{
-				log.error("Error instantiating plugin!", ex);
-			}
+				// Plugins in the same layer don't depend on each other, so their classes can be loaded
+				// and their injectors created concurrently. Each layer only depends on the earlier ones.
+				List<Future<Plugin>> futures = new ArrayList<>(layer.size());
+				for (Class<? extends Plugin> pluginClazz : layer)
+				{
+					Callable<Plugin> task = () ->
+					{
+						try (var ignored = StartupTimeline.span("PluginManager.instantiate", pluginClazz.getSimpleName()))
+						{
+							return instantiate(this.plugins, (Class<Plugin>) pluginClazz);
+						}
+						catch (PluginInstantiationException ex)
+						{
+							log.error("Error instantiating plugin!", ex);
+							return null;
+						}
+					};
+
+					if (executor != null && layer.size() > 1)
+					{
+						futures.add(executor.submit(task));
+					}
+					else
+					{
+						FutureTask<Plugin> future = new FutureTask<>(task);
+						future.run();
+						futures.add(future);
+					}
+				}
+
+				for (Future<Plugin> future : futures)
+				{
+					Plugin plugin = getUninterruptibly(future);
+					if (plugin != null)
+					{
+						newPlugins.add(plugin);
+						this.plugins.add(plugin);
+					}
 
-			loaded++;
-			if (onPluginLoaded != null)
+					loaded++;
+					if (onPluginLoaded != null)
+					{
+						onPluginLoaded.accept(loaded, total);
+					}
+				}
+			}
+		}
+		finally
+		{
+			if (executor != null)
 			{
-				onPluginLoaded.accept(loaded, sortedPlugins.size());
+				executor.shutdown();
 			}
 		}
 
 		return newPlugins;
 	}
 
+	private static <T> T getUninterruptibly(Future<T> future)
+	{
+		try
+		{
+			return Uninterruptibles.getUninterruptibly(future);
+		}
+		catch (ExecutionException ex)
+		{
+			Throwables.throwIfUnchecked(ex.getCause());
+			throw new RuntimeException(ex);
+		}
+	}
+
 	public boolean startPlugin(Plugin plugin) throws PluginInstantiationException
 	{
 		// plugins always start in the EDT
@@ -435,7 +567,10 @@ public class PluginManager
 
 		try
 		{
-			plugin.startUp();
+			try (var ignored = StartupTimeline.span("Plugin.startUp", plugin.getClass().getSimpleName()))
+			{
+				plugin.startUp();
+			}
 
 			log.debug("Plugin {} is now running", plugin.getClass().getSimpleName());
 			if (!isOutdated && sceneTileManager != null)
@@ -705,6 +840,37 @@ public class PluginManager
 		return l;
 	}
 
+	/**
+	 * Split a directed acyclic graph into layers, where each node is in a later layer than
+	 * all of its predecessors. Nodes within a layer have no edges between them.
+	 *
+	 * @param graph - A directed acyclic graph
+	 * @param <T>   - The type of the item contained in the nodes of the graph
+	 * @return - The layers of the graph, in order, with nodes in each layer in topological order.
+	 */
+	@VisibleForTesting
+	static <T> List<List<T>> topologicalLayers(Graph<T> graph)
+	{
+		Map<T, Integer> depth = new HashMap<>();
+		List<List<T>> layers = new ArrayList<>();
+		for (T node : topologicalSort(graph))
+		{
+			int d = 0;
+			for (T pred : graph.predecessors(node))
+			{
+				d = Math.max(d, depth.get(pred) + 1);
+			}
+			depth.put(node, d);
+
+			if (d == layers.size())
+			{
+				layers.add(new ArrayList<>());
+			}
+			layers.get(d).add(node);
+		}
+		return layers;
+	}
+
 	public List<Plugin> conflictsForPlugin(Plugin plugin)
 	{
 		Set<String> conflicts;
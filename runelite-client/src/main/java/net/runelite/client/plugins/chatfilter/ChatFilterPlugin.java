@@ -30,7 +30,7 @@ import com.google.common.base.CharMatcher;
 import com.google.common.base.Splitter;
 import com.google.common.collect.ImmutableSet;
 import com.google.inject.Provides;
-import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -38,10 +38,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.regex.MatchResult;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
+import java.util.stream.Collectors;
 import javax.inject.Inject;
 import net.runelite.api.ChatMessageType;
 import static net.runelite.api.ChatMessageType.ENGINE;
@@ -66,6 +65,7 @@ import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.ConfigChanged;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
+import net.runelite.client.util.MultiPatternMatcher;
 import net.runelite.client.util.Text;
 import org.apache.commons.lang3.StringUtils;
 
@@ -96,8 +96,9 @@ public class ChatFilterPlugin extends Plugin
 	);
 
 	private static final CharMatcher jagexPrintableCharMatcher = Text.JAGEX_PRINTABLE_CHAR_MATCHER;
-	private List<Pattern> filteredPatterns = Collections.emptyList();
-	private List<Pattern> filteredNamePatterns = Collections.emptyList();
+	private static final MultiPatternMatcher EMPTY_MATCHER = new MultiPatternMatcher(Collections.emptyList(), Collections.emptyList());
+	private MultiPatternMatcher filteredPatterns = EMPTY_MATCHER;
+	private MultiPatternMatcher filteredNamePatterns = EMPTY_MATCHER;
 
 	private static class Duplicate
 	{
@@ -151,8 +152,8 @@ public class ChatFilterPlugin extends Plugin
 	@Override
 	protected void shutDown() throws Exception
 	{
-		filteredPatterns = Collections.emptyList();
-		filteredNamePatterns = Collections.emptyList();
+		filteredPatterns = EMPTY_MATCHER;
+		filteredNamePatterns = EMPTY_MATCHER;
 		duplicateChatCache.clear();
 		filterCache.clear();
 		client.refreshChat();
@@ -359,38 +360,27 @@ public class ChatFilterPlugin extends Plugin
 			}
 		}
 
-		boolean filtered = false;
-		for (Pattern pattern : filteredPatterns)
+		// the words and regexes are all matched against the message without accents, and censored in the original
+		final BitSet matched = filteredPatterns.match(strippedAccents);
+		if (matched == null)
 		{
-			Matcher m = pattern.matcher(strippedAccents);
-
-			StringBuilder sb = new StringBuilder();
-			int idx = 0;
-
-			while (m.find())
-			{
-				switch (config.filterType())
-				{
-					case CENSOR_WORDS:
-						MatchResult matchResult = m.toMatchResult();
-						sb.append(strippedMessage, idx, matchResult.start())
-							.append(StringUtils.repeat('*', matchResult.group().length()));
-						idx = m.end();
-						filtered = true;
-						break;
-					case CENSOR_MESSAGE:
-						return CENSOR_MESSAGE;
-					case REMOVE_MESSAGE:
-						return null;
-				}
-			}
-			sb.append(strippedMessage.substring(idx));
+			return message;
+		}
 
-			strippedMessage = sb.toString();
-			assert strippedMessage.length() == strippedAccents.length();
+		switch (config.filterType())
+		{
+			case CENSOR_MESSAGE:
+				return CENSOR_MESSAGE;
+			case REMOVE_MESSAGE:
+				return null;
 		}
 
-		return filtered ? strippedMessage : message;
+		final char[] censored = strippedMessage.toCharArray();
+		for (int i = matched.nextSetBit(0); i >= 0; i = matched.nextSetBit(i + 1))
+		{
+			censored[i] = '*';
+		}
+		return new String(censored);
 	}
 
 	private String censorMessage(MessageNode messageNode, String username, String message)
@@ -414,28 +404,24 @@ public class ChatFilterPlugin extends Plugin
 
 	void updateFilteredPatterns()
 	{
-		List<Pattern> patterns = new ArrayList<>();
-		List<Pattern> namePatterns = new ArrayList<>();
-
-		Text.fromCSV(config.filteredWords()).stream()
+		List<String> words = Text.fromCSV(config.filteredWords()).stream()
 			.map(this::stripAccents)
-			.map(s -> Pattern.compile(Pattern.quote(s), Pattern.CASE_INSENSITIVE))
-			.forEach(patterns::add);
+			.collect(Collectors.toList());
 
-		NEWLINE_SPLITTER.splitToList(config.filteredRegex()).stream()
+		List<Pattern> patterns = NEWLINE_SPLITTER.splitToList(config.filteredRegex()).stream()
 			.map(this::stripAccents)
 			.map(ChatFilterPlugin::compilePattern)
 			.filter(Objects::nonNull)
-			.forEach(patterns::add);
+			.collect(Collectors.toList());
 
-		NEWLINE_SPLITTER.splitToList(config.filteredNames()).stream()
+		List<Pattern> namePatterns = NEWLINE_SPLITTER.splitToList(config.filteredNames()).stream()
 			.map(this::stripAccents)
 			.map(ChatFilterPlugin::compilePattern)
 			.filter(Objects::nonNull)
-			.forEach(namePatterns::add);
+			.collect(Collectors.toList());
 
-		filteredPatterns = patterns;
-		filteredNamePatterns = namePatterns;
+		filteredPatterns = new MultiPatternMatcher(words, patterns);
+		filteredNamePatterns = new MultiPatternMatcher(Collections.emptyList(), namePatterns);
 
 		filterCache.clear();
 	}
@@ -475,14 +461,6 @@ public class ChatFilterPlugin extends Plugin
 	boolean isNameFiltered(final String playerName)
 	{
 		String sanitizedName = Text.standardize(playerName);
-		for (Pattern pattern : filteredNamePatterns)
-		{
-			Matcher m = pattern.matcher(sanitizedName);
-			if (m.find())
-			{
-				return true;
-			}
-		}
-		return false;
+		return filteredNamePatterns.find(sanitizedName);
 	}
 }
@@ -32,6 +32,7 @@ import com.google.common.base.Strings;
 import com.google.inject.Provides;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.regex.Matcher;
@@ -53,6 +54,7 @@ import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.ConfigChanged;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
+import net.runelite.client.util.MultiPatternMatcher;
 import net.runelite.client.util.Text;
 
 @PluginDescriptor(
@@ -79,6 +81,8 @@ public class ChatNotificationsPlugin extends Plugin
 	//Custom Highlights
 	private Pattern usernameMatcher = null;
 	private final List<Pattern> highlightPatterns = new ArrayList<>();
+	// the username and highlight patterns combined, to find messages with nothing to highlight in one pass
+	private MultiPatternMatcher highlightMatcher;
 
 	@Provides
 	ChatNotificationsConfig provideConfig(ConfigManager configManager)
@@ -97,6 +101,7 @@ public class ChatNotificationsPlugin extends Plugin
 	{
 		usernameMatcher = null;
 		highlightPatterns.clear();
+		highlightMatcher = null;
 	}
 
 	@Subscribe
@@ -107,6 +112,7 @@ public class ChatNotificationsPlugin extends Plugin
 			case LOGIN_SCREEN:
 			case HOPPING:
 				usernameMatcher = null;
+				highlightMatcher = null;
 				break;
 		}
 	}
@@ -123,6 +129,7 @@ public class ChatNotificationsPlugin extends Plugin
 	private void updateHighlights()
 	{
 		highlightPatterns.clear();
+		highlightMatcher = null;
 
 		if (!config.highlightWordsString().trim().equals(""))
 		{
@@ -228,6 +235,23 @@ public class ChatNotificationsPlugin extends Plugin
 				.map(s -> s.isEmpty() ? "" : Pattern.quote(s))
 				.collect(Collectors.joining("[\u00a0\u0020]")); // space or nbsp
 			usernameMatcher = Pattern.compile("\\b" + pattern + "\\b", Pattern.CASE_INSENSITIVE);
+			highlightMatcher = null;
+		}
+
+		if (highlightMatcher == null)
+		{
+			List<Pattern> patterns = new ArrayList<>(highlightPatterns);
+			if (usernameMatcher != null)
+			{
+				patterns.add(usernameMatcher);
+			}
+			highlightMatcher = new MultiPatternMatcher(Collections.emptyList(), patterns);
+		}
+
+		// nothing below changes a message which none of the patterns match
+		if (!highlightMatcher.find(messageNode.getValue()))
+		{
+			return;
 		}
 
 		if (config.highlightOwnName() && usernameMatcher != null)
@@ -25,61 +25,280 @@
 
 package net.runelite.client.plugins.crowdsourcing;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.gson.Gson;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.RuneLite;
 import okhttp3.Call;
 import okhttp3.Callback;
+import okhttp3.Headers;
+import okhttp3.HttpUrl;
 import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
 
+/**
+ * Collects crowdsourcing events and uploads them to the wiki.
+ * <p>
+ * Events are held in memory until there are {@value #MAX_BUFFERED_EVENTS} of them or an upload is due,
+ * and are then spooled to disk as json lines, in segments of at most {@value #MAX_BATCH_BYTES} bytes.
+ * Each segment is uploaded gzipped in its own request, or uncompressed once the endpoint has rejected gzip, and
+ * is only deleted once it has been accepted, so events survive failed uploads and restarts. Events stored while
+ * the executor is too far behind to spool them are dropped.
+ */
 @Slf4j
 @Singleton
 public class CrowdsourcingManager
 {
-	private static final String CROWDSOURCING_BASE = "https://crowdsource.runescape.wiki/runelite";
+	private static final HttpUrl CROWDSOURCING_BASE = HttpUrl.get("https://crowdsource.runescape.wiki/runelite");
 	private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+	private static final File SPOOL_DIR = new File(RuneLite.CACHE_DIR, "crowdsourcing");
+	private static final String SEGMENT_SUFFIX = ".jsonl";
 
-	@Inject
-	private OkHttpClient okHttpClient;
+	private static final int MAX_BUFFERED_EVENTS = 512;
+	// if the executor falls this far behind, further events are dropped
+	@VisibleForTesting
+	static final int MAX_QUEUED_EVENTS = MAX_BUFFERED_EVENTS * 4;
+	private static final int MAX_BATCH_BYTES = 256 * 1024;
+	// segments uploaded per scheduled upload
+	private static final int MAX_BATCHES_PER_UPLOAD = 8;
+	// once the spool is larger than this, the oldest segments are dropped
+	private static final long MAX_SPOOL_BYTES = 16 * 1024 * 1024;
+	private static final Duration MIN_BACKOFF = Duration.ofMinutes(1);
+	private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+	private final OkHttpClient okHttpClient;
+	private final Gson gson;
+	private final ScheduledExecutorService executor;
+	private final File spoolDir;
+	private final HttpUrl url;
+
+	private final Queue<String> events = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger eventCount = new AtomicInteger();
+	private final AtomicInteger droppedEvents = new AtomicInteger();
+	private final AtomicBoolean spillQueued = new AtomicBoolean();
+	private final AtomicInteger segmentSeq = new AtomicInteger();
+	private final Object spoolLock = new Object();
+
+	private final AtomicBoolean uploading = new AtomicBoolean();
+	// set once an upload was only accepted uncompressed
+	private volatile boolean gzipRejected;
+
+	// guarded by this
+	private int failures;
+	private Instant nextAttempt = Instant.MIN;
 
 	@Inject
-	private Gson gson;
+	private CrowdsourcingManager(OkHttpClient okHttpClient, Gson gson, ScheduledExecutorService executor)
+	{
+		this(okHttpClient, gson, executor, SPOOL_DIR, CROWDSOURCING_BASE);
+	}
 
-	private List<Object> data = new ArrayList<>();
+	@VisibleForTesting
+	CrowdsourcingManager(OkHttpClient okHttpClient, Gson gson, ScheduledExecutorService executor, File spoolDir, HttpUrl url)
+	{
+		this.okHttpClient = okHttpClient;
+		this.gson = gson;
+		this.executor = executor;
+		this.spoolDir = spoolDir;
+		this.url = url;
+	}
 
 	public void storeEvent(Object event)
 	{
-		synchronized (this)
+		if (eventCount.get() >= MAX_QUEUED_EVENTS)
 		{
-			data.add(event);
+			droppedEvents.incrementAndGet();
+			return;
+		}
+
+		events.add(gson.toJson(event));
+		final int count = eventCount.incrementAndGet();
+		if (count >= MAX_BUFFERED_EVENTS && spillQueued.compareAndSet(false, true))
+		{
+			executor.execute(() ->
+			{
+				spillQueued.set(false);
+				spill();
+			});
+		}
+	}
+
+	/**
+	 * Write the buffered events to the spool
+	 */
+	void spill()
+	{
+		synchronized (spoolLock)
+		{
+			final int dropped = droppedEvents.getAndSet(0);
+			if (dropped > 0)
+			{
+				log.debug("Dropped {} crowdsourcing events while the spool was behind", dropped);
+			}
+
+			if (events.isEmpty())
+			{
+				return;
+			}
+
+			if (!spoolDir.exists() && !spoolDir.mkdirs())
+			{
+				log.warn("Unable to create crowdsourcing spool directory {}", spoolDir);
+				return;
+			}
+
+			try
+			{
+				String event = events.poll();
+				while (event != null)
+				{
+					final File tmp = new File(spoolDir, System.currentTimeMillis() + "-" + segmentSeq.getAndIncrement() + ".tmp");
+					int size = 0;
+					try (Writer out = Files.newBufferedWriter(tmp.toPath(), StandardCharsets.UTF_8))
+					{
+						do
+						{
+							eventCount.decrementAndGet();
+							out.write(event);
+							out.write('\n');
+							size += event.length() + 1;
+						}
+						while ((event = events.poll()) != null && size + event.length() < MAX_BATCH_BYTES);
+					}
+
+					final String name = tmp.getName();
+					Files.move(tmp.toPath(), new File(spoolDir, name.substring(0, name.length() - 4) + SEGMENT_SUFFIX).toPath(),
+						StandardCopyOption.ATOMIC_MOVE);
+				}
+			}
+			catch (IOException ex)
+			{
+				log.warn("Unable to spool crowdsourcing data", ex);
+			}
+
+			trimSpool();
 		}
 	}
 
+	private void trimSpool()
+	{
+		// left behind by a failed spill
+		final File[] tmp = spoolDir.listFiles((dir, name) -> name.endsWith(".tmp"));
+		if (tmp != null)
+		{
+			for (File file : tmp)
+			{
+				file.delete();
+			}
+		}
+
+		final File[] segments = segments();
+		long size = 0;
+		for (int i = segments.length - 1; i >= 0; --i)
+		{
+			size += segments[i].length();
+			if (size > MAX_SPOOL_BYTES)
+			{
+				log.debug("Crowdsourcing spool is full, dropping {}", segments[i]);
+				segments[i].delete();
+			}
+		}
+	}
+
+	/**
+	 * @return the spooled segments, oldest first
+	 */
+	@VisibleForTesting
+	File[] segments()
+	{
+		final File[] segments = spoolDir.listFiles((dir, name) -> name.endsWith(SEGMENT_SUFFIX));
+		if (segments == null)
+		{
+			return new File[0];
+		}
+
+		Arrays.sort(segments, (a, b) ->
+		{
+			final String[] sa = a.getName().split("[-.]");
+			final String[] sb = b.getName().split("[-.]");
+			final int c = Long.compare(Long.parseLong(sa[0]), Long.parseLong(sb[0]));
+			return c != 0 ? c : Integer.compare(Integer.parseInt(sa[1]), Integer.parseInt(sb[1]));
+		});
+		return segments;
+	}
+
 	protected void submitToAPI()
 	{
-		List<Object> temp;
+		spill();
+
 		synchronized (this)
 		{
-			if (data.isEmpty())
+			if (Instant.now().isBefore(nextAttempt))
 			{
 				return;
 			}
-			temp = data;
-			data = new ArrayList<>();
 		}
 
-		Request r = new Request.Builder()
-			.url(CROWDSOURCING_BASE)
-			.post(RequestBody.create(JSON, gson.toJson(temp)))
-			.build();
+		if (!uploading.compareAndSet(false, true))
+		{
+			// the previous upload is still running
+			return;
+		}
+
+		upload(segments(), 0, !gzipRejected);
+	}
+
+	/**
+	 * Upload the segment at the given index, and then the ones after it
+	 */
+	private void upload(File[] segments, int index, boolean gzip)
+	{
+		if (index >= segments.length || index >= MAX_BATCHES_PER_UPLOAD)
+		{
+			uploading.set(false);
+			return;
+		}
+
+		final File segment = segments[index];
+		final Request r;
+		try
+		{
+			r = new Request.Builder()
+				.url(url)
+				.headers(gzip ? Headers.of("Content-Encoding", "gzip") : Headers.of())
+				.post(RequestBody.create(JSON, read(segment, gzip)))
+				.build();
+		}
+		catch (IOException ex)
+		{
+			log.debug("Error reading crowdsourcing data", ex);
+			backoff();
+			uploading.set(false);
+			return;
+		}
 
 		okHttpClient.newCall(r).enqueue(new Callback()
 		{
@@ -87,14 +306,83 @@ public class CrowdsourcingManager
 			public void onFailure(Call call, IOException e)
 			{
 				log.debug("Error sending crowdsourcing data", e);
+				backoff();
+				uploading.set(false);
 			}
 
 			@Override
 			public void onResponse(Call call, Response response)
 			{
-				log.debug("Successfully sent crowdsourcing data");
+				final int code = response.code();
 				response.close();
+
+				if (response.isSuccessful())
+				{
+					log.debug("Successfully sent crowdsourcing data");
+					if (!gzip && !gzipRejected)
+					{
+						// uncompressed uploads are only retries of rejected gzip uploads
+						log.debug("Crowdsourcing endpoint does not accept gzip, uploading uncompressed from now on");
+						gzipRejected = true;
+					}
+				}
+				else if (gzip && (code == 400 || code == 415 || code >= 500))
+				{
+					log.debug("Crowdsourcing data was rejected, retrying uncompressed: {}", response);
+					upload(segments, index, false);
+					return;
+				}
+				else if (code >= 400 && code < 500 && code != 408 && code != 429)
+				{
+					// the request itself is bad, retrying won't help
+					log.debug("Crowdsourcing data was rejected: {}", response);
+				}
+				else
+				{
+					log.debug("Error sending crowdsourcing data: {}", response);
+					backoff();
+					uploading.set(false);
+					return;
+				}
+
+				segment.delete();
+				synchronized (CrowdsourcingManager.this)
+				{
+					failures = 0;
+				}
+				upload(segments, index + 1, !gzipRejected);
 			}
 		});
 	}
+
+	/**
+	 * Read a segment as a json array
+	 */
+	private static byte[] read(File segment, boolean gzip) throws IOException
+	{
+		final ByteArrayOutputStream buf = new ByteArrayOutputStream((int) segment.length() / (gzip ? 4 : 1));
+		try (BufferedReader in = Files.newBufferedReader(segment.toPath(), StandardCharsets.UTF_8);
+			OutputStream out = gzip ? new GZIPOutputStream(buf) : buf)
+		{
+			out.write('[');
+			boolean first = true;
+			for (String line; (line = in.readLine()) != null; )
+			{
+				if (!first)
+				{
+					out.write(',');
+				}
+				out.write(line.getBytes(StandardCharsets.UTF_8));
+				first = false;
+			}
+			out.write(']');
+		}
+		return buf.toByteArray();
+	}
+
+	private synchronized void backoff()
+	{
+		final Duration delay = MIN_BACKOFF.multipliedBy(1L << Math.min(failures++, 6));
+		nextAttempt = Instant.now().plus(delay.compareTo(MAX_BACKOFF) < 0 ? delay : MAX_BACKOFF);
+	}
 }
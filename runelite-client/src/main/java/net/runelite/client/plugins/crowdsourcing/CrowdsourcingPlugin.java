@@ -26,8 +26,11 @@
 package net.runelite.client.plugins.crowdsourcing;
 
 import java.time.temporal.ChronoUnit;
+import java.util.concurrent.ScheduledExecutorService;
 import javax.inject.Inject;
 import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.events.ClientShutdown;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
 import net.runelite.client.plugins.crowdsourcing.cooking.CrowdsourcingCooking;
@@ -53,6 +56,9 @@ public class CrowdsourcingPlugin extends Plugin
 	@Inject
 	private CrowdsourcingManager manager;
 
+	@Inject
+	private ScheduledExecutorService executor;
+
 	@Inject
 	private CrowdsourcingCooking cooking;
 
@@ -91,6 +97,14 @@ public class CrowdsourcingPlugin extends Plugin
 		eventBus.unregister(thieving);
 		eventBus.unregister(woodcutting);
 		eventBus.unregister(zmi);
+		executor.execute(manager::spill);
+	}
+
+	@Subscribe
+	public void onClientShutdown(ClientShutdown event)
+	{
+		// keep events collected since the last upload for the next session
+		event.waitFor(executor.submit(manager::spill));
 	}
 
 	@Schedule(
@@ -45,6 +45,7 @@ import net.runelite.client.config.Notification;
 import net.runelite.client.ui.ColorScheme;
 import net.runelite.client.ui.PluginPanel;
 import net.runelite.client.ui.overlay.OverlayMenuEntry;
+import net.runelite.client.ui.overlay.OverlayProfiler;
 import net.runelite.client.ui.overlay.infobox.Counter;
 import net.runelite.client.ui.overlay.infobox.InfoBoxManager;
 import net.runelite.client.util.ImageUtil;
@@ -63,6 +64,7 @@ class DevToolsPanel extends PluginPanel
 	private final InventoryInspector inventoryInspector;
 	private final InfoBoxManager infoBoxManager;
 	private final ScheduledExecutorService scheduledExecutorService;
+	private final OverlayProfiler profiler;
 
 	@Inject
 	private DevToolsPanel(
@@ -75,7 +77,8 @@ class DevToolsPanel extends PluginPanel
 		InventoryInspector inventoryInspector,
 		Notifier notifier,
 		InfoBoxManager infoBoxManager,
-		ScheduledExecutorService scheduledExecutorService)
+		ScheduledExecutorService scheduledExecutorService,
+		OverlayProfiler profiler)
 	{
 		super();
 		this.client = client;
@@ -88,6 +91,7 @@ class DevToolsPanel extends PluginPanel
 		this.notifier = notifier;
 		this.infoBoxManager = infoBoxManager;
 		this.scheduledExecutorService = scheduledExecutorService;
+		this.profiler = profiler;
 
 		setBackground(ColorScheme.DARK_GRAY_COLOR);
 
@@ -143,6 +147,13 @@ class DevToolsPanel extends PluginPanel
 
 		container.add(plugin.getSoundEffects());
 
+		container.add(plugin.getOverlayProfiler());
+		plugin.getOverlayProfiler().addActionListener(ev ->
+		{
+			final boolean enable = !plugin.getOverlayProfiler().isActive();
+			clientThread.invoke(() -> profiler.setEnabled(enable));
+		});
+
 		final JButton notificationBtn = new JButton("Notification");
 		notificationBtn.addActionListener(e ->
 			scheduledExecutorService.schedule(() ->
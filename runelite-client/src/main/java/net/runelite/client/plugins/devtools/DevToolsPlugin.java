@@ -79,6 +79,7 @@ import net.runelite.client.ui.ClientToolbar;
 import net.runelite.client.ui.JagexColors;
 import net.runelite.client.ui.NavigationButton;
 import net.runelite.client.ui.overlay.OverlayManager;
+import net.runelite.client.ui.overlay.OverlayProfiler;
 import net.runelite.client.util.ColorUtil;
 import net.runelite.client.util.HotkeyListener;
 import net.runelite.client.util.ImageUtil;
@@ -126,6 +127,12 @@ public class DevToolsPlugin extends Plugin
 	@Inject
 	private SoundEffectOverlay soundEffectOverlay;
 
+	@Inject
+	private OverlayProfilerOverlay overlayProfilerOverlay;
+
+	@Inject
+	private OverlayProfiler profiler;
+
 	@Inject
 	private EventBus eventBus;
 
@@ -168,6 +175,7 @@ public class DevToolsPlugin extends Plugin
 	private DevToolsButton tileFlags;
 	private DevToolsButton shell;
 	private DevToolsButton menus;
+	private DevToolsButton overlayProfiler;
 	private DevToolsButton uiDefaultsInspector;
 	private NavigationButton navButton;
 
@@ -269,6 +277,7 @@ public class DevToolsPlugin extends Plugin
 		tileFlags = new DevToolsButton("Tile flags");
 		shell = new DevToolsButton("Shell");
 		menus = new DevToolsButton("Menus");
+		overlayProfiler = new DevToolsButton("Overlay Profiler");
 
 		uiDefaultsInspector = new DevToolsButton("Swing Defaults");
 
@@ -279,6 +288,7 @@ public class DevToolsPlugin extends Plugin
 		overlayManager.add(worldMapLocationOverlay);
 		overlayManager.add(mapRegionOverlay);
 		overlayManager.add(soundEffectOverlay);
+		overlayManager.add(overlayProfilerOverlay);
 
 		final DevToolsPanel panel = injector.getInstance(DevToolsPanel.class);
 
@@ -309,6 +319,8 @@ public class DevToolsPlugin extends Plugin
 		overlayManager.remove(worldMapLocationOverlay);
 		overlayManager.remove(mapRegionOverlay);
 		overlayManager.remove(soundEffectOverlay);
+		overlayManager.remove(overlayProfilerOverlay);
+		profiler.setEnabled(false);
 		clientToolbar.removeNavigation(navButton);
 		Toolkit.getDefaultToolkit().removeAWTEventListener(swingInspectorKeyListener);
 	}
@@ -340,6 +352,18 @@ public class DevToolsPlugin extends Plugin
 				client.addChatMessage(ChatMessageType.GAMEMESSAGE, "", message, null);
 				break;
 			}
+			case "overlayprofile":
+			{
+				if (!profiler.isEnabled())
+				{
+					client.addChatMessage(ChatMessageType.GAMEMESSAGE, "", "The overlay profiler is not enabled", null);
+					break;
+				}
+
+				log.info("Overlay render times:{}{}", System.lineSeparator(), profiler.report());
+				client.addChatMessage(ChatMessageType.GAMEMESSAGE, "", "Overlay render times written to the client log", null);
+				break;
+			}
 			case "getvarp":
 			{
 				int varp = Integer.parseInt(args[0]);
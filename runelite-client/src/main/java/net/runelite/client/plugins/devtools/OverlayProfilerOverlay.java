@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.devtools;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import javax.inject.Inject;
+import net.runelite.client.ui.overlay.OverlayPanel;
+import net.runelite.client.ui.overlay.OverlayPosition;
+import net.runelite.client.ui.overlay.OverlayProfiler;
+import net.runelite.client.ui.overlay.components.LineComponent;
+import net.runelite.client.ui.overlay.components.TitleComponent;
+
+class OverlayProfilerOverlay extends OverlayPanel
+{
+	private static final int MAX_OVERLAYS = 15;
+	private static final long SLOW_NANOS = 1_000_000L;
+
+	private final DevToolsPlugin plugin;
+	private final OverlayProfiler profiler;
+
+	@Inject
+	OverlayProfilerOverlay(DevToolsPlugin plugin, OverlayProfiler profiler)
+	{
+		this.plugin = plugin;
+		this.profiler = profiler;
+		setPosition(OverlayPosition.TOP_RIGHT);
+	}
+
+	@Override
+	public Dimension render(Graphics2D graphics)
+	{
+		if (!plugin.getOverlayProfiler().isActive())
+		{
+			return null;
+		}
+
+		panelComponent.setPreferredSize(new Dimension(320, 0));
+
+		panelComponent.getChildren().add(TitleComponent.builder()
+			.text("Layer / overlay: p50 / p95 us, bytes")
+			.color(Color.CYAN)
+			.build());
+
+		for (OverlayProfiler.Stats stats : profiler.getLayerStats())
+		{
+			panelComponent.getChildren().add(line(stats, Color.YELLOW));
+		}
+
+		int count = 0;
+		for (OverlayProfiler.Stats stats : profiler.getOverlayStats())
+		{
+			if (count++ == MAX_OVERLAYS)
+			{
+				break;
+			}
+
+			panelComponent.getChildren().add(line(stats, stats.getP95Nanos() >= SLOW_NANOS ? Color.RED : Color.WHITE));
+		}
+
+		return super.render(graphics);
+	}
+
+	private static LineComponent line(OverlayProfiler.Stats stats, Color color)
+	{
+		return LineComponent.builder()
+			.left(stats.getName())
+			.leftColor(color)
+			.right(stats.getP50Nanos() / 1000 + " / " + stats.getP95Nanos() / 1000 + ", " + stats.getMeanAllocatedBytes())
+			.rightColor(color)
+			.build();
+	}
+}
@@ -49,7 +49,7 @@ import net.runelite.client.ui.overlay.OverlayLayer;
 import net.runelite.client.ui.overlay.OverlayPosition;
 import net.runelite.client.ui.overlay.OverlayUtil;
 import net.runelite.client.ui.overlay.components.ProgressPieComponent;
-import net.runelite.client.util.ImageUtil;
+import net.runelite.client.util.ImageOps;
 
 class FishingSpotOverlay extends Overlay
 {
@@ -167,7 +167,8 @@ class FishingSpotOverlay extends Overlay
 				if (spot == FishingSpot.COMMON_TENCH
 					&& npc.getWorldLocation().distanceTo2D(client.getLocalPlayer().getWorldLocation()) <= ONE_TICK_AERIAL_FISHING)
 				{
-					fishImage = ImageUtil.outlineImage(itemManager.getImage(spot.getFishSpriteId()), color);
+					// this is drawn every frame, so reuse the outlined image
+					fishImage = ImageOps.create().outline(color, false).applyCached(fishImage);
 				}
 
 				if (fishImage != null)
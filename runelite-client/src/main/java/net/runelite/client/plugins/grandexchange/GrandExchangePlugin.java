@@ -45,6 +45,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.EnumSet;
 import java.util.Enumeration;
@@ -703,10 +704,9 @@ public class GrandExchangePlugin extends Plugin
 		int resultCount = 0;
 		if (searchMode == GrandExchangeSearchMode.FUZZY_FALLBACK)
 		{
-			List<Integer> ids = IntStream.range(0, client.getItemCount())
+			List<Integer> ids = Arrays.stream(itemManager.getItemNameIndex().search(input))
 					.mapToObj(itemManager::getItemComposition)
-					.filter(item -> item.isTradeable() && item.getNote() == -1
-						&& item.getName().toLowerCase().contains(input))
+					.filter(item -> item.isTradeable() && item.getNote() == -1)
 					.limit(MAX_RESULT_COUNT + 1)
 					.sorted(Comparator.comparing(ItemComposition::getName))
 					.map(ItemComposition::getId)
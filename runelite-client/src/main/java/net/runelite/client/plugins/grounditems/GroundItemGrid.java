@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.grounditems;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import javax.annotation.Nullable;
+import net.runelite.api.coords.WorldPoint;
+
+/**
+ * Collected ground items, bucketed by location into chunks of 8x8 tiles keyed by their packed
+ * coordinates. This lets the items around a point be found by visiting only the chunks in range,
+ * rather than every item collected.
+ */
+class GroundItemGrid
+{
+	private static final int CHUNK_SHIFT = 3;
+
+	// items of each chunk, in the order they were added
+	private final Map<Integer, List<GroundItem>> chunks = new HashMap<>();
+
+	private static int chunkKey(int x, int y, int plane)
+	{
+		return plane << 28 | ((x >> CHUNK_SHIFT) & 0x3FFF) << 14 | ((y >> CHUNK_SHIFT) & 0x3FFF);
+	}
+
+	private static int chunkKey(WorldPoint point)
+	{
+		return chunkKey(point.getX(), point.getY(), point.getPlane());
+	}
+
+	@Nullable
+	GroundItem get(WorldPoint point, int id)
+	{
+		final List<GroundItem> chunk = chunks.get(chunkKey(point));
+		if (chunk == null)
+		{
+			return null;
+		}
+
+		for (GroundItem item : chunk)
+		{
+			if (item.getId() == id && item.getLocation().equals(point))
+			{
+				return item;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Add an item at its location. There must not be an item with the same id at the location already.
+	 */
+	void put(GroundItem item)
+	{
+		chunks.computeIfAbsent(chunkKey(item.getLocation()), k -> new ArrayList<>()).add(item);
+	}
+
+	void remove(WorldPoint point, int id)
+	{
+		final int key = chunkKey(point);
+		final List<GroundItem> chunk = chunks.get(key);
+		if (chunk == null)
+		{
+			return;
+		}
+
+		for (Iterator<GroundItem> it = chunk.iterator(); it.hasNext(); )
+		{
+			GroundItem item = it.next();
+			if (item.getId() == id && item.getLocation().equals(point))
+			{
+				it.remove();
+				break;
+			}
+		}
+
+		if (chunk.isEmpty())
+		{
+			chunks.remove(key);
+		}
+	}
+
+	void clear()
+	{
+		chunks.clear();
+	}
+
+	/**
+	 * Get the items at a location
+	 */
+	List<GroundItem> at(WorldPoint point)
+	{
+		final List<GroundItem> chunk = chunks.get(chunkKey(point));
+		if (chunk == null)
+		{
+			return Collections.emptyList();
+		}
+
+		final List<GroundItem> items = new ArrayList<>();
+		for (GroundItem item : chunk)
+		{
+			if (item.getLocation().equals(point))
+			{
+				items.add(item);
+			}
+		}
+		return items;
+	}
+
+	/**
+	 * Get the locations which have items
+	 */
+	Set<WorldPoint> locations()
+	{
+		final Set<WorldPoint> locations = new LinkedHashSet<>();
+		forEach(item -> locations.add(item.getLocation()));
+		return locations;
+	}
+
+	void forEach(Consumer<GroundItem> consumer)
+	{
+		for (List<GroundItem> chunk : chunks.values())
+		{
+			chunk.forEach(consumer);
+		}
+	}
+
+	Stream<GroundItem> stream()
+	{
+		return chunks.values().stream().flatMap(Collection::stream);
+	}
+
+	/**
+	 * Collect the items on the same plane as, and within a square of the given radius around, a point
+	 *
+	 * @param center the center point
+	 * @param radius the radius in tiles
+	 * @param out    collection to add the items to
+	 */
+	void query(WorldPoint center, int radius, Collection<GroundItem> out)
+	{
+		final int plane = center.getPlane();
+		final int minX = center.getX() - radius, maxX = center.getX() + radius;
+		final int minY = center.getY() - radius, maxY = center.getY() + radius;
+
+		for (int cx = minX >> CHUNK_SHIFT; cx <= maxX >> CHUNK_SHIFT; ++cx)
+		{
+			for (int cy = minY >> CHUNK_SHIFT; cy <= maxY >> CHUNK_SHIFT; ++cy)
+			{
+				final List<GroundItem> chunk = chunks.get(chunkKey(cx << CHUNK_SHIFT, cy << CHUNK_SHIFT, plane));
+				if (chunk == null)
+				{
+					continue;
+				}
+
+				for (GroundItem item : chunk)
+				{
+					final WorldPoint location = item.getLocation();
+					if (location.getX() >= minX && location.getX() <= maxX
+						&& location.getY() >= minY && location.getY() <= maxY)
+					{
+						out.add(item);
+					}
+				}
+			}
+		}
+	}
+}
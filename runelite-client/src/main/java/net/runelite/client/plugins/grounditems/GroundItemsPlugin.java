@@ -28,9 +28,7 @@ package net.runelite.client.plugins.grounditems;
 import com.google.common.base.MoreObjects;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.LoadingCache;
-import com.google.common.collect.HashBasedTable;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Table;
 import com.google.inject.Provides;
 import java.applet.Applet;
 import java.awt.Color;
@@ -190,7 +188,7 @@ public class GroundItemsPlugin extends Plugin
 	private ColorPickerManager colorPickerManager;
 
 	@Getter
-	private final Table<WorldPoint, Integer, GroundItem> collectedGroundItems = HashBasedTable.create();
+	private final GroundItemGrid collectedGroundItems = new GroundItemGrid();
 	private List<PriceHighlight> priceChecks = ImmutableList.of();
 	private LoadingCache<NamedQuantity, Boolean> highlightedItems;
 	private LoadingCache<NamedQuantity, Boolean> hiddenItems;
@@ -281,10 +279,12 @@ public class GroundItemsPlugin extends Plugin
 			existing.setQuantity(existing.getQuantity() + groundItem.getQuantity());
 			// The spawn time remains set at the oldest spawn
 			existing.reset();
+			updateItemColor(existing);
 		}
 		else
 		{
-			collectedGroundItems.put(tile.getWorldLocation(), item.getId(), groundItem);
+			collectedGroundItems.put(groundItem);
+			updateItemColor(groundItem);
 		}
 
 		if (shouldDisplayItem(config.ownershipFilterMode(), groundItem.getOwnership(), client.getVarbitValue(Varbits.ACCOUNT_TYPE)))
@@ -334,6 +334,7 @@ public class GroundItemsPlugin extends Plugin
 			// time
 			groundItem.setSpawnTime(null);
 			groundItem.reset();
+			updateItemColor(groundItem);
 		}
 
 		handleLootbeam(tile.getWorldLocation());
@@ -353,6 +354,7 @@ public class GroundItemsPlugin extends Plugin
 		{
 			groundItem.setQuantity(groundItem.getQuantity() + diff);
 			groundItem.reset();
+			updateItemColor(groundItem);
 		}
 
 		handleLootbeam(tile.getWorldLocation());
@@ -491,7 +493,11 @@ public class GroundItemsPlugin extends Plugin
 
 		priceChecks = priceCheckBuilder.build();
 
-		clientThread.invokeLater(() -> collectedGroundItems.values().forEach(GroundItem::reset));
+		clientThread.invokeLater(() -> collectedGroundItems.forEach(item ->
+		{
+			item.reset();
+			updateItemColor(item);
+		}));
 		clientThread.invokeLater(this::handleLootbeams);
 	}
 
@@ -581,7 +587,7 @@ public class GroundItemsPlugin extends Plugin
 					}));
 
 			var colors = Stream.concat(
-					collectedGroundItems.values().stream()
+					collectedGroundItems.stream()
 						.map(GroundItem::getColor)
 						.filter(Objects::nonNull),
 					// add some default colors
@@ -763,7 +769,7 @@ public class GroundItemsPlugin extends Plugin
 
 		int highestPrice = -1;
 		GroundItem highestItem = null;
-		Collection<GroundItem> groundItems = collectedGroundItems.row(worldPoint).values();
+		Collection<GroundItem> groundItems = collectedGroundItems.at(worldPoint);
 		final OwnershipFilterMode ownershipFilterMode = config.ownershipFilterMode();
 		final int accountType = client.getVarbitValue(Varbits.ACCOUNT_TYPE);
 		for (GroundItem groundItem : groundItems)
@@ -819,7 +825,7 @@ public class GroundItemsPlugin extends Plugin
 
 	private void handleLootbeams()
 	{
-		for (WorldPoint worldPoint : collectedGroundItems.rowKeySet())
+		for (WorldPoint worldPoint : collectedGroundItems.locations())
 		{
 			handleLootbeam(worldPoint);
 		}
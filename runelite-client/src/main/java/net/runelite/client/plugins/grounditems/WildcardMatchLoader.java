@@ -27,21 +27,25 @@ package net.runelite.client.plugins.grounditems;
 import com.google.common.base.Strings;
 import com.google.common.cache.CacheLoader;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
-import net.runelite.client.util.WildcardMatcher;
+import net.runelite.client.util.WildcardIndex;
 
 class WildcardMatchLoader extends CacheLoader<NamedQuantity, Boolean>
 {
-	private final List<ItemThreshold> itemThresholds;
+	private final WildcardIndex<ItemThreshold> itemThresholds;
+	// thresholds matching each item name seen so far
+	private final Map<String, List<ItemThreshold>> nameThresholds = new ConcurrentHashMap<>();
 
 	WildcardMatchLoader(List<String> configEntries)
 	{
-		this.itemThresholds = configEntries.stream()
+		this.itemThresholds = new WildcardIndex<>(configEntries.stream()
 			.map(ItemThreshold::fromConfigEntry)
 			.filter(Objects::nonNull)
-			.collect(Collectors.toList());
+			.collect(Collectors.toList()), ItemThreshold::getItemName);
 	}
 
 	@Override
@@ -54,10 +58,9 @@ class WildcardMatchLoader extends CacheLoader<NamedQuantity, Boolean>
 
 		final String filteredName = key.getName().trim();
 
-		for (final ItemThreshold entry : itemThresholds)
+		for (final ItemThreshold entry : nameThresholds.computeIfAbsent(filteredName, itemThresholds::matches))
 		{
-			if (WildcardMatcher.matches(entry.getItemName(), filteredName)
-				&& entry.quantityHolds(key.getQuantity()))
+			if (entry.quantityHolds(key.getQuantity()))
 			{
 				return true;
 			}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.loottracker;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Keeps the most recent run of loot records whose total number of drops stays
+ * under a limit, evicting the oldest records first. The retained records do not
+ * depend on the order they are offered in, so partial heaps built on different
+ * threads can be merged and this can be used as a parallel collector.
+ */
+class ConfigLootHeap
+{
+	private final int maxDrops;
+	private final PriorityQueue<ConfigLoot> heap = new PriorityQueue<>(Comparator.comparing(ConfigLoot::getLast));
+	private int drops;
+	// last time of the newest record evicted so far
+	private Instant horizon;
+
+	ConfigLootHeap(int maxDrops)
+	{
+		this.maxDrops = maxDrops;
+	}
+
+	void offer(ConfigLoot loot)
+	{
+		if (horizon != null && !loot.last.isAfter(horizon))
+		{
+			// fast drop, something newer has already been evicted
+			return;
+		}
+
+		heap.add(loot);
+		drops += loot.numDrops();
+
+		while (drops >= maxDrops)
+		{
+			ConfigLoot oldest = heap.poll();
+			drops -= oldest.numDrops();
+			horizon = oldest.last;
+		}
+	}
+
+	ConfigLootHeap merge(ConfigLootHeap other)
+	{
+		if (other.horizon != null && (horizon == null || other.horizon.isAfter(horizon)))
+		{
+			horizon = other.horizon;
+			while (!heap.isEmpty() && !heap.peek().last.isAfter(horizon))
+			{
+				drops -= heap.poll().numDrops();
+			}
+		}
+
+		other.heap.forEach(this::offer);
+		return this;
+	}
+
+	/**
+	 * @return the retained records, oldest first
+	 */
+	List<ConfigLoot> toList()
+	{
+		List<ConfigLoot> list = new ArrayList<>(heap);
+		list.sort(heap.comparator());
+		return list;
+	}
+}
@@ -0,0 +1,547 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.loottracker;
+
+import com.google.common.io.ByteStreams;
+import com.google.common.io.CountingInputStream;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.io.UTFDataFormatException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.RuneLite;
+import net.runelite.http.api.loottracker.LootRecordType;
+
+/**
+ * Loot history of a single RuneScape profile.
+ * <p>
+ * The file is an append-only log. Every save appends a record per event with the kills and drops since the
+ * last save, the drops being varint encoded item id and quantity pairs, and removing an event appends a
+ * tombstone. Opening the store only reads the record headers, building an index of each event's records by
+ * time, and the drops are read back from the file on demand. This lets queries over a time range skip the
+ * records outside of it. When the log gets fragmented it is rewritten with each event's records rolled up
+ * into one per day, dropping anything that has expired.
+ */
+@Slf4j
+class LootStore implements Closeable
+{
+	static final File LOOT_DIR = new File(RuneLite.RUNELITE_DIR, "loots");
+
+	private static final int MAGIC = 0x52_4c_4c_54; // RLLT
+	private static final int VERSION = 1;
+	private static final int HEADER_SIZE = 8;
+
+	private static final byte OP_LOOT = 1;
+	private static final byte OP_REMOVE = 2;
+
+	private static final long BUCKET_MILLIS = TimeUnit.DAYS.toMillis(1);
+	// rewrite the file once there are this many more records than day buckets
+	private static final int COMPACT_SLACK = 256;
+
+	@Value
+	private static class Key
+	{
+		private final LootRecordType type;
+		private final String name;
+	}
+
+	@Value
+	private static class Segment
+	{
+		private final long time;
+		private final int kills;
+		// position and length of the drops
+		private final long offset;
+		private final int length;
+	}
+
+	private final File file;
+	private final long expire;
+	private FileChannel channel;
+	// segments of each event, in the order they were written
+	private final Map<Key, List<Segment>> index = new LinkedHashMap<>();
+	private int records;
+	// records of types this client doesn't know, which compacting would drop
+	private int unknown;
+	private long end;
+
+	/**
+	 * Open a loot store, creating it if it doesn't exist
+	 *
+	 * @param file   the store file
+	 * @param expire loot older than this is dropped
+	 */
+	LootStore(File file, Instant expire) throws IOException
+	{
+		this.file = file;
+		this.expire = expire.toEpochMilli();
+
+		open();
+
+		int buckets = 0;
+		for (List<Segment> segments : index.values())
+		{
+			buckets += (int) segments.stream().mapToLong(s -> s.time / BUCKET_MILLIS).distinct().count();
+		}
+
+		if (unknown == 0 && records > buckets + COMPACT_SLACK)
+		{
+			compact();
+		}
+	}
+
+	private void open() throws IOException
+	{
+		file.getParentFile().mkdirs();
+		channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+		index.clear();
+		records = 0;
+		unknown = 0;
+
+		if (channel.size() < HEADER_SIZE)
+		{
+			writeHeader();
+			return;
+		}
+
+		CountingInputStream counting = new CountingInputStream(new BufferedInputStream(Channels.newInputStream(channel.position(0))));
+		DataInputStream in = new DataInputStream(counting);
+		if (in.readInt() != MAGIC || in.readInt() != VERSION)
+		{
+			log.warn("Loot store {} has an unknown format, discarding it", file);
+			writeHeader();
+			return;
+		}
+
+		long size = channel.size();
+		end = HEADER_SIZE;
+		try
+		{
+			while (end < size)
+			{
+				byte op = in.readByte();
+				if (op != OP_LOOT && op != OP_REMOVE)
+				{
+					log.warn("Loot store {} has an unknown record at {}, dropping the tail", file, end);
+					channel.truncate(end);
+					break;
+				}
+
+				LootRecordType type = parseType(in.readUTF());
+				Key key = new Key(type, in.readUTF());
+
+				if (op == OP_REMOVE)
+				{
+					index.remove(key);
+				}
+				else
+				{
+					long time = in.readLong();
+					int kills = readVarint(in);
+					int length = readVarint(in);
+					long offset = counting.getCount();
+					ByteStreams.skipFully(in, length);
+
+					if (type != null && time >= expire)
+					{
+						index.computeIfAbsent(key, k -> new ArrayList<>()).add(new Segment(time, kills, offset, length));
+					}
+				}
+
+				if (type == null)
+				{
+					// written by a newer client, keep it but leave it out of the index
+					++unknown;
+				}
+
+				++records;
+				end = counting.getCount();
+			}
+		}
+		catch (EOFException | UTFDataFormatException | StreamCorruptedException ex)
+		{
+			log.warn("Loot store {} is truncated at {}, dropping the tail", file, end, ex);
+			channel.truncate(end);
+		}
+	}
+
+	@Nullable
+	private static LootRecordType parseType(String name)
+	{
+		try
+		{
+			return LootRecordType.valueOf(name);
+		}
+		catch (IllegalArgumentException ex)
+		{
+			return null;
+		}
+	}
+
+	private void writeHeader() throws IOException
+	{
+		ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+		header.putInt(MAGIC).putInt(VERSION).flip();
+		channel.truncate(0);
+		channel.write(header, 0);
+		end = HEADER_SIZE;
+	}
+
+	@Override
+	public synchronized void close() throws IOException
+	{
+		channel.close();
+	}
+
+	/**
+	 * Add loot to the store
+	 *
+	 * @param loots loot to add, each holding the kills and drops since the last save
+	 * @param time  the time of the loot
+	 */
+	synchronized void add(Collection<ConfigLoot> loots, Instant time) throws IOException
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		List<Key> keys = new ArrayList<>(loots.size());
+		List<Segment> segments = new ArrayList<>(loots.size());
+		for (ConfigLoot loot : loots)
+		{
+			Key key = new Key(loot.type, loot.name);
+			long offset = end + writeLoot(out, key, time.toEpochMilli(), loot.kills, loot.drops);
+			keys.add(key);
+			segments.add(new Segment(time.toEpochMilli(), loot.kills, offset, (int) (end + out.size() - offset)));
+		}
+
+		write(bytes.toByteArray());
+
+		for (int i = 0; i < keys.size(); ++i)
+		{
+			index.computeIfAbsent(keys.get(i), k -> new ArrayList<>()).add(segments.get(i));
+		}
+		records += keys.size();
+	}
+
+	/**
+	 * Remove all loot of an event
+	 */
+	synchronized void remove(LootRecordType type, String name) throws IOException
+	{
+		Key key = new Key(type, name);
+		if (index.remove(key) == null)
+		{
+			return;
+		}
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		out.writeByte(OP_REMOVE);
+		out.writeUTF(type.name());
+		out.writeUTF(name);
+		write(bytes.toByteArray());
+		++records;
+	}
+
+	/**
+	 * Remove all loot
+	 */
+	synchronized void clear() throws IOException
+	{
+		channel.truncate(HEADER_SIZE);
+		index.clear();
+		records = 0;
+		unknown = 0;
+		end = HEADER_SIZE;
+	}
+
+	/**
+	 * Get the loot of an event
+	 *
+	 * @param since only include loot from this time on
+	 * @return the loot, or null if there is none in range
+	 */
+	@Nullable
+	synchronized ConfigLoot get(LootRecordType type, String name, Instant since) throws IOException
+	{
+		Key key = new Key(type, name);
+		List<Segment> segments = index.get(key);
+		if (segments == null)
+		{
+			return null;
+		}
+		return aggregate(key, segments, since.toEpochMilli());
+	}
+
+	/**
+	 * Get the loot of every event, decoding the events in parallel. The lock is held until all of
+	 * the events are decoded, so the file can't be compacted or closed under the readers.
+	 *
+	 * @param since only include loot from this time on
+	 */
+	synchronized List<ConfigLoot> getAll(Instant since) throws IOException
+	{
+		try
+		{
+			return index.entrySet().parallelStream()
+				.map(e ->
+				{
+					try
+					{
+						return aggregate(e.getKey(), e.getValue(), since.toEpochMilli());
+					}
+					catch (IOException ex)
+					{
+						throw new UncheckedIOException(ex);
+					}
+				})
+				.filter(Objects::nonNull)
+				.collect(Collectors.toList());
+		}
+		catch (UncheckedIOException ex)
+		{
+			throw new IOException("unable to read loot from " + file, ex);
+		}
+	}
+
+	@Nullable
+	private ConfigLoot aggregate(Key key, List<Segment> segments, long since) throws IOException
+	{
+		ConfigLoot loot = null;
+		long first = Long.MAX_VALUE, last = Long.MIN_VALUE;
+		Map<Integer, Integer> drops = new LinkedHashMap<>();
+		for (Segment segment : segments)
+		{
+			if (segment.time < since)
+			{
+				continue;
+			}
+
+			if (loot == null)
+			{
+				loot = new ConfigLoot(key.type, key.name);
+			}
+
+			first = Math.min(first, segment.time);
+			last = Math.max(last, segment.time);
+			loot.kills += segment.kills;
+			readDrops(segment, drops);
+		}
+
+		if (loot == null)
+		{
+			return null;
+		}
+
+		loot.first = Instant.ofEpochMilli(first);
+		loot.last = Instant.ofEpochMilli(last);
+		loot.drops = toDrops(drops);
+		return loot;
+	}
+
+	private void readDrops(Segment segment, Map<Integer, Integer> drops) throws IOException
+	{
+		ByteBuffer buf = ByteBuffer.allocate(segment.length);
+		while (buf.hasRemaining())
+		{
+			if (channel.read(buf, segment.offset + buf.position()) < 0)
+			{
+				throw new EOFException();
+			}
+		}
+		buf.flip();
+
+		int count = readVarint(buf);
+		for (int i = 0; i < count; ++i)
+		{
+			int id = readVarint(buf);
+			int qty = readVarint(buf);
+			drops.merge(id, qty, Integer::sum);
+		}
+	}
+
+	/**
+	 * Rewrite the store with the loot of each event rolled up into one record per day
+	 */
+	synchronized void compact() throws IOException
+	{
+		File tmp = new File(file.getParentFile(), file.getName() + ".tmp");
+		int before = records;
+		try (FileChannel out = FileChannel.open(tmp.toPath(), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE))
+		{
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			DataOutputStream data = new DataOutputStream(bytes);
+			data.writeInt(MAGIC);
+			data.writeInt(VERSION);
+
+			for (Map.Entry<Key, List<Segment>> entry : index.entrySet())
+			{
+				Key key = entry.getKey();
+				Map<Long, List<Segment>> buckets = entry.getValue().stream()
+					.collect(Collectors.groupingBy(s -> s.time / BUCKET_MILLIS, TreeMap::new, Collectors.toList()));
+				for (List<Segment> bucket : buckets.values())
+				{
+					ConfigLoot loot = aggregate(key, bucket, Long.MIN_VALUE);
+					writeLoot(data, key, loot.last.toEpochMilli(), loot.kills, loot.drops);
+				}
+
+				if (bytes.size() >= 1 << 16)
+				{
+					writeFully(out, ByteBuffer.wrap(bytes.toByteArray()));
+					bytes.reset();
+				}
+			}
+
+			writeFully(out, ByteBuffer.wrap(bytes.toByteArray()));
+			out.force(false);
+		}
+
+		channel.close();
+		Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		open();
+		log.debug("Compacted loot store {} from {} to {} records", file, before, records);
+	}
+
+	/**
+	 * Write a loot record
+	 *
+	 * @return the position of the drops in the stream
+	 */
+	private static int writeLoot(DataOutputStream out, Key key, long time, int kills, int[] drops) throws IOException
+	{
+		ByteArrayOutputStream payload = new ByteArrayOutputStream(drops.length * 2 + 1);
+		writeVarint(payload, drops.length / 2);
+		for (int drop : drops)
+		{
+			writeVarint(payload, drop);
+		}
+
+		out.writeByte(OP_LOOT);
+		out.writeUTF(key.type.name());
+		out.writeUTF(key.name);
+		out.writeLong(time);
+		writeVarint(out, kills);
+		writeVarint(out, payload.size());
+		int offset = out.size();
+		payload.writeTo(out);
+		return offset;
+	}
+
+	private void write(byte[] bytes) throws IOException
+	{
+		ByteBuffer buf = ByteBuffer.wrap(bytes);
+		while (buf.hasRemaining())
+		{
+			channel.write(buf, end + buf.position());
+		}
+		end += bytes.length;
+	}
+
+	private static void writeFully(FileChannel channel, ByteBuffer buf) throws IOException
+	{
+		while (buf.hasRemaining())
+		{
+			channel.write(buf);
+		}
+	}
+
+	private static int[] toDrops(Map<Integer, Integer> drops)
+	{
+		int[] arr = new int[drops.size() * 2];
+		int i = 0;
+		for (Map.Entry<Integer, Integer> drop : drops.entrySet())
+		{
+			arr[i++] = drop.getKey();
+			arr[i++] = drop.getValue();
+		}
+		return arr;
+	}
+
+	private static void writeVarint(OutputStream out, int value) throws IOException
+	{
+		while ((value & ~0x7F) != 0)
+		{
+			out.write(value & 0x7F | 0x80);
+			value >>>= 7;
+		}
+		out.write(value);
+	}
+
+	private static int readVarint(DataInputStream in) throws IOException
+	{
+		int value = 0;
+		for (int shift = 0; shift < 35; shift += 7)
+		{
+			int b = in.readUnsignedByte();
+			value |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0)
+			{
+				return value;
+			}
+		}
+		throw new StreamCorruptedException("malformed varint");
+	}
+
+	private static int readVarint(ByteBuffer buf) throws IOException
+	{
+		int value = 0;
+		for (int shift = 0; shift < 35 && buf.hasRemaining(); shift += 7)
+		{
+			int b = buf.get() & 0xFF;
+			value |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0)
+			{
+				return value;
+			}
+		}
+		throw new StreamCorruptedException("malformed varint");
+	}
+}
@@ -34,8 +34,11 @@ import java.awt.GridLayout;
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.BiConsumer;
+import java.util.function.Predicate;
 import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
@@ -55,7 +58,7 @@ import net.runelite.client.game.ItemManager;
 import net.runelite.client.ui.ColorScheme;
 import net.runelite.client.ui.FontManager;
 import net.runelite.client.util.AsyncBufferedImage;
-import net.runelite.client.util.ImageUtil;
+import net.runelite.client.util.ImageOps;
 import net.runelite.client.util.QuantityFormatter;
 import net.runelite.client.util.Text;
 import net.runelite.http.api.loottracker.LootRecordType;
@@ -80,6 +83,10 @@ class LootTrackerBox extends JPanel
 	private int kills;
 	@Getter
 	private final List<LootTrackerItem> items = new ArrayList<>();
+	// index into items by mapped item id
+	private final Map<Integer, Integer> itemIndex = new HashMap<>();
+	// item slots in the item container, reused between rebuilds
+	private final List<ItemSlot> slots = new ArrayList<>();
 
 	private long totalPrice;
 	private final boolean hideIgnoredItems;
@@ -200,28 +207,37 @@ class LootTrackerBox extends JPanel
 
 		kills += record.getKills();
 
-		outer:
 		for (LootTrackerItem item : record.getItems())
 		{
 			final int mappedItemId = LootTrackerMapping.map(item.getId(), item.getName());
 			// Combine it into an existing item if one already exists
-			for (int idx = 0; idx < items.size(); ++idx)
+			final Integer idx = itemIndex.get(mappedItemId);
+			if (idx != null)
 			{
 				LootTrackerItem i = items.get(idx);
-				if (mappedItemId == i.getId())
-				{
-					items.set(idx, new LootTrackerItem(i.getId(), i.getName(), i.getQuantity() + item.getQuantity(), i.getGePrice(), i.getHaPrice(), i.isIgnored()));
-					continue outer;
-				}
+				items.set(idx, new LootTrackerItem(i.getId(), i.getName(), i.getQuantity() + item.getQuantity(), i.getGePrice(), i.getHaPrice(), i.isIgnored()));
+				continue;
 			}
 
 			final LootTrackerItem mappedItem = mappedItemId == item.getId()
 				? item // reuse existing item
 				: new LootTrackerItem(mappedItemId, item.getName(), item.getQuantity(), item.getGePrice(), item.getHaPrice(), item.isIgnored());
+			itemIndex.put(mappedItemId, items.size());
 			items.add(mappedItem);
 		}
 	}
 
+	/**
+	 * Updates the ignored state of the items in this box
+	 */
+	void updateIgnored(final Predicate<String> isIgnored)
+	{
+		for (LootTrackerItem item : items)
+		{
+			item.setIgnored(isIgnored.test(item.getName()));
+		}
+	}
+
 	void rebuild()
 	{
 		buildItems();
@@ -280,17 +296,16 @@ class LootTrackerBox extends JPanel
 
 	/**
 	 * This method creates stacked items from the item list, calculates total price and then
-	 * displays all the items in the UI.
+	 * displays all the items in the UI. Item slots are reused, and only slots whose item
+	 * changed are updated.
 	 */
 	private void buildItems()
 	{
 		totalPrice = 0;
 
-		List<LootTrackerItem> items = this.items;
-		if (hideIgnoredItems)
-		{
-			items = items.stream().filter(item -> !item.isIgnored()).collect(Collectors.toList());
-		}
+		final List<LootTrackerItem> items = hideIgnoredItems
+			? this.items.stream().filter(item -> !item.isIgnored()).collect(Collectors.toList())
+			: new ArrayList<>(this.items);
 
 		boolean isHidden = items.isEmpty();
 		setVisible(!isHidden);
@@ -312,60 +327,114 @@ class LootTrackerBox extends JPanel
 
 		// Calculates how many rows need to be display to fit all items
 		final int rowSize = ((items.size() % ITEMS_PER_ROW == 0) ? 0 : 1) + items.size() / ITEMS_PER_ROW;
+		final int slotCount = rowSize * ITEMS_PER_ROW;
+
+		if (slots.size() != slotCount)
+		{
+			while (slots.size() < slotCount)
+			{
+				final ItemSlot slot = new ItemSlot();
+				slots.add(slot);
+				itemContainer.add(slot);
+			}
+
+			while (slots.size() > slotCount)
+			{
+				itemContainer.remove(slots.remove(slots.size() - 1));
+			}
+
+			itemContainer.setLayout(new GridLayout(rowSize, ITEMS_PER_ROW, 1, 1));
+		}
+
+		for (int i = 0; i < slotCount; i++)
+		{
+			slots.get(i).setItem(i < items.size() ? items.get(i) : null);
+		}
+
+		itemContainer.revalidate();
+	}
 
-		itemContainer.removeAll();
-		itemContainer.setLayout(new GridLayout(rowSize, ITEMS_PER_ROW, 1, 1));
+	private class ItemSlot extends JPanel
+	{
+		private final JLabel imageLabel = new JLabel();
+		// copy of the item currently displayed
+		private LootTrackerItem shown;
+		// the item the toggle acts on
+		private LootTrackerItem item;
 
-		final EmptyBorder emptyBorder = new EmptyBorder(5, 5, 5, 5);
-		for (int i = 0; i < rowSize * ITEMS_PER_ROW; i++)
+		ItemSlot()
 		{
-			final JPanel slotContainer = new JPanel();
-			slotContainer.setBackground(ColorScheme.DARKER_GRAY_COLOR);
+			setBackground(ColorScheme.DARKER_GRAY_COLOR);
+			imageLabel.setVerticalAlignment(SwingConstants.CENTER);
+			imageLabel.setHorizontalAlignment(SwingConstants.CENTER);
+			add(imageLabel);
+		}
 
-			if (i < items.size())
+		void setItem(@Nullable final LootTrackerItem item)
+		{
+			this.item = item;
+
+			if (item == null)
 			{
-				final LootTrackerItem item = items.get(i);
-				final JLabel imageLabel = new JLabel();
-				imageLabel.setToolTipText(buildToolTip(item));
-				imageLabel.setVerticalAlignment(SwingConstants.CENTER);
-				imageLabel.setHorizontalAlignment(SwingConstants.CENTER);
+				if (shown != null)
+				{
+					shown = null;
+					imageLabel.setIcon(null);
+					imageLabel.setToolTipText(null);
+					setComponentPopupMenu(null);
+				}
+				return;
+			}
+
+			final LootTrackerItem snapshot = new LootTrackerItem(item.getId(), item.getName(), item.getQuantity(),
+				item.getGePrice(), item.getHaPrice(), item.isIgnored());
+			if (snapshot.equals(shown))
+			{
+				return;
+			}
+			shown = snapshot;
+
+			imageLabel.setToolTipText(buildToolTip(item));
 
-				AsyncBufferedImage itemImage = itemManager.getImage(item.getId(), item.getQuantity(), item.getQuantity() > 1);
+			AsyncBufferedImage itemImage = itemManager.getImage(item.getId(), item.getQuantity(), item.getQuantity() > 1);
 
-				if (item.isIgnored())
+			if (item.isIgnored())
+			{
+				imageLabel.setIcon(null);
+				itemImage.onLoaded(() ->
 				{
-					itemImage.onLoaded(() ->
+					// the slot may have been reused by the time the image loads
+					if (shown == snapshot)
 					{
-						BufferedImage transparentImage = ImageUtil.alphaOffset(itemImage, .3f);
+						// ignored items are faded on every rebuild, so reuse the faded image
+						BufferedImage transparentImage = ImageOps.create().alphaOffset(.3f).applyCached(itemImage);
 						imageLabel.setIcon(new ImageIcon(transparentImage));
-					});
-				}
-				else
-				{
-					itemImage.addTo(imageLabel);
-				}
-
-				slotContainer.add(imageLabel);
+					}
+				});
+			}
+			else
+			{
+				itemImage.addTo(imageLabel);
+			}
 
+			if (getComponentPopupMenu() == null)
+			{
 				// Create popup menu
 				final JPopupMenu popupMenu = new JPopupMenu();
-				popupMenu.setBorder(emptyBorder);
-				slotContainer.setComponentPopupMenu(popupMenu);
+				popupMenu.setBorder(new EmptyBorder(5, 5, 5, 5));
 
 				final JMenuItem toggle = new JMenuItem("Toggle item");
 				toggle.addActionListener(e ->
 				{
-					item.setIgnored(!item.isIgnored());
-					onItemToggle.accept(item.getName(), item.isIgnored());
+					final LootTrackerItem toggled = this.item;
+					toggled.setIgnored(!toggled.isIgnored());
+					onItemToggle.accept(toggled.getName(), toggled.isIgnored());
 				});
 
 				popupMenu.add(toggle);
+				setComponentPopupMenu(popupMenu);
 			}
-
-			itemContainer.add(slotContainer);
 		}
-
-		itemContainer.revalidate();
 	}
 
 	private static String buildToolTip(LootTrackerItem item)
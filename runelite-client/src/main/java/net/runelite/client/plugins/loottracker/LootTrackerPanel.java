@@ -26,7 +26,9 @@
 package net.runelite.client.plugins.loottracker;
 
 import static com.google.common.collect.Iterables.concat;
+import com.google.common.collect.HashBasedTable;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Table;
 import java.awt.BorderLayout;
 import java.awt.Color;
 import java.awt.Dimension;
@@ -37,7 +39,9 @@ import java.awt.image.BufferedImage;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import javax.swing.BorderFactory;
@@ -120,6 +124,13 @@ class LootTrackerPanel extends PluginPanel
 	// Individual records for the individual kills this session
 	private final List<LootTrackerRecord> sessionRecords = new ArrayList<>();
 	private final List<LootTrackerBox> boxes = new ArrayList<>();
+	// Boxes by type and title, when loot is grouped
+	private final Table<LootRecordType, String, LootTrackerBox> groupedBoxes = HashBasedTable.create();
+
+	// Running totals of the records in the current view
+	private long overallKills;
+	private long overallGe;
+	private long overallHa;
 
 	private final ItemManager itemManager;
 	private final LootTrackerPlugin plugin;
@@ -321,6 +332,7 @@ class LootTrackerPanel extends PluginPanel
 			sessionRecords.removeIf(r -> r.matches(currentView, currentType));
 			aggregateRecords.removeIf(r -> r.matches(currentView, currentType));
 			boxes.removeIf(b -> b.matches(currentView, currentType));
+			groupedBoxes.clear();
 			updateOverall();
 			logsContainer.removeAll();
 			logsContainer.revalidate();
@@ -329,7 +341,7 @@ class LootTrackerPanel extends PluginPanel
 			if (currentView != null)
 			{
 				assert currentType != null;
-				plugin.removeLootConfig(currentType, currentView);
+				plugin.removeLoot(currentType, currentView);
 			}
 			else
 			{
@@ -391,7 +403,8 @@ class LootTrackerPanel extends PluginPanel
 		if (box != null)
 		{
 			box.rebuild();
-			updateOverall();
+			addOverall(record);
+			updateOverallLabels();
 		}
 	}
 
@@ -402,6 +415,7 @@ class LootTrackerPanel extends PluginPanel
 	{
 		aggregateRecords.clear();
 		sessionRecords.clear();
+		rebuild();
 	}
 
 	/**
@@ -410,7 +424,27 @@ class LootTrackerPanel extends PluginPanel
 	void addRecords(Collection<LootTrackerRecord> recs)
 	{
 		aggregateRecords.addAll(recs);
-		rebuild();
+
+		if (!groupLoot)
+		{
+			// aggregate records are only shown when grouped
+			return;
+		}
+
+		final Set<LootTrackerBox> changed = new LinkedHashSet<>();
+		for (LootTrackerRecord record : recs)
+		{
+			LootTrackerBox box = buildBox(record);
+			if (box != null)
+			{
+				changed.add(box);
+				addOverall(record);
+			}
+		}
+
+		changed.forEach(LootTrackerBox::rebuild);
+		updateOverallLabels();
+		logsContainer.revalidate();
 	}
 
 	/**
@@ -461,7 +495,8 @@ class LootTrackerPanel extends PluginPanel
 
 	/**
 	 * After an item changed it's ignored state, iterate all the records and make
-	 * sure all items of the same name also get updated
+	 * sure all items of the same name also get updated. The existing boxes are
+	 * updated in place.
 	 */
 	void updateIgnoredRecords()
 	{
@@ -473,6 +508,22 @@ class LootTrackerPanel extends PluginPanel
 			}
 		}
 
+		for (LootTrackerBox box : boxes)
+		{
+			box.updateIgnored(plugin::isIgnored);
+			box.rebuild();
+		}
+
+		updateOverall();
+		logsContainer.revalidate();
+	}
+
+	/**
+	 * After an event changed it's ignored state, rebuild the boxes as they may
+	 * now be shown or hidden
+	 */
+	void updateIgnoredEvents()
+	{
 		rebuild();
 	}
 
@@ -491,6 +542,7 @@ class LootTrackerPanel extends PluginPanel
 	{
 		SwingUtil.fastRemoveAll(logsContainer);
 		boxes.clear();
+		groupedBoxes.clear();
 
 		if (groupLoot)
 		{
@@ -538,15 +590,13 @@ class LootTrackerPanel extends PluginPanel
 		// Group all similar loot together
 		if (groupLoot)
 		{
-			for (LootTrackerBox box : boxes)
+			final LootTrackerBox box = groupedBoxes.get(record.getType(), record.getTitle());
+			if (box != null)
 			{
-				if (box.matches(record))
-				{
-					// float the matched box to the top of the UI list if it's not already first
-					logsContainer.setComponentZOrder(box, 0);
-					box.addKill(record);
-					return box;
-				}
+				// float the matched box to the top of the UI list if it's not already first
+				logsContainer.setComponentZOrder(box, 0);
+				box.addKill(record);
+				return box;
 			}
 		}
 
@@ -612,6 +662,7 @@ class LootTrackerPanel extends PluginPanel
 			sessionRecords.removeIf(match);
 			aggregateRecords.removeIf(match);
 			boxes.remove(box);
+			groupedBoxes.remove(box.getLootRecordType(), box.getId());
 			updateOverall();
 			logsContainer.remove(box);
 			logsContainer.revalidate();
@@ -619,7 +670,7 @@ class LootTrackerPanel extends PluginPanel
 			// Without loot being grouped we have no way to identify single kills to be deleted
 			if (groupLoot)
 			{
-				plugin.removeLootConfig(box.getLootRecordType(), box.getId());
+				plugin.removeLoot(box.getLootRecordType(), box.getId());
 			}
 		});
 
@@ -640,6 +691,10 @@ class LootTrackerPanel extends PluginPanel
 
 		// Add box to panel
 		boxes.add(box);
+		if (groupLoot)
+		{
+			groupedBoxes.put(record.getType(), record.getTitle(), box);
+		}
 		logsContainer.add(box, 0);
 
 		if (!groupLoot && boxes.size() > MAX_LOOT_BOXES)
@@ -650,11 +705,14 @@ class LootTrackerPanel extends PluginPanel
 		return box;
 	}
 
+	/**
+	 * Recomputes the overall totals from all records
+	 */
 	private void updateOverall()
 	{
-		long overallKills = 0;
-		long overallGe = 0;
-		long overallHa = 0;
+		overallKills = 0;
+		overallGe = 0;
+		overallHa = 0;
 
 		Iterable<LootTrackerRecord> records = sessionRecords;
 		if (groupLoot)
@@ -664,36 +722,49 @@ class LootTrackerPanel extends PluginPanel
 
 		for (LootTrackerRecord record : records)
 		{
-			if (!record.matches(currentView, currentType))
-			{
-				continue;
-			}
+			addOverall(record);
+		}
 
-			if (hideIgnoredItems && plugin.isEventIgnored(record.getTitle()))
-			{
-				continue;
-			}
+		updateOverallLabels();
+	}
 
-			int present = record.getItems().length;
+	/**
+	 * Adds a record to the overall totals
+	 */
+	private void addOverall(LootTrackerRecord record)
+	{
+		if (!record.matches(currentView, currentType))
+		{
+			return;
+		}
 
-			for (LootTrackerItem item : record.getItems())
-			{
-				if (hideIgnoredItems && item.isIgnored())
-				{
-					present--;
-					continue;
-				}
+		if (hideIgnoredItems && plugin.isEventIgnored(record.getTitle()))
+		{
+			return;
+		}
 
-				overallGe += item.getTotalGePrice();
-				overallHa += item.getTotalHaPrice();
-			}
+		int present = record.getItems().length;
 
-			if (present > 0)
+		for (LootTrackerItem item : record.getItems())
+		{
+			if (hideIgnoredItems && item.isIgnored())
 			{
-				overallKills += record.getKills();
+				present--;
+				continue;
 			}
+
+			overallGe += item.getTotalGePrice();
+			overallHa += item.getTotalHaPrice();
+		}
+
+		if (present > 0)
+		{
+			overallKills += record.getKills();
 		}
+	}
 
+	private void updateOverallLabels()
+	{
 		String priceType = "";
 		if (config.showPriceType())
 		{
@@ -26,11 +26,11 @@
 package net.runelite.client.plugins.loottracker;
 
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.base.Strings;
 import com.google.common.collect.HashMultiset;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Multiset;
 import com.google.common.collect.Multisets;
@@ -38,14 +38,17 @@ import com.google.gson.Gson;
 import com.google.gson.JsonSyntaxException;
 import com.google.inject.Provides;
 import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -54,8 +57,11 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collector;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
@@ -139,6 +145,7 @@ public class LootTrackerPlugin extends Plugin
 {
 	private static final int MAX_DROPS = 1024;
 	private static final Duration MAX_AGE = Duration.ofDays(365L);
+	private static final long LOAD_FRAME_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
 	private static final int INVCHANGE_TIMEOUT = 10; // server ticks
 
 	// Activity/Event loot handling
@@ -393,6 +400,8 @@ public class LootTrackerPlugin extends Plugin
 
 	private final List<LootRecord> queuedLoots = new ArrayList<>();
 	private String profileKey;
+	private volatile LootStore lootStore;
+	private final AtomicInteger historyLoad = new AtomicInteger();
 
 	private static Collection<ItemStack> stack(Collection<ItemStack> items)
 	{
@@ -486,83 +495,182 @@ public class LootTrackerPlugin extends Plugin
 
 			log.debug("Switched to profile {}", profileKey);
 
-			if (!config.syncPanel())
+			// the panel holds the previous profile's loot, so clear it even if this profile has no history
+			final int load = historyLoad.incrementAndGet();
+			SwingUtilities.invokeLater(panel::clearRecords);
+
+			final LootStore store = openLootStore(profileKey);
+			if (store == null || !config.syncPanel())
 			{
 				return;
 			}
 
-			int drops = 0;
-			List<ConfigLoot> loots = new ArrayList<>();
-			Instant old = Instant.now().minus(MAX_AGE);
-			for (String key : configManager.getRSProfileConfigurationKeys(LootTrackerConfig.GROUP, profileKey, "drops_"))
+			// Keep only the most recent MAX_DROPS drops
+			List<ConfigLoot> loots;
+			try
+			{
+				loots = store.getAll(Instant.now().minus(MAX_AGE)).stream()
+					.collect(Collector.of(() -> new ConfigLootHeap(MAX_DROPS), ConfigLootHeap::offer, ConfigLootHeap::merge))
+					.toList();
+			}
+			catch (IOException ex)
 			{
-				String json = configManager.getConfiguration(LootTrackerConfig.GROUP, profileKey, key);
-				ConfigLoot configLoot;
+				log.warn("Unable to load loot for profile {}", profileKey, ex);
+				return;
+			}
+
+			log.debug("Loaded {} records", loots.size());
 
-				try
+			final Iterator<ConfigLoot> it = loots.iterator();
+			clientThread.invokeLater(() ->
+			{
+				if (load != historyLoad.get())
 				{
-					configLoot = gson.fromJson(json, ConfigLoot.class);
+					// another profile has been loaded since
+					return true;
 				}
-				catch (JsonSyntaxException ex)
+
+				// convertToLootTrackerRecord requires item compositions to be available to get the item name,
+				// so it can't be run while the client is starting
+				if (client.getGameState().getState() < GameState.LOGIN_SCREEN.getState())
 				{
-					log.warn("Removing loot with malformed json: {}", json, ex);
-					configManager.unsetConfiguration(LootTrackerConfig.GROUP, profileKey, key);
-					continue;
+					return false;
 				}
 
-				if (configLoot.last.isBefore(old))
+				// convertToLootTrackerRecord must be called on client thread. Convert as much as fits in
+				// the frame budget and pick the rest up on the next frame, so the panel fills in as it goes.
+				final long deadline = System.nanoTime() + LOAD_FRAME_BUDGET_NANOS;
+				List<LootTrackerRecord> records = new ArrayList<>();
+				while (it.hasNext() && System.nanoTime() < deadline)
 				{
-					log.debug("Removing old loot for {} {}", configLoot.type, configLoot.name);
-					configManager.unsetConfiguration(LootTrackerConfig.GROUP, profileKey, key);
-					continue;
+					records.add(convertToLootTrackerRecord(it.next()));
 				}
 
-				if (drops >= MAX_DROPS && !loots.isEmpty() && loots.get(0).last.isAfter(configLoot.last))
+				if (!records.isEmpty())
 				{
-					// fast drop
-					continue;
+					SwingUtilities.invokeLater(() ->
+					{
+						if (load == historyLoad.get())
+						{
+							panel.addRecords(records);
+						}
+					});
 				}
 
-				sortedInsert(loots, configLoot, Comparator.comparing(ConfigLoot::getLast));
-				drops += configLoot.numDrops();
+				return !it.hasNext();
+			});
+		});
+	}
 
-				if (drops >= MAX_DROPS)
-				{
-					ConfigLoot top = loots.remove(0);
-					drops -= top.numDrops();
-				}
+	@Nullable
+	private LootStore openLootStore(String profileKey)
+	{
+		closeLootStore();
+
+		LootStore store;
+		try
+		{
+			store = new LootStore(new File(LootStore.LOOT_DIR, profileKey + ".dat"), Instant.now().minus(MAX_AGE));
+		}
+		catch (IOException ex)
+		{
+			log.warn("Unable to open loot store for profile {}", profileKey, ex);
+			return null;
+		}
+
+		migrateLoot(profileKey, store);
+		lootStore = store;
+		return store;
+	}
+
+	private void closeLootStore()
+	{
+		LootStore store = lootStore;
+		lootStore = null;
+		if (store != null)
+		{
+			try
+			{
+				store.close();
+			}
+			catch (IOException ex)
+			{
+				log.warn("Unable to close loot store", ex);
 			}
+		}
+	}
 
-			log.debug("Loaded {} records", loots.size());
+	/**
+	 * Move loot saved in the config by older versions into the loot store. Each key is removed from the
+	 * config once its loot is stored, so loot saved by an older client on another machine is moved over
+	 * the next time the profile is loaded, without counting anything twice.
+	 */
+	private void migrateLoot(String profileKey, LootStore store)
+	{
+		List<String> keys = configManager.getRSProfileConfigurationKeys(LootTrackerConfig.GROUP, profileKey, "drops_");
+		if (keys.isEmpty())
+		{
+			return;
+		}
 
-			clientThread.invokeLater(() ->
+		Instant old = Instant.now().minus(MAX_AGE);
+		Map<String, ConfigLoot> loots = new LinkedHashMap<>();
+		keys.parallelStream()
+			.map(key -> Maps.immutableEntry(key, parseLoot(profileKey, key, old)))
+			.forEachOrdered(e -> loots.put(e.getKey(), e.getValue()));
+
+		int migrated = 0;
+		try
+		{
+			for (Map.Entry<String, ConfigLoot> entry : loots.entrySet())
 			{
-				// convertToLootTrackerRecord requires item compositions to be available to get the item name,
-				// so it can't be run while the client is starting
-				if (client.getGameState().getState() < GameState.LOGIN_SCREEN.getState())
+				ConfigLoot loot = entry.getValue();
+				if (loot != null)
 				{
-					return false;
+					store.add(Collections.singletonList(loot), loot.last);
+					++migrated;
 				}
+				// malformed and expired loot is dropped
+				configManager.unsetConfiguration(LootTrackerConfig.GROUP, profileKey, entry.getKey());
+			}
+		}
+		catch (IOException ex)
+		{
+			// the remaining keys are migrated next time
+			log.warn("Unable to migrate loot for profile {}", profileKey, ex);
+		}
 
-				// convertToLootTrackerRecord must be called on client thread
-				List<LootTrackerRecord> records = loots.stream()
-					.map(this::convertToLootTrackerRecord)
-					.collect(Collectors.toList());
-				SwingUtilities.invokeLater(() ->
-				{
-					panel.clearRecords();
-					panel.addRecords(records);
-				});
-
-				return true;
-			});
-		});
+		log.info("Migrated {} loot records for profile {}", migrated, profileKey);
 	}
 
-	private static <T> void sortedInsert(List<T> list, T value, Comparator<? super T> c)
+	@Nullable
+	private ConfigLoot parseLoot(String profileKey, String key, Instant old)
 	{
-		int idx = Collections.binarySearch(list, value, c);
-		list.add(idx < 0 ? -idx - 1 : idx, value);
+		String json = configManager.getConfiguration(LootTrackerConfig.GROUP, profileKey, key);
+		ConfigLoot configLoot;
+
+		try
+		{
+			configLoot = gson.fromJson(json, ConfigLoot.class);
+		}
+		catch (JsonSyntaxException ex)
+		{
+			log.warn("Dropping loot with malformed json: {}", json, ex);
+			return null;
+		}
+
+		if (configLoot == null || configLoot.last == null || configLoot.drops == null)
+		{
+			return null;
+		}
+
+		if (configLoot.last.isBefore(old))
+		{
+			log.debug("Dropping old loot for {} {}", configLoot.type, configLoot.name);
+			return null;
+		}
+
+		return configLoot;
 	}
 
 	@Subscribe
@@ -570,12 +678,16 @@ public class LootTrackerPlugin extends Plugin
 	{
 		if (event.getGroup().equals(LootTrackerConfig.GROUP))
 		{
-			if ("ignoredItems".equals(event.getKey()) || "ignoredEvents".equals(event.getKey()))
+			if ("ignoredItems".equals(event.getKey()))
 			{
 				ignoredItems = Text.fromCSV(config.getIgnoredItems());
-				ignoredEvents = Text.fromCSV(config.getIgnoredEvents());
 				SwingUtilities.invokeLater(panel::updateIgnoredRecords);
 			}
+			else if ("ignoredEvents".equals(event.getKey()))
+			{
+				ignoredEvents = Text.fromCSV(config.getIgnoredEvents());
+				SwingUtilities.invokeLater(panel::updateIgnoredEvents);
+			}
 			else if ("priceType".equals(event.getKey()) || "showPriceType".equals(event.getKey()))
 			{
 				SwingUtilities.invokeLater(panel::updatePriceTypeDisplay);
@@ -620,6 +732,7 @@ public class LootTrackerPlugin extends Plugin
 	protected void shutDown()
 	{
 		submitLoot();
+		closeLootStore();
 		clientToolbar.removeNavigation(navButton);
 		lootTrackerClient.setUuid(null);
 		chestLooted = false;
@@ -1394,25 +1507,20 @@ public class LootTrackerPlugin extends Plugin
 
 	private void saveLoot(List<LootRecord> records)
 	{
-		Instant now = Instant.now();
-		Collection<ConfigLoot> combinedRecords = combine(records);
-		for (ConfigLoot record : combinedRecords)
+		LootStore store = lootStore;
+		if (store == null)
 		{
-			ConfigLoot lootConfig = getLootConfig(record.type, record.name);
-			if (lootConfig == null)
-			{
-				lootConfig = record;
-			}
-			else
-			{
-				lootConfig.kills += record.kills;
-				for (int i = 0; i < record.drops.length; i += 2)
-				{
-					lootConfig.add(record.drops[i], record.drops[i + 1]);
-				}
-			}
-			lootConfig.last = now;
-			setLootConfig(lootConfig.type, lootConfig.name, lootConfig);
+			log.warn("Unable to save {} loot records, there is no loot store for profile {}", records.size(), profileKey);
+			return;
+		}
+
+		try
+		{
+			store.add(combine(records), Instant.now());
+		}
+		catch (IOException ex)
+		{
+			log.warn("Unable to save loot", ex);
 		}
 	}
 
@@ -1652,61 +1760,49 @@ public class LootTrackerPlugin extends Plugin
 				.build());
 	}
 
-	ConfigLoot getLootConfig(LootRecordType type, String name)
+	void removeLoot(LootRecordType type, String name)
 	{
-		String profile = profileKey;
-		if (Strings.isNullOrEmpty(profile))
+		LootStore store = lootStore;
+		if (store == null)
 		{
-			log.debug("Trying to get loot with no profile!");
-			return null;
+			log.debug("Trying to remove loot with no profile!");
+			return;
 		}
 
-		String json = configManager.getConfiguration(LootTrackerConfig.GROUP, profile, "drops_" + type + "_" + name);
-		if (json == null)
+		try
 		{
-			return null;
+			store.remove(type, name);
 		}
-
-		return gson.fromJson(json, ConfigLoot.class);
-	}
-
-	void setLootConfig(LootRecordType type, String name, ConfigLoot loot)
-	{
-		String profile = profileKey;
-		if (Strings.isNullOrEmpty(profile))
+		catch (IOException ex)
 		{
-			log.debug("Trying to set loot with no profile!");
-			return;
+			log.warn("Unable to remove loot", ex);
 		}
 
-		String json = gson.toJson(loot);
-		configManager.setConfiguration(LootTrackerConfig.GROUP, profile, "drops_" + type + "_" + name, json);
+		// loot saved by an older client would otherwise be migrated back
+		configManager.unsetConfiguration(LootTrackerConfig.GROUP, profileKey, "drops_" + type + "_" + name);
 	}
 
-	void removeLootConfig(LootRecordType type, String name)
+	void removeAllLoot()
 	{
-		String profile = profileKey;
-		if (Strings.isNullOrEmpty(profile))
+		LootStore store = lootStore;
+		if (store == null)
 		{
-			log.debug("Trying to remove loot with no profile!");
+			log.debug("Trying to clear loot with no profile!");
 			return;
 		}
 
-		configManager.unsetConfiguration(LootTrackerConfig.GROUP, profile, "drops_" + type + "_" + name);
-	}
-
-	void removeAllLoot()
-	{
-		String profile = profileKey;
-		if (Strings.isNullOrEmpty(profile))
+		try
 		{
-			log.debug("Trying to clear loot with no profile!");
-			return;
+			store.clear();
+		}
+		catch (IOException ex)
+		{
+			log.warn("Unable to clear loot", ex);
 		}
 
-		for (String key : configManager.getRSProfileConfigurationKeys(LootTrackerConfig.GROUP, profile, "drops_"))
+		for (String key : configManager.getRSProfileConfigurationKeys(LootTrackerConfig.GROUP, profileKey, "drops_"))
 		{
-			configManager.unsetConfiguration(LootTrackerConfig.GROUP, profile, key);
+			configManager.unsetConfiguration(LootTrackerConfig.GROUP, profileKey, key);
 		}
 	}
 }
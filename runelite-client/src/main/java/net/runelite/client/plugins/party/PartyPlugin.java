@@ -80,7 +80,9 @@ import net.runelite.client.plugins.PluginDescriptor;
 import net.runelite.client.plugins.party.data.PartyData;
 import net.runelite.client.plugins.party.data.PartyTilePingData;
 import net.runelite.client.plugins.party.messages.LocationUpdate;
+import net.runelite.client.plugins.party.messages.LocationUpdateCodec;
 import net.runelite.client.plugins.party.messages.StatusUpdate;
+import net.runelite.client.plugins.party.messages.StatusUpdateCodec;
 import net.runelite.client.plugins.party.messages.TilePing;
 import net.runelite.client.task.Schedule;
 import net.runelite.client.ui.ClientToolbar;
@@ -200,8 +202,8 @@ public class PartyPlugin extends Plugin
 		overlayManager.add(partyStatusOverlay);
 		keyManager.registerKeyListener(hotkeyListener);
 		wsClient.registerMessage(TilePing.class);
-		wsClient.registerMessage(LocationUpdate.class);
-		wsClient.registerMessage(StatusUpdate.class);
+		wsClient.registerMessage(LocationUpdate.class, new LocationUpdateCodec());
+		wsClient.registerMessage(StatusUpdate.class, new StatusUpdateCodec());
 		// Delay sync so the eventbus can register prior to the sync response
 		SwingUtilities.invokeLater(this::requestSync);
 	}
@@ -27,6 +27,7 @@ package net.runelite.client.plugins.party.messages;
 import lombok.ToString;
 import net.runelite.api.coords.WorldPoint;
 import net.runelite.client.party.messages.PartyMemberMessage;
+import net.runelite.client.party.messages.PartyMessage;
 
 @ToString(onlyExplicitlyIncluded = true)
 public class LocationUpdate extends PartyMemberMessage
@@ -35,7 +36,28 @@ public class LocationUpdate extends PartyMemberMessage
 
 	public LocationUpdate(WorldPoint worldPoint)
 	{
-		c = (worldPoint.getPlane() << 28) | (worldPoint.getX() << 14) | (worldPoint.getY());
+		c = pack(worldPoint.getX(), worldPoint.getY(), worldPoint.getPlane());
+	}
+
+	LocationUpdate(int c)
+	{
+		this.c = c;
+	}
+
+	static int pack(int x, int y, int plane)
+	{
+		return (plane << 28) | (x << 14) | y;
+	}
+
+	int getPacked()
+	{
+		return c;
+	}
+
+	@Override
+	public PartyMessage coalesce(PartyMessage next)
+	{
+		return next;
 	}
 
 	@ToString.Include
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.party.messages;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import java.io.IOException;
+import net.runelite.client.party.PartyMessageCodec;
+
+/**
+ * Encodes a {@link LocationUpdate} as the distance moved since the previous update when the
+ * plane is unchanged, which fits in two bytes while walking or running. The low bit of the
+ * first varint distinguishes a delta from a complete location.
+ */
+public class LocationUpdateCodec implements PartyMessageCodec<LocationUpdate>
+{
+	@Override
+	public void encode(LocationUpdate message, LocationUpdate previous, CodedOutputStream out) throws IOException
+	{
+		final int c = message.getPacked();
+		if (previous == null || plane(c) != plane(previous.getPacked()))
+		{
+			out.writeUInt64NoTag((c & 0xffffffffL) << 1);
+			return;
+		}
+
+		final int p = previous.getPacked();
+		out.writeUInt64NoTag((zigzag(x(c) - x(p)) & 0xffffffffL) << 1 | 1);
+		out.writeSInt32NoTag(y(c) - y(p));
+	}
+
+	@Override
+	public LocationUpdate decode(CodedInputStream in, LocationUpdate previous) throws IOException
+	{
+		final long header = in.readUInt64();
+		if ((header & 1) == 0)
+		{
+			return new LocationUpdate((int) (header >>> 1));
+		}
+
+		if (previous == null)
+		{
+			throw new IOException("location delta without a previous location");
+		}
+
+		final int p = previous.getPacked();
+		final int dx = unzigzag((int) (header >>> 1));
+		final int dy = in.readSInt32();
+		return new LocationUpdate(LocationUpdate.pack(x(p) + dx, y(p) + dy, plane(p)));
+	}
+
+	private static int x(int c)
+	{
+		return (c >> 14) & 0x3fff;
+	}
+
+	private static int y(int c)
+	{
+		return c & 0x3fff;
+	}
+
+	private static int plane(int c)
+	{
+		return (c >> 28) & 3;
+	}
+
+	private static int zigzag(int n)
+	{
+		return (n << 1) ^ (n >> 31);
+	}
+
+	private static int unzigzag(int n)
+	{
+		return (n >>> 1) ^ -(n & 1);
+	}
+}
@@ -31,6 +31,7 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import net.runelite.client.party.messages.PartyMemberMessage;
+import net.runelite.client.party.messages.PartyMessage;
 
 @Data
 @NoArgsConstructor
@@ -67,4 +68,25 @@ public class StatusUpdate extends PartyMemberMessage
 	@SerializedName("c")
 	private Color memberColor = null;
 
+	@Override
+	public PartyMessage coalesce(PartyMessage next)
+	{
+		final StatusUpdate n = (StatusUpdate) next;
+		return new StatusUpdate(
+			newer(n.characterName, characterName),
+			newer(n.healthCurrent, healthCurrent),
+			newer(n.healthMax, healthMax),
+			newer(n.prayerCurrent, prayerCurrent),
+			newer(n.prayerMax, prayerMax),
+			newer(n.runEnergy, runEnergy),
+			newer(n.specEnergy, specEnergy),
+			newer(n.vengeanceActive, vengeanceActive),
+			newer(n.memberColor, memberColor)
+		);
+	}
+
+	private static <T> T newer(T next, T previous)
+	{
+		return next != null ? next : previous;
+	}
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.party.messages;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import java.awt.Color;
+import java.io.IOException;
+import net.runelite.client.party.PartyMessageCodec;
+
+/**
+ * Encodes a {@link StatusUpdate} as a bitmask of the fields which are set, followed by the
+ * set fields. Status updates are already deltas, so the previous update is not used.
+ */
+public class StatusUpdateCodec implements PartyMessageCodec<StatusUpdate>
+{
+	private static final int NAME = 1;
+	private static final int HEALTH_CURRENT = 1 << 1;
+	private static final int HEALTH_MAX = 1 << 2;
+	private static final int PRAYER_CURRENT = 1 << 3;
+	private static final int PRAYER_MAX = 1 << 4;
+	private static final int RUN_ENERGY = 1 << 5;
+	private static final int SPEC_ENERGY = 1 << 6;
+	private static final int VENGEANCE = 1 << 7;
+	private static final int VENGEANCE_ACTIVE = 1 << 8;
+	private static final int COLOR = 1 << 9;
+
+	@Override
+	public void encode(StatusUpdate message, StatusUpdate previous, CodedOutputStream out) throws IOException
+	{
+		int flags = 0;
+		flags |= message.getCharacterName() != null ? NAME : 0;
+		flags |= message.getHealthCurrent() != null ? HEALTH_CURRENT : 0;
+		flags |= message.getHealthMax() != null ? HEALTH_MAX : 0;
+		flags |= message.getPrayerCurrent() != null ? PRAYER_CURRENT : 0;
+		flags |= message.getPrayerMax() != null ? PRAYER_MAX : 0;
+		flags |= message.getRunEnergy() != null ? RUN_ENERGY : 0;
+		flags |= message.getSpecEnergy() != null ? SPEC_ENERGY : 0;
+		flags |= message.getVengeanceActive() != null ? VENGEANCE : 0;
+		flags |= Boolean.TRUE.equals(message.getVengeanceActive()) ? VENGEANCE_ACTIVE : 0;
+		flags |= message.getMemberColor() != null ? COLOR : 0;
+
+		out.writeUInt32NoTag(flags);
+		if (message.getCharacterName() != null)
+		{
+			out.writeStringNoTag(message.getCharacterName());
+		}
+		writeInt(out, message.getHealthCurrent());
+		writeInt(out, message.getHealthMax());
+		writeInt(out, message.getPrayerCurrent());
+		writeInt(out, message.getPrayerMax());
+		writeInt(out, message.getRunEnergy());
+		writeInt(out, message.getSpecEnergy());
+		if (message.getMemberColor() != null)
+		{
+			out.writeFixed32NoTag(message.getMemberColor().getRGB());
+		}
+	}
+
+	private static void writeInt(CodedOutputStream out, Integer value) throws IOException
+	{
+		if (value != null)
+		{
+			out.writeSInt32NoTag(value);
+		}
+	}
+
+	@Override
+	public StatusUpdate decode(CodedInputStream in, StatusUpdate previous) throws IOException
+	{
+		final int flags = in.readUInt32();
+		final StatusUpdate update = new StatusUpdate();
+		if ((flags & NAME) != 0)
+		{
+			update.setCharacterName(in.readStringRequireUtf8());
+		}
+		if ((flags & HEALTH_CURRENT) != 0)
+		{
+			update.setHealthCurrent(in.readSInt32());
+		}
+		if ((flags & HEALTH_MAX) != 0)
+		{
+			update.setHealthMax(in.readSInt32());
+		}
+		if ((flags & PRAYER_CURRENT) != 0)
+		{
+			update.setPrayerCurrent(in.readSInt32());
+		}
+		if ((flags & PRAYER_MAX) != 0)
+		{
+			update.setPrayerMax(in.readSInt32());
+		}
+		if ((flags & RUN_ENERGY) != 0)
+		{
+			update.setRunEnergy(in.readSInt32());
+		}
+		if ((flags & SPEC_ENERGY) != 0)
+		{
+			update.setSpecEnergy(in.readSInt32());
+		}
+		if ((flags & VENGEANCE) != 0)
+		{
+			update.setVengeanceActive((flags & VENGEANCE_ACTIVE) != 0);
+		}
+		if ((flags & COLOR) != 0)
+		{
+			update.setMemberColor(new Color(in.readFixed32(), true));
+		}
+		return update;
+	}
+}
@@ -54,6 +54,7 @@ import net.runelite.api.widgets.Widget;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.events.ConfigChanged;
 import net.runelite.client.events.ProfileChanged;
 import net.runelite.client.game.ChatIconManager;
 import net.runelite.client.plugins.Plugin;
@@ -122,6 +123,8 @@ public class PlayerIndicatorsPlugin extends Plugin
 		overlayManager.remove(playerIndicatorsOverlay);
 		overlayManager.remove(playerIndicatorsTileOverlay);
 		overlayManager.remove(playerIndicatorsMinimapOverlay);
+		// release the cached players
+		clientThread.invoke(playerIndicatorsService::invalidate);
 	}
 
 	@Subscribe
@@ -130,6 +133,15 @@ public class PlayerIndicatorsPlugin extends Plugin
 		migrate();
 	}
 
+	@Subscribe
+	public void onConfigChanged(ConfigChanged configChanged)
+	{
+		if (configChanged.getGroup().equals(PlayerIndicatorsConfig.GROUP))
+		{
+			clientThread.invoke(playerIndicatorsService::invalidate);
+		}
+	}
+
 	private void migrate()
 	{
 		String[] keys = {
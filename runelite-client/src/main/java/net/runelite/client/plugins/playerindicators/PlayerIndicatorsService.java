@@ -25,8 +25,11 @@
 package net.runelite.client.plugins.playerindicators;
 
 import java.awt.Color;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.function.BiConsumer;
-import java.util.function.Predicate;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import lombok.Value;
@@ -37,21 +40,36 @@ import net.runelite.api.FriendsChatRank;
 import static net.runelite.api.FriendsChatRank.UNRANKED;
 import net.runelite.api.Player;
 import net.runelite.api.Varbits;
+import net.runelite.api.WorldView;
 import net.runelite.api.clan.ClanChannel;
 import net.runelite.api.clan.ClanChannelMember;
 import net.runelite.api.clan.ClanRank;
 import net.runelite.api.clan.ClanSettings;
 import net.runelite.api.clan.ClanTitle;
+import net.runelite.client.party.PartyMember;
 import net.runelite.client.party.PartyService;
 import net.runelite.client.util.Text;
 
+/**
+ * Computes the decorations of players. Decorations are cached for the rest of the game tick,
+ * by player index, so that the overlays and menu entries sharing them only compute them once.
+ */
 @Singleton
 class PlayerIndicatorsService
 {
+	private static final int MAX_PLAYERS = 2048;
+
 	private final Client client;
 	private final PlayerIndicatorsConfig config;
 	private final PartyService partyService;
 
+	// the player each decoration was computed for, by player index
+	private final Player[] decoratedPlayers = new Player[MAX_PLAYERS];
+	private final Decorations[] decorations = new Decorations[MAX_PLAYERS];
+	private int decoratedTick = -1;
+	private boolean pvp;
+	private Set<String> partyMemberNames = Collections.emptySet();
+
 	@Inject
 	private PlayerIndicatorsService(Client client, PlayerIndicatorsConfig config, PartyService partyService)
 	{
@@ -60,9 +78,25 @@ class PlayerIndicatorsService
 		this.partyService = partyService;
 	}
 
+	/**
+	 * Discard the cached decorations, eg. after a config change. Must be called on the client thread.
+	 */
+	void invalidate()
+	{
+		decoratedTick = -1;
+		Arrays.fill(decoratedPlayers, null);
+		Arrays.fill(decorations, null);
+	}
+
 	void forEachPlayer(final BiConsumer<Player, Decorations> consumer)
 	{
-		for (Player player : client.getPlayers())
+		final WorldView worldView = client.getTopLevelWorldView();
+		if (worldView == null)
+		{
+			return;
+		}
+
+		for (Player player : worldView.players())
 		{
 			if (player == null || player.getName() == null)
 			{
@@ -84,38 +118,84 @@ class PlayerIndicatorsService
 			return null;
 		}
 
-		final Predicate<PlayerIndicatorsConfig.HighlightSetting> isEnabled = (hs) -> hs == PlayerIndicatorsConfig.HighlightSetting.ENABLED ||
-			(hs == PlayerIndicatorsConfig.HighlightSetting.PVP && (client.getVarbitValue(Varbits.IN_WILDERNESS) == 1 || client.getVarbitValue(Varbits.PVP_SPEC_ORB) == 1));
+		final int tick = client.getTickCount();
+		if (tick != decoratedTick)
+		{
+			decoratedTick = tick;
+			Arrays.fill(decoratedPlayers, null);
+			Arrays.fill(decorations, null);
+			pvp = client.getVarbitValue(Varbits.IN_WILDERNESS) == 1 || client.getVarbitValue(Varbits.PVP_SPEC_ORB) == 1;
+			partyMemberNames = getPartyMemberNames();
+		}
+
+		final int index = player.getId();
+		if (index < 0 || index >= MAX_PLAYERS)
+		{
+			return computeDecorations(player);
+		}
+
+		if (decoratedPlayers[index] != player)
+		{
+			decorations[index] = computeDecorations(player);
+			decoratedPlayers[index] = player;
+		}
+		return decorations[index];
+	}
+
+	private Set<String> getPartyMemberNames()
+	{
+		if (!partyService.isInParty())
+		{
+			return Collections.emptySet();
+		}
+
+		final Set<String> names = new HashSet<>();
+		for (PartyMember member : partyService.getMembers())
+		{
+			if (member.isLoggedIn())
+			{
+				names.add(member.getDisplayName());
+			}
+		}
+		return names;
+	}
+
+	private boolean isEnabled(PlayerIndicatorsConfig.HighlightSetting hs)
+	{
+		return hs == PlayerIndicatorsConfig.HighlightSetting.ENABLED || (hs == PlayerIndicatorsConfig.HighlightSetting.PVP && pvp);
+	}
 
+	private Decorations computeDecorations(Player player)
+	{
 		Color color = null;
 		if (player == client.getLocalPlayer())
 		{
-			if (isEnabled.test(config.highlightOwnPlayer()))
+			if (isEnabled(config.highlightOwnPlayer()))
 			{
 				color = config.getOwnPlayerColor();
 			}
 		}
-		else if (partyService.isInParty() && isEnabled.test(config.highlightPartyMembers()) && partyService.getMemberByDisplayName(player.getName()) != null)
+		else if (!partyMemberNames.isEmpty() && isEnabled(config.highlightPartyMembers()) && partyMemberNames.contains(Text.removeTags(Text.toJagexName(player.getName()))))
 		{
 			color = config.getPartyMemberColor();
 		}
-		else if (player.isFriend() && isEnabled.test(config.highlightFriends()))
+		else if (player.isFriend() && isEnabled(config.highlightFriends()))
 		{
 			color = config.getFriendColor();
 		}
-		else if (player.isFriendsChatMember() && isEnabled.test(config.highlightFriendsChat()))
+		else if (player.isFriendsChatMember() && isEnabled(config.highlightFriendsChat()))
 		{
 			color = config.getFriendsChatMemberColor();
 		}
-		else if (player.getTeam() > 0 && client.getLocalPlayer().getTeam() == player.getTeam() && isEnabled.test(config.highlightTeamMembers()))
+		else if (player.getTeam() > 0 && client.getLocalPlayer().getTeam() == player.getTeam() && isEnabled(config.highlightTeamMembers()))
 		{
 			color = config.getTeamMemberColor();
 		}
-		else if (player.isClanMember() && isEnabled.test(config.highlightClanMembers()))
+		else if (player.isClanMember() && isEnabled(config.highlightClanMembers()))
 		{
 			color = config.getClanMemberColor();
 		}
-		else if (!player.isFriendsChatMember() && !player.isClanMember() && isEnabled.test(config.highlightOthers()))
+		else if (!player.isFriendsChatMember() && !player.isClanMember() && isEnabled(config.highlightOthers()))
 		{
 			color = config.getOthersColor();
 		}
@@ -29,6 +29,8 @@ import net.runelite.client.config.ConfigGroup;
 import net.runelite.client.config.ConfigItem;
 import net.runelite.client.config.ConfigSection;
 import net.runelite.client.config.Keybind;
+import net.runelite.client.config.Range;
+import net.runelite.client.util.ImageCapture;
 
 @ConfigGroup("screenshot")
 public interface ScreenshotConfig extends Config
@@ -95,6 +97,20 @@ public interface ScreenshotConfig extends Config
 		return Keybind.NOT_SET;
 	}
 
+	@ConfigItem(
+		keyName = "compressionLevel",
+		name = "Compression level",
+		description = "Higher levels make smaller screenshots, but take longer to save.",
+		position = 5
+	)
+	@Range(
+		max = 9
+	)
+	default int compressionLevel()
+	{
+		return ImageCapture.DEFAULT_COMPRESSION_LEVEL;
+	}
+
 	@ConfigItem(
 		keyName = "rewards",
 		name = "Screenshot Rewards",
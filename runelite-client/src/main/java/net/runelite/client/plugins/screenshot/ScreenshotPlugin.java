@@ -912,7 +912,7 @@ public class ScreenshotPlugin extends Plugin
 			screenshot = imageCapture.addClientFrame(image);
 		}
 
-		imageCapture.saveScreenshot(screenshot, fileName, subDir, config.notifyWhenTaken(), config.copyToClipboard());
+		imageCapture.saveScreenshot(screenshot, fileName, subDir, config.notifyWhenTaken(), config.copyToClipboard(), config.compressionLevel());
 	}
 
 	private boolean isInsideGauntlet()
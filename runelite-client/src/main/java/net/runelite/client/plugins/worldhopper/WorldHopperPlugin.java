@@ -28,6 +28,7 @@ package net.runelite.client.plugins.worldhopper;
 
 import com.google.common.base.Stopwatch;
 import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Provides;
 import java.awt.image.BufferedImage;
 import java.time.Instant;
@@ -36,6 +37,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -103,6 +106,7 @@ import net.runelite.http.api.worlds.WorldType;
 public class WorldHopperPlugin extends Plugin
 {
 	private static final int REFRESH_THROTTLE = 60_000; // ms
+	private static final int PING_SWEEP_INTERVAL = 60; // s
 	private static final int MAX_PLAYER_COUNT = 1950;
 
 	private static final int DISPLAY_SWITCHER_MAX_ATTEMPTS = 3;
@@ -143,6 +147,9 @@ public class WorldHopperPlugin extends Plugin
 	private WorldService worldService;
 
 	private ScheduledExecutorService hopperExecutorService;
+	private ExecutorService pingExecutorService;
+	private WorldPinger worldPinger;
+	private CompletableFuture<Void> pingSweep;
 
 	private NavigationButton navButton;
 	private WorldSwitcherPanel panel;
@@ -156,14 +163,11 @@ public class WorldHopperPlugin extends Plugin
 	private int favoriteWorld1, favoriteWorld2;
 
 	private ScheduledFuture<?> pingFuture, currPingFuture;
-	private int currentWorld;
 	private Instant lastFetch;
 
 	@Getter(AccessLevel.PACKAGE)
 	private int currentPing;
 
-	private final Map<Integer, Integer> storedPings = new HashMap<>();
-
 	private final HotkeyListener previousKeyListener = new HotkeyListener(() -> config.previousKey())
 	{
 		@Override
@@ -216,15 +220,19 @@ public class WorldHopperPlugin extends Plugin
 		panel.setRegionFilterMode(config.regionFilter());
 		panel.setWorldTypeFilters(config.worldTypeFilter());
 
-		// The plugin has its own executor for pings, as it blocks for a long time
+		// The plugin has its own executors for pings, as they block for a long time
 		hopperExecutorService = new ExecutorServiceExceptionLogger(Executors.newSingleThreadScheduledExecutor());
+		pingExecutorService = Executors.newFixedThreadPool(WorldPinger.CONCURRENCY, new ThreadFactoryBuilder()
+			.setNameFormat("world-ping-%d")
+			.setDaemon(true)
+			.build());
+		worldPinger = new WorldPinger(Ping::ping, pingExecutorService, hopperExecutorService,
+			pings -> SwingUtilities.invokeLater(() -> panel.updatePings(pings)));
 		// populate initial world list
 		hopperExecutorService.execute(this::updateList);
-		// Run the first-run ping
-		hopperExecutorService.execute(this::pingInitialWorlds);
 
-		// Give some initial delay - this won't run until after pingInitialWorlds finishes anyway
-		pingFuture = hopperExecutorService.scheduleWithFixedDelay(this::pingNextWorld, 15, 3, TimeUnit.SECONDS);
+		// this runs after the world list is populated, and then sweeps the worlds periodically
+		pingFuture = hopperExecutorService.scheduleWithFixedDelay(this::pingWorlds, 0, PING_SWEEP_INTERVAL, TimeUnit.SECONDS);
 		currPingFuture = hopperExecutorService.scheduleWithFixedDelay(this::pingCurrentWorld, 15, 1, TimeUnit.SECONDS);
 	}
 
@@ -246,6 +254,11 @@ public class WorldHopperPlugin extends Plugin
 
 		hopperExecutorService.shutdown();
 		hopperExecutorService = null;
+
+		pingExecutorService.shutdownNow();
+		pingExecutorService = null;
+		worldPinger = null;
+		pingSweep = null;
 	}
 
 	@Subscribe
@@ -808,33 +821,9 @@ public class WorldHopperPlugin extends Plugin
 	}
 
 	/**
-	 * Ping all worlds. This takes a long time and is only run on first run.
-	 */
-	private void pingInitialWorlds()
-	{
-		WorldResult worldResult = worldService.getWorlds();
-		if (worldResult == null || !config.showSidebar() || !config.ping())
-		{
-			return;
-		}
-
-		Stopwatch stopwatch = Stopwatch.createStarted();
-
-		for (World world : worldResult.getWorlds())
-		{
-			int ping = ping(world);
-			SwingUtilities.invokeLater(() -> panel.updatePing(world.getId(), ping));
-		}
-
-		stopwatch.stop();
-
-		log.debug("Done pinging worlds in {}", stopwatch.elapsed());
-	}
-
-	/**
-	 * Ping the next world
+	 * Ping all worlds. The first sweep always runs, and later ones only while the panel is open.
 	 */
-	private void pingNextWorld()
+	private void pingWorlds()
 	{
 		WorldResult worldResult = worldService.getWorlds();
 		if (worldResult == null || !config.showSidebar() || !config.ping())
@@ -842,34 +831,14 @@ public class WorldHopperPlugin extends Plugin
 			return;
 		}
 
-		List<World> worlds = worldResult.getWorlds();
-		if (worlds.isEmpty())
-		{
-			return;
-		}
-
-		if (currentWorld >= worlds.size())
-		{
-			// Wrap back around
-			currentWorld = 0;
-		}
-
-		World world = worlds.get(currentWorld++);
-
-		// If we are displaying the ping overlay, there is a separate scheduled task for the current world
-		boolean displayPing = config.displayPing() && client.getGameState() == GameState.LOGGED_IN;
-		if (displayPing && client.getWorld() == world.getId())
+		if (pingSweep != null && (!pingSweep.isDone() || !panel.isActive()))
 		{
 			return;
 		}
 
-		int ping = ping(world);
-		log.trace("Ping for world {} is: {}", world.getId(), ping);
-
-		if (panel.isActive())
-		{
-			SwingUtilities.invokeLater(() -> panel.updatePing(world.getId(), ping));
-		}
+		Stopwatch stopwatch = Stopwatch.createStarted();
+		pingSweep = worldPinger.sweep(worldResult.getWorlds());
+		pingSweep.thenRun(() -> log.debug("Done pinging worlds in {}", stopwatch.elapsed()));
 	}
 
 	/**
@@ -891,8 +860,9 @@ public class WorldHopperPlugin extends Plugin
 			return;
 		}
 
-		int ping = ping(currentWorld);
-		log.trace("Ping for current world is: {}", currentPing);
+		// the overlay shows the latest ping rather than the smoothed one, which is still updated by this
+		int ping = worldPinger.ping(currentWorld);
+		log.trace("Ping for current world is: {}", ping);
 
 		if (ping < 0)
 		{
@@ -903,7 +873,9 @@ public class WorldHopperPlugin extends Plugin
 
 		if (panel.isActive())
 		{
-			SwingUtilities.invokeLater(() -> panel.updatePing(currentWorld.getId(), currentPing));
+			// the panel shows the smoothed ping, the same as the sweeps do
+			final int smoothedPing = worldPinger.getPing(currentWorld.getId());
+			SwingUtilities.invokeLater(() -> panel.updatePing(currentWorld.getId(), smoothedPing));
 		}
 	}
 
@@ -914,13 +886,6 @@ public class WorldHopperPlugin extends Plugin
 			return null;
 		}
 
-		return storedPings.get(world.getId());
-	}
-
-	private int ping(World world)
-	{
-		int ping = Ping.ping(world);
-		storedPings.put(world.getId(), ping);
-		return ping;
+		return worldPinger.getPing(world.getId());
 	}
 }
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.worldhopper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.http.api.worlds.World;
+
+/**
+ * Pings worlds on a pool of threads, so that many pings are in flight at once, and keeps a smoothed
+ * latency and jitter for each world. Results of sweeps are delivered to a listener in batches.
+ */
+@Slf4j
+class WorldPinger
+{
+	/**
+	 * The number of pings in flight at once
+	 */
+	static final int CONCURRENCY = 16;
+
+	private static final long BATCH_DELAY_MS = 100;
+	// gains for the smoothed latency and jitter, the same as for TCP's smoothed RTT and RTP's jitter
+	private static final double LATENCY_GAIN = 1 / 8d;
+	private static final double JITTER_GAIN = 1 / 16d;
+
+	@FunctionalInterface
+	interface Prober
+	{
+		/**
+		 * Ping a world
+		 *
+		 * @param world world
+		 * @return round trip time in milliseconds, or -1 if the world did not respond
+		 */
+		int ping(World world);
+	}
+
+	@Value
+	static class WorldPing
+	{
+		private final int world;
+		// the smoothed latency, or -1 if the last ping failed
+		private final int ping;
+	}
+
+	private static class Stats
+	{
+		private boolean failed;
+		private int last = -1;
+		private double latency = -1;
+		private double jitter;
+
+		synchronized int record(int sample)
+		{
+			if (sample < 0)
+			{
+				failed = true;
+				return -1;
+			}
+
+			if (latency < 0)
+			{
+				latency = sample;
+			}
+			else
+			{
+				jitter += (Math.abs(sample - last) - jitter) * JITTER_GAIN;
+				latency += (sample - latency) * LATENCY_GAIN;
+			}
+			last = sample;
+			failed = false;
+			return (int) Math.round(latency);
+		}
+
+		synchronized int getPing()
+		{
+			return failed ? -1 : (int) Math.round(latency);
+		}
+	}
+
+	private final Prober prober;
+	private final ExecutorService probeExecutor;
+	private final ScheduledExecutorService scheduler;
+	private final Consumer<List<WorldPing>> listener;
+
+	private final Map<Integer, Stats> stats = new ConcurrentHashMap<>();
+	private final Queue<WorldPing> pending = new ConcurrentLinkedQueue<>();
+	private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+	/**
+	 * @param prober the function to ping a world with
+	 * @param probeExecutor the executor to ping on, which bounds the number of pings in flight
+	 * @param scheduler the executor to deliver batches of results from
+	 * @param listener receives the results of sweeps
+	 */
+	WorldPinger(Prober prober, ExecutorService probeExecutor, ScheduledExecutorService scheduler, Consumer<List<WorldPing>> listener)
+	{
+		this.prober = prober;
+		this.probeExecutor = probeExecutor;
+		this.scheduler = scheduler;
+		this.listener = listener;
+	}
+
+	/**
+	 * Ping every world, delivering the results to the listener in batches as they arrive
+	 *
+	 * @param worlds worlds to ping
+	 * @return a future completed once every world has been pinged
+	 */
+	CompletableFuture<Void> sweep(Collection<World> worlds)
+	{
+		final CompletableFuture<?>[] futures = new CompletableFuture<?>[worlds.size()];
+		int i = 0;
+		for (World world : worlds)
+		{
+			futures[i++] = CompletableFuture.runAsync(() ->
+			{
+				final int sample = prober.ping(world);
+				log.trace("Ping for world {} is: {}", world.getId(), sample);
+				pending.add(new WorldPing(world.getId(), record(world.getId(), sample)));
+				if (flushScheduled.compareAndSet(false, true))
+				{
+					scheduler.schedule(this::flush, BATCH_DELAY_MS, TimeUnit.MILLISECONDS);
+				}
+			}, probeExecutor);
+		}
+		return CompletableFuture.allOf(futures);
+	}
+
+	/**
+	 * Ping a world on the calling thread
+	 *
+	 * @param world world
+	 * @return the round trip time of this ping, or -1 if the world did not respond
+	 */
+	int ping(World world)
+	{
+		final int sample = prober.ping(world);
+		record(world.getId(), sample);
+		return sample;
+	}
+
+	/**
+	 * Get the smoothed latency of a world
+	 *
+	 * @param world world id
+	 * @return the smoothed latency, -1 if the last ping failed, or null if the world has not been pinged
+	 */
+	Integer getPing(int world)
+	{
+		final Stats s = stats.get(world);
+		return s != null ? s.getPing() : null;
+	}
+
+	/**
+	 * Get the smoothed jitter of a world
+	 *
+	 * @param world world id
+	 * @return the smoothed difference between consecutive pings, in milliseconds
+	 */
+	double getJitter(int world)
+	{
+		final Stats s = stats.get(world);
+		if (s == null)
+		{
+			return 0;
+		}
+
+		synchronized (s)
+		{
+			return s.jitter;
+		}
+	}
+
+	private int record(int world, int sample)
+	{
+		return stats.computeIfAbsent(world, k -> new Stats()).record(sample);
+	}
+
+	private void flush()
+	{
+		flushScheduled.set(false);
+
+		final List<WorldPing> batch = new ArrayList<>();
+		for (WorldPing ping; (ping = pending.poll()) != null; )
+		{
+			batch.add(ping);
+		}
+
+		if (!batch.isEmpty())
+		{
+			listener.accept(batch);
+		}
+	}
+}
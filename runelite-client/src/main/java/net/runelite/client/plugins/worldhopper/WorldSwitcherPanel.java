@@ -32,6 +32,7 @@ import java.awt.GridLayout;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -160,6 +161,30 @@ class WorldSwitcherPanel extends PluginPanel
 		}
 	}
 
+	void updatePings(List<WorldPinger.WorldPing> pings)
+	{
+		Map<Integer, WorldTableRow> rowsByWorld = new HashMap<>(rows.size() * 4 / 3 + 1);
+		for (WorldTableRow worldTableRow : rows)
+		{
+			rowsByWorld.put(worldTableRow.getWorld().getId(), worldTableRow);
+		}
+
+		for (WorldPinger.WorldPing ping : pings)
+		{
+			WorldTableRow worldTableRow = rowsByWorld.get(ping.getWorld());
+			if (worldTableRow != null)
+			{
+				worldTableRow.setPing(ping.getPing());
+			}
+		}
+
+		// If the panel is sorted by ping, re-sort it once for the whole batch
+		if (orderIndex == WorldOrder.PING)
+		{
+			updateList();
+		}
+	}
+
 	void hidePing()
 	{
 		for (WorldTableRow worldTableRow : rows)
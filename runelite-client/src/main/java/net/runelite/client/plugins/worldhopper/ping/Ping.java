@@ -35,6 +35,7 @@ import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.net.UnknownHostException;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.util.OSType;
 import net.runelite.http.api.worlds.World;
@@ -47,7 +48,8 @@ public class Ping
 	private static final int PORT = 43594;
 	private static final int MAX_IPV4_HEADER_SIZE = 60;
 
-	private static short seq;
+	// pings run concurrently, each on its own socket
+	private static final AtomicInteger SEQ = new AtomicInteger();
 
 	public static int ping(World world)
 	{
@@ -149,7 +151,7 @@ public class Ping
 				throw new IOException("failed to set SO_SNDTIMEO");
 			}
 
-			short seqno = seq++;
+			short seqno = (short) SEQ.getAndIncrement();
 
 			// struct icmphdr
 			byte[] request = {
@@ -33,6 +33,7 @@ import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
 import lombok.AccessLevel;
 import lombok.Getter;
+import net.runelite.api.Client;
 import net.runelite.api.Experience;
 import static net.runelite.api.MenuAction.RUNELITE_OVERLAY_CONFIG;
 import net.runelite.api.Skill;
@@ -55,6 +56,7 @@ class XpInfoBoxOverlay extends OverlayPanel
 	private static final Rectangle XP_AND_ICON_COMPONENT_BORDER = new Rectangle(2, 1, 4, 0);
 
 	private final PanelComponent iconXpSplitPanel = new PanelComponent();
+	private final Client client;
 	private final XpTrackerPlugin plugin;
 	private final XpTrackerConfig config;
 
@@ -63,12 +65,14 @@ class XpInfoBoxOverlay extends OverlayPanel
 	private final BufferedImage icon;
 
 	XpInfoBoxOverlay(
+		Client client,
 		XpTrackerPlugin plugin,
 		XpTrackerConfig config,
 		Skill skill,
 		BufferedImage icon)
 	{
 		super(plugin);
+		this.client = client;
 		this.plugin = plugin;
 		this.config = config;
 		this.skill = skill;
@@ -78,6 +82,19 @@ class XpInfoBoxOverlay extends OverlayPanel
 		iconXpSplitPanel.setBorder(XP_AND_ICON_COMPONENT_BORDER);
 		iconXpSplitPanel.setBackgroundColor(null);
 		addMenuEntry(RUNELITE_OVERLAY_CONFIG, OPTION_CONFIGURE, "XP Tracker overlay");
+		setCached(true);
+	}
+
+	@Override
+	public long getContentVersion()
+	{
+		// xp only changes on game ticks, so rates and times are redrawn once per tick. The panel is also
+		// marked dirty when its background color changes.
+		long version = super.getContentVersion();
+		version = 31 * version + client.getTickCount();
+		version = 31 * version + config.onScreenDisplayMode().ordinal();
+		version = 31 * version + config.onScreenDisplayModeBottom().ordinal();
+		return version;
 	}
 
 	@Override
@@ -66,6 +66,7 @@ import static net.runelite.client.rs.ClientUpdateCheckMode.VANILLA;
 import net.runelite.client.ui.FatalErrorDialog;
 import net.runelite.client.ui.SplashScreen;
 import net.runelite.client.util.CountingInputStream;
+import net.runelite.client.util.StartupTimeline;
 import net.runelite.client.util.VerificationException;
 import net.runelite.http.api.worlds.World;
 import okhttp3.HttpUrl;
@@ -105,7 +106,10 @@ public class ClientLoader implements Supplier<Applet>
 	{
 		if (client == null)
 		{
-			client = doLoad();
+			try (var ignored = StartupTimeline.span("ClientLoader.doLoad"))
+			{
+				client = doLoad();
+			}
 		}
 
 		if (client instanceof Throwable)
@@ -125,7 +129,11 @@ public class ClientLoader implements Supplier<Applet>
 		try
 		{
 			SplashScreen.stage(0, null, "Fetching applet viewer config");
-			RSConfig config = downloadConfig();
+			RSConfig config;
+			try (var ignored = StartupTimeline.span("ClientLoader.downloadConfig"))
+			{
+				config = downloadConfig();
+			}
 
 			SplashScreen.stage(.05, null, "Waiting for other clients to start");
 
@@ -136,7 +144,7 @@ public class ClientLoader implements Supplier<Applet>
 				@SuppressWarnings("PMD.UnusedLocalVariable") FileLock flock = lockfile.lock())
 			{
 				SplashScreen.stage(.05, null, "Downloading Old School RuneScape");
-				try
+				try (var ignored = StartupTimeline.span("ClientLoader.updateVanilla"))
 				{
 					updateVanilla(config);
 				}
@@ -166,7 +174,10 @@ public class ClientLoader implements Supplier<Applet>
 				{
 					// create the classloader for the jar while we hold the lock, and eagerly load and link all classes
 					// in the jar. Otherwise the jar can change on disk and can break future classloads.
-					classLoader = createJarClassLoader(VANILLA_CACHE);
+					try (var ignored = StartupTimeline.span("ClientLoader.createJarClassLoader"))
+					{
+						classLoader = createJarClassLoader(VANILLA_CACHE);
+					}
 				}
 				else
 				{
@@ -176,7 +187,11 @@ public class ClientLoader implements Supplier<Applet>
 
 			SplashScreen.stage(.465, "Starting", "Starting Old School RuneScape");
 
-			Applet rs = loadClient(config, classLoader);
+			Applet rs;
+			try (var ignored = StartupTimeline.span("ClientLoader.loadClient"))
+			{
+				rs = loadClient(config, classLoader);
+			}
 
 			SplashScreen.stage(.5, null, "Starting core classes");
 
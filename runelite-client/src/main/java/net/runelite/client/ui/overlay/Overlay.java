@@ -92,6 +92,26 @@ public abstract class Overlay implements LayoutableRenderableEntity
 	@Setter(AccessLevel.PROTECTED)
 	private boolean snappable = true;
 
+	/**
+	 * Whether the rendered output of this overlay is cached between frames. A cached overlay is
+	 * only rendered again when its {@link #getContentVersion() content version}, preferred size,
+	 * or font changes; on other frames the previous output is drawn instead.
+	 * <p>
+	 * Cached overlays are rendered offscreen, so they must draw only within the dimension
+	 * returned from {@link #render(java.awt.Graphics2D)}, and should not rely on render being
+	 * called every frame, for example to add tooltips. Use {@link #onMouseOver()} for that instead.
+	 */
+	@Setter(AccessLevel.PROTECTED)
+	private boolean cached;
+
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	private volatile long dirtyCount;
+
+	@Getter(AccessLevel.PACKAGE)
+	@Setter(AccessLevel.NONE)
+	private final OverlayRenderCache renderCache = new OverlayRenderCache();
+
 	protected Overlay()
 	{
 		plugin = null;
@@ -205,6 +225,28 @@ public abstract class Overlay implements LayoutableRenderableEntity
 	{
 	}
 
+	/**
+	 * Get the version of the content of this overlay. For {@link #isCached() cached} overlays,
+	 * the overlay is rendered again whenever this changes. By default this changes each time
+	 * {@link #markDirty()} is called, but overlays may override it to derive a version from
+	 * their state instead, such as the game tick.
+	 *
+	 * @return the content version
+	 */
+	public long getContentVersion()
+	{
+		return dirtyCount;
+	}
+
+	/**
+	 * Mark the content of this overlay as changed, so that it is rendered again on the next frame
+	 * if it is {@link #isCached() cached}.
+	 */
+	public void markDirty()
+	{
+		++dirtyCount;
+	}
+
 	/**
 	 * Called when an overlay is dragged onto this, if dragTargetable is true.
 	 * Return true to consume the mouse event and prevent the other
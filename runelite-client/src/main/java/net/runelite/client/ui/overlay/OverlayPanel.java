@@ -27,6 +27,8 @@ package net.runelite.client.ui.overlay;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
+import java.util.Objects;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import net.runelite.client.plugins.Plugin;
@@ -53,6 +55,7 @@ public abstract class OverlayPanel extends Overlay
 	/**
 	 * Preferred color used for panel component background
 	 */
+	@Setter(AccessLevel.NONE)
 	private Color preferredColor = null;
 
 	protected OverlayPanel()
@@ -67,6 +70,15 @@ public abstract class OverlayPanel extends Overlay
 		setResizable(true);
 	}
 
+	public void setPreferredColor(Color preferredColor)
+	{
+		if (!Objects.equals(this.preferredColor, preferredColor))
+		{
+			this.preferredColor = preferredColor;
+			markDirty();
+		}
+	}
+
 	@Override
 	public Dimension render(final Graphics2D graphics)
 	{
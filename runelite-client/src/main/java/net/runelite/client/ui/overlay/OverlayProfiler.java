@@ -0,0 +1,307 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.LongSupplier;
+import javax.inject.Singleton;
+import lombok.Getter;
+import lombok.Value;
+
+/**
+ * Samples the time and memory spent rendering each overlay and overlay layer. Samples are kept
+ * in fixed size rolling windows, from which percentiles are computed on demand.
+ * <p>
+ * Layers and overlays can be rendered in several parts during a frame, such as the
+ * {@link OverlayLayer#ABOVE_WIDGETS} layer, which is rendered after each interface. The parts
+ * are summed and recorded as a single sample when the frame ends.
+ * <p>
+ * This is disabled by default. Samples are recorded and read on the client thread.
+ */
+@Singleton
+public class OverlayProfiler
+{
+	static final int WINDOW = 256;
+
+	@Value
+	public static class Stats
+	{
+		String name;
+		int samples;
+		long p50Nanos;
+		long p95Nanos;
+		long p99Nanos;
+		long maxNanos;
+		/**
+		 * mean bytes allocated per frame, or -1 if allocation counting is not supported
+		 */
+		long meanAllocatedBytes;
+	}
+
+	private static final class Samples
+	{
+		private final String name;
+		private final long[] nanos = new long[WINDOW];
+		private final long[] allocated = new long[WINDOW];
+		private int count;
+		private int pos;
+		// the total for the current frame
+		private long frameNanos;
+		private long frameAllocated;
+		private boolean inFrame;
+
+		Samples(String name)
+		{
+			this.name = name;
+		}
+
+		void accumulate(long nanos, long allocated)
+		{
+			frameNanos += nanos;
+			frameAllocated = allocated < 0 ? -1 : frameAllocated + allocated;
+			inFrame = true;
+		}
+
+		void endFrame()
+		{
+			if (inFrame)
+			{
+				add(frameNanos, frameAllocated);
+				frameNanos = 0;
+				frameAllocated = 0;
+				inFrame = false;
+			}
+		}
+
+		void add(long nanos, long allocated)
+		{
+			this.nanos[pos] = nanos;
+			this.allocated[pos] = allocated;
+			pos = (pos + 1) % WINDOW;
+			if (count < WINDOW)
+			{
+				++count;
+			}
+		}
+
+		Stats stats(long[] scratch)
+		{
+			System.arraycopy(nanos, 0, scratch, 0, count);
+			Arrays.sort(scratch, 0, count);
+
+			long totalAllocated = 0;
+			for (int i = 0; i < count; ++i)
+			{
+				totalAllocated += allocated[i];
+			}
+
+			return new Stats(name, count,
+				percentile(scratch, count, 50),
+				percentile(scratch, count, 95),
+				percentile(scratch, count, 99),
+				scratch[count - 1],
+				allocated[0] < 0 ? -1 : totalAllocated / count);
+		}
+	}
+
+	private final LongSupplier nanoTime;
+	private final com.sun.management.ThreadMXBean threadMXBean;
+	private final Map<Overlay, Samples> overlaySamples = new WeakHashMap<>();
+	private final Map<OverlayLayer, Samples> layerSamples = new EnumMap<>(OverlayLayer.class);
+	private final long[] scratch = new long[WINDOW];
+
+	@Getter
+	private volatile boolean enabled;
+
+	private long layerStartNanos;
+	private long layerStartAllocated;
+	private long overlayStartNanos;
+	private long overlayStartAllocated;
+
+	public OverlayProfiler()
+	{
+		this(System::nanoTime);
+	}
+
+	OverlayProfiler(LongSupplier nanoTime)
+	{
+		this.nanoTime = nanoTime;
+
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if (bean instanceof com.sun.management.ThreadMXBean
+			&& ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported())
+		{
+			threadMXBean = (com.sun.management.ThreadMXBean) bean;
+			threadMXBean.setThreadAllocatedMemoryEnabled(true);
+		}
+		else
+		{
+			threadMXBean = null;
+		}
+	}
+
+	/**
+	 * Enable or disable sampling. Enabling discards any previous samples, and so must be done
+	 * on the client thread.
+	 */
+	public void setEnabled(boolean enabled)
+	{
+		if (enabled && !this.enabled)
+		{
+			overlaySamples.clear();
+			layerSamples.clear();
+		}
+		this.enabled = enabled;
+	}
+
+	void beginLayer()
+	{
+		layerStartAllocated = allocatedBytes();
+		layerStartNanos = nanoTime.getAsLong();
+	}
+
+	void endLayer(OverlayLayer layer)
+	{
+		final long nanos = nanoTime.getAsLong() - layerStartNanos;
+		final long allocated = allocatedBytes();
+		layerSamples.computeIfAbsent(layer, l -> new Samples(l.name()))
+			.accumulate(nanos, allocated < 0 ? -1 : allocated - layerStartAllocated);
+	}
+
+	void beginOverlay()
+	{
+		overlayStartAllocated = allocatedBytes();
+		overlayStartNanos = nanoTime.getAsLong();
+	}
+
+	void endOverlay(Overlay overlay)
+	{
+		final long nanos = nanoTime.getAsLong() - overlayStartNanos;
+		final long allocated = allocatedBytes();
+		overlaySamples.computeIfAbsent(overlay, OverlayProfiler::overlayName)
+			.accumulate(nanos, allocated < 0 ? -1 : allocated - overlayStartAllocated);
+	}
+
+	/**
+	 * Record a sample for each layer and overlay rendered since the last frame
+	 */
+	void endFrame()
+	{
+		for (Samples s : layerSamples.values())
+		{
+			s.endFrame();
+		}
+		for (Samples s : overlaySamples.values())
+		{
+			s.endFrame();
+		}
+	}
+
+	private long allocatedBytes()
+	{
+		return threadMXBean != null ? threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId()) : -1;
+	}
+
+	private static Samples overlayName(Overlay overlay)
+	{
+		final String name = overlay.getPlugin() != null
+			? overlay.getPlugin().getName() + " - " + overlay.getName()
+			: overlay.getName();
+		return new Samples(name);
+	}
+
+	/**
+	 * Get the overlay stats, slowest first by 95th percentile
+	 */
+	public List<Stats> getOverlayStats()
+	{
+		return stats(overlaySamples);
+	}
+
+	/**
+	 * Get the layer stats, slowest first by 95th percentile
+	 */
+	public List<Stats> getLayerStats()
+	{
+		return stats(layerSamples);
+	}
+
+	private List<Stats> stats(Map<?, Samples> samples)
+	{
+		final List<Stats> stats = new ArrayList<>(samples.size());
+		for (Samples s : samples.values())
+		{
+			// skip anything rendered for the first time in the current frame
+			if (s.count > 0)
+			{
+				stats.add(s.stats(scratch));
+			}
+		}
+		stats.sort(Comparator.comparingLong(Stats::getP95Nanos).reversed());
+		return stats;
+	}
+
+	/**
+	 * Format the current stats as a table, for exporting
+	 */
+	public String report()
+	{
+		final StringBuilder sb = new StringBuilder();
+		sb.append(String.format("%-60s %8s %10s %10s %10s %10s %12s%n",
+			"name", "samples", "p50 us", "p95 us", "p99 us", "max us", "alloc bytes"));
+		for (Stats s : getLayerStats())
+		{
+			appendRow(sb, s);
+		}
+		sb.append(System.lineSeparator());
+		for (Stats s : getOverlayStats())
+		{
+			appendRow(sb, s);
+		}
+		return sb.toString();
+	}
+
+	private static void appendRow(StringBuilder sb, Stats s)
+	{
+		sb.append(String.format("%-60s %8d %10.1f %10.1f %10.1f %10.1f %12d%n",
+			s.getName(), s.getSamples(),
+			s.getP50Nanos() / 1000.0, s.getP95Nanos() / 1000.0, s.getP99Nanos() / 1000.0, s.getMaxNanos() / 1000.0,
+			s.getMeanAllocatedBytes()));
+	}
+
+	private static long percentile(long[] sorted, int count, int percentile)
+	{
+		// nearest rank
+		final int rank = (percentile * count + 99) / 100;
+		return sorted[Math.max(rank, 1) - 1];
+	}
+}
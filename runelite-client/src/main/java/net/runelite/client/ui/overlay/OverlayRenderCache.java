@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay;
+
+import java.awt.AlphaComposite;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.Objects;
+import javax.annotation.Nullable;
+import lombok.Getter;
+
+/**
+ * The offscreen output of a cached {@link Overlay} and the state it was rendered with
+ */
+class OverlayRenderCache
+{
+	private static final int MIN_SIZE = 64;
+
+	private BufferedImage image;
+	private boolean valid;
+	private long version;
+	private Font font;
+	@Nullable
+	private Dimension preferredSize;
+	@Getter
+	private int width;
+	@Getter
+	private int height;
+
+	boolean isValid(long version, Font font, @Nullable Dimension preferredSize)
+	{
+		return valid
+			&& this.version == version
+			&& this.font == font
+			&& Objects.equals(this.preferredSize, preferredSize);
+	}
+
+	void invalidate()
+	{
+		valid = false;
+		image = null;
+	}
+
+	/**
+	 * Render the overlay into the cache image. If the overlay turns out to be larger than the
+	 * image, the image is grown and the overlay rendered a second time.
+	 */
+	void render(Overlay overlay, long version, Font font, RenderingHints hints)
+	{
+		final Dimension preferredSize = overlay.getPreferredSize();
+		int w = Math.max(MIN_SIZE, Math.max(width, preferredSize != null ? preferredSize.width : 0));
+		int h = Math.max(MIN_SIZE, Math.max(height, preferredSize != null ? preferredSize.height : 0));
+
+		valid = false;
+		Dimension dimension = renderImage(overlay, w, h, font, hints);
+		if (dimension != null && (dimension.width > image.getWidth() || dimension.height > image.getHeight()))
+		{
+			dimension = renderImage(overlay, Math.max(w, dimension.width), Math.max(h, dimension.height), font, hints);
+		}
+
+		this.version = version;
+		this.font = font;
+		this.preferredSize = preferredSize != null ? new Dimension(preferredSize) : null;
+		// anything drawn outside of the image is lost, so never claim more than it holds
+		width = dimension != null ? Math.max(0, Math.min(dimension.width, image.getWidth())) : 0;
+		height = dimension != null ? Math.max(0, Math.min(dimension.height, image.getHeight())) : 0;
+		valid = true;
+	}
+
+	private Dimension renderImage(Overlay overlay, int w, int h, Font font, RenderingHints hints)
+	{
+		if (image == null || image.getWidth() < w || image.getHeight() < h)
+		{
+			image = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+		}
+
+		final Graphics2D graphics = image.createGraphics();
+		try
+		{
+			graphics.setComposite(AlphaComposite.Clear);
+			graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+			graphics.setComposite(AlphaComposite.SrcOver);
+			graphics.setRenderingHints(hints);
+			graphics.setFont(font);
+			return overlay.render(graphics);
+		}
+		finally
+		{
+			graphics.dispose();
+		}
+	}
+
+	void draw(Graphics2D graphics, int x, int y)
+	{
+		if (width > 0 && height > 0)
+		{
+			graphics.drawImage(image, x, y, x + width, y + height, 0, 0, width, height, null);
+		}
+	}
+}
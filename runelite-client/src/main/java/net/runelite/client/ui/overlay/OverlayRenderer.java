@@ -30,6 +30,7 @@ import java.awt.Color;
 import java.awt.Composite;
 import java.awt.Cursor;
 import java.awt.Dimension;
+import java.awt.Font;
 import java.awt.Graphics2D;
 import java.awt.Paint;
 import java.awt.Point;
@@ -95,6 +96,7 @@ public class OverlayRenderer extends MouseAdapter
 	private final ClientUI clientUI;
 	private final EventBus eventBus;
 	private final ChatMessageManager chatMessageManager;
+	private final OverlayProfiler profiler;
 
 	// Overlay movement variables
 	private final Point overlayOffset = new Point();
@@ -126,7 +128,8 @@ public class OverlayRenderer extends MouseAdapter
 		final KeyManager keyManager,
 		final ClientUI clientUI,
 		final EventBus eventBus,
-		final ChatMessageManager chatMessageManager
+		final ChatMessageManager chatMessageManager,
+		final OverlayProfiler profiler
 	)
 	{
 		this.client = client;
@@ -135,6 +138,7 @@ public class OverlayRenderer extends MouseAdapter
 		this.clientUI = clientUI;
 		this.eventBus = eventBus;
 		this.chatMessageManager = chatMessageManager;
+		this.profiler = profiler;
 
 		HotkeyListener hotkeyListener = new HotkeyListener(runeLiteConfig::dragHotkey)
 		{
@@ -216,6 +220,11 @@ public class OverlayRenderer extends MouseAdapter
 	{
 		curHoveredOverlay = null;
 
+		if (profiler.isEnabled())
+		{
+			profiler.endFrame();
+		}
+
 		if (client.getGameState() == GameState.LOGGED_IN)
 		{
 
@@ -260,6 +269,12 @@ public class OverlayRenderer extends MouseAdapter
 			return;
 		}
 
+		final boolean profile = profiler.isEnabled();
+		if (profile)
+		{
+			profiler.beginLayer();
+		}
+
 		OverlayUtil.setGraphicProperties(graphics);
 
 		// Draw snap corners
@@ -325,7 +340,25 @@ public class OverlayRenderer extends MouseAdapter
 				bounds.setSize(overlay.getPreferredSize());
 			}
 
-			safeRender(overlay, graphics, location);
+			if (profile)
+			{
+				profiler.beginOverlay();
+			}
+
+			final boolean cached = overlay.isCached();
+			if (cached)
+			{
+				cachedRender(overlay, graphics, location, renderingHints);
+			}
+			else
+			{
+				safeRender(overlay, graphics, location);
+			}
+
+			if (profile)
+			{
+				profiler.endOverlay(overlay);
+			}
 
 			// Adjust snap corner based on where the overlay was drawn
 			if (snapCorner != null && bounds.width + bounds.height > 0)
@@ -333,16 +366,20 @@ public class OverlayRenderer extends MouseAdapter
 				OverlayUtil.shiftSnapCorner(overlayPosition, snapCorner, bounds, PADDING);
 			}
 
-			// Restore graphics2d properties prior to drawing bounds
-			graphics.setTransform(transform);
-			graphics.setStroke(stroke);
-			graphics.setComposite(composite);
-			graphics.setPaint(paint);
-			graphics.setRenderingHints(renderingHints);
-			graphics.setBackground(background);
-			if (!graphics.getClip().equals(clip))
+			// Restore graphics2d properties prior to drawing bounds. Cached overlays are rendered
+			// offscreen and so don't modify them.
+			if (!cached)
 			{
-				graphics.setClip(clip);
+				graphics.setTransform(transform);
+				graphics.setStroke(stroke);
+				graphics.setComposite(composite);
+				graphics.setPaint(paint);
+				graphics.setRenderingHints(renderingHints);
+				graphics.setBackground(background);
+				if (!graphics.getClip().equals(clip))
+				{
+					graphics.setClip(clip);
+				}
 			}
 
 			if (!bounds.isEmpty())
@@ -382,6 +419,11 @@ public class OverlayRenderer extends MouseAdapter
 				}
 			}
 		}
+
+		if (profile)
+		{
+			profiler.endLayer(layer);
+		}
 	}
 
 	@Override
@@ -707,24 +749,54 @@ public class OverlayRenderer extends MouseAdapter
 		}
 	}
 
-	private void safeRender(Overlay overlay, Graphics2D graphics, Point point)
+	private Font getFont(Overlay overlay)
 	{
 		final OverlayPosition position = overlay.getPosition();
 
 		// Set font based on configuration
 		if (position == OverlayPosition.DYNAMIC || position == OverlayPosition.DETACHED)
 		{
-			graphics.setFont(runeLiteConfig.fontType().getFont());
+			return runeLiteConfig.fontType().getFont();
 		}
 		else if (position == OverlayPosition.TOOLTIP)
 		{
-			graphics.setFont(runeLiteConfig.tooltipFontType().getFont());
+			return runeLiteConfig.tooltipFontType().getFont();
 		}
 		else
 		{
-			graphics.setFont(runeLiteConfig.interfaceFontType().getFont());
+			return runeLiteConfig.interfaceFontType().getFont();
 		}
+	}
+
+	private void cachedRender(Overlay overlay, Graphics2D graphics, Point point, RenderingHints renderingHints)
+	{
+		final OverlayRenderCache cache = overlay.getRenderCache();
+		final Font font = getFont(overlay);
+		final long version = overlay.getContentVersion();
+
+		overlay.getBounds().setLocation(point);
 
+		if (!cache.isValid(version, font, overlay.getPreferredSize()))
+		{
+			try
+			{
+				cache.render(overlay, version, font, renderingHints);
+			}
+			catch (Exception ex)
+			{
+				log.warn(DEDUPLICATE, "Error during overlay rendering", ex);
+				cache.invalidate();
+				return;
+			}
+		}
+
+		cache.draw(graphics, point.x, point.y);
+		overlay.getBounds().setSize(cache.getWidth(), cache.getHeight());
+	}
+
+	private void safeRender(Overlay overlay, Graphics2D graphics, Point point)
+	{
+		graphics.setFont(getFont(overlay));
 		graphics.translate(point.x, point.y);
 		overlay.getBounds().setLocation(point);
 
@@ -32,17 +32,23 @@ import java.awt.Font;
 import java.awt.Graphics2D;
 import java.awt.Point;
 import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.CopyOnWriteArrayList;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NonNull;
 import net.runelite.api.Client;
 import net.runelite.api.MenuAction;
+import net.runelite.api.events.BeforeRender;
 import net.runelite.api.events.MenuOptionClicked;
 import net.runelite.client.config.RuneLiteConfig;
 import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.events.ConfigChanged;
 import net.runelite.client.events.InfoBoxMenuClicked;
 import net.runelite.client.ui.overlay.Overlay;
 import net.runelite.client.ui.overlay.OverlayMenuEntry;
@@ -72,6 +78,18 @@ public class InfoBoxOverlay extends OverlayPanel
 
 	private InfoBoxComponent hoveredComponent;
 
+	@AllArgsConstructor
+	private static class RenderedInfoBox
+	{
+		private final InfoBox infoBox;
+		private final String text;
+		private final Color color;
+		private final BufferedImage image;
+	}
+
+	// the infoboxes as they were last rendered
+	private final List<RenderedInfoBox> rendered = new ArrayList<>();
+
 	InfoBoxOverlay(
 		InfoBoxManager infoboxManager,
 		TooltipManager tooltipManager,
@@ -91,6 +109,7 @@ public class InfoBoxOverlay extends OverlayPanel
 		setPosition(OverlayPosition.TOP_LEFT);
 		setClearChildren(false);
 		setDragTargetable(true);
+		setCached(true);
 
 		panelComponent.setWrap(true);
 		panelComponent.setBackgroundColor(null);
@@ -105,13 +124,50 @@ public class InfoBoxOverlay extends OverlayPanel
 	}
 
 	@Override
-	public Dimension render(Graphics2D graphics)
+	public long getContentVersion()
 	{
-		final boolean menuOpen = client.isMenuOpen();
-		if (!menuOpen)
+		// Infobox text is mostly derived from the current time rather than set, so the infoboxes are
+		// compared against what was last rendered. Config and orientation changes mark this dirty.
+		if (infoBoxesChanged())
 		{
-			hoveredComponent = null;
+			markDirty();
 		}
+		return super.getContentVersion();
+	}
+
+	private boolean infoBoxesChanged()
+	{
+		int i = 0;
+		for (InfoBox box : infoBoxes)
+		{
+			if (!box.render())
+			{
+				continue;
+			}
+
+			if (i == rendered.size())
+			{
+				return true;
+			}
+
+			final RenderedInfoBox r = rendered.get(i++);
+			if (r.infoBox != box
+				|| r.image != box.getScaledImage()
+				|| !Objects.equals(r.text, box.getText())
+				|| !Objects.equals(r.color, box.getTextColor()))
+			{
+				return true;
+			}
+		}
+		return i != rendered.size();
+	}
+
+	@Override
+	public Dimension render(Graphics2D graphics)
+	{
+		// The children are kept after rendering for hover detection
+		panelComponent.getChildren().clear();
+		rendered.clear();
 
 		if (infoBoxes.isEmpty())
 		{
@@ -144,18 +200,23 @@ public class InfoBoxOverlay extends OverlayPanel
 			{
 				infoBoxComponent.setColor(color);
 			}
+			final BufferedImage image = box.getScaledImage();
 			infoBoxComponent.setOutline(infoBoxTextOutline);
-			infoBoxComponent.setImage(box.getScaledImage());
-			infoBoxComponent.setTooltip(box.getTooltip());
+			infoBoxComponent.setImage(image);
 			infoBoxComponent.setPreferredSize(preferredSize);
 			infoBoxComponent.setBackgroundColor(overlayBackgroundColor);
 			infoBoxComponent.setInfoBox(box);
 			panelComponent.getChildren().add(infoBoxComponent);
+			rendered.add(new RenderedInfoBox(box, text, color, image));
 		}
 
-		final Dimension dimension = super.render(graphics);
+		return super.render(graphics);
+	}
 
-		// Handle tooltips
+	@Override
+	public void onMouseOver()
+	{
+		// This overlay is cached, so tooltips are handled here rather than in render
 		final Point mouse = new Point(client.getMouseCanvasPosition().getX(), client.getMouseCanvasPosition().getY());
 
 		for (final LayoutableRenderableEntity child : panelComponent.getChildren())
@@ -168,22 +229,35 @@ public class InfoBoxOverlay extends OverlayPanel
 
 			if (intersectionRectangle.contains(mouse))
 			{
-				final String tooltip = component.getTooltip();
+				// Tooltips can change without the infobox being rendered again, so always get them from the infobox
+				final String tooltip = component.getInfoBox().getTooltip();
 				if (!Strings.isNullOrEmpty(tooltip))
 				{
 					tooltipManager.add(new Tooltip(tooltip));
 				}
 
-				if (!menuOpen)
-				{
-					hoveredComponent = component;
-				}
+				hoveredComponent = component;
 				break;
 			}
 		}
+	}
 
-		panelComponent.getChildren().clear();
-		return dimension;
+	@Subscribe
+	public void onConfigChanged(ConfigChanged configChanged)
+	{
+		if (RuneLiteConfig.GROUP_NAME.equals(configChanged.getGroup()))
+		{
+			markDirty();
+		}
+	}
+
+	@Subscribe
+	public void onBeforeRender(BeforeRender beforeRender)
+	{
+		if (!client.isMenuOpen())
+		{
+			hoveredComponent = null;
+		}
 	}
 
 	@Override
@@ -226,6 +300,7 @@ public class InfoBoxOverlay extends OverlayPanel
 
 	ComponentOrientation flip()
 	{
+		markDirty();
 		return orientation = orientation == ComponentOrientation.HORIZONTAL ? ComponentOrientation.VERTICAL : ComponentOrientation.HORIZONTAL;
 	}
 }
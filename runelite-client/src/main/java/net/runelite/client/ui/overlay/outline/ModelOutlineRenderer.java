@@ -24,6 +24,7 @@
  */
 package net.runelite.client.ui.overlay.outline;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import java.awt.Color;
@@ -33,6 +34,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -77,12 +81,29 @@ public class ModelOutlineRenderer
 	private static final int MAX_FEATHER = 4;
 	private static final int DIRECT_WRITE_OUTLINE_WIDTH_THRESHOLD = 10;
 
+	// Large outlines are split into at most this many bands of rows which are drawn concurrently.
+	private static final int MAX_BANDS = 4;
+	// Bands smaller than this many pixels aren't worth handing off to another thread.
+	private static final int MIN_BAND_PIXELS = 1 << 15;
+
 	private final Client client;
+	private final int maxBands;
+	private final int minBandPixels;
+
+	// Draws every band except the first, which is drawn by the calling thread.
+	private final ForkJoinPool pool;
 
 	// Vertex positions projected on the screen.
 	private final int[] projectedVerticesX = new int[6500];
 	private final int[] projectedVerticesY = new int[6500];
 
+	// Faces of the model being outlined.
+	private int faceCount;
+	private int[] faceIndices1;
+	private int[] faceIndices2;
+	private int[] faceIndices3;
+	private byte[] faceTransparencies;
+
 	// Window boundaries for the ingame world
 	private int clipX1;
 	private int clipY1;
@@ -97,18 +118,14 @@ public class ModelOutlineRenderer
 	private int croppedWidth;
 	private int croppedHeight;
 
-	// Bitset with pixel positions that would be rendered to within the cropped area by the model.
-	private int[] visited = new int[0];
-
-	// Memory used for queueing the pixels for the outline of the model.
-	// Pixels are grouped by x and y distance to the closest pixel drawn on the model.
-	// A block buffer is used so memory can be reused after a group has been processed
-	// without using the JVM garbage collector.
-	private final IntBlockBuffer outlinePixelsBlockBuffer = new IntBlockBuffer();
-	private int[][] outlinePixelsBlockIndices = new int[0][];
-	private int[] outlinePixelsBlockIndicesLengths = new int[0];
-	private int[] outlinePixelsLastBlockLength;
+	// The outline being drawn and the image it is drawn to.
+	private int[] imageData;
+	private int imageWidth;
+	private int outlineWidth;
+	private Color outlineColor;
+	private boolean directWrite;
 	private int outlineArrayWidth;
+	private PixelDistanceGroupIndex[] priorityList;
 
 	// An array of pixel group indices ordered by distance for each outline width and feather.
 	// These are calculated once upon first usage and then stored here to skip reevaluation.
@@ -118,10 +135,29 @@ public class ModelOutlineRenderer
 	// These are calculated once upon first usage and then stored here to skip reevaluation.
 	private PixelDistanceDelta[][][] precomputedDistanceDeltas = new PixelDistanceDelta[0][][];
 
+	// Bands are kept between outlines so their buffers can be reused.
+	private final List<OutlineBand> bands = new ArrayList<>();
+
 	@Inject
 	private ModelOutlineRenderer(Client client)
+	{
+		this(client, Math.min(MAX_BANDS, Runtime.getRuntime().availableProcessors()), MIN_BAND_PIXELS);
+	}
+
+	@VisibleForTesting
+	ModelOutlineRenderer(Client client, int maxBands, int minBandPixels)
 	{
 		this.client = client;
+		this.maxBands = maxBands;
+		this.minBandPixels = minBandPixels;
+		this.pool = maxBands > 1 ? new ForkJoinPool(maxBands - 1, ModelOutlineRenderer::newWorkerThread, null, false) : null;
+	}
+
+	private static ForkJoinWorkerThread newWorkerThread(ForkJoinPool pool)
+	{
+		ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+		thread.setName("outline-renderer-" + thread.getPoolIndex());
+		return thread;
 	}
 
 	/**
@@ -253,636 +289,732 @@ public class ModelOutlineRenderer
 	}
 
 	/**
-	 * Enqueues a pixel for outlining.
-	 *
-	 * @param distanceGroupIndex The group index to enqueue the pixel into.
-	 * @param x The x position of the pixel.
-	 * @param y The y position of the pixel.
+	 * A horizontal band of the outline. Each band rasterizes the model into its own bitset
+	 * and only draws to its own rows of the image, so bands can be drawn concurrently.
+	 * The model is also rasterized and outlined in the rows just outside of the band,
+	 * since the outline of the model there can reach into the band.
 	 */
-	private void enqueueOutlinePixel(int distanceGroupIndex, int x, int y)
+	private class OutlineBand implements Runnable
 	{
-		if (outlinePixelsLastBlockLength[distanceGroupIndex] == IntBlockBuffer.BLOCK_SIZE)
-		{
-			int minimumBlockIndicesSize = outlinePixelsBlockIndicesLengths[distanceGroupIndex] + 1;
-			if (minimumBlockIndicesSize > outlinePixelsBlockIndices[distanceGroupIndex].length)
+		// Rows drawn to by this band
+		private int drawY1;
+		private int drawY2;
+
+		// Rows rasterized and outlined by this band
+		private int bandY1;
+		private int bandY2;
+		private int bandHeight;
+
+		// Bitset with pixel positions that would be rendered to within the band by the model.
+		private int[] visited = new int[0];
+
+		// Memory used for queueing the pixels for the outline of the model.
+		// Pixels are grouped by x and y distance to the closest pixel drawn on the model.
+		// A block buffer is used so memory can be reused after a group has been processed
+		// without using the JVM garbage collector.
+		private final IntBlockBuffer outlinePixelsBlockBuffer = new IntBlockBuffer();
+		private int[][] outlinePixelsBlockIndices = new int[0][];
+		private int[] outlinePixelsBlockIndicesLengths = new int[0];
+		private int[] outlinePixelsLastBlockLength;
+
+		/**
+		 * Sets the rows of the band.
+		 *
+		 * @param drawY1 The first row drawn to by the band.
+		 * @param drawY2 The row after the last row drawn to by the band.
+		 * @param margin The amount of rows to rasterize and outline above and below the drawn rows.
+		 */
+		private void setRows(int drawY1, int drawY2, int margin)
+		{
+			this.drawY1 = drawY1;
+			this.drawY2 = drawY2;
+			bandY1 = Math.max(drawY1 - margin, croppedY1);
+			bandY2 = Math.min(drawY2 + margin, croppedY2);
+			bandHeight = bandY2 - bandY1;
+		}
+
+		@Override
+		public void run()
+		{
+			resetVisited(croppedWidth * bandHeight);
+
+			simulateModelRasterizationForOutline();
+
+			if (directWrite)
 			{
-				outlinePixelsBlockIndices[distanceGroupIndex] = Arrays.copyOf(
-					outlinePixelsBlockIndices[distanceGroupIndex],
-					nextPowerOfTwo(minimumBlockIndicesSize));
+				processInitialOutlinePixels();
+				return;
 			}
-			outlinePixelsBlockIndices[distanceGroupIndex][outlinePixelsBlockIndicesLengths[distanceGroupIndex]] =
-				outlinePixelsBlockBuffer.useNewBlock();
-			outlinePixelsBlockIndicesLengths[distanceGroupIndex]++;
-			outlinePixelsLastBlockLength[distanceGroupIndex] = 0;
-		}
-
-		int[] memory = outlinePixelsBlockBuffer.getMemory();
-		int block = outlinePixelsBlockIndices[distanceGroupIndex][outlinePixelsBlockIndicesLengths[distanceGroupIndex] - 1];
-		int blockPos = outlinePixelsLastBlockLength[distanceGroupIndex]++;
-		memory[(block << IntBlockBuffer.BLOCK_BITS) + blockPos] = (y << 16) | x;
-	}
 
-	/**
-	 * Checks that the visited bitset is big enough to hold a certain amount of pixels and sets them to 0.
-	 *
-	 * @param pixelAmount The amount of pixels needed.
-	 */
-	private void resetVisited(int pixelAmount)
-	{
-		int size = (pixelAmount >>> 5);
-		if (visited.length < size)
-		{
-			visited = new int[nextPowerOfTwo(size)];
+			initializeOutlineBuffers();
+			try
+			{
+				processInitialOutlinePixels();
+				processOutlinePixelQueue();
+			}
+			finally
+			{
+				freeAllBlockMemory();
+			}
 		}
-		Arrays.fill(visited, 0, size, 0);
-	}
 
-	/**
-	 * Ensures that the outline buffer arrays are large enough to fit the current outline.
-	 */
-	private void initializeOutlineBuffers()
-	{
-		int arraySizes = outlineArrayWidth * outlineArrayWidth;
-		if (outlinePixelsBlockIndicesLengths.length < arraySizes)
+		/**
+		 * Enqueues a pixel for outlining.
+		 *
+		 * @param distanceGroupIndex The group index to enqueue the pixel into.
+		 * @param x The x position of the pixel.
+		 * @param y The y position of the pixel.
+		 */
+		private void enqueueOutlinePixel(int distanceGroupIndex, int x, int y)
 		{
-			outlinePixelsBlockIndices = new int[arraySizes][];
-			outlinePixelsBlockIndicesLengths = new int[arraySizes];
-			outlinePixelsLastBlockLength = new int[arraySizes];
-			for (int i = 0; i < arraySizes; i++)
+			if (outlinePixelsLastBlockLength[distanceGroupIndex] == IntBlockBuffer.BLOCK_SIZE)
 			{
-				outlinePixelsBlockIndices[i] = new int[0];
+				int minimumBlockIndicesSize = outlinePixelsBlockIndicesLengths[distanceGroupIndex] + 1;
+				if (minimumBlockIndicesSize > outlinePixelsBlockIndices[distanceGroupIndex].length)
+				{
+					outlinePixelsBlockIndices[distanceGroupIndex] = Arrays.copyOf(
+						outlinePixelsBlockIndices[distanceGroupIndex],
+						nextPowerOfTwo(minimumBlockIndicesSize));
+				}
+				outlinePixelsBlockIndices[distanceGroupIndex][outlinePixelsBlockIndicesLengths[distanceGroupIndex]] =
+					outlinePixelsBlockBuffer.useNewBlock();
+				outlinePixelsBlockIndicesLengths[distanceGroupIndex]++;
+				outlinePixelsLastBlockLength[distanceGroupIndex] = 0;
 			}
-		}
 
-		for (int i = 0; i < arraySizes; i++)
-		{
-			outlinePixelsLastBlockLength[i] = IntBlockBuffer.BLOCK_SIZE;
+			int[] memory = outlinePixelsBlockBuffer.getMemory();
+			int block = outlinePixelsBlockIndices[distanceGroupIndex][outlinePixelsBlockIndicesLengths[distanceGroupIndex] - 1];
+			int blockPos = outlinePixelsLastBlockLength[distanceGroupIndex]++;
+			memory[(block << IntBlockBuffer.BLOCK_BITS) + blockPos] = (y << 16) | x;
 		}
-	}
 
-	/**
-	 * Frees all blocks currently in use by the outline block buffer.
-	 */
-	private void freeAllBlockMemory()
-	{
-		for (int i = 0; i < outlineArrayWidth * outlineArrayWidth; i++)
+		/**
+		 * Checks that the visited bitset is big enough to hold a certain amount of pixels and sets them to 0.
+		 *
+		 * @param pixelAmount The amount of pixels needed.
+		 */
+		private void resetVisited(int pixelAmount)
 		{
-			while (outlinePixelsBlockIndicesLengths[i] > 0)
+			int size = (pixelAmount >>> 5);
+			if (visited.length < size)
 			{
-				outlinePixelsBlockIndicesLengths[i]--;
-				outlinePixelsBlockBuffer.freeBlock(outlinePixelsBlockIndices[i][outlinePixelsBlockIndicesLengths[i]]);
+				visited = new int[nextPowerOfTwo(size)];
 			}
-			outlinePixelsLastBlockLength[i] = IntBlockBuffer.BLOCK_SIZE;
+			Arrays.fill(visited, 0, size, 0);
 		}
-	}
 
-	/**
-	 * Simulates a horizontal line rasterization and marks pixels visited.
-	 *
-	 * @param pixelY The y position of the line
-	 * @param x1 The starting x position
-	 * @param x2 The ending x position
-	 */
-	private void simulateHorizontalLineRasterizationForOutline(int pixelY, int x1, int x2)
-	{
-		if (x2 > clipX2)
-		{
-			x2 = clipX2;
-		}
-		if (x1 < clipX1)
-		{
-			x1 = clipX1;
-		}
-		if (x1 >= x2)
+		/**
+		 * Ensures that the outline buffer arrays are large enough to fit the current outline.
+		 */
+		private void initializeOutlineBuffers()
 		{
-			return;
-		}
+			int arraySizes = outlineArrayWidth * outlineArrayWidth;
+			if (outlinePixelsBlockIndicesLengths.length < arraySizes)
+			{
+				outlinePixelsBlockIndices = new int[arraySizes][];
+				outlinePixelsBlockIndicesLengths = new int[arraySizes];
+				outlinePixelsLastBlockLength = new int[arraySizes];
+				for (int i = 0; i < arraySizes; i++)
+				{
+					outlinePixelsBlockIndices[i] = new int[0];
+				}
+			}
 
-		int pixelPos1 = (pixelY - croppedY1) * croppedWidth + (x1 - croppedX1);
-		int pixelPos2 = pixelPos1 + x2 - x1;
-		int pixelPosIndex1 = pixelPos1 >> 5;
-		int pixelPosIndex2 = pixelPos2 >> 5;
-		if (pixelPosIndex1 == pixelPosIndex2)
-		{
-			visited[pixelPosIndex1] |= ((1 << (pixelPos2 & 31)) - 1) ^ ((1 << (pixelPos1 & 31)) - 1);
-		}
-		else
-		{
-			visited[pixelPosIndex1] |= -(1 << (pixelPos1 & 31));
-			visited[pixelPosIndex2] |= (1 << (pixelPos2 & 31)) - 1;
-			for (int i = pixelPosIndex1 + 1; i < pixelPosIndex2; i++)
+			for (int i = 0; i < arraySizes; i++)
 			{
-				visited[i] = 0xFFFFFFFF;
+				outlinePixelsLastBlockLength[i] = IntBlockBuffer.BLOCK_SIZE;
 			}
 		}
-	}
 
-	/**
-	 * Simulates rasterization of a triangle and marks pixels visited.
-	 *
-	 * @param x1 The x position of the first vertex in the triangle
-	 * @param y1 The y position of the first vertex in the triangle
-	 * @param x2 The x position of the second vertex in the triangle
-	 * @param y2 The y position of the second vertex in the triangle
-	 * @param x3 The x position of the third vertex in the triangle
-	 * @param y3 The y position of the third vertex in the triangle
-	 */
-	private void simulateTriangleRasterizationForOutline(
-		int x1, int y1, int x2, int y2, int x3, int y3)
-	{
-		// Swap vertices so y1 <= y2 <= y3 using bubble sort
-		if (y1 > y2)
-		{
-			int yp = y1;
-			int xp = x1;
-			y1 = y2;
-			y2 = yp;
-			x1 = x2;
-			x2 = xp;
-		}
-		if (y2 > y3)
+		/**
+		 * Frees all blocks currently in use by the outline block buffer.
+		 */
+		private void freeAllBlockMemory()
 		{
-			int yp = y2;
-			int xp = x2;
-			y2 = y3;
-			y3 = yp;
-			x2 = x3;
-			x3 = xp;
-		}
-		if (y1 > y2)
-		{
-			int yp = y1;
-			int xp = x1;
-			y1 = y2;
-			y2 = yp;
-			x1 = x2;
-			x2 = xp;
+			for (int i = 0; i < outlineArrayWidth * outlineArrayWidth; i++)
+			{
+				while (outlinePixelsBlockIndicesLengths[i] > 0)
+				{
+					outlinePixelsBlockIndicesLengths[i]--;
+					outlinePixelsBlockBuffer.freeBlock(outlinePixelsBlockIndices[i][outlinePixelsBlockIndicesLengths[i]]);
+				}
+				outlinePixelsLastBlockLength[i] = IntBlockBuffer.BLOCK_SIZE;
+			}
 		}
 
-		if (y1 > clipY2)
+		/**
+		 * Simulates a horizontal line rasterization and marks pixels visited.
+		 *
+		 * @param pixelY The y position of the line
+		 * @param x1 The starting x position
+		 * @param x2 The ending x position
+		 */
+		private void simulateHorizontalLineRasterizationForOutline(int pixelY, int x1, int x2)
 		{
-			// All points are outside clip boundaries
-			return;
-		}
+			if (x2 > clipX2)
+			{
+				x2 = clipX2;
+			}
+			if (x1 < clipX1)
+			{
+				x1 = clipX1;
+			}
+			if (x1 >= x2)
+			{
+				return;
+			}
 
-		int slope1 = 0;
-		if (y1 != y2)
-		{
-			slope1 = (x2 - x1 << 14) / (y2 - y1);
+			int pixelPos1 = (pixelY - bandY1) * croppedWidth + (x1 - croppedX1);
+			int pixelPos2 = pixelPos1 + x2 - x1;
+			int pixelPosIndex1 = pixelPos1 >> 5;
+			int pixelPosIndex2 = pixelPos2 >> 5;
+			if (pixelPosIndex1 == pixelPosIndex2)
+			{
+				visited[pixelPosIndex1] |= ((1 << (pixelPos2 & 31)) - 1) ^ ((1 << (pixelPos1 & 31)) - 1);
+			}
+			else
+			{
+				visited[pixelPosIndex1] |= -(1 << (pixelPos1 & 31));
+				visited[pixelPosIndex2] |= (1 << (pixelPos2 & 31)) - 1;
+				for (int i = pixelPosIndex1 + 1; i < pixelPosIndex2; i++)
+				{
+					visited[i] = 0xFFFFFFFF;
+				}
+			}
 		}
 
-		int slope2 = 0;
-		if (y3 != y2)
-		{
-			slope2 = (x3 - x2 << 14) / (y3 - y2);
-		}
+		/**
+		 * Simulates rasterization of a triangle and marks pixels within the band visited.
+		 *
+		 * @param x1 The x position of the first vertex in the triangle
+		 * @param y1 The y position of the first vertex in the triangle
+		 * @param x2 The x position of the second vertex in the triangle
+		 * @param y2 The y position of the second vertex in the triangle
+		 * @param x3 The x position of the third vertex in the triangle
+		 * @param y3 The y position of the third vertex in the triangle
+		 */
+		private void simulateTriangleRasterizationForOutline(
+			int x1, int y1, int x2, int y2, int x3, int y3)
+		{
+			// Swap vertices so y1 <= y2 <= y3 using bubble sort
+			if (y1 > y2)
+			{
+				int yp = y1;
+				int xp = x1;
+				y1 = y2;
+				y2 = yp;
+				x1 = x2;
+				x2 = xp;
+			}
+			if (y2 > y3)
+			{
+				int yp = y2;
+				int xp = x2;
+				y2 = y3;
+				y3 = yp;
+				x2 = x3;
+				x3 = xp;
+			}
+			if (y1 > y2)
+			{
+				int yp = y1;
+				int xp = x1;
+				y1 = y2;
+				y2 = yp;
+				x1 = x2;
+				x2 = xp;
+			}
 
-		int slope3 = 0;
-		if (y1 != y3)
-		{
-			slope3 = (x1 - x3 << 14) / (y1 - y3);
-		}
+			if (y1 >= bandY2 || y3 <= bandY1)
+			{
+				// All points are outside the band
+				return;
+			}
 
-		if (y2 > clipY2)
-		{
-			y2 = clipY2;
-		}
-		if (y3 > clipY2)
-		{
-			y3 = clipY2;
-		}
-		if (y1 == y3 || y3 < clipY1)
-		{
-			return;
-		}
+			int slope1 = 0;
+			if (y1 != y2)
+			{
+				slope1 = (x2 - x1 << 14) / (y2 - y1);
+			}
 
-		x1 <<= 14;
-		x2 <<= 14;
-		x3 = x1;
+			int slope2 = 0;
+			if (y3 != y2)
+			{
+				slope2 = (x3 - x2 << 14) / (y3 - y2);
+			}
 
-		if (y1 < clipY1)
-		{
-			x3 -= (y1 - clipY1) * slope3;
-			x1 -= (y1 - clipY1) * slope1;
-			y1 = clipY1;
-		}
-		if (y2 < clipY1)
-		{
-			x2 -= (y2 - clipY1) * slope2;
-			y2 = clipY1;
-		}
+			int slope3 = 0;
+			if (y1 != y3)
+			{
+				slope3 = (x1 - x3 << 14) / (y1 - y3);
+			}
 
-		int pixelY = y1;
-		int height1 = y2 - y1;
-		int height2 = y3 - y2;
-		if (y1 != y2 && slope3 < slope1 || y1 == y2 && slope3 > slope2)
-		{
-			while (height1-- > 0)
+			// The triangle is clipped to the whole window rather than the band, so
+			// that every band sees the same edges as when rasterizing in one go.
+			if (y2 > clipY2)
 			{
-				simulateHorizontalLineRasterizationForOutline(pixelY, x3 >> 14, x1 >> 14);
-				x3 += slope3;
-				x1 += slope1;
-				pixelY++;
+				y2 = clipY2;
+			}
+			if (y3 > clipY2)
+			{
+				y3 = clipY2;
 			}
+			if (y1 == y3 || y3 < clipY1)
+			{
+				return;
+			}
+
+			x1 <<= 14;
+			x2 <<= 14;
+			x3 = x1;
 
-			while (height2-- > 0)
+			if (y1 < clipY1)
 			{
-				simulateHorizontalLineRasterizationForOutline(pixelY, x3 >> 14, x2 >> 14);
-				x3 += slope3;
-				x2 += slope2;
-				pixelY++;
+				x3 -= (y1 - clipY1) * slope3;
+				x1 -= (y1 - clipY1) * slope1;
+				y1 = clipY1;
 			}
-		}
-		else
-		{
-			while (height1-- > 0)
+			if (y2 < clipY1)
 			{
-				simulateHorizontalLineRasterizationForOutline(pixelY, x1 >> 14, x3 >> 14);
-				x1 += slope1;
+				x2 -= (y2 - clipY1) * slope2;
+				y2 = clipY1;
+			}
+
+			boolean longEdgeLeft = y1 != y2 && slope3 < slope1 || y1 == y2 && slope3 > slope2;
+
+			// Skip the rows above the band. Multiplying the slopes gives the same
+			// positions as adding them once per row.
+			int pixelY = Math.max(y1, bandY1);
+			int endY = Math.min(y2, bandY2);
+			x3 += (pixelY - y1) * slope3;
+			x1 += (pixelY - y1) * slope1;
+			for (; pixelY < endY; pixelY++)
+			{
+				if (longEdgeLeft)
+				{
+					simulateHorizontalLineRasterizationForOutline(pixelY, x3 >> 14, x1 >> 14);
+				}
+				else
+				{
+					simulateHorizontalLineRasterizationForOutline(pixelY, x1 >> 14, x3 >> 14);
+				}
 				x3 += slope3;
-				pixelY++;
+				x1 += slope1;
 			}
 
-			while (height2-- > 0)
+			int startY = Math.max(y2, bandY1);
+			endY = Math.min(y3, bandY2);
+			x3 += (startY - pixelY) * slope3;
+			x2 += (startY - y2) * slope2;
+			for (pixelY = startY; pixelY < endY; pixelY++)
 			{
-				simulateHorizontalLineRasterizationForOutline(pixelY, x2 >> 14, x3 >> 14);
+				if (longEdgeLeft)
+				{
+					simulateHorizontalLineRasterizationForOutline(pixelY, x3 >> 14, x2 >> 14);
+				}
+				else
+				{
+					simulateHorizontalLineRasterizationForOutline(pixelY, x2 >> 14, x3 >> 14);
+				}
 				x3 += slope3;
 				x2 += slope2;
-				pixelY++;
 			}
 		}
-	}
-
-	/**
-	 * Translates the vertices 3D points to the screen canvas 2D points.
-	 *
-	 * @param localX The local x position of the vertices.
-	 * @param localY The local y position of the vertices.
-	 * @param localZ The local z position of the vertices.
-	 * @param vertexOrientation The orientation of the vertices.
-	 * @return Returns true if any of them are inside the clip area, otherwise false.
-	 */
-	private boolean projectVertices(Model model, int localX, int localY, int localZ, final int vertexOrientation)
-	{
-		final int vertexCount = model.getVerticesCount();
-		Perspective.modelToCanvas(client,
-			vertexCount,
-			localX, localY, localZ,
-			vertexOrientation,
-			model.getVerticesX(), model.getVerticesZ(), model.getVerticesY(),
-			projectedVerticesX, projectedVerticesY);
-
-		boolean anyVisible = false;
 
-		for (int i = 0; i < vertexCount; i++)
+		/**
+		 * Simulates rendering of the model and marks every pixel within the band visited.
+		 */
+		private void simulateModelRasterizationForOutline()
 		{
-			int x = projectedVerticesX[i];
-			int y = projectedVerticesY[i];
-
-			if (y != Integer.MIN_VALUE)
+			for (int i = 0; i < faceCount; i++)
 			{
-				boolean visibleX = x >= clipX1 && x < clipX2;
-				boolean visibleY = y >= clipY1 && y < clipY2;
-				anyVisible |= visibleX && visibleY;
-
-				croppedX1 = Math.min(croppedX1, x);
-				croppedX2 = Math.max(croppedX2, x + 1);
-				croppedY1 = Math.min(croppedY1, y);
-				croppedY2 = Math.max(croppedY2, y + 1);
-			}
-			else
-			{
-				// Vertex is too close or behind camera and isn't rendered
-				projectedVerticesY[i] = Integer.MIN_VALUE;
+				if (projectedVerticesY[faceIndices1[i]] != Integer.MIN_VALUE &&
+					projectedVerticesY[faceIndices2[i]] != Integer.MIN_VALUE &&
+					projectedVerticesY[faceIndices3[i]] != Integer.MIN_VALUE &&
+					// 254 and 255 counts as fully transparent
+					(faceTransparencies == null || (faceTransparencies[i] & 255) < 254))
+				{
+					final int index1 = faceIndices1[i];
+					final int index2 = faceIndices2[i];
+					final int index3 = faceIndices3[i];
+					final int v1x = projectedVerticesX[index1];
+					final int v1y = projectedVerticesY[index1];
+					final int v2x = projectedVerticesX[index2];
+					final int v2y = projectedVerticesY[index2];
+					final int v3x = projectedVerticesX[index3];
+					final int v3y = projectedVerticesY[index3];
+
+					if (!cullFace(v1x, v1y, v2x, v2y, v3x, v3y))
+					{
+						simulateTriangleRasterizationForOutline(v1x, v1y, v2x, v2y, v3x, v3y);
+					}
+				}
 			}
 		}
 
-		return anyVisible;
-	}
-
-	/**
-	 * Simulates rendering of the model and marks every pixel visited.
-	 */
-	private void simulateModelRasterizationForOutline(Model model)
-	{
-		final int triangleCount = model.getFaceCount();
-		final int[] indices1 = model.getFaceIndices1();
-		final int[] indices2 = model.getFaceIndices2();
-		final int[] indices3 = model.getFaceIndices3();
-		final byte[] triangleTransparencies = model.getFaceTransparencies();
-
-		for (int i = 0; i < triangleCount; i++)
+		/**
+		 * Draws the outline of a pixel according to the distance deltas of an outline.
+		 *
+		 * @param x The x position of the pixel.
+		 * @param y The y position of the pixel.
+		 * @param distanceDeltas The distance deltas of the outline width.
+		 * @param color The color to draw the outline in.
+		 */
+		private void rasterDistanceDeltas(int x, int y, PixelDistanceDelta[] distanceDeltas, int color)
 		{
-			if (projectedVerticesY[indices1[i]] != Integer.MIN_VALUE &&
-				projectedVerticesY[indices2[i]] != Integer.MIN_VALUE &&
-				projectedVerticesY[indices3[i]] != Integer.MIN_VALUE &&
-				// 254 and 255 counts as fully transparent
-				(triangleTransparencies == null || (triangleTransparencies[i] & 255) < 254))
+			for (PixelDistanceDelta delta : distanceDeltas)
 			{
-				final int index1 = indices1[i];
-				final int index2 = indices2[i];
-				final int index3 = indices3[i];
-				final int v1x = projectedVerticesX[index1];
-				final int v1y = projectedVerticesY[index1];
-				final int v2x = projectedVerticesX[index2];
-				final int v2y = projectedVerticesY[index2];
-				final int v3x = projectedVerticesX[index3];
-				final int v3y = projectedVerticesY[index3];
-
-				if (!cullFace(v1x, v1y, v2x, v2y, v3x, v3y))
+				int cx = x + delta.dx;
+				int cy = y + delta.dy;
+				int visitedPixelPos = (cy - bandY1) * croppedWidth + (cx - croppedX1);
+				if (cx >= clipX1 && cx < clipX2 && cy >= drawY1 && cy < drawY2 &&
+					(visited[visitedPixelPos >> 5] & (1 << (visitedPixelPos & 31))) == 0)
 				{
-					simulateTriangleRasterizationForOutline(v1x, v1y, v2x, v2y, v3x, v3y);
+					imageData[cy * imageWidth + cx] = color;
 				}
 			}
 		}
-	}
 
-	/**
-	 * Draws the outline of a pixel according to the distance deltas of an outline.
-	 *
-	 * @param imageData The image data to draw to.
-	 * @param imageWidth The width of the image to draw to.
-	 * @param x The x position of the pixel.
-	 * @param y The y position of the pixel.
-	 * @param distanceDeltas The distance deltas of the outline width.
-	 * @param color The color to draw the outline in.
-	 */
-	private void rasterDistanceDeltas(int[] imageData, int imageWidth, int x, int y,
-		PixelDistanceDelta[] distanceDeltas, int color)
-	{
-		for (PixelDistanceDelta delta : distanceDeltas)
+		/**
+		 * Draws a single pixel of the outline if it is within the rows drawn to by the band.
+		 */
+		private void rasterPixel(int x, int y, int color)
 		{
-			int cx = x + delta.dx;
-			int cy = y + delta.dy;
-			int visitedPixelPos = (cy - croppedY1) * croppedWidth + (cx - croppedX1);
-			if (cx >= clipX1 && cx < clipX2 && cy >= clipY1 && cy < clipY2 &&
-				(visited[visitedPixelPos >> 5] & (1 << (visitedPixelPos & 31))) == 0)
+			if (y >= drawY1 && y < drawY2)
 			{
-				imageData[cy * imageWidth + cx] = color;
+				imageData[y * imageWidth + x] = color;
 			}
 		}
-	}
-
-	/**
-	 * Enqueues pixels that are adjacent above or below the model
-	 * or draws them directly to the clients image buffer.
-	 *
-	 * @param directWrite If true the pixels are drawn to the image buffer, otherwise they are enqueued for drawing.
-	 * @param color The color to draw if directWrite == true
-	 * @param outlineWidth The outline width to draw if directWrite == true
-	 */
-	private void processInitialOutlinePixels(boolean directWrite, Color color, int outlineWidth)
-	{
-		MainBufferProvider bufferProvider = (MainBufferProvider) client.getBufferProvider();
-		BufferedImage image = (BufferedImage) bufferProvider.getImage();
-		int imageWidth = image.getWidth();
-		int[] imageData = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
-		int colorRGB = color.getRGB();
 
-		// Up and down
-		for (int x = 0; x < croppedWidth; x += 32)
+		/**
+		 * Enqueues pixels that are adjacent above or below the model
+		 * or draws them directly to the clients image buffer.
+		 */
+		private void processInitialOutlinePixels()
 		{
-			int v1 = visited[x >> 5];
-			for (int y = 1; y < croppedHeight; y++)
+			int colorRGB = outlineColor.getRGB();
+
+			// Up and down
+			for (int x = 0; x < croppedWidth; x += 32)
 			{
-				int v2 = visited[(y * croppedWidth + x) >> 5];
-				if (v1 != v2)
+				int v1 = visited[x >> 5];
+				for (int y = 1; y < bandHeight; y++)
 				{
-					if (directWrite)
+					int v2 = visited[(y * croppedWidth + x) >> 5];
+					if (v1 != v2)
 					{
-						// Special case handling outlineWidth == 1 gives a
-						// small but noticeable performance improvement.
-						if (outlineWidth == 1)
+						if (directWrite)
 						{
-							for (int bit = 0; bit < 32; bit++)
+							// Special case handling outlineWidth == 1 gives a
+							// small but noticeable performance improvement.
+							if (outlineWidth == 1)
 							{
-								int bv1 = (v1 >>> bit) & 1;
-								int bv2 = (v2 >>> bit) & 1;
-								if (bv1 != bv2)
+								for (int bit = 0; bit < 32; bit++)
+								{
+									int bv1 = (v1 >>> bit) & 1;
+									int bv2 = (v2 >>> bit) & 1;
+									if (bv1 != bv2)
+									{
+										rasterPixel(croppedX1 + x + bit, bandY1 + y - bv2, colorRGB);
+									}
+								}
+							}
+							else
+							{
+								PixelDistanceDelta[] distancesDown = precomputedDistanceDeltas[outlineWidth][3];
+								PixelDistanceDelta[] distancesUp = precomputedDistanceDeltas[outlineWidth][1];
+								for (int bit = 0; bit < 32; bit++)
 								{
-									imageData[(croppedY1 + y - bv2) * imageWidth + (croppedX1 + x + bit)] = colorRGB;
+									int bv1 = (v1 >>> bit) & 1;
+									int bv2 = (v2 >>> bit) & 1;
+									if (bv1 == 1 && bv2 == 0)
+									{
+										rasterDistanceDeltas(croppedX1 + x + bit, bandY1 + y - 1, distancesDown, colorRGB);
+									}
+									else if (bv1 == 0 && bv2 == 1)
+									{
+										rasterDistanceDeltas(croppedX1 + x + bit, bandY1 + y, distancesUp, colorRGB);
+									}
 								}
 							}
 						}
 						else
 						{
-							PixelDistanceDelta[] distancesDown = precomputedDistanceDeltas[outlineWidth][3];
-							PixelDistanceDelta[] distancesUp = precomputedDistanceDeltas[outlineWidth][1];
 							for (int bit = 0; bit < 32; bit++)
 							{
 								int bv1 = (v1 >>> bit) & 1;
 								int bv2 = (v2 >>> bit) & 1;
-								if (bv1 == 1 && bv2 == 0)
-								{
-									rasterDistanceDeltas(imageData, imageWidth, croppedX1 + x + bit, croppedY1 + y - 1,
-										distancesDown, colorRGB);
-								}
-								else if (bv1 == 0 && bv2 == 1)
+								if (bv1 != bv2)
 								{
-									rasterDistanceDeltas(imageData, imageWidth, croppedX1 + x + bit, croppedY1 + y,
-										distancesUp, colorRGB);
+									enqueueOutlinePixel(outlineArrayWidth, croppedX1 + x + bit, bandY1 + y - bv2);
 								}
 							}
 						}
 					}
-					else
-					{
-						for (int bit = 0; bit < 32; bit++)
-						{
-							int bv1 = (v1 >>> bit) & 1;
-							int bv2 = (v2 >>> bit) & 1;
-							if (bv1 != bv2)
-							{
-								enqueueOutlinePixel(outlineArrayWidth, croppedX1 + x + bit, croppedY1 + y - bv2);
-							}
-						}
-					}
-				}
 
-				v1 = v2;
+					v1 = v2;
+				}
 			}
-		}
 
-		// Left and right
-		for (int y = 0; y < croppedHeight; y++)
-		{
-			int rowPosition = y * croppedWidth;
-			int lastV = 0;
-			for (int x = 0; x < croppedWidth; x += 32)
+			// Left and right
+			for (int y = 0; y < bandHeight; y++)
 			{
-				int v = visited[(rowPosition + x) >> 5];
-
-				// Test adjacent pixels in the same 32-bit segment
-				if (v != 0 && v != 0xFFFFFFFF)
+				int rowPosition = y * croppedWidth;
+				int lastV = 0;
+				for (int x = 0; x < croppedWidth; x += 32)
 				{
-					int end = Math.min(32, clipX2 - croppedX1 - x);
-					int lastBv = v & 1;
-					if (directWrite)
+					int v = visited[(rowPosition + x) >> 5];
+
+					// Test adjacent pixels in the same 32-bit segment
+					if (v != 0 && v != 0xFFFFFFFF)
 					{
-						// Special case handling outlineWidth == 1 gives a
-						// small but noticeable performance improvement.
-						if (outlineWidth == 1)
+						int end = Math.min(32, clipX2 - croppedX1 - x);
+						int lastBv = v & 1;
+						if (directWrite)
 						{
-							for (int bit = 1; bit < end; bit++)
+							// Special case handling outlineWidth == 1 gives a
+							// small but noticeable performance improvement.
+							if (outlineWidth == 1)
 							{
-								int bv = (v >>> bit) & 1;
-								if (bv != lastBv)
+								for (int bit = 1; bit < end; bit++)
 								{
-									imageData[(croppedY1 + y) * imageWidth + (croppedX1 + x + bit - bv)] = colorRGB;
+									int bv = (v >>> bit) & 1;
+									if (bv != lastBv)
+									{
+										rasterPixel(croppedX1 + x + bit - bv, bandY1 + y, colorRGB);
+									}
+									lastBv = bv;
+								}
+							}
+							else
+							{
+								PixelDistanceDelta[] distancesRight = precomputedDistanceDeltas[outlineWidth][0];
+								PixelDistanceDelta[] distancesLeft = precomputedDistanceDeltas[outlineWidth][2];
+								for (int bit = 1; bit < end; bit++)
+								{
+									int bv = (v >>> bit) & 1;
+									if (bv == 1 && lastBv == 0)
+									{
+										rasterDistanceDeltas(croppedX1 + x + bit, bandY1 + y, distancesLeft, colorRGB);
+									}
+									else if (bv == 0 && lastBv == 1)
+									{
+										rasterDistanceDeltas(croppedX1 + x + bit - 1, bandY1 + y, distancesRight, colorRGB);
+									}
+									lastBv = bv;
 								}
-								lastBv = bv;
 							}
 						}
 						else
 						{
-							PixelDistanceDelta[] distancesRight = precomputedDistanceDeltas[outlineWidth][0];
-							PixelDistanceDelta[] distancesLeft = precomputedDistanceDeltas[outlineWidth][2];
 							for (int bit = 1; bit < end; bit++)
 							{
 								int bv = (v >>> bit) & 1;
-								if (bv == 1 && lastBv == 0)
-								{
-									rasterDistanceDeltas(imageData, imageWidth, croppedX1 + x + bit, croppedY1 + y,
-										distancesLeft, colorRGB);
-								}
-								else if (bv == 0 && lastBv == 1)
+								if (bv != lastBv)
 								{
-									rasterDistanceDeltas(imageData, imageWidth, croppedX1 + x + bit - 1, croppedY1 + y,
-										distancesRight, colorRGB);
+									enqueueOutlinePixel(1, croppedX1 + x + bit - bv, bandY1 + y);
 								}
 								lastBv = bv;
 							}
 						}
 					}
-					else
+
+					// Test adjacent pixels in different 32-bit segments
+					if ((lastV >>> 31) != (v & 1) && x > 0)
 					{
-						for (int bit = 1; bit < end; bit++)
+						if (directWrite)
 						{
-							int bv = (v >>> bit) & 1;
-							if (bv != lastBv)
+							if (outlineWidth == 1)
 							{
-								enqueueOutlinePixel(1, croppedX1 + x + bit - bv, croppedY1 + y);
+								rasterPixel(croppedX1 + x - (v & 1), bandY1 + y, colorRGB);
 							}
-							lastBv = bv;
+							else
+							{
+								if ((v & 1) == 1)
+								{
+									PixelDistanceDelta[] distancesLeft = precomputedDistanceDeltas[outlineWidth][2];
+									rasterDistanceDeltas(croppedX1 + x, bandY1 + y, distancesLeft, colorRGB);
+								}
+								else
+								{
+									PixelDistanceDelta[] distancesRight = precomputedDistanceDeltas[outlineWidth][0];
+									rasterDistanceDeltas(croppedX1 + x - 1, bandY1 + y, distancesRight, colorRGB);
+								}
+							}
+						}
+						else
+						{
+							enqueueOutlinePixel(1, croppedX1 + x - (v & 1), bandY1 + y);
 						}
 					}
+
+					lastV = v;
+				}
+			}
+		}
+
+		/**
+		 * Process the outline queue and draw an outline of the pixels
+		 * in the queue to the client image buffer.
+		 */
+		private void processOutlinePixelQueue()
+		{
+			for (PixelDistanceGroupIndex p : priorityList)
+			{
+				final int[] blockMemory = outlinePixelsBlockBuffer.getMemory();
+
+				final int colorARGB;
+				final int inverseAlpha;
+				{
+					int alpha = (int) Math.round(outlineColor.getAlpha() * p.alphaMultiply);
+					inverseAlpha = 256 - alpha;
+					colorARGB = (alpha << 24)
+						| ((outlineColor.getRed() * alpha) / 255) << 16
+						| ((outlineColor.getGreen() * alpha) / 255) << 8
+						| ((outlineColor.getBlue() * alpha) / 255);
 				}
 
-				// Test adjacent pixels in different 32-bit segments
-				if ((lastV >>> 31) != (v & 1) && x > 0)
+				final int groupIndex = p.distanceGroupIndex;
+				final int nextGroupIndexY = groupIndex + outlineArrayWidth;
+				final int nextGroupIndexX = groupIndex + 1;
+
+				while (outlinePixelsBlockIndicesLengths[groupIndex] > 0)
 				{
-					if (directWrite)
+					final int block = outlinePixelsBlockIndices[groupIndex][outlinePixelsBlockIndicesLengths[groupIndex] - 1];
+					final int blockStart = block << IntBlockBuffer.BLOCK_BITS;
+					final int blockEnd = blockStart + outlinePixelsLastBlockLength[groupIndex];
+					for (int i = blockStart; i < blockEnd; i++)
 					{
-						if (outlineWidth == 1)
+						int x = blockMemory[i] & 0xFFFF;
+						int y = blockMemory[i] >>> 16;
+						int visitedPixelPos = (y - bandY1) * croppedWidth + (x - croppedX1);
+						if ((visited[visitedPixelPos >> 5] & (1 << (visitedPixelPos & 31))) != 0)
 						{
-							imageData[(croppedY1 + y) * imageWidth + (croppedX1 + x - (v & 1))] = colorRGB;
+							continue;
 						}
-						else
+						visited[visitedPixelPos >> 5] |= 1 << (visitedPixelPos & 31);
+
+						// Pixels outside the drawn rows are still expanded
+						// since they can spread the outline into them
+						if (y >= drawY1 && y < drawY2)
 						{
-							if ((v & 1) == 1)
-							{
-								PixelDistanceDelta[] distancesLeft = precomputedDistanceDeltas[outlineWidth][2];
-								rasterDistanceDeltas(imageData, imageWidth, croppedX1 + x, croppedY1 + y,
-									distancesLeft, colorRGB);
-							}
-							else
-							{
-								PixelDistanceDelta[] distancesRight = precomputedDistanceDeltas[outlineWidth][0];
-								rasterDistanceDeltas(imageData, imageWidth, croppedX1 + x - 1, croppedY1 + y,
-									distancesRight, colorRGB);
-							}
+							int pixelPos = y * imageWidth + x;
+							int dst = imageData[pixelPos];
+							imageData[pixelPos]
+								= (colorARGB & 0xFF00FF00) + (((dst & 0xFF00FF00) * inverseAlpha) >>> 8) & 0xFF00FF00
+								| (colorARGB & 0x00FF00FF) + (((dst & 0x00FF00FF) * inverseAlpha) >>> 8) & 0x00FF00FF;
+						}
+
+						if (x - 1 >= clipX1)
+						{
+							enqueueOutlinePixel(nextGroupIndexX, x - 1, y);
+						}
+						if (x + 1 < clipX2)
+						{
+							enqueueOutlinePixel(nextGroupIndexX, x + 1, y);
+						}
+						if (y - 1 >= bandY1)
+						{
+							enqueueOutlinePixel(nextGroupIndexY, x, y - 1);
+						}
+						if (y + 1 < bandY2)
+						{
+							enqueueOutlinePixel(nextGroupIndexY, x, y + 1);
 						}
 					}
-					else
-					{
-						enqueueOutlinePixel(1, croppedX1 + x - (v & 1), croppedY1 + y);
-					}
-				}
 
-				lastV = v;
+					outlinePixelsBlockBuffer.freeBlock(block);
+					outlinePixelsBlockIndicesLengths[groupIndex]--;
+					outlinePixelsLastBlockLength[groupIndex] = IntBlockBuffer.BLOCK_SIZE;
+				}
 			}
 		}
 	}
 
 	/**
-	 * Process the outline queue and draw an outline of the pixels
-	 * in the queue to the client image buffer.
+	 * Translates the vertices 3D points to the screen canvas 2D points.
 	 *
-	 * @param outlineWidth The width of the outline.
-	 * @param color The color of the outline.
+	 * @param localX The local x position of the vertices.
+	 * @param localY The local y position of the vertices.
+	 * @param localZ The local z position of the vertices.
+	 * @param vertexOrientation The orientation of the vertices.
+	 * @return Returns true if any of them are inside the clip area, otherwise false.
 	 */
-	private void processOutlinePixelQueue(int outlineWidth, Color color, int feather)
+	private boolean projectVertices(Model model, int localX, int localY, int localZ, final int vertexOrientation)
 	{
-		MainBufferProvider bufferProvider = (MainBufferProvider) client.getBufferProvider();
-		BufferedImage image = (BufferedImage) bufferProvider.getImage();
-		int imageWidth = image.getWidth();
-		int[] imageData = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
-		PixelDistanceGroupIndex[] ps = getPriorityList(outlineWidth, feather);
+		final int vertexCount = model.getVerticesCount();
+		Perspective.modelToCanvas(client,
+			vertexCount,
+			localX, localY, localZ,
+			vertexOrientation,
+			model.getVerticesX(), model.getVerticesZ(), model.getVerticesY(),
+			projectedVerticesX, projectedVerticesY);
 
-		for (PixelDistanceGroupIndex p : ps)
+		boolean anyVisible = false;
+
+		for (int i = 0; i < vertexCount; i++)
 		{
-			final int[] blockMemory = outlinePixelsBlockBuffer.getMemory();
+			int x = projectedVerticesX[i];
+			int y = projectedVerticesY[i];
 
-			final int colorARGB;
-			final int inverseAlpha;
+			if (y != Integer.MIN_VALUE)
 			{
-				int alpha = (int) Math.round(color.getAlpha() * p.alphaMultiply);
-				inverseAlpha = 256 - alpha;
-				colorARGB = (alpha << 24)
-					| ((color.getRed() * alpha) / 255) << 16
-					| ((color.getGreen() * alpha) / 255) << 8
-					| ((color.getBlue() * alpha) / 255);
-			}
-
-			final int groupIndex = p.distanceGroupIndex;
-			final int nextGroupIndexY = groupIndex + outlineArrayWidth;
-			final int nextGroupIndexX = groupIndex + 1;
+				boolean visibleX = x >= clipX1 && x < clipX2;
+				boolean visibleY = y >= clipY1 && y < clipY2;
+				anyVisible |= visibleX && visibleY;
 
-			while (outlinePixelsBlockIndicesLengths[groupIndex] > 0)
+				croppedX1 = Math.min(croppedX1, x);
+				croppedX2 = Math.max(croppedX2, x + 1);
+				croppedY1 = Math.min(croppedY1, y);
+				croppedY2 = Math.max(croppedY2, y + 1);
+			}
+			else
 			{
-				final int block = outlinePixelsBlockIndices[groupIndex][outlinePixelsBlockIndicesLengths[groupIndex] - 1];
-				final int blockStart = block << IntBlockBuffer.BLOCK_BITS;
-				final int blockEnd = blockStart + outlinePixelsLastBlockLength[groupIndex];
-				for (int i = blockStart; i < blockEnd; i++)
-				{
-					int x = blockMemory[i] & 0xFFFF;
-					int y = blockMemory[i] >>> 16;
-					int visitedPixelPos = (y - croppedY1) * croppedWidth + (x - croppedX1);
-					if ((visited[visitedPixelPos >> 5] & (1 << (visitedPixelPos & 31))) != 0)
-					{
-						continue;
-					}
-					visited[visitedPixelPos >> 5] |= 1 << (visitedPixelPos & 31);
+				// Vertex is too close or behind camera and isn't rendered
+				projectedVerticesY[i] = Integer.MIN_VALUE;
+			}
+		}
 
-					int pixelPos = y * imageWidth + x;
-					int dst = imageData[pixelPos];
-					imageData[pixelPos]
-						= (colorARGB & 0xFF00FF00) + (((dst & 0xFF00FF00) * inverseAlpha) >>> 8) & 0xFF00FF00
-						| (colorARGB & 0x00FF00FF) + (((dst & 0x00FF00FF) * inverseAlpha) >>> 8) & 0x00FF00FF;
+		return anyVisible;
+	}
 
-					if (x - 1 >= clipX1)
-					{
-						enqueueOutlinePixel(nextGroupIndexX, x - 1, y);
-					}
-					if (x + 1 < clipX2)
-					{
-						enqueueOutlinePixel(nextGroupIndexX, x + 1, y);
-					}
-					if (y - 1 >= clipY1)
-					{
-						enqueueOutlinePixel(nextGroupIndexY, x, y - 1);
-					}
-					if (y + 1 < clipY2)
-					{
-						enqueueOutlinePixel(nextGroupIndexY, x, y + 1);
-					}
-				}
+	/**
+	 * Draws the bands of the outline, handing all but the first off to the pool.
+	 *
+	 * @param bandCount The amount of bands to draw.
+	 */
+	private void drawBands(int bandCount)
+	{
+		if (bandCount == 1)
+		{
+			bands.get(0).run();
+			return;
+		}
 
-				outlinePixelsBlockBuffer.freeBlock(block);
-				outlinePixelsBlockIndicesLengths[groupIndex]--;
-				outlinePixelsLastBlockLength[groupIndex] = IntBlockBuffer.BLOCK_SIZE;
+		ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[bandCount - 1];
+		for (int i = 1; i < bandCount; i++)
+		{
+			tasks[i - 1] = pool.submit(bands.get(i));
+		}
+
+		try
+		{
+			bands.get(0).run();
+		}
+		finally
+		{
+			// The bands share the state of this outline, so they all have to
+			// be finished before returning, even if one of them failed
+			for (ForkJoinTask<?> task : tasks)
+			{
+				task.quietlyJoin();
 			}
 		}
+
+		for (ForkJoinTask<?> task : tasks)
+		{
+			task.join();
+		}
 	}
 
 	/**
@@ -943,9 +1075,18 @@ public class ModelOutlineRenderer
 		croppedWidth = croppedX2 - croppedX1;
 		croppedHeight = croppedY2 - croppedY1;
 
-		resetVisited(croppedWidth * croppedHeight);
+		faceCount = model.getFaceCount();
+		faceIndices1 = model.getFaceIndices1();
+		faceIndices2 = model.getFaceIndices2();
+		faceIndices3 = model.getFaceIndices3();
+		faceTransparencies = model.getFaceTransparencies();
 
-		simulateModelRasterizationForOutline(model);
+		MainBufferProvider bufferProvider = (MainBufferProvider) client.getBufferProvider();
+		BufferedImage image = (BufferedImage) bufferProvider.getImage();
+		imageWidth = image.getWidth();
+		imageData = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+		outlineColor = color;
+		this.outlineWidth = outlineWidth;
 
 		// We can improve performance and reduce memory needed when drawing
 		// only a small outline around the model by skipping the pixel queueing
@@ -953,7 +1094,7 @@ public class ModelOutlineRenderer
 		// outlines since some pixels of the outline can get drawn more than once.
 		// Performance becomes worse than queueing when using larger outline widths,
 		// usually around 10 px outline width according to some basic testing.
-		boolean directWrite = color.getAlpha() == 255 && outlineWidth <= DIRECT_WRITE_OUTLINE_WIDTH_THRESHOLD &&
+		directWrite = color.getAlpha() == 255 && outlineWidth <= DIRECT_WRITE_OUTLINE_WIDTH_THRESHOLD &&
 			(feather == 0 || outlineWidth == 1); // Feather has no effect on outlineWidth == 1
 
 		if (directWrite)
@@ -963,22 +1104,30 @@ public class ModelOutlineRenderer
 		else
 		{
 			outlineArrayWidth = outlineWidth + 2;
-			initializeOutlineBuffers();
+			priorityList = getPriorityList(outlineWidth, feather);
 		}
 
-		try
-		{
-			processInitialOutlinePixels(directWrite, color, outlineWidth);
+		// The outline of a pixel can't reach further than outlineWidth rows, so the bands overlap by
+		// that much plus the row needed to find the edges of the model. Splitting bands smaller than
+		// the overlap would mostly redo the work of their neighbours.
+		int margin = outlineWidth + 1;
+		int bandCount = Math.min(maxBands, Math.min(croppedWidth * croppedHeight / minBandPixels, croppedHeight / margin));
+		bandCount = Math.max(bandCount, 1);
 
-			if (!directWrite)
-			{
-				processOutlinePixelQueue(outlineWidth, color, feather);
-			}
+		while (bands.size() < bandCount)
+		{
+			bands.add(new OutlineBand());
 		}
-		finally
+
+		for (int i = 0; i < bandCount; i++)
 		{
-			freeAllBlockMemory();
+			bands.get(i).setRows(
+				croppedY1 + croppedHeight * i / bandCount,
+				croppedY1 + croppedHeight * (i + 1) / bandCount,
+				bandCount == 1 ? 0 : margin);
 		}
+
+		drawBands(bandCount);
 	}
 
 	public void drawOutline(NPC npc, int outlineWidth, Color color, int feather)
@@ -59,6 +59,14 @@ public class AsyncBufferedImage extends BufferedImage
 		listeners.clear();
 	}
 
+	/**
+	 * @return true if the image has been loaded
+	 */
+	public synchronized boolean isLoaded()
+	{
+		return loaded;
+	}
+
 	/**
 	 * Register a function to be ran when the image has been loaded.
 	 * If the image is already loaded the function will be invoked later on the client thread.
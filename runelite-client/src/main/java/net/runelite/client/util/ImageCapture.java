@@ -26,6 +26,7 @@
 package net.runelite.client.util;
 
 import com.google.common.base.Strings;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.awt.Graphics2D;
 import java.awt.Image;
 import java.awt.Insets;
@@ -35,15 +36,23 @@ import java.awt.TrayIcon;
 import java.awt.datatransfer.Clipboard;
 import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.Nullable;
-import javax.imageio.ImageIO;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import javax.swing.SwingUtilities;
@@ -65,6 +74,9 @@ import net.runelite.client.ui.DrawManager;
 public class ImageCapture
 {
 	private static final DateFormat TIME_FORMAT = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss");
+	public static final int DEFAULT_COMPRESSION_LEVEL = 4;
+	// screenshots waiting to be encoded, beyond which new screenshots are dropped
+	private static final int MAX_QUEUED_SCREENSHOTS = 4;
 
 	private final Client client;
 	private final Notifier notifier;
@@ -73,6 +85,21 @@ public class ImageCapture
 	private final ScheduledExecutorService executor;
 	private final EventBus eventBus;
 
+	// screenshots are encoded on their own thread so bursts of them don't hold up the shared executor
+	private final ExecutorService encodeExecutor = createEncodeExecutor();
+
+	private static ExecutorService createEncodeExecutor()
+	{
+		final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 30, TimeUnit.SECONDS,
+			new ArrayBlockingQueue<>(MAX_QUEUED_SCREENSHOTS),
+			new ThreadFactoryBuilder()
+				.setNameFormat("screenshot-encoder")
+				.setDaemon(true)
+				.build());
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
 	/**
 	 * Take a screenshot and save it
 	 * @param subDir the subdirectory to save the screenshot in
@@ -177,6 +204,31 @@ public class ImageCapture
 		boolean notify,
 		boolean saveToClipboard
 	)
+	{
+		saveScreenshot(screenshot, fileName, subDir, notify, saveToClipboard, DEFAULT_COMPRESSION_LEVEL);
+	}
+
+	/**
+	 * Save a screenshot to disk. And optionally send a notification and copy it to clipboard.
+	 * <p>
+	 * The screenshot is encoded in the background. If too many screenshots are already waiting
+	 * to be encoded, it is dropped.
+	 *
+	 * @param screenshot screenshot
+	 * @param fileName Filename to use, without file extension.
+	 * @param subDir Directory within the player screenshots dir to store the captured screenshot to.
+	 * @param notify Send a notification to the system tray when the image is captured.
+	 * @param saveToClipboard Whether to also save the screenshot to clipboard
+	 * @param compressionLevel PNG compression level, 0-9
+	 */
+	public void saveScreenshot(
+		BufferedImage screenshot,
+		String fileName,
+		@Nullable String subDir,
+		boolean notify,
+		boolean saveToClipboard,
+		int compressionLevel
+	)
 	{
 		if (client.getGameState() == GameState.LOGIN_SCREEN)
 		{
@@ -213,20 +265,44 @@ public class ImageCapture
 
 		File screenshotFile = new File(playerFolder, fileName + ".png");
 		// To make sure that screenshots don't get overwritten, check if file exists,
-		// and if it does create file with same name and suffix.
-		int i = 1;
-		while (screenshotFile.exists())
+		// and if it does create file with same name and suffix. The file is created now
+		// so that screenshots still waiting to be encoded keep their names.
+		try
+		{
+			int i = 1;
+			while (!screenshotFile.createNewFile())
+			{
+				screenshotFile = new File(playerFolder, fileName + String.format("(%d)", i++) + ".png");
+			}
+		}
+		catch (IOException ex)
 		{
-			screenshotFile = new File(playerFolder, fileName + String.format("(%d)", i++) + ".png");
+			log.error("error creating screenshot file", ex);
+			return;
 		}
 
+		final File file = screenshotFile;
 		try
 		{
-			ImageIO.write(screenshot, "PNG", screenshotFile);
+			encodeExecutor.execute(RunnableExceptionLogger.wrap(() -> writeScreenshot(screenshot, file, notify, saveToClipboard, compressionLevel)));
+		}
+		catch (RejectedExecutionException ex)
+		{
+			log.warn("Too many screenshots waiting to be saved, dropping {}", file);
+			file.delete();
+		}
+	}
+
+	private void writeScreenshot(BufferedImage screenshot, File screenshotFile, boolean notify, boolean saveToClipboard, int compressionLevel)
+	{
+		try (OutputStream out = new BufferedOutputStream(new FileOutputStream(screenshotFile)))
+		{
+			new PngEncoder(ForkJoinPool.commonPool(), compressionLevel).write(screenshot, out);
 		}
 		catch (IOException ex)
 		{
 			log.error("error writing screenshot", ex);
+			screenshotFile.delete();
 			return;
 		}
 
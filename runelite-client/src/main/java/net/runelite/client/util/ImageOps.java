@@ -0,0 +1,645 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import java.awt.Color;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.Nullable;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+
+/**
+ * An immutable chain of pixel operations, which are applied to an image together.
+ * <p>
+ * Operations work on the image's packed ARGB pixels rather than through Java2D, and consecutive
+ * per-pixel operations are done in a single pass, a row at a time, without intermediate images.
+ * Luminance and alpha adjustments fold into one lookup table. Outlines need the neighbouring pixels
+ * and so start a new pass, but any per-pixel operations after them are done in that same pass.
+ * <p>
+ * The results are the same as the corresponding {@link ImageUtil} methods applied in order.
+ */
+@EqualsAndHashCode
+public final class ImageOps
+{
+	private static final ImageOps NONE = new ImageOps(ImmutableList.of());
+
+	// max variants memoized per source image
+	private static final int MAX_VARIANTS = 16;
+
+	private static final Cache<Image, Cache<ImageOps, BufferedImage>> CACHE = CacheBuilder.newBuilder()
+		.weakKeys()
+		.build();
+
+	// Java2D's 8 bit multiply and divide tables, so compositing rounds exactly as drawImage() does
+	private static final byte[] MUL8 = new byte[256 * 256];
+	private static final byte[] DIV8 = new byte[256 * 256];
+
+	static
+	{
+		for (int i = 1; i < 256; i++)
+		{
+			int inc = (i << 16) | (i << 8) | i;
+			int val = inc + (1 << 23);
+			for (int j = 1; j < 256; j++)
+			{
+				MUL8[i << 8 | j] = (byte) (val >>> 24);
+				val += inc;
+			}
+		}
+
+		for (int i = 1; i < 256; i++)
+		{
+			long inc = ((255L << 24) + i / 2) / i;
+			long val = 1 << 23;
+			for (int j = 0; j < 256; j++)
+			{
+				DIV8[i << 8 | j] = j < i ? (byte) (val >>> 24) : (byte) 255;
+				val += inc;
+			}
+		}
+	}
+
+	private final ImmutableList<Op> ops;
+	@EqualsAndHashCode.Exclude
+	private volatile List<Pass> passes;
+
+	private ImageOps(ImmutableList<Op> ops)
+	{
+		this.ops = ops;
+	}
+
+	/**
+	 * @return an empty chain, which copies the image
+	 */
+	public static ImageOps create()
+	{
+		return NONE;
+	}
+
+	/**
+	 * @see ImageUtil#luminanceOffset(Image, int)
+	 */
+	public ImageOps luminanceOffset(int offset)
+	{
+		return then(new Rescale(false, 1f, offset));
+	}
+
+	/**
+	 * @see ImageUtil#luminanceScale(Image, float)
+	 */
+	public ImageOps luminanceScale(float percentage)
+	{
+		return then(new Rescale(false, percentage, 0f));
+	}
+
+	/**
+	 * @see ImageUtil#alphaOffset(Image, int)
+	 */
+	public ImageOps alphaOffset(int offset)
+	{
+		return then(new Rescale(true, 1f, offset));
+	}
+
+	/**
+	 * @see ImageUtil#alphaOffset(Image, float)
+	 */
+	public ImageOps alphaOffset(float percentage)
+	{
+		return then(new Rescale(true, percentage, 0f));
+	}
+
+	/**
+	 * @see ImageUtil#grayscaleImage(BufferedImage)
+	 */
+	public ImageOps grayscale()
+	{
+		return then(Grayscale.INSTANCE);
+	}
+
+	/**
+	 * @see ImageUtil#recolorImage(Image, Color)
+	 */
+	public ImageOps recolor(Color color)
+	{
+		return then(new Recolor(color.getRGB()));
+	}
+
+	/**
+	 * @see ImageUtil#fillImage(BufferedImage, Color)
+	 */
+	public ImageOps fill(Color color)
+	{
+		return then(new Fill(color.getRGB()));
+	}
+
+	/**
+	 * @see ImageUtil#outlineImage(BufferedImage, Color, Boolean)
+	 */
+	public ImageOps outline(Color color, boolean outlineCorners)
+	{
+		return then(new Outline(color.getRGB(), outlineCorners));
+	}
+
+	private ImageOps then(Op op)
+	{
+		return new ImageOps(ImmutableList.<Op>builder()
+			.addAll(ops)
+			.add(op)
+			.build());
+	}
+
+	/**
+	 * Applies the operations to an image.
+	 *
+	 * @param image the source image, which is not modified
+	 * @return a new ARGB image
+	 */
+	public BufferedImage apply(Image image)
+	{
+		final BufferedImage src = ImageUtil.bufferedImageFromImage(image);
+		final int width = src.getWidth();
+		final int height = src.getHeight();
+
+		int[] pixels;
+		if (src.getType() == BufferedImage.TYPE_INT_ARGB)
+		{
+			pixels = (int[]) src.getRaster().getDataElements(0, 0, width, height, null);
+		}
+		else if (!ops.isEmpty() && ops.get(0) == Grayscale.INSTANCE)
+		{
+			// GrayFilter reads the source pixels as they are, rather than after drawing them to an ARGB image
+			pixels = src.getRGB(0, 0, width, height, null, 0, width);
+		}
+		else
+		{
+			final BufferedImage argb = ImageUtil.toARGB(src);
+			pixels = (int[]) argb.getRaster().getDataElements(0, 0, width, height, null);
+		}
+
+		for (Pass pass : passes())
+		{
+			pixels = pass.run(pixels, width, height);
+		}
+
+		// copy in and out of the raster rather than working on its DataBufferInt directly, since
+		// grabbing the backing array stops Java2D from caching the image in video memory
+		final BufferedImage out = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		out.getRaster().setDataElements(0, 0, width, height, pixels);
+		return out;
+	}
+
+	/**
+	 * Applies the operations to an image, reusing the result of an earlier call with the same
+	 * image and operations. Images are matched by identity, so the source must not be modified
+	 * afterward, and the returned image is shared and must not be modified either. An
+	 * {@link AsyncBufferedImage} is only memoized once it has loaded.
+	 *
+	 * @param image the source image
+	 * @return the memoized ARGB image
+	 */
+	public BufferedImage applyCached(Image image)
+	{
+		if (image instanceof AsyncBufferedImage && !((AsyncBufferedImage) image).isLoaded())
+		{
+			return apply(image);
+		}
+
+		Cache<ImageOps, BufferedImage> variants = CACHE.getIfPresent(image);
+		if (variants == null)
+		{
+			variants = CacheBuilder.newBuilder()
+				.maximumSize(MAX_VARIANTS)
+				.build();
+			Cache<ImageOps, BufferedImage> existing = CACHE.asMap().putIfAbsent(image, variants);
+			if (existing != null)
+			{
+				variants = existing;
+			}
+		}
+
+		BufferedImage result = variants.getIfPresent(this);
+		if (result == null)
+		{
+			result = apply(image);
+			variants.put(this, result);
+		}
+		return result;
+	}
+
+	private List<Pass> passes()
+	{
+		List<Pass> p = passes;
+		if (p == null)
+		{
+			passes = p = compile(ops);
+		}
+		return p;
+	}
+
+	private static List<Pass> compile(List<Op> ops)
+	{
+		final List<Pass> passes = new ArrayList<>();
+		Outline outline = null;
+		List<PixelOp> pixelOps = new ArrayList<>();
+		for (Op op : ops)
+		{
+			if (op instanceof Outline)
+			{
+				if (outline != null || !pixelOps.isEmpty())
+				{
+					passes.add(new Pass(outline, pixelOps.toArray(new PixelOp[0])));
+				}
+				outline = (Outline) op;
+				pixelOps = new ArrayList<>();
+				continue;
+			}
+
+			PixelOp pixelOp = ((PixelOpFactory) op).pixelOp();
+			int last = pixelOps.size() - 1;
+			if (last >= 0 && pixelOp instanceof Lut && pixelOps.get(last) instanceof Lut)
+			{
+				pixelOps.set(last, ((Lut) pixelOps.get(last)).andThen((Lut) pixelOp));
+			}
+			else
+			{
+				pixelOps.add(pixelOp);
+			}
+		}
+
+		if (outline != null || !pixelOps.isEmpty())
+		{
+			passes.add(new Pass(outline, pixelOps.toArray(new PixelOp[0])));
+		}
+		return passes;
+	}
+
+	private static int mul8(int a, int b)
+	{
+		return MUL8[a << 8 | b] & 0xff;
+	}
+
+	private static int div8(int v, int a)
+	{
+		return DIV8[a << 8 | v] & 0xff;
+	}
+
+	/**
+	 * Composites src over dst, as drawImage() does with the default composite.
+	 */
+	static int srcOver(int src, int dst)
+	{
+		final int srcA = src >>> 24;
+		if (srcA == 0)
+		{
+			return dst;
+		}
+		if (srcA == 0xff)
+		{
+			return src;
+		}
+
+		final int dstF = mul8(0xff - srcA, dst >>> 24);
+		final int resA = srcA + dstF;
+		int resR = mul8(srcA, (src >> 16) & 0xff) + mul8(dstF, (dst >> 16) & 0xff);
+		int resG = mul8(srcA, (src >> 8) & 0xff) + mul8(dstF, (dst >> 8) & 0xff);
+		int resB = mul8(srcA, src & 0xff) + mul8(dstF, dst & 0xff);
+		if (resA < 0xff)
+		{
+			resR = div8(resR, resA);
+			resG = div8(resG, resA);
+			resB = div8(resB, resA);
+		}
+		return resA << 24 | resR << 16 | resG << 8 | resB;
+	}
+
+	/**
+	 * Composites src atop dst, as fillRect() does with {@link java.awt.AlphaComposite#SrcAtop}.
+	 * This only matches Java2D for dst pixels which have already been drawn by {@link #srcOver}.
+	 */
+	static int srcAtop(int src, int dst)
+	{
+		final int srcA = src >>> 24;
+		final int dstA = dst >>> 24;
+		int resA = mul8(dstA, srcA);
+		int resR = mul8(resA, (src >> 16) & 0xff);
+		int resG = mul8(resA, (src >> 8) & 0xff);
+		int resB = mul8(resA, src & 0xff);
+
+		final int dstF = mul8(0xff - srcA, dstA);
+		if (dstF != 0)
+		{
+			resA += dstF;
+			resR += mul8(dstF, (dst >> 16) & 0xff);
+			resG += mul8(dstF, (dst >> 8) & 0xff);
+			resB += mul8(dstF, dst & 0xff);
+		}
+
+		if (resA != 0 && resA < 0xff)
+		{
+			resR = div8(resR, resA);
+			resG = div8(resG, resA);
+			resB = div8(resB, resA);
+		}
+		return resA << 24 | resR << 16 | resG << 8 | resB;
+	}
+
+	private interface Op
+	{
+	}
+
+	private interface PixelOpFactory extends Op
+	{
+		PixelOp pixelOp();
+	}
+
+	private interface PixelOp
+	{
+		void apply(int[] pixels, int from, int to);
+	}
+
+	@Value
+	private static class Rescale implements PixelOpFactory
+	{
+		boolean alpha;
+		float scale;
+		float offset;
+
+		@Override
+		public PixelOp pixelOp()
+		{
+			final int[] table = new int[256];
+			for (int i = 0; i < 256; i++)
+			{
+				// same rounding as RescaleOp
+				table[i] = Math.max(0, Math.min(255, (int) (i * scale + offset)));
+			}
+
+			final int[] identity = Lut.identity();
+			return alpha ? new Lut(table, identity) : new Lut(identity, table);
+		}
+	}
+
+	private static class Lut implements PixelOp
+	{
+		private final int[] alpha;
+		private final int[] color;
+
+		Lut(int[] alpha, int[] color)
+		{
+			this.alpha = alpha;
+			this.color = color;
+		}
+
+		static int[] identity()
+		{
+			final int[] table = new int[256];
+			for (int i = 0; i < 256; i++)
+			{
+				table[i] = i;
+			}
+			return table;
+		}
+
+		Lut andThen(Lut next)
+		{
+			final int[] a = new int[256];
+			final int[] c = new int[256];
+			for (int i = 0; i < 256; i++)
+			{
+				a[i] = next.alpha[alpha[i]];
+				c[i] = next.color[color[i]];
+			}
+			return new Lut(a, c);
+		}
+
+		@Override
+		public void apply(int[] pixels, int from, int to)
+		{
+			final int[] alpha = this.alpha;
+			final int[] color = this.color;
+			for (int i = from; i < to; ++i)
+			{
+				final int argb = pixels[i];
+				pixels[i] = alpha[argb >>> 24] << 24
+					| color[(argb >> 16) & 0xff] << 16
+					| color[(argb >> 8) & 0xff] << 8
+					| color[argb & 0xff];
+			}
+		}
+	}
+
+	private enum Grayscale implements PixelOpFactory, PixelOp
+	{
+		INSTANCE;
+
+		@Override
+		public PixelOp pixelOp()
+		{
+			return this;
+		}
+
+		@Override
+		public void apply(int[] pixels, int from, int to)
+		{
+			for (int i = from; i < to; ++i)
+			{
+				// GrayFilter.createDisabledImage(), drawn onto a transparent image
+				final int argb = pixels[i];
+				int gray = (int) ((0.30 * ((argb >> 16) & 0xff) + 0.59 * ((argb >> 8) & 0xff) + 0.11 * (argb & 0xff)) / 3);
+				gray = 255 - (255 - gray) * 50 / 100;
+				pixels[i] = srcOver(argb & 0xff000000 | gray << 16 | gray << 8 | gray, 0);
+			}
+		}
+	}
+
+	@Value
+	private static class Recolor implements PixelOpFactory
+	{
+		int color;
+
+		@Override
+		public PixelOp pixelOp()
+		{
+			if ((color >>> 24) != 0xff)
+			{
+				return (pixels, from, to) ->
+				{
+					for (int i = from; i < to; ++i)
+					{
+						pixels[i] = srcAtop(color, srcOver(pixels[i], 0));
+					}
+				};
+			}
+
+			// an opaque color covers the image's own, so only its alpha matters
+			final int[] table = new int[256];
+			for (int a = 0; a < 256; a++)
+			{
+				table[a] = srcAtop(color, a << 24);
+			}
+			return (pixels, from, to) ->
+			{
+				for (int i = from; i < to; ++i)
+				{
+					pixels[i] = table[pixels[i] >>> 24];
+				}
+			};
+		}
+	}
+
+	@Value
+	private static class Fill implements PixelOpFactory
+	{
+		int color;
+
+		@Override
+		public PixelOp pixelOp()
+		{
+			return (pixels, from, to) ->
+			{
+				for (int i = from; i < to; ++i)
+				{
+					pixels[i] = (pixels[i] >>> 24) == 0 ? 0 : color;
+				}
+			};
+		}
+	}
+
+	@Value
+	private static class Outline implements Op
+	{
+		int color;
+		boolean corners;
+	}
+
+	/**
+	 * An optional outline followed by per-pixel operations. The image is processed a row at a time,
+	 * with each operation running over the row while it is still in cache.
+	 */
+	private static class Pass
+	{
+		@Nullable
+		private final Outline outline;
+		private final PixelOp[] pixelOps;
+
+		Pass(@Nullable Outline outline, PixelOp[] pixelOps)
+		{
+			this.outline = outline;
+			this.pixelOps = pixelOps;
+		}
+
+		int[] run(int[] pixels, int width, int height)
+		{
+			if (outline == null)
+			{
+				for (int row = 0; row < pixels.length; row += width)
+				{
+					applyPixelOps(pixels, row, row + width);
+				}
+				return pixels;
+			}
+
+			// the outline color drawn once for each filled neighbour
+			final int[] layers = new int[outline.corners ? 9 : 5];
+			for (int i = 1; i < layers.length; ++i)
+			{
+				layers[i] = srcOver(outline.color, layers[i - 1]);
+			}
+
+			final int[] out = new int[pixels.length];
+			for (int y = 0; y < height; ++y)
+			{
+				final int row = y * width;
+				final boolean up = y > 0;
+				final boolean down = y < height - 1;
+				for (int x = 0, i = row; x < width; ++x, ++i)
+				{
+					final boolean left = x > 0;
+					final boolean right = x < width - 1;
+
+					int n = 0;
+					if (up && filled(pixels[i - width]))
+					{
+						++n;
+					}
+					if (down && filled(pixels[i + width]))
+					{
+						++n;
+					}
+					if (left && filled(pixels[i - 1]))
+					{
+						++n;
+					}
+					if (right && filled(pixels[i + 1]))
+					{
+						++n;
+					}
+					if (outline.corners)
+					{
+						if (up && left && filled(pixels[i - width - 1]))
+						{
+							++n;
+						}
+						if (up && right && filled(pixels[i - width + 1]))
+						{
+							++n;
+						}
+						if (down && left && filled(pixels[i + width - 1]))
+						{
+							++n;
+						}
+						if (down && right && filled(pixels[i + width + 1]))
+						{
+							++n;
+						}
+					}
+
+					out[i] = srcOver(pixels[i], layers[n]);
+				}
+				applyPixelOps(out, row, row + width);
+			}
+			return out;
+		}
+
+		private void applyPixelOps(int[] pixels, int from, int to)
+		{
+			for (PixelOp op : pixelOps)
+			{
+				op.apply(pixels, from, to);
+			}
+		}
+
+		private static boolean filled(int argb)
+		{
+			return (argb >>> 24) != 0;
+		}
+	}
+}
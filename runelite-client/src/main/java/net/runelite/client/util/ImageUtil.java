@@ -25,7 +25,6 @@
 package net.runelite.client.util;
 
 import com.google.common.primitives.Ints;
-import java.awt.AlphaComposite;
 import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.Image;
@@ -34,14 +33,11 @@ import java.awt.image.AffineTransformOp;
 import java.awt.image.BufferedImage;
 import java.awt.image.DirectColorModel;
 import java.awt.image.PixelGrabber;
-import java.awt.image.RescaleOp;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import javax.imageio.ImageIO;
-import javax.swing.GrayFilter;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.api.IndexedSprite;
@@ -96,14 +92,7 @@ public class ImageUtil
 	 */
 	public static BufferedImage recolorImage(Image image, Color rgb)
 	{
-		BufferedImage out = new BufferedImage(image.getWidth(null), image.getHeight(null), BufferedImage.TYPE_INT_ARGB);
-		Graphics2D g2d = out.createGraphics();
-		g2d.drawImage(image, 0, 0, null);
-		g2d.setComposite(AlphaComposite.SrcAtop);
-		g2d.setColor(rgb);
-		g2d.fillRect(0, 0, out.getWidth(), out.getHeight());
-		g2d.dispose();
-		return out;
+		return ImageOps.create().recolor(rgb).apply(image);
 	}
 
 	/**
@@ -116,20 +105,7 @@ public class ImageUtil
 	 */
 	public static BufferedImage luminanceOffset(final Image rawImg, final int offset)
 	{
-		BufferedImage image = toARGB(rawImg);
-		final int numComponents = image.getColorModel().getNumComponents();
-		final float[] scales = new float[numComponents];
-		final float[] offsets = new float[numComponents];
-
-		Arrays.fill(scales, 1f);
-		for (int i = 0; i < numComponents; i++)
-		{
-			offsets[i] = offset;
-		}
-		// Set alpha to not offset
-		offsets[numComponents - 1] = 0f;
-
-		return offset(image, scales, offsets);
+		return ImageOps.create().luminanceOffset(offset).apply(rawImg);
 	}
 
 	/**
@@ -142,20 +118,7 @@ public class ImageUtil
 	 */
 	public static BufferedImage luminanceScale(final Image rawImg, final float percentage)
 	{
-		BufferedImage image = toARGB(rawImg);
-		final int numComponents = image.getColorModel().getNumComponents();
-		final float[] scales = new float[numComponents];
-		final float[] offsets = new float[numComponents];
-
-		Arrays.fill(offsets, 0f);
-		for (int i = 0; i < numComponents; i++)
-		{
-			scales[i] = percentage;
-		}
-		// Set alpha to not scale
-		scales[numComponents - 1] = 1f;
-
-		return offset(image, scales, offsets);
+		return ImageOps.create().luminanceScale(percentage).apply(rawImg);
 	}
 
 	/**
@@ -169,15 +132,7 @@ public class ImageUtil
 	 */
 	public static BufferedImage alphaOffset(final Image rawImg, final int offset)
 	{
-		BufferedImage image = toARGB(rawImg);
-		final int numComponents = image.getColorModel().getNumComponents();
-		final float[] scales = new float[numComponents];
-		final float[] offsets = new float[numComponents];
-
-		Arrays.fill(scales, 1f);
-		Arrays.fill(offsets, 0f);
-		offsets[numComponents - 1] = offset;
-		return offset(image, scales, offsets);
+		return ImageOps.create().alphaOffset(offset).apply(rawImg);
 	}
 
 	/**
@@ -191,15 +146,7 @@ public class ImageUtil
 	 */
 	public static BufferedImage alphaOffset(final Image rawImg, final float percentage)
 	{
-		BufferedImage image = toARGB(rawImg);
-		final int numComponents = image.getColorModel().getNumComponents();
-		final float[] scales = new float[numComponents];
-		final float[] offsets = new float[numComponents];
-
-		Arrays.fill(scales, 1f);
-		Arrays.fill(offsets, 0f);
-		scales[numComponents - 1] = percentage;
-		return offset(image, scales, offsets);
+		return ImageOps.create().alphaOffset(percentage).apply(rawImg);
 	}
 
 	/**
@@ -210,8 +157,7 @@ public class ImageUtil
 	 */
 	public static BufferedImage grayscaleImage(final BufferedImage image)
 	{
-		final Image grayImage = GrayFilter.createDisabledImage(image);
-		return ImageUtil.bufferedImageFromImage(grayImage);
+		return ImageOps.create().grayscale().apply(image);
 	}
 
 	/**
@@ -354,27 +300,7 @@ public class ImageUtil
 	 */
 	public static BufferedImage outlineImage(final BufferedImage image, final Color color, final Boolean outlineCorners)
 	{
-		final BufferedImage filledImage = fillImage(image, color);
-		final BufferedImage outlinedImage = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB);
-
-		final Graphics2D g2d = outlinedImage.createGraphics();
-		for (int x = -1; x <= 1; x++)
-		{
-			for (int y = -1; y <= 1; y++)
-			{
-				if ((x == 0 && y == 0)
-					|| (!outlineCorners && Math.abs(x) + Math.abs(y) != 1))
-				{
-					continue;
-				}
-
-				g2d.drawImage(filledImage, x, y, null);
-			}
-		}
-		g2d.drawImage(image, 0, 0, null);
-		g2d.dispose();
-
-		return outlinedImage;
+		return ImageOps.create().outline(color, outlineCorners).apply(image);
 	}
 
 	/**
@@ -436,38 +362,9 @@ public class ImageUtil
 	 */
 	public static BufferedImage fillImage(final BufferedImage image, final Color color)
 	{
-		final BufferedImage filledImage = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB);
-		for (int x = 0; x < filledImage.getWidth(); x++)
-		{
-			for (int y = 0; y < filledImage.getHeight(); y++)
-			{
-				int pixel = image.getRGB(x, y);
-				int a = pixel >>> 24;
-				if (a == 0)
-				{
-					continue;
-				}
-
-				filledImage.setRGB(x, y, color.getRGB());
-			}
-		}
-		return filledImage;
+		return ImageOps.create().fill(color).apply(image);
 	}
 
-	/**
-	 * Performs a rescale operation on the image's color components.
-	 *
-	 * @param image   The image to be adjusted.
-	 * @param scales  An array of scale operations to be performed on the image's color components.
-	 * @param offsets An array of offset operations to be performed on the image's color components.
-	 * @return        The modified image after applying the given adjustments.
-	 */
-	private static BufferedImage offset(final BufferedImage image, final float[] scales, final float[] offsets)
-	{
-		return new RescaleOp(scales, offsets, null).filter(image, null);
-	}
-
-
 	/**
 	 * Converts the buffered image into a sprite image and returns it
 	 * @param image  The image to be converted
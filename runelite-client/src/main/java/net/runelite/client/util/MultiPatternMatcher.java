@@ -0,0 +1,338 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Matches text against a list of words and regexes in close to a single pass, however long the
+ * lists are.
+ * <p>
+ * Words are matched ignoring ASCII case, as with {@link Pattern#quote(String)} and
+ * {@link Pattern#CASE_INSENSITIVE}, by one Aho-Corasick automaton. Regexes are merged into one
+ * alternation which finds whether any of them match; only text which matches is searched with each
+ * regex again to find what matched. Regexes with backreferences, named groups, quoting, or flags other
+ * than {@link Pattern#CASE_INSENSITIVE} can't be merged and are always searched separately, as are all
+ * of the regexes if the alternation doesn't compile.
+ */
+@Slf4j
+public class MultiPatternMatcher
+{
+	// backreferences and named groups refer to groups by number or name, which change or clash when
+	// regexes are merged, and an unterminated \Q quotes the rest of the alternation
+	private static final Pattern UNMERGEABLE = Pattern.compile("\\\\(?:[1-9]|k<|Q)|\\(\\?<[a-zA-Z]");
+	private static final int[] NO_WORDS = new int[0];
+
+	// automaton: per state, the sorted transition chars and their states, the failure state, and the words ending there
+	private final char[][] transitionChars;
+	private final int[][] transitionStates;
+	private final int[] failure;
+	private final int[][] output;
+	private final int[] wordLengths;
+	private final boolean emptyWord;
+
+	private final List<Pattern> merged = new ArrayList<>();
+	private final List<Pattern> unmerged = new ArrayList<>();
+	private final Pattern alternation;
+
+	public MultiPatternMatcher(Collection<String> words, Collection<Pattern> patterns)
+	{
+		List<Map<Character, Integer>> trie = new ArrayList<>();
+		List<List<Integer>> ends = new ArrayList<>();
+		trie.add(new HashMap<>());
+		ends.add(new ArrayList<>());
+
+		List<Integer> lengths = new ArrayList<>();
+		boolean empty = false;
+		for (String word : words)
+		{
+			if (word.isEmpty())
+			{
+				empty = true;
+				continue;
+			}
+
+			int state = 0;
+			for (int i = 0; i < word.length(); ++i)
+			{
+				final char c = fold(word.charAt(i));
+				Integer next = trie.get(state).get(c);
+				if (next == null)
+				{
+					next = trie.size();
+					trie.get(state).put(c, next);
+					trie.add(new HashMap<>());
+					ends.add(new ArrayList<>());
+				}
+				state = next;
+			}
+			ends.get(state).add(lengths.size());
+			lengths.add(word.length());
+		}
+
+		final int numStates = trie.size();
+		transitionChars = new char[numStates][];
+		transitionStates = new int[numStates][];
+		failure = new int[numStates];
+		output = new int[numStates][];
+		wordLengths = lengths.stream().mapToInt(Integer::intValue).toArray();
+		emptyWord = empty;
+
+		for (int state = 0; state < numStates; ++state)
+		{
+			final Map<Character, Integer> children = trie.get(state);
+			final char[] chars = new char[children.size()];
+			int i = 0;
+			for (char c : children.keySet())
+			{
+				chars[i++] = c;
+			}
+			Arrays.sort(chars);
+
+			final int[] states = new int[chars.length];
+			for (i = 0; i < chars.length; ++i)
+			{
+				states[i] = children.get(chars[i]);
+			}
+			transitionChars[state] = chars;
+			transitionStates[state] = states;
+		}
+
+		// breadth first, so the failure state of each state's parent is complete before the state
+		output[0] = NO_WORDS;
+		final int[] queue = new int[numStates];
+		int head = 0, tail = 0;
+		for (int child : transitionStates[0])
+		{
+			output[child] = ends.get(child).stream().mapToInt(Integer::intValue).toArray();
+			queue[tail++] = child;
+		}
+		while (head < tail)
+		{
+			final int state = queue[head++];
+			for (int i = 0; i < transitionChars[state].length; ++i)
+			{
+				final char c = transitionChars[state][i];
+				final int child = transitionStates[state][i];
+
+				int f = failure[state];
+				while (f != 0 && transition(f, c) == -1)
+				{
+					f = failure[f];
+				}
+				final int next = transition(f, c);
+				failure[child] = next == -1 ? 0 : next;
+
+				// words ending at the failure state end here too
+				final List<Integer> childEnds = ends.get(child);
+				final int[] inherited = output[failure[child]];
+				final int[] out = new int[childEnds.size() + inherited.length];
+				for (int j = 0; j < childEnds.size(); ++j)
+				{
+					out[j] = childEnds.get(j);
+				}
+				System.arraycopy(inherited, 0, out, childEnds.size(), inherited.length);
+				output[child] = out;
+
+				queue[tail++] = child;
+			}
+		}
+
+		for (Pattern pattern : patterns)
+		{
+			if ((pattern.flags() & ~Pattern.CASE_INSENSITIVE) == 0 && !UNMERGEABLE.matcher(pattern.pattern()).find())
+			{
+				merged.add(pattern);
+			}
+			else
+			{
+				unmerged.add(pattern);
+			}
+		}
+
+		alternation = merged.isEmpty() ? null : compileAlternation();
+	}
+
+	@Nullable
+	private Pattern compileAlternation()
+	{
+		try
+		{
+			return Pattern.compile(merged.stream()
+				.map(p -> ((p.flags() & Pattern.CASE_INSENSITIVE) != 0 ? "(?i:" : "(?:") + p.pattern() + ")")
+				.collect(Collectors.joining("|")));
+		}
+		catch (PatternSyntaxException ex)
+		{
+			log.debug("Unable to merge patterns, they will be matched separately", ex);
+			unmerged.addAll(merged);
+			merged.clear();
+			return null;
+		}
+	}
+
+	/**
+	 * Test if any word or regex is found in the text
+	 *
+	 * @param text text to search
+	 * @return true if anything matches
+	 */
+	public boolean find(CharSequence text)
+	{
+		if (emptyWord)
+		{
+			return true;
+		}
+
+		int state = 0;
+		for (int i = 0; i < text.length(); ++i)
+		{
+			state = step(state, text.charAt(i));
+			if (output[state].length > 0)
+			{
+				return true;
+			}
+		}
+
+		if (alternation != null && alternation.matcher(text).find())
+		{
+			return true;
+		}
+
+		for (Pattern pattern : unmerged)
+		{
+			if (pattern.matcher(text).find())
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Find the characters of the text matched by the words and regexes. Each word and regex matches as
+	 * {@link Matcher#find()} would, so the matches of one word or regex don't overlap each other, but may
+	 * overlap those of others.
+	 *
+	 * @param text text to search
+	 * @return the indexes of the matched characters, which is empty if only empty matches were found,
+	 * or null if nothing matches
+	 */
+	@Nullable
+	public BitSet match(CharSequence text)
+	{
+		BitSet matched = emptyWord ? new BitSet() : null;
+
+		// the end of the last match of each word
+		final int[] lastEnd = new int[wordLengths.length];
+		int state = 0;
+		for (int i = 0; i < text.length(); ++i)
+		{
+			state = step(state, text.charAt(i));
+			for (int word : output[state])
+			{
+				final int start = i + 1 - wordLengths[word];
+				if (start >= lastEnd[word])
+				{
+					if (matched == null)
+					{
+						matched = new BitSet(text.length());
+					}
+					matched.set(start, i + 1);
+					lastEnd[word] = i + 1;
+				}
+			}
+		}
+
+		if (alternation != null && alternation.matcher(text).find())
+		{
+			for (Pattern pattern : merged)
+			{
+				matched = match(pattern, text, matched);
+			}
+		}
+
+		for (Pattern pattern : unmerged)
+		{
+			matched = match(pattern, text, matched);
+		}
+		return matched;
+	}
+
+	private static BitSet match(Pattern pattern, CharSequence text, BitSet matched)
+	{
+		final Matcher m = pattern.matcher(text);
+		while (m.find())
+		{
+			if (matched == null)
+			{
+				matched = new BitSet(text.length());
+			}
+			matched.set(m.start(), m.end());
+		}
+		return matched;
+	}
+
+	private int step(int state, char c)
+	{
+		c = fold(c);
+		while (true)
+		{
+			final int next = transition(state, c);
+			if (next != -1)
+			{
+				return next;
+			}
+			if (state == 0)
+			{
+				return 0;
+			}
+			state = failure[state];
+		}
+	}
+
+	private int transition(int state, char c)
+	{
+		final int idx = Arrays.binarySearch(transitionChars[state], c);
+		return idx < 0 ? -1 : transitionStates[state][idx];
+	}
+
+	private static char fold(char c)
+	{
+		return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+	}
+}
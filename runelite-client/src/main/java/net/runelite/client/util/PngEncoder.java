@@ -0,0 +1,411 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.awt.image.BufferedImage;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * A PNG writer which filters and compresses bands of rows in parallel.
+ * <p>
+ * Each band is compressed with its own deflater and ended with a sync flush, so the compressed
+ * bands concatenate into a single zlib stream. This costs a little compression at band boundaries,
+ * where back-references can't reach into the previous band.
+ * <p>
+ * Like ImageIO, rows are not filtered at the default compression level and below, which keeps
+ * encoding fast. Higher levels pick a filter for each row, which usually makes smaller files.
+ */
+public class PngEncoder
+{
+	private static final byte[] SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'};
+	// uncompressed bytes per band
+	private static final int BAND_BYTES = 256 * 1024;
+	private static final int ADLER_BASE = 65521;
+	// lowest compression level which filters rows
+	private static final int FILTER_LEVEL = 5;
+
+	private final Executor executor;
+	private final int compressionLevel;
+
+	/**
+	 * @param executor executor to compress bands on
+	 * @param compressionLevel deflate compression level, 0-9
+	 */
+	public PngEncoder(Executor executor, int compressionLevel)
+	{
+		if (compressionLevel < 0 || compressionLevel > 9)
+		{
+			throw new IllegalArgumentException("compression level must be 0-9");
+		}
+
+		this.executor = executor;
+		this.compressionLevel = compressionLevel;
+	}
+
+	/**
+	 * Write an image as an 8 bit RGB, or RGBA if the image has alpha, PNG
+	 *
+	 * @param image image
+	 * @param out output, which is not closed
+	 * @throws IOException
+	 */
+	public void write(BufferedImage image, OutputStream out) throws IOException
+	{
+		final int width = image.getWidth();
+		final int height = image.getHeight();
+		final boolean alpha = image.getColorModel().hasAlpha();
+		final int stride = width * (alpha ? 4 : 3);
+		final int rowsPerBand = Math.max(1, BAND_BYTES / (stride + 1));
+
+		final List<CompletableFuture<Band>> bands = new ArrayList<>();
+		for (int y = 0; y < height; y += rowsPerBand)
+		{
+			final int start = y;
+			final int end = Math.min(height, y + rowsPerBand);
+			bands.add(CompletableFuture.supplyAsync(() -> compress(image, start, end, alpha), executor));
+		}
+
+		final DataOutputStream dout = new DataOutputStream(out);
+		dout.write(SIGNATURE);
+
+		final byte[] ihdr = new byte[13];
+		writeInt(ihdr, 0, width);
+		writeInt(ihdr, 4, height);
+		ihdr[8] = 8; // bit depth
+		ihdr[9] = (byte) (alpha ? 6 : 2); // color type
+		writeChunk(dout, "IHDR", ihdr, ihdr.length);
+
+		writeChunk(dout, "IDAT", zlibHeader(compressionLevel), 2);
+		long adler = 1;
+		for (CompletableFuture<Band> future : bands)
+		{
+			final Band band = future.join();
+			adler = adler32Combine(adler, band.adler, band.length);
+			writeChunk(dout, "IDAT", band.data, band.size);
+		}
+
+		final byte[] trailer = new byte[4];
+		writeInt(trailer, 0, (int) adler);
+		writeChunk(dout, "IDAT", trailer, trailer.length);
+
+		writeChunk(dout, "IEND", new byte[0], 0);
+		dout.flush();
+	}
+
+	private static final class Band
+	{
+		// uncompressed length and checksum
+		private int length;
+		private long adler;
+		private byte[] data;
+		private int size;
+	}
+
+	private Band compress(BufferedImage image, int start, int end, boolean alpha)
+	{
+		final int width = image.getWidth();
+		final int bpp = alpha ? 4 : 3;
+		final int stride = width * bpp;
+		final int[] pixels = new int[width];
+		byte[] prev = new byte[stride];
+		byte[] cur = new byte[stride];
+		final byte[] filtered = new byte[(end - start) * (stride + 1)];
+
+		if (start > 0)
+		{
+			readRow(image, start - 1, pixels, prev, alpha);
+		}
+
+		int pos = 0;
+		for (int y = start; y < end; ++y)
+		{
+			readRow(image, y, pixels, cur, alpha);
+			if (compressionLevel >= FILTER_LEVEL)
+			{
+				pos = filterRow(cur, prev, bpp, filtered, pos);
+			}
+			else
+			{
+				filtered[pos++] = 0;
+				System.arraycopy(cur, 0, filtered, pos, stride);
+				pos += stride;
+			}
+
+			final byte[] tmp = prev;
+			prev = cur;
+			cur = tmp;
+		}
+
+		final Band band = new Band();
+		band.length = filtered.length;
+
+		final Adler32 adler = new Adler32();
+		adler.update(filtered, 0, filtered.length);
+		band.adler = adler.getValue();
+
+		final boolean last = end == image.getHeight();
+		final Deflater deflater = new Deflater(compressionLevel, true);
+		try
+		{
+			deflater.setInput(filtered);
+			if (last)
+			{
+				deflater.finish();
+			}
+
+			byte[] data = new byte[Math.max(64, filtered.length / 4)];
+			int size = 0;
+			while (true)
+			{
+				if (size == data.length)
+				{
+					data = Arrays.copyOf(data, data.length * 2);
+				}
+
+				size += deflater.deflate(data, size, data.length - size, last ? Deflater.NO_FLUSH : Deflater.SYNC_FLUSH);
+				// a flush or finish is complete once it leaves space in the output
+				if (last ? deflater.finished() : size < data.length)
+				{
+					break;
+				}
+			}
+
+			band.data = data;
+			band.size = size;
+		}
+		finally
+		{
+			deflater.end();
+		}
+		return band;
+	}
+
+	private static void readRow(BufferedImage image, int y, int[] pixels, byte[] row, boolean alpha)
+	{
+		final int width = pixels.length;
+		final int type = image.getType();
+		if (type == BufferedImage.TYPE_INT_ARGB || type == BufferedImage.TYPE_INT_RGB)
+		{
+			// copies straight out of the raster without converting through the color model
+			image.getRaster().getDataElements(0, y, width, 1, pixels);
+		}
+		else
+		{
+			image.getRGB(0, y, width, 1, pixels, 0, width);
+		}
+
+		int i = 0;
+		for (int x = 0; x < width; ++x)
+		{
+			final int argb = pixels[x];
+			row[i++] = (byte) (argb >> 16);
+			row[i++] = (byte) (argb >> 8);
+			row[i++] = (byte) argb;
+			if (alpha)
+			{
+				row[i++] = (byte) (argb >>> 24);
+			}
+		}
+	}
+
+	/**
+	 * Filter a row with whichever filter gives the smallest sum of absolute differences,
+	 * which is the heuristic suggested by the PNG specification.
+	 *
+	 * @return the new output position
+	 */
+	private static int filterRow(byte[] cur, byte[] prev, int bpp, byte[] out, int pos)
+	{
+		final int len = cur.length;
+		long none = 0;
+		long sub = 0;
+		long up = 0;
+		long avg = 0;
+		long paeth = 0;
+		// the first pixel has nothing to its left
+		for (int i = 0; i < bpp; ++i)
+		{
+			final int x = cur[i] & 0xff;
+			final int b = prev[i] & 0xff;
+			none += Math.abs((byte) x);
+			sub += Math.abs((byte) x);
+			up += Math.abs((byte) (x - b));
+			avg += Math.abs((byte) (x - (b >> 1)));
+			paeth += Math.abs((byte) (x - b));
+		}
+		for (int i = bpp; i < len; ++i)
+		{
+			final int x = cur[i] & 0xff;
+			final int a = cur[i - bpp] & 0xff;
+			final int b = prev[i] & 0xff;
+			final int c = prev[i - bpp] & 0xff;
+			none += Math.abs((byte) x);
+			sub += Math.abs((byte) (x - a));
+			up += Math.abs((byte) (x - b));
+			avg += Math.abs((byte) (x - ((a + b) >> 1)));
+			paeth += Math.abs((byte) (x - paeth(a, b, c)));
+		}
+
+		int filter = 0;
+		long best = none;
+		if (sub < best)
+		{
+			filter = 1;
+			best = sub;
+		}
+		if (up < best)
+		{
+			filter = 2;
+			best = up;
+		}
+		if (avg < best)
+		{
+			filter = 3;
+			best = avg;
+		}
+		if (paeth < best)
+		{
+			filter = 4;
+		}
+
+		out[pos++] = (byte) filter;
+		switch (filter)
+		{
+			case 0:
+				System.arraycopy(cur, 0, out, pos, len);
+				break;
+			case 1:
+				for (int i = 0; i < len; ++i)
+				{
+					out[pos + i] = (byte) (cur[i] - (i >= bpp ? cur[i - bpp] : 0));
+				}
+				break;
+			case 2:
+				for (int i = 0; i < len; ++i)
+				{
+					out[pos + i] = (byte) (cur[i] - prev[i]);
+				}
+				break;
+			case 3:
+				for (int i = 0; i < len; ++i)
+				{
+					final int a = i >= bpp ? cur[i - bpp] & 0xff : 0;
+					out[pos + i] = (byte) (cur[i] - ((a + (prev[i] & 0xff)) >> 1));
+				}
+				break;
+			default:
+				for (int i = 0; i < len; ++i)
+				{
+					final int a = i >= bpp ? cur[i - bpp] & 0xff : 0;
+					final int c = i >= bpp ? prev[i - bpp] & 0xff : 0;
+					out[pos + i] = (byte) (cur[i] - paeth(a, prev[i] & 0xff, c));
+				}
+		}
+		return pos + len;
+	}
+
+	private static int paeth(int a, int b, int c)
+	{
+		final int p = a + b - c;
+		final int pa = Math.abs(p - a);
+		final int pb = Math.abs(p - b);
+		final int pc = Math.abs(p - c);
+		if (pa <= pb && pa <= pc)
+		{
+			return a;
+		}
+		return pb <= pc ? b : c;
+	}
+
+	private static byte[] zlibHeader(int level)
+	{
+		final int cmf = 0x78; // deflate, 32k window
+		final int flevel = level < 2 ? 0 : level < 6 ? 1 : level == 6 ? 2 : 3;
+		int flg = flevel << 6;
+		flg += 31 - ((cmf << 8) + flg) % 31;
+		return new byte[]{(byte) cmf, (byte) flg};
+	}
+
+	/**
+	 * Combine the adler-32 checksums of two consecutive blocks of data, as zlib's adler32_combine
+	 */
+	static long adler32Combine(long adler1, long adler2, long len2)
+	{
+		final long rem = len2 % ADLER_BASE;
+		long sum1 = adler1 & 0xffff;
+		long sum2 = (rem * sum1) % ADLER_BASE;
+		sum1 += (adler2 & 0xffff) + ADLER_BASE - 1;
+		sum2 += ((adler1 >> 16) & 0xffff) + ((adler2 >> 16) & 0xffff) + ADLER_BASE - rem;
+		if (sum1 >= ADLER_BASE)
+		{
+			sum1 -= ADLER_BASE;
+		}
+		if (sum1 >= ADLER_BASE)
+		{
+			sum1 -= ADLER_BASE;
+		}
+		if (sum2 >= ((long) ADLER_BASE << 1))
+		{
+			sum2 -= (long) ADLER_BASE << 1;
+		}
+		if (sum2 >= ADLER_BASE)
+		{
+			sum2 -= ADLER_BASE;
+		}
+		return sum1 | (sum2 << 16);
+	}
+
+	private static void writeChunk(DataOutputStream out, String type, byte[] data, int length) throws IOException
+	{
+		final byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+		final CRC32 crc = new CRC32();
+		crc.update(typeBytes);
+		crc.update(data, 0, length);
+
+		out.writeInt(length);
+		out.write(typeBytes);
+		out.write(data, 0, length);
+		out.writeInt((int) crc.getValue());
+	}
+
+	private static void writeInt(byte[] b, int off, int v)
+	{
+		b[off] = (byte) (v >>> 24);
+		b[off + 1] = (byte) (v >>> 16);
+		b[off + 2] = (byte) (v >>> 8);
+		b[off + 3] = (byte) v;
+	}
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import com.google.gson.stream.JsonWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Records spans of work done during client startup, and writes them in the Chrome trace event
+ * format, which can be opened with chrome://tracing or https://ui.perfetto.dev.
+ * <p>
+ * Recording is off unless {@link #enable()} is called. Until then {@link #span(String)}
+ * returns a shared no-op span.
+ */
+@Slf4j
+public class StartupTimeline
+{
+	private static final Span NOOP = new Span(null, null);
+
+	private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+	private static final ClassLoadingMXBean CLASS_LOADING_MX_BEAN = ManagementFactory.getClassLoadingMXBean();
+
+	// the timestamps are relative to the jvm start, so the time spent before main is visible too
+	private static long origin;
+	private static volatile List<Event> events;
+
+	private static final class Event
+	{
+		private String name;
+		private String detail;
+		private long threadId;
+		private String threadName;
+		private long start;
+		private long duration;
+		private long allocatedBytes;
+		private long loadedClasses;
+		private int threads;
+	}
+
+	public static final class Span implements AutoCloseable
+	{
+		private final String name;
+		private final String detail;
+		private final long start;
+		private final long allocatedBytes;
+		private final long loadedClasses;
+
+		private Span(String name, String detail)
+		{
+			this.name = name;
+			this.detail = detail;
+			this.allocatedBytes = name != null ? allocatedBytes() : 0L;
+			this.loadedClasses = name != null ? CLASS_LOADING_MX_BEAN.getTotalLoadedClassCount() : 0L;
+			this.start = System.nanoTime();
+		}
+
+		@Override
+		public void close()
+		{
+			List<Event> events = StartupTimeline.events;
+			if (name == null || events == null)
+			{
+				return;
+			}
+
+			long end = System.nanoTime();
+			Thread thread = Thread.currentThread();
+
+			Event event = new Event();
+			event.name = name;
+			event.detail = detail;
+			event.threadId = thread.getId();
+			event.threadName = thread.getName();
+			event.start = start - origin;
+			event.duration = end - start;
+			event.allocatedBytes = allocatedBytes < 0 ? -1L : allocatedBytes() - allocatedBytes;
+			event.loadedClasses = CLASS_LOADING_MX_BEAN.getTotalLoadedClassCount() - loadedClasses;
+			event.threads = THREAD_MX_BEAN.getThreadCount();
+
+			synchronized (events)
+			{
+				events.add(event);
+			}
+		}
+	}
+
+	public static synchronized void enable()
+	{
+		if (events == null)
+		{
+			origin = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(ManagementFactory.getRuntimeMXBean().getUptime());
+			events = new ArrayList<>(512);
+		}
+	}
+
+	public static boolean isEnabled()
+	{
+		return events != null;
+	}
+
+	/**
+	 * Start a span, which ends when it is closed. Meant to be used with try-with-resources.
+	 *
+	 * @param name the name of the span
+	 * @return the span
+	 */
+	public static Span span(String name)
+	{
+		return span(name, null);
+	}
+
+	/**
+	 * Start a span, which ends when it is closed. Meant to be used with try-with-resources.
+	 *
+	 * @param name   the name of the span
+	 * @param detail extra information about the span, e.g. which plugin it is for
+	 * @return the span
+	 */
+	public static Span span(String name, @Nullable String detail)
+	{
+		return events == null ? NOOP : new Span(name, detail);
+	}
+
+	/**
+	 * Write the recorded spans to a file as a Chrome trace
+	 *
+	 * @param file the file to write to
+	 * @throws IOException
+	 */
+	public static void write(File file) throws IOException
+	{
+		List<Event> events = StartupTimeline.events;
+		if (events == null)
+		{
+			return;
+		}
+
+		List<Event> snapshot;
+		synchronized (events)
+		{
+			snapshot = new ArrayList<>(events);
+		}
+
+		try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8);
+			JsonWriter json = new JsonWriter(writer))
+		{
+			json.beginObject();
+			json.name("displayTimeUnit").value("ms");
+			json.name("traceEvents").beginArray();
+
+			Map<Long, String> threadNames = new HashMap<>();
+			for (Event event : snapshot)
+			{
+				threadNames.put(event.threadId, event.threadName);
+
+				json.beginObject();
+				json.name("name").value(event.name);
+				json.name("ph").value("X");
+				json.name("pid").value(1);
+				json.name("tid").value(event.threadId);
+				// the trace format is in microseconds, but accepts fractional values
+				json.name("ts").value(event.start / 1000d);
+				json.name("dur").value(event.duration / 1000d);
+				json.name("args").beginObject();
+				if (event.detail != null)
+				{
+					json.name("detail").value(event.detail);
+				}
+				if (event.allocatedBytes >= 0)
+				{
+					json.name("allocatedBytes").value(event.allocatedBytes);
+				}
+				json.name("loadedClasses").value(event.loadedClasses);
+				json.name("threads").value(event.threads);
+				json.endObject();
+				json.endObject();
+			}
+
+			for (Map.Entry<Long, String> entry : threadNames.entrySet())
+			{
+				json.beginObject();
+				json.name("name").value("thread_name");
+				json.name("ph").value("M");
+				json.name("pid").value(1);
+				json.name("tid").value(entry.getKey());
+				json.name("args").beginObject();
+				json.name("name").value(entry.getValue());
+				json.endObject();
+				json.endObject();
+			}
+
+			json.endArray();
+			json.endObject();
+		}
+
+		log.info("Wrote {} startup trace events to {}", snapshot.size(), file);
+	}
+
+	private static long allocatedBytes()
+	{
+		if (THREAD_MX_BEAN instanceof com.sun.management.ThreadMXBean)
+		{
+			return ((com.sun.management.ThreadMXBean) THREAD_MX_BEAN).getThreadAllocatedBytes(Thread.currentThread().getId());
+		}
+		return -1L;
+	}
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * A list of values with wildcard patterns, compiled for matching many names against.
+ * <p>
+ * Patterns are matched ignoring case, and {@code *} matches any sequence of characters, as with
+ * {@link WildcardMatcher}. Patterns without a wildcard are looked up by name, and patterns with only
+ * a leading or only a trailing wildcard are matched by walking a suffix or prefix trie, so the cost
+ * of these does not grow with the number of patterns. Other patterns are combined into one regex which
+ * rejects names matching none of them.
+ *
+ * @param <T> value type
+ */
+public class WildcardIndex<T>
+{
+	private static class Node
+	{
+		private final Map<Character, Node> children = new HashMap<>();
+		private final List<Integer> values = new ArrayList<>();
+	}
+
+	private final List<T> values;
+	private final Map<String, List<Integer>> exact = new HashMap<>();
+	private final Node prefixes = new Node();
+	private final Node suffixes = new Node();
+	private final List<Integer> otherValues = new ArrayList<>();
+	private final List<Pattern> otherPatterns = new ArrayList<>();
+	private final Pattern others;
+
+	/**
+	 * @param values the values
+	 * @param pattern function to get the wildcard pattern of a value
+	 */
+	public WildcardIndex(List<T> values, Function<T, String> pattern)
+	{
+		this.values = new ArrayList<>(values);
+
+		for (int i = 0; i < this.values.size(); ++i)
+		{
+			final String p = pattern.apply(this.values.get(i)).toLowerCase(Locale.ROOT);
+			final int star = p.indexOf('*');
+			if (star == -1)
+			{
+				exact.computeIfAbsent(p, k -> new ArrayList<>()).add(i);
+			}
+			else if (star == p.length() - 1)
+			{
+				insert(prefixes, p.substring(0, star), false).values.add(i);
+			}
+			else if (star == 0 && p.indexOf('*', 1) == -1)
+			{
+				insert(suffixes, p.substring(1), true).values.add(i);
+			}
+			else
+			{
+				otherValues.add(i);
+				otherPatterns.add(WildcardMatcher.compile(p));
+			}
+		}
+
+		others = otherPatterns.isEmpty() ? null : Pattern.compile(otherPatterns.stream()
+			.map(p -> "(?:" + p.pattern() + ")")
+			.collect(Collectors.joining("|")));
+	}
+
+	/**
+	 * Get the values whose pattern matches the text
+	 *
+	 * @param text text to match
+	 * @return the matching values, in their original order
+	 */
+	public List<T> matches(String text)
+	{
+		final String lower = text.toLowerCase(Locale.ROOT);
+		final BitSet matched = new BitSet(values.size());
+
+		final List<Integer> exactValues = exact.get(lower);
+		if (exactValues != null)
+		{
+			exactValues.forEach(matched::set);
+		}
+
+		walk(prefixes, lower, false, matched);
+		walk(suffixes, lower, true, matched);
+
+		if (others != null && others.matcher(lower).matches())
+		{
+			for (int i = 0; i < otherPatterns.size(); ++i)
+			{
+				if (otherPatterns.get(i).matcher(lower).matches())
+				{
+					matched.set(otherValues.get(i));
+				}
+			}
+		}
+
+		if (matched.isEmpty())
+		{
+			return Collections.emptyList();
+		}
+
+		final List<T> result = new ArrayList<>(matched.cardinality());
+		for (int i = matched.nextSetBit(0); i >= 0; i = matched.nextSetBit(i + 1))
+		{
+			result.add(values.get(i));
+		}
+		return result;
+	}
+
+	private static Node insert(Node node, String s, boolean reverse)
+	{
+		for (int i = 0; i < s.length(); ++i)
+		{
+			final char c = s.charAt(reverse ? s.length() - 1 - i : i);
+			node = node.children.computeIfAbsent(c, k -> new Node());
+		}
+		return node;
+	}
+
+	private static void walk(Node node, String s, boolean reverse, BitSet matched)
+	{
+		node.values.forEach(matched::set);
+		for (int i = 0; i < s.length(); ++i)
+		{
+			node = node.children.get(s.charAt(reverse ? s.length() - 1 - i : i));
+			if (node == null)
+			{
+				return;
+			}
+			node.values.forEach(matched::set);
+		}
+	}
+}
@@ -24,6 +24,9 @@
  */
 package net.runelite.client.util;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -31,7 +34,22 @@ public class WildcardMatcher
 {
 	private static final Pattern WILDCARD_PATTERN = Pattern.compile("(?i)[^*]+|(\\*)");
 
+	private static final LoadingCache<String, Pattern> PATTERNS = CacheBuilder.newBuilder()
+		.maximumSize(256L)
+		.build(CacheLoader.from(WildcardMatcher::compile));
+
 	public static boolean matches(String pattern, String text)
+	{
+		return PATTERNS.getUnchecked(pattern).matcher(text).matches();
+	}
+
+	/**
+	 * Compile a wildcard pattern into a case insensitive regex
+	 *
+	 * @param pattern pattern where {@code *} matches any sequence of characters
+	 * @return the regex
+	 */
+	public static Pattern compile(String pattern)
 	{
 		final Matcher matcher = WILDCARD_PATTERN.matcher(pattern);
 		final StringBuffer buffer = new StringBuffer();
@@ -50,8 +68,6 @@ public class WildcardMatcher
 		}
 
 		matcher.appendTail(buffer);
-		final String replaced = buffer.toString();
-
-		return text.matches(replaced);
+		return Pattern.compile(buffer.toString());
 	}
 }
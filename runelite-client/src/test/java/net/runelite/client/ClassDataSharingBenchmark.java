@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Compares cold starts of {@link StartupBenchmark} with and without a dynamic AppCDS archive
+ * created by a training run of the same benchmark.
+ * <p>
+ * CDS only archives classes loaded from jars, so class directories on the test classpath are
+ * packed into jars first.
+ */
+@Slf4j
+public class ClassDataSharingBenchmark
+{
+	private static final int RUNS = 5;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private String classPath;
+
+	@Test
+	public void startup() throws Exception
+	{
+		assumeTrue(Runtime.version().feature() >= 13);
+
+		classPath = jarClassPath();
+
+		File archive = new File(folder.getRoot(), "startup.jsa");
+		run("-XX:ArchiveClassesAtExit=" + archive.getAbsolutePath());
+		assertTrue(archive.exists());
+		log.info("Training run created a {} KiB archive", Files.size(archive.toPath()) / 1024);
+
+		long[] cold = new long[RUNS];
+		long[] shared = new long[RUNS];
+		for (int i = 0; i < RUNS; ++i)
+		{
+			// interleave the runs so that they see the same disk cache and machine load
+			cold[i] = run();
+			shared[i] = run("-Xshare:on", "-XX:SharedArchiveFile=" + archive.getAbsolutePath());
+		}
+
+		Arrays.sort(cold);
+		Arrays.sort(shared);
+		log.info("Without archive: median {}ms, min {}ms", cold[RUNS / 2], cold[0]);
+		log.info("With archive:    median {}ms, min {}ms", shared[RUNS / 2], shared[0]);
+	}
+
+	private long run(String... jvmArgs) throws Exception
+	{
+		List<String> command = new ArrayList<>();
+		command.add(new File(System.getProperty("java.home"), "bin/java").getPath());
+		command.addAll(Arrays.asList(jvmArgs));
+		for (String arg : ManagementFactory.getRuntimeMXBean().getInputArguments())
+		{
+			if (!arg.startsWith("-XX:SharedArchiveFile=") && !arg.startsWith("-XX:ArchiveClassesAtExit=") && !arg.startsWith("-Xshare:"))
+			{
+				command.add(arg);
+			}
+		}
+		command.add("-cp");
+		command.add(classPath);
+		command.add("org.junit.runner.JUnitCore");
+		command.add(StartupBenchmark.class.getName());
+
+		long start = System.nanoTime();
+		Process process = new ProcessBuilder(command)
+			.redirectOutput(ProcessBuilder.Redirect.DISCARD)
+			.redirectError(ProcessBuilder.Redirect.DISCARD)
+			.start();
+		assertEquals(0, process.waitFor());
+		return (System.nanoTime() - start) / 1_000_000L;
+	}
+
+	private String jarClassPath() throws IOException
+	{
+		List<String> entries = new ArrayList<>();
+		for (String entry : System.getProperty("java.class.path").split(File.pathSeparator))
+		{
+			File file = new File(entry);
+			if (!file.isDirectory())
+			{
+				entries.add(entry);
+				continue;
+			}
+
+			File jar = new File(folder.getRoot(), entries.size() + ".jar");
+			Path root = file.toPath();
+			try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar.toPath()));
+				Stream<Path> files = Files.walk(root))
+			{
+				for (Path path : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator)
+				{
+					out.putNextEntry(new JarEntry(root.relativize(path).toString().replace(File.separatorChar, '/')));
+					Files.copy(path, (OutputStream) out);
+					out.closeEntry();
+				}
+			}
+			entries.add(jar.getAbsolutePath());
+		}
+		return String.join(File.pathSeparator, entries);
+	}
+}
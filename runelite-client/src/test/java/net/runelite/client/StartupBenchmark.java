@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.util.Modules;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Client;
+import net.runelite.api.GameState;
+import net.runelite.client.discord.DiscordService;
+import net.runelite.client.plugins.PluginManager;
+import net.runelite.client.ui.ClientUI;
+import net.runelite.client.util.StartupTimeline;
+import okhttp3.OkHttpClient;
+import org.junit.AfterClass;
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs {@link RuneLite#start()} headless, with a stub runtime config, a mock client and UI, and no
+ * network access, and writes a Chrome trace of it to the target directory. Run it in a fresh JVM
+ * to get a cold start number.
+ */
+@Slf4j
+public class StartupBenchmark
+{
+	@ClassRule
+	public static TemporaryFolder home = new TemporaryFolder();
+
+	private static String userHome;
+	private static String runtimeConfigProperty;
+
+	@BeforeClass
+	public static void before() throws IOException
+	{
+		// RuneLite.RUNELITE_DIR is derived from user.home when RuneLite is initialized, so this
+		// has to be set before then, and the benchmark can't run once another test has done it
+		userHome = System.getProperty("user.home");
+		System.setProperty("user.home", home.getRoot().getAbsolutePath());
+		Assume.assumeTrue("RuneLite was initialized before the benchmark",
+			RuneLite.RUNELITE_DIR.toPath().startsWith(home.getRoot().toPath()));
+
+		File runtimeConfig = home.newFile("runtimeconfig.json");
+		Files.write(runtimeConfig.toPath(), "{}".getBytes(StandardCharsets.UTF_8));
+		runtimeConfigProperty = System.setProperty("runelite.rtconf", runtimeConfig.getAbsolutePath());
+	}
+
+	@AfterClass
+	public static void after()
+	{
+		System.setProperty("user.home", userHome);
+		if (runtimeConfigProperty == null)
+		{
+			System.clearProperty("runelite.rtconf");
+		}
+		else
+		{
+			System.setProperty("runelite.rtconf", runtimeConfigProperty);
+		}
+	}
+
+	@Test
+	public void startup() throws Exception
+	{
+		StartupTimeline.enable();
+		final long start = System.nanoTime();
+
+		OkHttpClient okHttpClient = new OkHttpClient.Builder()
+			.addInterceptor(chain ->
+			{
+				throw new IOException("network access is disabled in the startup benchmark");
+			})
+			.build();
+		RuntimeConfigLoader configLoader = new RuntimeConfigLoader(okHttpClient);
+		Client client = mock(Client.class);
+		when(client.getGameState()).thenReturn(GameState.LOGIN_SCREEN);
+
+		Injector injector;
+		try (var ignored = StartupTimeline.span("Guice.createInjector"))
+		{
+			injector = Guice.createInjector(Modules
+				.override(new RuneLiteModule(okHttpClient, () -> null, configLoader, false, false, true,
+					RuneLite.DEFAULT_SESSION_FILE, null, false, true))
+				.with(binder ->
+				{
+					binder.bind(Client.class).toInstance(client);
+					// there is no display to show the ui on, or discord to connect to
+					binder.bind(ClientUI.class).toInstance(mock(ClientUI.class));
+					binder.bind(DiscordService.class).toInstance(mock(DiscordService.class));
+				}));
+		}
+		RuneLite.setInjector(injector);
+
+		try (var ignored = StartupTimeline.span("RuneLite.start"))
+		{
+			injector.getInstance(RuneLite.class).start();
+		}
+
+		final long end = System.nanoTime();
+		PluginManager pluginManager = injector.getInstance(PluginManager.class);
+		log.info("Startup of {} plugins took {}ms", pluginManager.getPlugins().size(), TimeUnit.NANOSECONDS.toMillis(end - start));
+
+		File trace = new File("target", "startup-trace.json");
+		trace.getParentFile().mkdirs();
+		StartupTimeline.write(trace);
+		log.info("Wrote startup trace to {}", trace.getAbsolutePath());
+	}
+}
@@ -145,6 +145,25 @@ public class ConfigManagerTest
 		Assert.assertEquals("new value", conf.key());
 	}
 
+	@Test
+	public void testGetConfigInvalidate()
+	{
+		TestConfig conf = manager.getConfig(TestConfig.class);
+		TestConfig conf2 = manager.getConfig(TestConfig.class);
+		Assert.assertEquals("default", conf.key());
+
+		manager.setConfiguration("test", "key", "moo");
+		Assert.assertEquals("moo", conf.key());
+		Assert.assertEquals("moo", conf2.key());
+
+		manager.setConfiguration("test", "rsprofile.123", "key", "baa");
+		Assert.assertEquals("moo", conf.key());
+
+		manager.unsetConfiguration("test", "key");
+		Assert.assertEquals("default", conf.key());
+		Assert.assertEquals("default", conf2.key());
+	}
+
 	@Test
 	public void testGetConfigDescriptor() throws IOException
 	{
@@ -28,9 +28,12 @@ import com.google.inject.Guice;
 import com.google.inject.Inject;
 import com.google.inject.testing.fieldbinder.Bind;
 import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.io.IOException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import javax.inject.Named;
 import net.runelite.api.Client;
+import net.runelite.api.ItemComposition;
 import net.runelite.api.ItemID;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.config.RuneLiteConfig;
@@ -39,7 +42,12 @@ import static org.junit.Assert.assertEquals;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import static org.mockito.ArgumentMatchers.eq;
 import org.mockito.Mock;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import org.mockito.junit.MockitoJUnitRunner;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -95,4 +103,47 @@ public class ItemManagerTest
 		itemPrice.setWikiPrice(300_000); // outside of 5x range
 		assertEquals(itemPrice.getPrice(), itemManager.getWikiPrice(itemPrice));
 	}
+
+	@Test
+	public void testGetItemPrice() throws IOException
+	{
+		ItemPrice whip = new ItemPrice();
+		whip.setId(ItemID.ABYSSAL_WHIP);
+		whip.setName("Abyssal whip");
+		whip.setPrice(1_500_000);
+		whip.setWikiPrice(1_600_000);
+		when(itemClient.getPrices()).thenReturn(new ItemPrice[]{whip});
+
+		ArgumentCaptor<Runnable> loadPrices = ArgumentCaptor.forClass(Runnable.class);
+		verify(scheduledExecutorService).scheduleWithFixedDelay(loadPrices.capture(), eq(0L), eq(30L), eq(TimeUnit.MINUTES));
+		loadPrices.getValue().run();
+
+		mockItem(ItemID.ABYSSAL_WHIP, -1, -1);
+		mockItem(ItemID.ABYSSAL_WHIP + 1, 799, ItemID.ABYSSAL_WHIP); // noted
+		mockItem(ItemID.VOLCANIC_ABYSSAL_WHIP, -1, -1);
+		mockItem(ItemID.TORTOISE_SHELL, -1, -1);
+		mockItem(ItemID.COINS_995, -1, -1);
+
+		assertEquals(1_500_000, itemManager.getItemPriceWithSource(ItemID.ABYSSAL_WHIP, false));
+		assertEquals(1_600_000, itemManager.getItemPriceWithSource(ItemID.ABYSSAL_WHIP, true));
+		assertEquals(1_500_000, itemManager.getItemPriceWithSource(ItemID.ABYSSAL_WHIP + 1, false));
+		assertEquals(1_500_000, itemManager.getItemPriceWithSource(ItemID.VOLCANIC_ABYSSAL_WHIP, false));
+		assertEquals(250, itemManager.getItemPriceWithSource(ItemID.TORTOISE_SHELL, false));
+
+		assertEquals(2 * 1_500_000 + 4 * 250 + 100,
+			itemManager.priceOf(
+				new int[]{ItemID.ABYSSAL_WHIP, ItemID.TORTOISE_SHELL, ItemID.COINS_995, -1},
+				new int[]{2, 4, 100, 5}));
+	}
+
+	private void mockItem(int id, int note, int linkedNoteId)
+	{
+		ItemComposition itemComposition = mock(ItemComposition.class);
+		when(itemComposition.getNote()).thenReturn(note);
+		if (note != -1)
+		{
+			when(itemComposition.getLinkedNoteId()).thenReturn(linkedNoteId);
+		}
+		when(client.getItemDefinition(id)).thenReturn(itemComposition);
+	}
 }
\ No newline at end of file
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+public class ItemNameIndexTest
+{
+	private static final ItemNameIndex INDEX = new ItemNameIndex(
+		new int[]{10, 11, 12, 13, 14, 15},
+		new String[]{"Rune scimitar", "Rune", "Dragon scimitar", "Air rune", "Prune cookie", "Cape"}
+	);
+
+	@Test
+	public void testRanking()
+	{
+		// exact, then prefix, then word start, then substring
+		assertArrayEquals(new int[]{11, 10, 13, 14}, INDEX.search("rune"));
+		assertArrayEquals(new int[]{10, 12}, INDEX.search("SCIMITAR"));
+	}
+
+	@Test
+	public void testShortQuery()
+	{
+		assertArrayEquals(new int[]{15, 14, 10, 12}, INDEX.search("c"));
+		assertArrayEquals(new int[0], INDEX.search(""));
+	}
+
+	@Test
+	public void testNoMatch()
+	{
+		assertEquals(0, INDEX.search("whip").length);
+		assertEquals(0, INDEX.search("rune scimitars").length);
+		assertEquals(6, INDEX.size());
+	}
+}
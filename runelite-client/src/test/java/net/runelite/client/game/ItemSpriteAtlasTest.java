@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import net.runelite.api.Constants;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ItemSpriteAtlasTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File file;
+
+	@Before
+	public void before()
+	{
+		file = new File(folder.getRoot(), "item-sprites.dat");
+	}
+
+	@Test
+	public void testPersisted()
+	{
+		ItemSpriteAtlas atlas = new ItemSpriteAtlas(file);
+		atlas.write(1, 4151, 1, false, sprite(0xFF00FF00));
+		atlas.write(1, 995, 1000, true, sprite(0xFFFFFF00));
+		atlas.close();
+
+		atlas = new ItemSpriteAtlas(file);
+		assertFalse(atlas.contains(1, 995, 1000, true));
+		atlas.open();
+		assertTrue(atlas.contains(1, 995, 1000, true));
+		BufferedImage image = image();
+		assertTrue(atlas.read(1, 995, 1000, true, image));
+		assertEquals(0xFFFFFF00, image.getRGB(5, 5));
+		assertTrue(atlas.read(1, 4151, 1, false, image));
+		assertEquals(0xFF00FF00, image.getRGB(0, 0));
+		assertEquals(0, image.getRGB(Constants.ITEM_SPRITE_WIDTH - 1, Constants.ITEM_SPRITE_HEIGHT - 1));
+
+		assertFalse(atlas.read(1, 4151, 1, true, image));
+		assertFalse(atlas.read(1, 995, 1001, true, image));
+		atlas.close();
+	}
+
+	@Test
+	public void testRevision()
+	{
+		ItemSpriteAtlas atlas = new ItemSpriteAtlas(file);
+		atlas.write(1, 4151, 1, false, sprite(0xFF00FF00));
+		assertFalse(atlas.read(2, 4151, 1, false, image()));
+
+		// storing a sprite for a new revision drops the old sprites
+		atlas.write(2, 995, 1, false, sprite(0xFFFFFF00));
+		assertTrue(atlas.read(2, 995, 1, false, image()));
+		assertFalse(atlas.read(1, 4151, 1, false, image()));
+		atlas.close();
+	}
+
+	@Test
+	public void testManySprites()
+	{
+		ItemSpriteAtlas atlas = new ItemSpriteAtlas(file);
+		for (int i = 0; i < 1000; ++i)
+		{
+			atlas.write(1, i, 1, false, sprite(0xFF000000 | i));
+		}
+		atlas.close();
+
+		atlas = new ItemSpriteAtlas(file);
+		BufferedImage image = image();
+		for (int i = 0; i < 1000; ++i)
+		{
+			assertTrue(atlas.read(1, i, 1, false, image));
+			assertEquals(0xFF000000 | i, image.getRGB(1, 1));
+		}
+		atlas.close();
+	}
+
+	@Test
+	public void testCacheRevision() throws IOException
+	{
+		File cacheDir = new File(folder.getRoot(), "jagexcache");
+		File live = new File(cacheDir, "oldschool/LIVE");
+		live.mkdirs();
+
+		// a reference table spanning two sectors, and one in a single sector
+		byte[] index = {0, 2, 0x58, 0, 0, 1, 0, 0, 10, 0, 0, 3};
+		ByteBuffer data = ByteBuffer.allocate(520 * 4);
+		for (int sector = 1; sector <= 3; ++sector)
+		{
+			data.position(sector * 520 + 4);
+			data.put((byte) 0).putShort((short) (sector == 1 ? 2 : 0));
+			data.put((byte) 0xFF);
+			data.put((byte) sector);
+		}
+		Files.write(new File(live, "main_file_cache.idx255").toPath(), index);
+		Files.write(new File(live, "main_file_cache.dat2").toPath(), data.array());
+
+		int revision = ItemSpriteAtlas.cacheRevision(200, cacheDir);
+		assertEquals(revision, ItemSpriteAtlas.cacheRevision(200, cacheDir));
+		assertNotEquals(revision, ItemSpriteAtlas.cacheRevision(201, cacheDir));
+
+		// the second sector of the first table
+		data.put(2 * 520 + 50, (byte) 1);
+		Files.write(new File(live, "main_file_cache.dat2").toPath(), data.array());
+		assertNotEquals(revision, ItemSpriteAtlas.cacheRevision(200, cacheDir));
+	}
+
+	@Test(expected = FileNotFoundException.class)
+	public void testCacheRevisionNoCache() throws IOException
+	{
+		ItemSpriteAtlas.cacheRevision(200, folder.getRoot());
+	}
+
+	@Test
+	public void testSpriteQuantity()
+	{
+		assertEquals(99_999, ItemManager.spriteQuantity(99_999));
+		assertEquals(150_000, ItemManager.spriteQuantity(150_999));
+		assertEquals(12_000_000, ItemManager.spriteQuantity(12_345_678));
+	}
+
+	private static BufferedImage image()
+	{
+		return new BufferedImage(Constants.ITEM_SPRITE_WIDTH, Constants.ITEM_SPRITE_HEIGHT, BufferedImage.TYPE_INT_ARGB);
+	}
+
+	private static BufferedImage sprite(int argb)
+	{
+		BufferedImage image = image();
+		for (int y = 0; y < Constants.ITEM_SPRITE_HEIGHT - 1; ++y)
+		{
+			for (int x = 0; x < Constants.ITEM_SPRITE_WIDTH - 1; ++x)
+			{
+				image.setRGB(x, y, argb);
+			}
+		}
+		return image;
+	}
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.hiscore;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.gson.JsonIOException;
+import com.google.inject.Guice;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import javax.inject.Inject;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.Mock;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class HiscoreManagerTest
+{
+	private static final HiscoreResult RESULT = new HiscoreResult("zezima", ImmutableMap.of(
+		HiscoreSkill.HITPOINTS, new Skill(1, 99, 13_034_431L)
+	));
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Mock
+	@Bind
+	HiscoreClient hiscoreClient;
+
+	@Bind
+	ScheduledExecutorService executor = mock(ScheduledExecutorService.class);
+
+	@Bind
+	HiscoreStore hiscoreStore;
+
+	@Inject
+	HiscoreManager hiscoreManager;
+
+	private File file;
+	private final List<CompletableFuture<HiscoreResult>> requests = new ArrayList<>();
+
+	@Before
+	public void before()
+	{
+		file = new File(folder.getRoot(), "hiscores.dat");
+		hiscoreStore = new HiscoreStore(file, System::currentTimeMillis);
+
+		// run tasks on the calling thread
+		doAnswer(a ->
+		{
+			a.<Runnable>getArgument(0).run();
+			return null;
+		}).when(executor).execute(any(Runnable.class));
+
+		when(hiscoreClient.lookupAsync(anyString(), eq(HiscoreEndpoint.NORMAL))).thenAnswer(a ->
+		{
+			CompletableFuture<HiscoreResult> future = new CompletableFuture<>();
+			requests.add(future);
+			return future;
+		});
+
+		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+	}
+
+	@Test
+	public void testLookupsShareRequest()
+	{
+		assertNull(hiscoreManager.lookupAsync("zezima", HiscoreEndpoint.NORMAL));
+		assertNull(hiscoreManager.lookupAsync("zezima", HiscoreEndpoint.NORMAL));
+		verify(hiscoreClient, times(1)).lookupAsync("zezima", HiscoreEndpoint.NORMAL);
+
+		requests.get(0).complete(RESULT);
+		assertSame(RESULT, hiscoreManager.lookupAsync("zezima", HiscoreEndpoint.NORMAL));
+		verify(hiscoreClient, times(1)).lookupAsync("zezima", HiscoreEndpoint.NORMAL);
+	}
+
+	@Test
+	public void testRequestsBounded()
+	{
+		for (int i = 0; i < 10; ++i)
+		{
+			hiscoreManager.lookupAsync("player " + i, HiscoreEndpoint.NORMAL);
+		}
+		assertEquals(4, requests.size());
+
+		requests.get(0).complete(null);
+		assertEquals(5, requests.size());
+		for (int i = 1; i < 10; ++i)
+		{
+			requests.get(i).complete(null);
+		}
+		assertEquals(10, requests.size());
+	}
+
+	@Test
+	public void testLookupScheduledOnce()
+	{
+		doNothing().when(executor).execute(any(Runnable.class));
+
+		assertNull(hiscoreManager.lookupAsync("zezima", HiscoreEndpoint.NORMAL));
+		assertNull(hiscoreManager.lookupAsync("zezima", HiscoreEndpoint.NORMAL));
+		verify(executor, times(1)).execute(any(Runnable.class));
+	}
+
+	@Test
+	public void testFailedRequestReleased()
+	{
+		for (int i = 0; i < 5; ++i)
+		{
+			hiscoreManager.lookupAsync("player " + i, HiscoreEndpoint.NORMAL);
+		}
+		assertEquals(4, requests.size());
+
+		requests.get(0).completeExceptionally(new JsonIOException("truncated"));
+		// the queued lookup takes the slot of the failed one
+		assertEquals(5, requests.size());
+		// and the failed player isn't looked up again until it expires
+		assertNull(hiscoreManager.lookupAsync("player 0", HiscoreEndpoint.NORMAL));
+		assertEquals(5, requests.size());
+	}
+
+	@Test
+	public void testLookupFromStore() throws Exception
+	{
+		// looked up by an earlier session
+		new HiscoreStore(file, System::currentTimeMillis).put("zezima", HiscoreEndpoint.NORMAL, RESULT);
+
+		assertEquals(RESULT, hiscoreManager.lookup("zezima", HiscoreEndpoint.NORMAL));
+		assertEquals(RESULT, hiscoreManager.lookupAsync("zezima", HiscoreEndpoint.NORMAL));
+		verify(hiscoreClient, never()).lookupAsync(anyString(), any(HiscoreEndpoint.class));
+	}
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.hiscore;
+
+import com.google.common.collect.ImmutableMap;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.concurrent.atomic.AtomicLong;
+import static net.runelite.client.hiscore.HiscoreManager.NONE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class HiscoreStoreTest
+{
+	private static final HiscoreResult ZEZIMA = new HiscoreResult("zezima", ImmutableMap.of(
+		HiscoreSkill.OVERALL, new Skill(1, 2277, 4_600_000_000L),
+		HiscoreSkill.ATTACK, new Skill(5, 99, 200_000_000L),
+		HiscoreSkill.ZULRAH, new Skill(-1, -1, -1L)
+	));
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private final AtomicLong now = new AtomicLong(1_000_000L);
+	private File file;
+
+	@Before
+	public void before()
+	{
+		file = new File(folder.getRoot(), "hiscores.dat");
+	}
+
+	@Test
+	public void testPersisted()
+	{
+		HiscoreStore store = new HiscoreStore(file, now::get);
+		assertNull(store.get("zezima", HiscoreEndpoint.NORMAL));
+		store.put("zezima", HiscoreEndpoint.NORMAL, ZEZIMA);
+		store.put("nobody", HiscoreEndpoint.NORMAL, NONE);
+
+		store = new HiscoreStore(file, now::get);
+		assertEquals(ZEZIMA, store.get("zezima", HiscoreEndpoint.NORMAL));
+		assertSame(NONE, store.get("nobody", HiscoreEndpoint.NORMAL));
+		assertNull(store.get("zezima", HiscoreEndpoint.IRONMAN));
+	}
+
+	@Test
+	public void testExpiry()
+	{
+		HiscoreStore store = new HiscoreStore(file, now::get);
+		store.put("zezima", HiscoreEndpoint.NORMAL, ZEZIMA);
+
+		now.addAndGet(HiscoreStore.TTL - 1);
+		assertEquals(ZEZIMA, store.get("zezima", HiscoreEndpoint.NORMAL));
+		store.put("nobody", HiscoreEndpoint.NORMAL, NONE);
+
+		now.addAndGet(1);
+		assertNull(store.get("zezima", HiscoreEndpoint.NORMAL));
+
+		// expired lookups are not loaded again
+		store = new HiscoreStore(file, now::get);
+		assertNull(store.get("zezima", HiscoreEndpoint.NORMAL));
+		assertSame(NONE, store.get("nobody", HiscoreEndpoint.NORMAL));
+	}
+
+	@Test
+	public void testTruncated() throws IOException
+	{
+		HiscoreStore store = new HiscoreStore(file, now::get);
+		store.put("zezima", HiscoreEndpoint.NORMAL, ZEZIMA);
+		store.put("nobody", HiscoreEndpoint.NORMAL, NONE);
+
+		try (RandomAccessFile raf = new RandomAccessFile(file, "rw"))
+		{
+			raf.setLength(raf.length() - 1);
+		}
+
+		store = new HiscoreStore(file, now::get);
+		assertEquals(ZEZIMA, store.get("zezima", HiscoreEndpoint.NORMAL));
+		assertNull(store.get("nobody", HiscoreEndpoint.NORMAL));
+
+		// the truncated lookup was dropped, so lookups append cleanly again
+		store.put("nobody", HiscoreEndpoint.NORMAL, NONE);
+		store = new HiscoreStore(file, now::get);
+		assertEquals(ZEZIMA, store.get("zezima", HiscoreEndpoint.NORMAL));
+		assertSame(NONE, store.get("nobody", HiscoreEndpoint.NORMAL));
+	}
+
+	@Test
+	public void testCompaction()
+	{
+		HiscoreStore store = new HiscoreStore(file, now::get);
+
+		// more distinct lookups than are kept, so the store is full for most of them
+		int rewrites = 0;
+		long maxLength = 0;
+		for (int i = 0; i < 5000; ++i)
+		{
+			long length = file.length();
+			store.put("player" + i, HiscoreEndpoint.NORMAL, NONE);
+			if (file.length() < length)
+			{
+				++rewrites;
+			}
+			maxLength = Math.max(maxLength, file.length());
+		}
+
+		// lookups are appended, and the file is only compacted once it has grown to twice the live lookups
+		assertTrue("rewrites: " + rewrites, rewrites <= 5000 / 1024);
+		store = new HiscoreStore(file, now::get);
+		assertNull(store.get("player0", HiscoreEndpoint.NORMAL));
+		assertSame(NONE, store.get("player4999", HiscoreEndpoint.NORMAL));
+		assertTrue(maxLength <= 2 * file.length() + 1024);
+
+		// expired lookups are dropped from memory, so the first lookup after they expire compacts the
+		// file down to itself, and the rest are appended
+		now.addAndGet(HiscoreStore.TTL);
+		rewrites = 0;
+		for (int i = 0; i < 200; ++i)
+		{
+			long length = file.length();
+			store.put("other" + i, HiscoreEndpoint.NORMAL, NONE);
+			if (file.length() < length)
+			{
+				++rewrites;
+			}
+		}
+		assertEquals(1, rewrites);
+	}
+}
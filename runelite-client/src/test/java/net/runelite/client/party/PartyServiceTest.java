@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.party;
+
+import com.google.inject.Guice;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.util.List;
+import javax.inject.Inject;
+import net.runelite.api.Client;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.PostClientTick;
+import net.runelite.client.chat.ChatMessageManager;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.party.messages.PartyChatMessage;
+import net.runelite.client.party.messages.PartyMessage;
+import net.runelite.client.party.messages.UserSync;
+import net.runelite.client.plugins.party.messages.LocationUpdate;
+import net.runelite.client.plugins.party.messages.StatusUpdate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PartyServiceTest
+{
+	@Mock
+	@Bind
+	Client client;
+
+	@Mock
+	@Bind
+	WSClient wsClient;
+
+	@Mock
+	@Bind
+	EventBus eventBus;
+
+	@Mock
+	@Bind
+	ChatMessageManager chatMessageManager;
+
+	@Inject
+	PartyService partyService;
+
+	@Before
+	public void before()
+	{
+		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+		when(wsClient.isOpen()).thenReturn(true);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testCoalesce()
+	{
+		StatusUpdate hp = new StatusUpdate();
+		hp.setHealthCurrent(50);
+		hp.setCharacterName("Zezima");
+		StatusUpdate hp2 = new StatusUpdate();
+		hp2.setHealthCurrent(40);
+		hp2.setPrayerCurrent(10);
+
+		LocationUpdate location = new LocationUpdate(new WorldPoint(3222, 3218, 0));
+		LocationUpdate location2 = new LocationUpdate(new WorldPoint(3223, 3218, 0));
+		PartyChatMessage chat = new PartyChatMessage("one");
+		PartyChatMessage chat2 = new PartyChatMessage("two");
+		UserSync sync = new UserSync();
+
+		partyService.send(hp);
+		partyService.send(location);
+		partyService.send(chat);
+		partyService.send(sync);
+		partyService.send(hp2);
+		partyService.send(chat2);
+		partyService.send(location2);
+		partyService.send(new UserSync());
+
+		partyService.onPostClientTick(new PostClientTick());
+
+		ArgumentCaptor<List<PartyMessage>> captor = ArgumentCaptor.forClass(List.class);
+		verify(wsClient).send(captor.capture());
+		List<PartyMessage> sent = captor.getValue();
+		assertEquals(5, sent.size());
+
+		StatusUpdate status = (StatusUpdate) sent.get(0);
+		assertEquals("Zezima", status.getCharacterName());
+		assertEquals(40, (int) status.getHealthCurrent());
+		assertEquals(10, (int) status.getPrayerCurrent());
+		assertSame(location2, sent.get(1));
+		assertSame(chat, sent.get(2));
+		assertSame(sync, sent.get(3));
+		assertSame(chat2, sent.get(4));
+
+		// nothing is left to send on the next tick
+		partyService.onPostClientTick(new PostClientTick());
+		verify(wsClient, times(8)).isOpen();
+		verifyNoMoreInteractions(wsClient);
+	}
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.party;
+
+import com.google.inject.Guice;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import javax.inject.Inject;
+import javax.inject.Named;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.party.messages.PartyChatMessage;
+import net.runelite.client.party.messages.UserSync;
+import net.runelite.client.party.messages.WebsocketMessage;
+import net.runelite.client.plugins.party.messages.LocationUpdate;
+import net.runelite.client.plugins.party.messages.LocationUpdateCodec;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+import okio.ByteString;
+import static org.junit.Assert.assertEquals;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import static org.mockito.ArgumentMatchers.any;
+import org.mockito.Mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class WSClientTest
+{
+	@Mock
+	@Bind
+	EventBus eventBus;
+
+	@Mock
+	@Bind
+	OkHttpClient okHttpClient;
+
+	@Bind
+	@Named("runelite.ws")
+	HttpUrl runeliteWs = HttpUrl.get("https://ws.example.com/ws");
+
+	@Mock
+	WebSocket webSocket;
+
+	@Inject
+	WSClient wsClient;
+
+	@Before
+	public void before()
+	{
+		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+
+		when(okHttpClient.newWebSocket(any(Request.class), any(WebSocketListener.class))).thenReturn(webSocket);
+		wsClient.registerMessage(LocationUpdate.class, new LocationUpdateCodec());
+		wsClient.changeSession(UUID.randomUUID());
+	}
+
+	@Test
+	public void testBatch() throws Exception
+	{
+		LocationUpdate first = new LocationUpdate(new WorldPoint(3222, 3218, 0));
+		LocationUpdate second = new LocationUpdate(new WorldPoint(3223, 3219, 0));
+		PartyChatMessage chat = new PartyChatMessage("hello");
+
+		wsClient.send(Arrays.asList(first, chat));
+		wsClient.send(second);
+
+		ArgumentCaptor<ByteString> frames = ArgumentCaptor.forClass(ByteString.class);
+		verify(webSocket, times(2)).send(frames.capture());
+
+		// relay the frames back as the server would
+		for (ByteString frame : frames.getAllValues())
+		{
+			Party.Data data = Party.C2S.parseFrom(frame.toByteArray()).getData();
+			Party.S2C s2c = Party.S2C.newBuilder()
+				.setData(Party.PartyData.newBuilder()
+					.setMemberId(42)
+					.setType(data.getType())
+					.setData(data.getData()))
+				.build();
+			wsClient.onMessage(webSocket, ByteString.of(s2c.toByteArray()));
+		}
+
+		ArgumentCaptor<Object> posted = ArgumentCaptor.forClass(Object.class);
+		verify(eventBus, times(3)).post(posted.capture());
+		List<Object> messages = posted.getAllValues();
+
+		assertEquals(first.getWorldPoint(), ((LocationUpdate) messages.get(0)).getWorldPoint());
+		assertEquals(42, ((LocationUpdate) messages.get(0)).getMemberId());
+		assertEquals("hello", ((PartyChatMessage) messages.get(1)).getValue());
+		assertEquals(42, ((PartyChatMessage) messages.get(1)).getMemberId());
+		// the second location is a delta against the first
+		assertEquals(second.getWorldPoint(), ((LocationUpdate) messages.get(2)).getWorldPoint());
+	}
+
+	@Test
+	public void testJsonForOlderMembers() throws Exception
+	{
+		wsClient.join(1, 10);
+		memberJoin(42);
+		memberSync(42, 0);
+
+		wsClient.send(new LocationUpdate(new WorldPoint(3222, 3218, 0)));
+
+		ArgumentCaptor<ByteString> frames = ArgumentCaptor.forClass(ByteString.class);
+		verify(webSocket, times(2)).send(frames.capture());
+		Party.Data data = Party.C2S.parseFrom(frames.getValue().toByteArray()).getData();
+		assertEquals('{', data.getData().byteAt(0));
+	}
+
+	@Test
+	public void testSyncResetsDelta() throws Exception
+	{
+		wsClient.join(1, 10);
+		memberJoin(42);
+		memberSync(42, WSClient.CAPABILITIES);
+
+		wsClient.send(new LocationUpdate(new WorldPoint(3222, 3218, 0)));
+		memberSync(42, WSClient.CAPABILITIES);
+		wsClient.send(new LocationUpdate(new WorldPoint(3223, 3219, 0)));
+
+		ArgumentCaptor<ByteString> frames = ArgumentCaptor.forClass(ByteString.class);
+		verify(webSocket, times(3)).send(frames.capture());
+		Party.Data data = Party.C2S.parseFrom(frames.getValue().toByteArray()).getData();
+		assertEquals(0, data.getData().byteAt(0));
+		// the location after the sync is complete, so it decodes without the one before it
+		LocationUpdate update = new LocationUpdateCodec().decode(data.getData().substring(1).newCodedInput(), null);
+		assertEquals(new WorldPoint(3223, 3219, 0), update.getWorldPoint());
+	}
+
+	@Test
+	public void testUnbatchedForOlderMembers() throws Exception
+	{
+		wsClient.join(1, 10);
+		memberJoin(42);
+		memberSync(42, WSClient.CAPABILITY_BINARY);
+
+		wsClient.send(Arrays.asList(new LocationUpdate(new WorldPoint(3222, 3218, 0)), new PartyChatMessage("hello")));
+
+		ArgumentCaptor<ByteString> frames = ArgumentCaptor.forClass(ByteString.class);
+		verify(webSocket, times(3)).send(frames.capture());
+		List<ByteString> sent = frames.getAllValues();
+		assertEquals("LocationUpdate", Party.C2S.parseFrom(sent.get(1).toByteArray()).getData().getType());
+		assertEquals("PartyChatMessage", Party.C2S.parseFrom(sent.get(2).toByteArray()).getData().getType());
+	}
+
+	private void memberJoin(long memberId)
+	{
+		Party.S2C s2c = Party.S2C.newBuilder()
+			.setJoin(Party.UserJoin.newBuilder()
+				.setPartyId(1)
+				.setMemberId(memberId))
+			.build();
+		wsClient.onMessage(webSocket, ByteString.of(s2c.toByteArray()));
+	}
+
+	private void memberSync(long memberId, int capabilities)
+	{
+		UserSync sync = new UserSync();
+		sync.setCapabilities(capabilities);
+		Party.S2C s2c = Party.S2C.newBuilder()
+			.setData(Party.PartyData.newBuilder()
+				.setMemberId(memberId)
+				.setType("UserSync")
+				.setData(com.google.protobuf.ByteString.copyFromUtf8(WebsocketGsonFactory.build().toJson(sync, WebsocketMessage.class))))
+			.build();
+		wsClient.onMessage(webSocket, ByteString.of(s2c.toByteArray()));
+	}
+}
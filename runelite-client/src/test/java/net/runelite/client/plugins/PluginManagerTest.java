@@ -24,6 +24,8 @@
  */
 package net.runelite.client.plugins;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.graph.GraphBuilder;
 import com.google.common.graph.MutableGraph;
 import com.google.common.reflect.ClassPath;
@@ -249,4 +251,31 @@ public class PluginManagerTest
 		assertTrue(sorted.indexOf(1) < sorted.indexOf(2));
 		assertTrue(sorted.indexOf(1) < sorted.indexOf(3));
 	}
+
+	@Test
+	public void testTopologicalLayers()
+	{
+		MutableGraph<Integer> graph = GraphBuilder
+			.directed()
+			.build();
+
+		graph.addNode(1);
+		graph.addNode(2);
+		graph.addNode(3);
+		graph.addNode(4);
+		graph.addNode(5);
+
+		graph.putEdge(1, 2);
+		graph.putEdge(1, 3);
+		graph.putEdge(2, 3);
+		graph.putEdge(3, 4);
+
+		List<List<Integer>> layers = PluginManager.topologicalLayers(graph);
+
+		assertEquals(4, layers.size());
+		assertEquals(ImmutableSet.of(1, 5), ImmutableSet.copyOf(layers.get(0)));
+		assertEquals(ImmutableList.of(2), layers.get(1));
+		assertEquals(ImmutableList.of(3), layers.get(2));
+		assertEquals(ImmutableList.of(4), layers.get(3));
+	}
 }
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.crowdsourcing;
+
+import com.google.common.base.Strings;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonParser;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.zip.GZIPInputStream;
+import net.runelite.client.plugins.crowdsourcing.cooking.CookingData;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.mockito.Mockito.mock;
+
+public class CrowdsourcingManagerTest
+{
+	@Rule
+	public final MockWebServer server = new MockWebServer();
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	// run uploads on the calling thread
+	private final OkHttpClient okHttpClient = new OkHttpClient.Builder()
+		.dispatcher(new Dispatcher(MoreExecutors.newDirectExecutorService()))
+		.build();
+	private final Gson gson = new Gson();
+	private File spoolDir;
+
+	@Before
+	public void before() throws IOException
+	{
+		spoolDir = folder.newFolder();
+	}
+
+	private CrowdsourcingManager manager()
+	{
+		return new CrowdsourcingManager(okHttpClient, gson, mock(ScheduledExecutorService.class), spoolDir, server.url("/runelite"));
+	}
+
+	@Test
+	public void testUpload() throws Exception
+	{
+		server.enqueue(new MockResponse());
+
+		CrowdsourcingManager manager = manager();
+		manager.storeEvent(new CookingData("You cook the shrimp.", false, false, false, 1, 1));
+		manager.storeEvent(new CookingData("You burn the shrimp.", true, false, false, 2, 3));
+		manager.submitToAPI();
+
+		RecordedRequest request = server.takeRequest();
+		assertEquals("gzip", request.getHeader("Content-Encoding"));
+		JsonArray events = body(request);
+		assertEquals(2, events.size());
+		assertEquals("You burn the shrimp.", events.get(1).getAsJsonObject().get("message").getAsString());
+		assertEquals(0, manager.segments().length);
+	}
+
+	@Test
+	public void testBatches() throws Exception
+	{
+		for (int i = 0; i < 3; ++i)
+		{
+			server.enqueue(new MockResponse());
+		}
+
+		CrowdsourcingManager manager = manager();
+		String message = Strings.repeat("x", 1000);
+		for (int i = 0; i < 600; ++i)
+		{
+			manager.storeEvent(new CookingData(message, false, false, false, i, 1));
+		}
+		manager.submitToAPI();
+
+		assertEquals(3, server.getRequestCount());
+		int total = 0;
+		for (int i = 0; i < 3; ++i)
+		{
+			JsonArray events = body(server.takeRequest());
+			assertEquals(total, events.get(0).getAsJsonObject().get("lastGameObjectClicked").getAsInt());
+			total += events.size();
+		}
+		assertEquals(600, total);
+	}
+
+	@Test
+	public void testRetry() throws Exception
+	{
+		// gzipped, and then uncompressed
+		server.enqueue(new MockResponse().setResponseCode(503));
+		server.enqueue(new MockResponse().setResponseCode(503));
+
+		CrowdsourcingManager manager = manager();
+		manager.storeEvent(new CookingData("You cook the shrimp.", false, false, false, 1, 1));
+		manager.submitToAPI();
+		assertEquals(2, server.getRequestCount());
+		assertEquals(1, manager.segments().length);
+
+		// backing off
+		manager.submitToAPI();
+		assertEquals(2, server.getRequestCount());
+
+		// the events are still there after a restart
+		server.enqueue(new MockResponse());
+		manager = manager();
+		manager.submitToAPI();
+		server.takeRequest();
+		server.takeRequest();
+		assertEquals(1, body(server.takeRequest()).size());
+		assertEquals(0, manager.segments().length);
+	}
+
+	@Test
+	public void testGzipRejected() throws Exception
+	{
+		server.enqueue(new MockResponse().setResponseCode(415));
+		server.enqueue(new MockResponse());
+
+		CrowdsourcingManager manager = manager();
+		manager.storeEvent(new CookingData("You cook the shrimp.", false, false, false, 1, 1));
+		manager.submitToAPI();
+
+		assertEquals("gzip", server.takeRequest().getHeader("Content-Encoding"));
+		RecordedRequest request = server.takeRequest();
+		assertNull(request.getHeader("Content-Encoding"));
+		assertEquals(1, new JsonParser().parse(request.getBody().readUtf8()).getAsJsonArray().size());
+		assertEquals(0, manager.segments().length);
+
+		// gzip is not tried again
+		server.enqueue(new MockResponse());
+		manager.storeEvent(new CookingData("You burn the shrimp.", true, false, false, 2, 3));
+		manager.submitToAPI();
+		assertEquals(3, server.getRequestCount());
+		assertNull(server.takeRequest().getHeader("Content-Encoding"));
+	}
+
+	@Test
+	public void testGzipServerError() throws Exception
+	{
+		server.enqueue(new MockResponse().setResponseCode(500));
+		server.enqueue(new MockResponse());
+
+		CrowdsourcingManager manager = manager();
+		manager.storeEvent(new CookingData("You cook the shrimp.", false, false, false, 1, 1));
+		manager.submitToAPI();
+
+		assertEquals("gzip", server.takeRequest().getHeader("Content-Encoding"));
+		assertNull(server.takeRequest().getHeader("Content-Encoding"));
+		assertEquals(0, manager.segments().length);
+	}
+
+	@Test
+	public void testQueueFull() throws Exception
+	{
+		for (int i = 0; i < 3; ++i)
+		{
+			server.enqueue(new MockResponse());
+		}
+
+		// the executor never spills, so the events pile up in memory
+		CrowdsourcingManager manager = manager();
+		for (int i = 0; i < CrowdsourcingManager.MAX_QUEUED_EVENTS + 10; ++i)
+		{
+			manager.storeEvent(new CookingData("You cook the shrimp.", false, false, false, i, 1));
+		}
+		assertEquals(0, manager.segments().length);
+
+		manager.submitToAPI();
+		int total = 0;
+		for (int i = 0; i < server.getRequestCount(); ++i)
+		{
+			total += body(server.takeRequest()).size();
+		}
+		assertEquals(CrowdsourcingManager.MAX_QUEUED_EVENTS, total);
+	}
+
+	private static JsonArray body(RecordedRequest request) throws IOException
+	{
+		try (Reader in = new InputStreamReader(new GZIPInputStream(request.getBody().inputStream()), StandardCharsets.UTF_8))
+		{
+			return new JsonParser().parse(in).getAsJsonArray();
+		}
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.grounditems;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import net.runelite.api.coords.WorldPoint;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class GroundItemGridTest
+{
+	private static GroundItem item(int id, WorldPoint location)
+	{
+		return GroundItem.builder()
+			.id(id)
+			.location(location)
+			.quantity(1)
+			.build();
+	}
+
+	@Test
+	public void testGetPutRemove()
+	{
+		GroundItemGrid grid = new GroundItemGrid();
+		WorldPoint point = new WorldPoint(3200, 3200, 0);
+		GroundItem bones = item(526, point);
+		GroundItem coins = item(995, point);
+		grid.put(bones);
+		grid.put(coins);
+		grid.put(item(526, new WorldPoint(3201, 3200, 0)));
+		grid.put(item(526, new WorldPoint(3200, 3200, 1)));
+
+		assertSame(bones, grid.get(point, 526));
+		assertSame(coins, grid.get(new WorldPoint(3200, 3200, 0), 995));
+		assertNull(grid.get(point, 1));
+		assertEquals(Arrays.asList(bones, coins), grid.at(point));
+		assertEquals(3, grid.locations().size());
+
+		grid.remove(point, 526);
+		assertNull(grid.get(point, 526));
+		assertEquals(Arrays.asList(coins), grid.at(point));
+		assertEquals(3, grid.stream().count());
+
+		grid.clear();
+		assertEquals(0, grid.stream().count());
+	}
+
+	@Test
+	public void testQuery()
+	{
+		GroundItemGrid grid = new GroundItemGrid();
+		List<GroundItem> all = new ArrayList<>();
+		for (int x = 3150; x < 3250; x += 3)
+		{
+			for (int y = 3150; y < 3250; y += 5)
+			{
+				for (int plane = 0; plane < 2; ++plane)
+				{
+					GroundItem item = item(x * 1000 + y, new WorldPoint(x, y, plane));
+					grid.put(item);
+					all.add(item);
+				}
+			}
+		}
+
+		WorldPoint center = new WorldPoint(3197, 3203, 1);
+		List<GroundItem> found = new ArrayList<>();
+		grid.query(center, 20, found);
+
+		List<GroundItem> expected = all.stream()
+			.filter(i -> i.getLocation().getPlane() == 1
+				&& Math.abs(i.getLocation().getX() - center.getX()) <= 20
+				&& Math.abs(i.getLocation().getY() - center.getY()) <= 20)
+			.collect(Collectors.toList());
+
+		assertTrue(!expected.isEmpty());
+		assertEquals(expected.size(), found.size());
+		assertTrue(found.containsAll(expected));
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.loottracker;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import net.runelite.http.api.loottracker.LootRecordType;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+public class ConfigLootHeapTest
+{
+	private static ConfigLoot loot(int i, int drops)
+	{
+		ConfigLoot loot = new ConfigLoot(LootRecordType.NPC, "npc" + i);
+		loot.last = Instant.ofEpochSecond(i);
+		for (int d = 0; d < drops; ++d)
+		{
+			loot.add(d, 1);
+		}
+		return loot;
+	}
+
+	@Test
+	public void testKeepsNewest()
+	{
+		ConfigLootHeap heap = new ConfigLootHeap(10);
+		for (int i : new int[]{5, 1, 9, 3, 7, 2, 8})
+		{
+			heap.offer(loot(i, 3));
+		}
+
+		List<ConfigLoot> loots = heap.toList();
+		assertEquals(3, loots.size());
+		assertEquals("npc7", loots.get(0).name);
+		assertEquals("npc8", loots.get(1).name);
+		assertEquals("npc9", loots.get(2).name);
+	}
+
+	@Test
+	public void testParallelMatchesSequential()
+	{
+		List<ConfigLoot> input = IntStream.range(0, 10_000)
+			.map(i -> (i * 7919) % 10_000)
+			.mapToObj(i -> loot(i, 1 + i % 4))
+			.collect(Collectors.toList());
+
+		ConfigLootHeap sequential = new ConfigLootHeap(1024);
+		input.forEach(sequential::offer);
+
+		ConfigLootHeap parallel = input.parallelStream()
+			.collect(Collector.of(() -> new ConfigLootHeap(1024), ConfigLootHeap::offer, ConfigLootHeap::merge));
+
+		assertEquals(sequential.toList(), parallel.toList());
+	}
+}
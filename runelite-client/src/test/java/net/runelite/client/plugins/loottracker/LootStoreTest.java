@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.loottracker;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import net.runelite.http.api.loottracker.LootRecordType;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class LootStoreTest
+{
+	private static final Instant NOW = Instant.parse("2026-06-01T12:00:00Z");
+	private static final Instant EXPIRE = NOW.minus(Duration.ofDays(365));
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File file;
+
+	@Before
+	public void before() throws IOException
+	{
+		file = new File(folder.newFolder(), "rsprofile.test.dat");
+	}
+
+	private static ConfigLoot loot(String name, int kills, int... drops)
+	{
+		ConfigLoot loot = new ConfigLoot(LootRecordType.NPC, name);
+		loot.kills = kills;
+		for (int i = 0; i < drops.length; i += 2)
+		{
+			loot.add(drops[i], drops[i + 1]);
+		}
+		return loot;
+	}
+
+	@Test
+	public void testAddAndGet() throws IOException
+	{
+		try (LootStore store = new LootStore(file, EXPIRE))
+		{
+			store.add(Arrays.asList(loot("Goblin", 1, 526, 1, 995, 5), loot("Cow", 2, 526, 2)), NOW.minus(Duration.ofDays(10)));
+			store.add(Collections.singletonList(loot("Goblin", 2, 995, 300, 1, 1)), NOW);
+
+			ConfigLoot goblin = store.get(LootRecordType.NPC, "Goblin", Instant.EPOCH);
+			assertEquals(3, goblin.kills);
+			assertArrayEquals(new int[]{526, 1, 995, 305, 1, 1}, goblin.drops);
+			assertEquals(NOW.minus(Duration.ofDays(10)), goblin.first);
+			assertEquals(NOW, goblin.last);
+
+			// range query only reads the recent record
+			ConfigLoot recent = store.get(LootRecordType.NPC, "Goblin", NOW.minus(Duration.ofDays(7)));
+			assertEquals(2, recent.kills);
+			assertArrayEquals(new int[]{995, 300, 1, 1}, recent.drops);
+
+			assertNull(store.get(LootRecordType.NPC, "Cow", NOW.minus(Duration.ofDays(7))));
+			assertNull(store.get(LootRecordType.PLAYER, "Goblin", Instant.EPOCH));
+		}
+
+		try (LootStore store = new LootStore(file, EXPIRE))
+		{
+			List<ConfigLoot> loots = store.getAll(Instant.EPOCH);
+			assertEquals(2, loots.size());
+			assertEquals(2, store.get(LootRecordType.NPC, "Cow", Instant.EPOCH).kills);
+		}
+	}
+
+	@Test
+	public void testRemove() throws IOException
+	{
+		try (LootStore store = new LootStore(file, EXPIRE))
+		{
+			store.add(Arrays.asList(loot("Goblin", 1, 526, 1), loot("Cow", 1, 526, 1)), NOW);
+			store.remove(LootRecordType.NPC, "Goblin");
+			assertNull(store.get(LootRecordType.NPC, "Goblin", Instant.EPOCH));
+		}
+
+		try (LootStore store = new LootStore(file, EXPIRE))
+		{
+			assertNull(store.get(LootRecordType.NPC, "Goblin", Instant.EPOCH));
+			assertEquals(1, store.getAll(Instant.EPOCH).size());
+
+			store.clear();
+			assertTrue(store.getAll(Instant.EPOCH).isEmpty());
+		}
+
+		try (LootStore store = new LootStore(file, EXPIRE))
+		{
+			assertTrue(store.getAll(Instant.EPOCH).isEmpty());
+		}
+	}
+
+	@Test
+	public void testExpire() throws IOException
+	{
+		try (LootStore store = new LootStore(file, EXPIRE))
+		{
+			store.add(Collections.singletonList(loot("Goblin", 1, 526, 1)), EXPIRE.minusSeconds(1));
+			store.add(Collections.singletonList(loot("Goblin", 1, 995, 1)), NOW);
+		}
+
+		try (LootStore store = new LootStore(file, EXPIRE))
+		{
+			ConfigLoot goblin = store.get(LootRecordType.NPC, "Goblin", Instant.EPOCH);
+			assertEquals(1, goblin.kills);
+			assertArrayEquals(new int[]{995, 1}, goblin.drops);
+		}
+	}
+
+	@Test
+	public void testTruncated() throws IOException
+	{
+		try (LootStore store = new LootStore(file, EXPIRE))
+		{
+			store.add(Collections.singletonList(loot("Goblin", 1, 526, 1)), NOW);
+			store.add(Collections.singletonList(loot("Cow", 1, 526, 1, 1739, 1)), NOW);
+		}
+
+		try (RandomAccessFile raf = new RandomAccessFile(file, "rw"))
+		{
+			raf.setLength(raf.length() - 2);
+		}
+
+		try (LootStore store = new LootStore(file, EXPIRE))
+		{
+			assertEquals(1, store.getAll(Instant.EPOCH).size());
+			store.add(Collections.singletonList(loot("Cow", 1, 1739, 1)), NOW);
+		}
+
+		try (LootStore store = new LootStore(file, EXPIRE))
+		{
+			assertEquals(2, store.getAll(Instant.EPOCH).size());
+			assertArrayEquals(new int[]{1739, 1}, store.get(LootRecordType.NPC, "Cow", Instant.EPOCH).drops);
+		}
+	}
+
+	@Test
+	public void testUnknownType() throws IOException
+	{
+		try (LootStore store = new LootStore(file, EXPIRE))
+		{
+			store.add(Collections.singletonList(loot("Goblin", 1, 526, 1)), NOW);
+			store.add(Collections.singletonList(loot("Cow", 1, 526, 1)), NOW);
+		}
+
+		// change the type of the first record to one this client doesn't know
+		long length;
+		try (RandomAccessFile raf = new RandomAccessFile(file, "rw"))
+		{
+			raf.seek(8 + 1 + 2);
+			raf.writeBytes("XYZ");
+			length = raf.length();
+		}
+
+		try (LootStore store = new LootStore(file, EXPIRE))
+		{
+			assertNull(store.get(LootRecordType.NPC, "Goblin", Instant.EPOCH));
+			assertEquals(1, store.get(LootRecordType.NPC, "Cow", Instant.EPOCH).kills);
+		}
+
+		assertEquals(length, file.length());
+	}
+
+	@Test
+	public void testCompact() throws IOException
+	{
+		try (LootStore store = new LootStore(file, EXPIRE))
+		{
+			for (int i = 0; i < 1000; ++i)
+			{
+				store.add(Collections.singletonList(loot("Goblin", 1, 526, 1, 995, i)), NOW.minus(Duration.ofHours(i % 48)));
+			}
+		}
+
+		long before = file.length();
+		try (LootStore store = new LootStore(file, EXPIRE))
+		{
+			assertTrue(file.length() < before);
+
+			ConfigLoot goblin = store.get(LootRecordType.NPC, "Goblin", Instant.EPOCH);
+			assertEquals(1000, goblin.kills);
+			assertArrayEquals(new int[]{526, 1000, 995, 999 * 1000 / 2}, goblin.drops);
+		}
+	}
+}
@@ -68,4 +68,35 @@ public class LootTrackerBoxTest
 			new LootTrackerItem(ItemID.GRACEFUL_HOOD_13579, "Graceful hood", 1, 0, 0, false)
 		), lootTrackerBox.getItems());
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void testAddKillCombinesRecords()
+	{
+		LootTrackerBox lootTrackerBox = new LootTrackerBox(
+			mock(ItemManager.class),
+			"Goblin",
+			LootRecordType.NPC,
+			null,
+			false,
+			LootTrackerPriceType.GRAND_EXCHANGE,
+			false,
+			null, null,
+			false);
+
+		lootTrackerBox.addKill(new LootTrackerRecord("Goblin", null, LootRecordType.NPC, new LootTrackerItem[]{
+			new LootTrackerItem(ItemID.BONES, "Bones", 1, 0, 0, false),
+			new LootTrackerItem(ItemID.COINS_995, "Coins", 5, 1, 0, false),
+		}, 1));
+		lootTrackerBox.addKill(new LootTrackerRecord("Goblin", null, LootRecordType.NPC, new LootTrackerItem[]{
+			new LootTrackerItem(ItemID.COINS_995, "Coins", 10, 1, 0, false),
+			new LootTrackerItem(ItemID.GOBLIN_MAIL, "Goblin mail", 1, 0, 0, false),
+			new LootTrackerItem(ItemID.BONES, "Bones", 1, 0, 0, false),
+		}, 1));
+
+		assertEquals(Arrays.asList(
+			new LootTrackerItem(ItemID.BONES, "Bones", 2, 0, 0, false),
+			new LootTrackerItem(ItemID.COINS_995, "Coins", 15, 1, 0, false),
+			new LootTrackerItem(ItemID.GOBLIN_MAIL, "Goblin mail", 1, 0, 0, false)
+		), lootTrackerBox.getItems());
+	}
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.party.messages;
+
+import com.google.gson.Gson;
+import java.awt.Color;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.party.messages.WebsocketMessage;
+import net.runelite.client.util.RuntimeTypeAdapterFactory;
+import net.runelite.http.api.RuneLiteAPI;
+import org.junit.Ignore;
+import org.junit.Test;
+
+/**
+ * Compares the json and binary encodings of the location and status updates a party sends each
+ * tick, by payload size and by the time to encode and decode them.
+ */
+@Slf4j
+public class PartyCodecBenchmark
+{
+	private static final int TICKS = 200;
+	private static final int ROUNDS = 10;
+
+	private final Gson gson = RuneLiteAPI.GSON.newBuilder()
+		.registerTypeAdapterFactory(RuntimeTypeAdapterFactory.of(WebsocketMessage.class)
+			.registerSubtype(LocationUpdate.class)
+			.registerSubtype(StatusUpdate.class))
+		.create();
+	private final LocationUpdateCodec locationCodec = new LocationUpdateCodec();
+	private final StatusUpdateCodec statusCodec = new StatusUpdateCodec();
+
+	@Test
+	@Ignore
+	public void benchmark() throws IOException
+	{
+		for (int members : new int[]{5, 50, 250})
+		{
+			List<List<WebsocketMessage>> ticks = simulate(new Random(42), members);
+
+			long jsonBytes = 0;
+			long binaryBytes = 0;
+			long jsonNanos = Long.MAX_VALUE;
+			long binaryNanos = Long.MAX_VALUE;
+			for (int round = 0; round < ROUNDS; ++round)
+			{
+				long start = System.nanoTime();
+				jsonBytes = json(ticks);
+				jsonNanos = Math.min(jsonNanos, System.nanoTime() - start);
+
+				start = System.nanoTime();
+				binaryBytes = binary(ticks, members);
+				binaryNanos = Math.min(binaryNanos, System.nanoTime() - start);
+			}
+
+			log.info("{} members: json {} bytes/tick {} us/tick, binary {} bytes/tick {} us/tick", members,
+				jsonBytes / TICKS, jsonNanos / TICKS / 1000, binaryBytes / TICKS, binaryNanos / TICKS / 1000);
+		}
+	}
+
+	private long json(List<List<WebsocketMessage>> ticks)
+	{
+		long bytes = 0;
+		for (List<WebsocketMessage> tick : ticks)
+		{
+			for (WebsocketMessage message : tick)
+			{
+				byte[] data = gson.toJson(message, WebsocketMessage.class).getBytes(StandardCharsets.UTF_8);
+				bytes += data.length;
+				gson.fromJson(new String(data, StandardCharsets.UTF_8), WebsocketMessage.class);
+			}
+		}
+		return bytes;
+	}
+
+	private long binary(List<List<WebsocketMessage>> ticks, int members) throws IOException
+	{
+		// each member's previous location, as seen by the sender and by a receiver
+		LocationUpdate[] sent = new LocationUpdate[members];
+		LocationUpdate[] received = new LocationUpdate[members];
+		long bytes = 0;
+		for (List<WebsocketMessage> tick : ticks)
+		{
+			for (int i = 0; i < tick.size(); ++i)
+			{
+				WebsocketMessage message = tick.get(i);
+				byte[] data;
+				if (message instanceof LocationUpdate)
+				{
+					int member = i / 2;
+					data = PartyMessageCodecTest.encode(locationCodec, (LocationUpdate) message, sent[member]);
+					sent[member] = (LocationUpdate) message;
+					received[member] = PartyMessageCodecTest.decode(locationCodec, data, received[member]);
+				}
+				else
+				{
+					data = PartyMessageCodecTest.encode(statusCodec, (StatusUpdate) message, null);
+					PartyMessageCodecTest.decode(statusCodec, data, null);
+				}
+				bytes += data.length;
+			}
+		}
+		return bytes;
+	}
+
+	private static List<List<WebsocketMessage>> simulate(Random random, int members)
+	{
+		int[] x = new int[members];
+		int[] y = new int[members];
+		int[] hp = new int[members];
+		for (int i = 0; i < members; ++i)
+		{
+			x[i] = 3000 + random.nextInt(400);
+			y[i] = 3000 + random.nextInt(400);
+			hp[i] = 99;
+		}
+
+		// every member runs around and takes or heals damage each tick
+		List<List<WebsocketMessage>> ticks = new ArrayList<>();
+		for (int tick = 0; tick < TICKS; ++tick)
+		{
+			List<WebsocketMessage> messages = new ArrayList<>();
+			for (int i = 0; i < members; ++i)
+			{
+				x[i] += random.nextInt(5) - 2;
+				y[i] += random.nextInt(5) - 2;
+				messages.add(new LocationUpdate(new WorldPoint(x[i], y[i], 0)));
+
+				hp[i] = Math.max(1, Math.min(99, hp[i] + random.nextInt(21) - 10));
+				StatusUpdate status = new StatusUpdate();
+				status.setHealthCurrent(hp[i]);
+				if (tick == 0)
+				{
+					status.setCharacterName("Member " + i);
+					status.setHealthMax(99);
+					status.setMemberColor(Color.getHSBColor(random.nextFloat(), 1f, 1f));
+				}
+				messages.add(status);
+			}
+			ticks.add(messages);
+		}
+		return ticks;
+	}
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.party.messages;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import java.awt.Color;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.party.PartyMessageCodec;
+import net.runelite.client.party.messages.WebsocketMessage;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Test;
+
+public class PartyMessageCodecTest
+{
+	@Test
+	public void testStatusUpdate() throws IOException
+	{
+		StatusUpdateCodec codec = new StatusUpdateCodec();
+
+		StatusUpdate full = new StatusUpdate("Zezima", 99, 99, 70, 99, 100, 50, false, new Color(0x80ff0000, true));
+		assertStatusEquals(full, decode(codec, encode(codec, full, null), null));
+
+		StatusUpdate partial = new StatusUpdate();
+		partial.setHealthCurrent(42);
+		partial.setVengeanceActive(true);
+		byte[] data = encode(codec, partial, full);
+		assertEquals(3, data.length);
+
+		StatusUpdate decoded = decode(codec, data, null);
+		assertStatusEquals(partial, decoded);
+		assertNull(decoded.getCharacterName());
+	}
+
+	private static void assertStatusEquals(StatusUpdate expected, StatusUpdate actual)
+	{
+		assertEquals(expected.getCharacterName(), actual.getCharacterName());
+		assertEquals(expected.getHealthCurrent(), actual.getHealthCurrent());
+		assertEquals(expected.getHealthMax(), actual.getHealthMax());
+		assertEquals(expected.getPrayerCurrent(), actual.getPrayerCurrent());
+		assertEquals(expected.getPrayerMax(), actual.getPrayerMax());
+		assertEquals(expected.getRunEnergy(), actual.getRunEnergy());
+		assertEquals(expected.getSpecEnergy(), actual.getSpecEnergy());
+		assertEquals(expected.getVengeanceActive(), actual.getVengeanceActive());
+		assertEquals(expected.getMemberColor(), actual.getMemberColor());
+	}
+
+	@Test
+	public void testLocationUpdate() throws IOException
+	{
+		LocationUpdateCodec codec = new LocationUpdateCodec();
+
+		LocationUpdate first = new LocationUpdate(new WorldPoint(3222, 3218, 0));
+		byte[] data = encode(codec, first, null);
+		LocationUpdate decoded = decode(codec, data, null);
+		assertEquals(first.getWorldPoint(), decoded.getWorldPoint());
+
+		LocationUpdate step = new LocationUpdate(new WorldPoint(3220, 3219, 0));
+		data = encode(codec, step, first);
+		assertEquals(2, data.length);
+		assertEquals(step.getWorldPoint(), decode(codec, data, decoded).getWorldPoint());
+
+		// changing plane sends the complete location
+		LocationUpdate up = new LocationUpdate(new WorldPoint(3220, 3219, 1));
+		data = encode(codec, up, step);
+		assertEquals(up.getWorldPoint(), decode(codec, data, null).getWorldPoint());
+	}
+
+	@Test(expected = IOException.class)
+	public void testLocationDeltaWithoutPrevious() throws IOException
+	{
+		LocationUpdateCodec codec = new LocationUpdateCodec();
+		LocationUpdate first = new LocationUpdate(new WorldPoint(3222, 3218, 0));
+		LocationUpdate step = new LocationUpdate(new WorldPoint(3223, 3218, 0));
+		decode(codec, encode(codec, step, first), null);
+	}
+
+	static <T extends WebsocketMessage> byte[] encode(PartyMessageCodec<T> codec, T message, T previous) throws IOException
+	{
+		ByteArrayOutputStream buf = new ByteArrayOutputStream();
+		CodedOutputStream out = CodedOutputStream.newInstance(buf);
+		codec.encode(message, previous, out);
+		out.flush();
+		return buf.toByteArray();
+	}
+
+	static <T extends WebsocketMessage> T decode(PartyMessageCodec<T> codec, byte[] data, T previous) throws IOException
+	{
+		return codec.decode(CodedInputStream.newInstance(data), previous);
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.playerindicators;
+
+import com.google.inject.Guice;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.awt.Color;
+import java.util.Collections;
+import javax.inject.Inject;
+import net.runelite.api.Client;
+import net.runelite.api.Player;
+import net.runelite.client.party.PartyMember;
+import net.runelite.client.party.PartyService;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PlayerIndicatorsServiceTest
+{
+	@Mock
+	@Bind
+	private Client client;
+
+	@Mock
+	@Bind
+	private PlayerIndicatorsConfig config;
+
+	@Mock
+	@Bind
+	private PartyService partyService;
+
+	@Inject
+	private PlayerIndicatorsService playerIndicatorsService;
+
+	@Before
+	public void before()
+	{
+		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+	}
+
+	private static Player player(int id, String name)
+	{
+		Player player = mock(Player.class);
+		when(player.getId()).thenReturn(id);
+		when(player.getName()).thenReturn(name);
+		return player;
+	}
+
+	@Test
+	public void testCachedPerTick()
+	{
+		when(config.highlightFriends()).thenReturn(PlayerIndicatorsConfig.HighlightSetting.ENABLED);
+		when(config.getFriendColor()).thenReturn(Color.GREEN);
+
+		Player friend = player(5, "Friend");
+		when(friend.isFriend()).thenReturn(true);
+
+		when(client.getTickCount()).thenReturn(1);
+		assertEquals(Color.GREEN, playerIndicatorsService.getDecorations(friend).getColor());
+		assertEquals(Color.GREEN, playerIndicatorsService.getDecorations(friend).getColor());
+		verify(config, times(1)).getFriendColor();
+
+		// another player in the same slot is not served the cached decorations
+		Player other = player(5, "Other");
+		assertNull(playerIndicatorsService.getDecorations(other));
+
+		when(client.getTickCount()).thenReturn(2);
+		assertEquals(Color.GREEN, playerIndicatorsService.getDecorations(friend).getColor());
+		verify(config, times(2)).getFriendColor();
+
+		playerIndicatorsService.invalidate();
+		playerIndicatorsService.getDecorations(friend);
+		verify(config, times(3)).getFriendColor();
+	}
+
+	@Test
+	public void testPartyMember()
+	{
+		when(config.highlightPartyMembers()).thenReturn(PlayerIndicatorsConfig.HighlightSetting.ENABLED);
+		when(config.getPartyMemberColor()).thenReturn(Color.BLUE);
+
+		PartyMember member = new PartyMember(1L);
+		member.setDisplayName("Party Member");
+		member.setLoggedIn(true);
+		when(partyService.isInParty()).thenReturn(true);
+		when(partyService.getMembers()).thenReturn(Collections.singletonList(member));
+
+		assertEquals(Color.BLUE, playerIndicatorsService.getDecorations(player(1, "Party Member")).getColor());
+		assertNull(playerIndicatorsService.getDecorations(player(2, "Someone else")));
+	}
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.worldhopper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.runelite.http.api.worlds.World;
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+public class WorldPingerTest
+{
+	private ExecutorService probeExecutor;
+	private ScheduledExecutorService scheduler;
+
+	@Before
+	public void before()
+	{
+		probeExecutor = Executors.newFixedThreadPool(WorldPinger.CONCURRENCY);
+		scheduler = Executors.newSingleThreadScheduledExecutor();
+	}
+
+	@After
+	public void after()
+	{
+		probeExecutor.shutdownNow();
+		scheduler.shutdownNow();
+	}
+
+	@Test(timeout = 10_000)
+	public void testSweep() throws Exception
+	{
+		final AtomicInteger inFlight = new AtomicInteger();
+		final AtomicInteger maxInFlight = new AtomicInteger();
+
+		try (ServerSocket server = new ServerSocket(0, 256, InetAddress.getLoopbackAddress()))
+		{
+			// a tcp ping to a loopback server in place of the real ping, held open a while like a slow world
+			WorldPinger.Prober loopback = world ->
+			{
+				maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+				try (Socket socket = new Socket())
+				{
+					long start = System.nanoTime();
+					socket.connect(new InetSocketAddress(server.getInetAddress(), server.getLocalPort()));
+					int ping = (int) ((System.nanoTime() - start) / 1_000_000L);
+					Thread.sleep(50);
+					return ping;
+				}
+				catch (IOException ex)
+				{
+					throw new UncheckedIOException(ex);
+				}
+				catch (InterruptedException ex)
+				{
+					Thread.currentThread().interrupt();
+					return -1;
+				}
+				finally
+				{
+					inFlight.decrementAndGet();
+				}
+			};
+
+			List<List<WorldPinger.WorldPing>> batches = new CopyOnWriteArrayList<>();
+			WorldPinger pinger = new WorldPinger(loopback, probeExecutor, scheduler, batches::add);
+
+			List<World> worlds = new ArrayList<>();
+			for (int i = 0; i < 200; ++i)
+			{
+				worlds.add(World.builder().id(300 + i).address("127.0.0.1").build());
+			}
+
+			// 200 worlds at 50ms each would take 10 seconds one at a time
+			pinger.sweep(worlds).get(5, TimeUnit.SECONDS);
+			// the last batch is delivered shortly after the sweep finishes
+			while (batches.stream().mapToInt(List::size).sum() < worlds.size())
+			{
+				Thread.sleep(10);
+			}
+
+			Set<Integer> pinged = new HashSet<>();
+			batches.forEach(batch -> batch.forEach(ping ->
+			{
+				assertTrue(ping.getPing() >= 0);
+				pinged.add(ping.getWorld());
+			}));
+			assertEquals(worlds.size(), pinged.size());
+			assertTrue(batches.size() < worlds.size());
+			assertTrue(maxInFlight.get() > 1);
+			assertTrue(maxInFlight.get() <= WorldPinger.CONCURRENCY);
+		}
+	}
+
+	@Test
+	public void testSmoothing()
+	{
+		final int[] samples = {100, 180, -1, 100};
+		final AtomicInteger next = new AtomicInteger();
+		WorldPinger pinger = new WorldPinger(world -> samples[next.getAndIncrement()], probeExecutor, scheduler, batch ->
+		{
+		});
+		World world = World.builder().id(301).build();
+
+		assertNull(pinger.getPing(301));
+		assertEquals(100, pinger.ping(world));
+		assertEquals(100, (int) pinger.getPing(301));
+
+		assertEquals(180, pinger.ping(world));
+		assertEquals(110, (int) pinger.getPing(301));
+		assertEquals(5, pinger.getJitter(301), 0.001);
+
+		// a failed ping is reported, but does not affect the averages
+		assertEquals(-1, pinger.ping(world));
+		assertEquals(-1, (int) pinger.getPing(301));
+
+		assertEquals(100, pinger.ping(world));
+		assertEquals(109, (int) pinger.getPing(301));
+		assertEquals(9.6875, pinger.getJitter(301), 0.001);
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay;
+
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.util.List;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class OverlayProfilerTest
+{
+	private static class TestOverlay extends Overlay
+	{
+		@Override
+		public Dimension render(Graphics2D graphics)
+		{
+			return null;
+		}
+	}
+
+	@Test
+	public void testStats()
+	{
+		OverlayProfiler profiler = new OverlayProfiler();
+		profiler.setEnabled(true);
+
+		Overlay overlay = new TestOverlay();
+		for (int i = 0; i < 10; ++i)
+		{
+			profiler.beginLayer();
+			profiler.beginOverlay();
+			profiler.endOverlay(overlay);
+			profiler.endLayer(OverlayLayer.UNDER_WIDGETS);
+			profiler.endFrame();
+		}
+
+		List<OverlayProfiler.Stats> overlayStats = profiler.getOverlayStats();
+		assertEquals(1, overlayStats.size());
+		OverlayProfiler.Stats stats = overlayStats.get(0);
+		assertEquals("TestOverlay", stats.getName());
+		assertEquals(10, stats.getSamples());
+		assertTrue(stats.getP50Nanos() <= stats.getP95Nanos());
+		assertTrue(stats.getP95Nanos() <= stats.getMaxNanos());
+
+		List<OverlayProfiler.Stats> layerStats = profiler.getLayerStats();
+		assertEquals(1, layerStats.size());
+		assertEquals("UNDER_WIDGETS", layerStats.get(0).getName());
+	}
+
+	@Test
+	public void testWindow()
+	{
+		OverlayProfiler profiler = new OverlayProfiler();
+		profiler.setEnabled(true);
+
+		Overlay overlay = new TestOverlay();
+		for (int i = 0; i < OverlayProfiler.WINDOW * 2; ++i)
+		{
+			profiler.beginOverlay();
+			profiler.endOverlay(overlay);
+			profiler.endFrame();
+		}
+
+		assertEquals(OverlayProfiler.WINDOW, profiler.getOverlayStats().get(0).getSamples());
+
+		// re-enabling discards old samples
+		profiler.setEnabled(false);
+		profiler.setEnabled(true);
+		assertTrue(profiler.getOverlayStats().isEmpty());
+	}
+
+	@Test
+	public void testFrames()
+	{
+		long[] time = new long[1];
+		OverlayProfiler profiler = new OverlayProfiler(() -> time[0]);
+		profiler.setEnabled(true);
+
+		Overlay overlay = new TestOverlay();
+		for (int frame = 1; frame <= 4; ++frame)
+		{
+			// the layer is rendered in two parts, after two interfaces, and the overlay is in both
+			for (int part = 0; part < 2; ++part)
+			{
+				profiler.beginLayer();
+				time[0] += 10;
+				profiler.beginOverlay();
+				time[0] += frame * 100;
+				profiler.endOverlay(overlay);
+				profiler.endLayer(OverlayLayer.ABOVE_WIDGETS);
+			}
+
+			if (frame == 1)
+			{
+				// nothing is recorded until the frame ends
+				assertTrue(profiler.getLayerStats().isEmpty());
+			}
+			profiler.endFrame();
+		}
+
+		OverlayProfiler.Stats layerStats = profiler.getLayerStats().get(0);
+		assertEquals("ABOVE_WIDGETS", layerStats.getName());
+		assertEquals(4, layerStats.getSamples());
+		assertEquals(420, layerStats.getP50Nanos());
+		assertEquals(820, layerStats.getP95Nanos());
+		assertEquals(820, layerStats.getMaxNanos());
+
+		OverlayProfiler.Stats overlayStats = profiler.getOverlayStats().get(0);
+		assertEquals(4, overlayStats.getSamples());
+		assertEquals(400, overlayStats.getP50Nanos());
+		assertEquals(800, overlayStats.getMaxNanos());
+
+		// a frame with nothing rendered records nothing
+		profiler.endFrame();
+		assertEquals(4, profiler.getLayerStats().get(0).getSamples());
+	}
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class OverlayRenderCacheTest
+{
+	private static final Font FONT = new Font(Font.DIALOG, Font.PLAIN, 12);
+	private static final RenderingHints HINTS = new RenderingHints(null);
+
+	private static class BoxOverlay extends Overlay
+	{
+		private final Dimension size;
+		private int renders;
+
+		BoxOverlay(Dimension size)
+		{
+			this.size = size;
+			setCached(true);
+		}
+
+		@Override
+		public Dimension render(Graphics2D graphics)
+		{
+			++renders;
+			graphics.setColor(Color.RED);
+			graphics.fillRect(0, 0, size.width, size.height);
+			return size;
+		}
+	}
+
+	@Test
+	public void testVersion()
+	{
+		BoxOverlay overlay = new BoxOverlay(new Dimension(10, 10));
+		OverlayRenderCache cache = overlay.getRenderCache();
+
+		long version = overlay.getContentVersion();
+		assertFalse(cache.isValid(version, FONT, null));
+		cache.render(overlay, version, FONT, HINTS);
+		assertTrue(cache.isValid(version, FONT, null));
+		assertEquals(1, overlay.renders);
+
+		overlay.markDirty();
+		assertFalse(cache.isValid(overlay.getContentVersion(), FONT, null));
+		assertFalse(cache.isValid(version, FONT.deriveFont(16f), null));
+		assertFalse(cache.isValid(version, FONT, new Dimension(20, 20)));
+	}
+
+	@Test
+	public void testGrow()
+	{
+		BoxOverlay overlay = new BoxOverlay(new Dimension(300, 20));
+		OverlayRenderCache cache = overlay.getRenderCache();
+
+		cache.render(overlay, 0, FONT, HINTS);
+		assertEquals(2, overlay.renders);
+		assertEquals(300, cache.getWidth());
+		assertEquals(20, cache.getHeight());
+
+		// the grown image is reused
+		cache.render(overlay, 1, FONT, HINTS);
+		assertEquals(3, overlay.renders);
+	}
+
+	@Test
+	public void testDraw()
+	{
+		BoxOverlay overlay = new BoxOverlay(new Dimension(4, 4));
+		OverlayRenderCache cache = overlay.getRenderCache();
+		cache.render(overlay, 0, FONT, HINTS);
+
+		BufferedImage target = new BufferedImage(16, 16, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D graphics = target.createGraphics();
+		cache.draw(graphics, 2, 2);
+		graphics.dispose();
+
+		assertEquals(0, target.getRGB(1, 1));
+		assertEquals(Color.RED.getRGB(), target.getRGB(2, 2));
+		assertEquals(Color.RED.getRGB(), target.getRGB(5, 5));
+		assertEquals(0, target.getRGB(6, 6));
+	}
+}
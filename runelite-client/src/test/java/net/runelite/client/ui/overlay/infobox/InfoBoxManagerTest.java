@@ -28,15 +28,23 @@ import com.google.inject.Guice;
 import com.google.inject.testing.fieldbinder.Bind;
 import com.google.inject.testing.fieldbinder.BoundFieldModule;
 import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 import javax.inject.Inject;
 import net.runelite.api.Client;
 import net.runelite.client.config.ConfigManager;
+import net.runelite.client.config.FontType;
 import net.runelite.client.config.RuneLiteConfig;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.events.ConfigChanged;
 import net.runelite.client.plugins.Plugin;
+import net.runelite.client.ui.overlay.components.ComponentOrientation;
+import net.runelite.client.ui.overlay.tooltip.TooltipManager;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -78,7 +86,7 @@ public class InfoBoxManagerTest
 			when(PLUGIN.getName()).thenReturn("");
 		}
 
-		private final String text;
+		private String text;
 
 		private TestInfobox(InfoBoxPriority infoBoxPriority)
 		{
@@ -128,4 +136,47 @@ public class InfoBoxManagerTest
 		assertEquals("two", infoBoxManager.getInfoBoxes().get(1).getText());
 		assertEquals("three", infoBoxManager.getInfoBoxes().get(2).getText());
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void testContentVersion()
+	{
+		when(runeLiteConfig.infoBoxSize()).thenReturn(35);
+		when(runeLiteConfig.infoboxFontType()).thenReturn(FontType.SMALL);
+
+		InfoBoxOverlay overlay = new InfoBoxOverlay(infoBoxManager, mock(TooltipManager.class), client, runeLiteConfig,
+			mock(EventBus.class), "test", ComponentOrientation.HORIZONTAL);
+		TestInfobox infoBox = new TestInfobox(InfoBoxPriority.MED, "1");
+		overlay.getInfoBoxes().add(infoBox);
+
+		long version = overlay.getContentVersion();
+		render(overlay);
+		assertEquals(version, overlay.getContentVersion());
+
+		// the text is compared against what was last rendered
+		infoBox.text = "2";
+		assertNotEquals(version, version = overlay.getContentVersion());
+		render(overlay);
+		assertEquals(version, overlay.getContentVersion());
+
+		overlay.getInfoBoxes().add(new TestInfobox(InfoBoxPriority.LOW, "3"));
+		assertNotEquals(version, version = overlay.getContentVersion());
+		render(overlay);
+
+		ConfigChanged configChanged = new ConfigChanged();
+		configChanged.setGroup(RuneLiteConfig.GROUP_NAME);
+		configChanged.setKey("infoBoxTextOutline");
+		overlay.onConfigChanged(configChanged);
+		assertNotEquals(version, version = overlay.getContentVersion());
+
+		overlay.flip();
+		assertNotEquals(version, overlay.getContentVersion());
+	}
+
+	private static void render(InfoBoxOverlay overlay)
+	{
+		BufferedImage image = new BufferedImage(200, 200, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D graphics = image.createGraphics();
+		overlay.render(graphics);
+		graphics.dispose();
+	}
+}
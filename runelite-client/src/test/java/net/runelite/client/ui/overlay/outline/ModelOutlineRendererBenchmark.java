@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay.outline;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Client;
+import net.runelite.api.MainBufferProvider;
+import net.runelite.api.Model;
+import net.runelite.api.RuneLiteObject;
+import static net.runelite.client.ui.overlay.outline.ModelOutlineRendererTest.object;
+import static net.runelite.client.ui.overlay.outline.ModelOutlineRendererTest.soup;
+import static net.runelite.client.ui.overlay.outline.ModelOutlineRendererTest.sphere;
+import org.junit.Ignore;
+import org.junit.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Compares drawing outlines on a single thread against drawing them in bands.
+ */
+@Slf4j
+public class ModelOutlineRendererBenchmark
+{
+	private static final int ROUNDS = 10;
+	private static final int ITERATIONS = 50;
+
+	@Test
+	@Ignore
+	public void benchmark()
+	{
+		BufferedImage canvas = new BufferedImage(1920, 1080, BufferedImage.TYPE_INT_RGB);
+		MainBufferProvider bufferProvider = mock(MainBufferProvider.class);
+		when(bufferProvider.getImage()).thenReturn(canvas);
+
+		Client client = mock(Client.class);
+		when(client.getBufferProvider()).thenReturn(memoize(MainBufferProvider.class, bufferProvider));
+		when(client.isGpu()).thenReturn(true);
+		when(client.getViewportWidth()).thenReturn(canvas.getWidth());
+		when(client.getViewportHeight()).thenReturn(canvas.getHeight());
+		when(client.getScale()).thenReturn(1024);
+		client = memoize(Client.class, client);
+
+		// an npc sized model, and a large model close to the camera
+		RuneLiteObject small = memoize(RuneLiteObject.class, object(sphere(60, 100, 60, 24), 0, 1600, 0, 0));
+		RuneLiteObject large = memoize(RuneLiteObject.class, object(soup(new Random(42), 300, 900), 0, 1000, 0, 0));
+
+		ModelOutlineRenderer serial = new ModelOutlineRenderer(client, 1, Integer.MAX_VALUE);
+		int cores = Runtime.getRuntime().availableProcessors();
+		ModelOutlineRenderer banded = new ModelOutlineRenderer(client, Math.min(4, cores), 1 << 15);
+		log.info("{} cores", cores);
+
+		compare("small width 2", serial, banded, small, 2, Color.ORANGE, 0);
+		compare("small width 4 feather 4", serial, banded, small, 4, Color.ORANGE, 4);
+		compare("large width 2", serial, banded, large, 2, Color.ORANGE, 0);
+		compare("large width 4 feather 4", serial, banded, large, 4, Color.ORANGE, 4);
+		compare("large width 12 translucent", serial, banded, large, 12, new Color(0, 255, 255, 128), 0);
+	}
+
+	/**
+	 * Wraps a mock so each of its getters is only called once. Mockito captures a stack trace
+	 * for every call, which otherwise costs more than drawing a small outline.
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> T memoize(Class<T> type, T mock)
+	{
+		Map<Method, Object> values = new HashMap<>();
+		return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) ->
+		{
+			if (args != null)
+			{
+				return method.invoke(mock, args);
+			}
+			if (!values.containsKey(method))
+			{
+				Object value = method.invoke(mock);
+				values.put(method, value instanceof Model ? memoize(Model.class, (Model) value) : value);
+			}
+			return values.get(method);
+		});
+	}
+
+	private static void compare(String name, ModelOutlineRenderer serial, ModelOutlineRenderer banded,
+		RuneLiteObject object, int width, Color color, int feather)
+	{
+		long before = time(serial, object, width, color, feather);
+		long after = time(banded, object, width, color, feather);
+		log.info("{}: serial {} ns, banded {} ns ({}x)", name, before, after, String.format("%.1f", (double) before / after));
+	}
+
+	private static long time(ModelOutlineRenderer renderer, RuneLiteObject object, int width, Color color, int feather)
+	{
+		long best = Long.MAX_VALUE;
+		for (int round = 0; round < ROUNDS; ++round)
+		{
+			long start = System.nanoTime();
+			for (int i = 0; i < ITERATIONS; ++i)
+			{
+				renderer.drawOutline(object, width, color, feather);
+			}
+			best = Math.min(best, (System.nanoTime() - start) / ITERATIONS);
+		}
+		return best;
+	}
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay.outline;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import lombok.AllArgsConstructor;
+import net.runelite.api.Client;
+import net.runelite.api.MainBufferProvider;
+import net.runelite.api.Model;
+import net.runelite.api.RuneLiteObject;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.client.util.ImageUtil;
+import static org.junit.Assert.assertArrayEquals;
+import org.junit.Before;
+import org.junit.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Renders outlines of a few synthetic models and compares them against golden images rendered by
+ * the single threaded renderer, before outlines were split into bands.
+ */
+public class ModelOutlineRendererTest
+{
+	private static final int CANVAS_WIDTH = 420;
+	private static final int CANVAS_HEIGHT = 320;
+	private static final int VIEWPORT_OFFSET = 10;
+	private static final int VIEWPORT_WIDTH = 400;
+	private static final int VIEWPORT_HEIGHT = 300;
+
+	@AllArgsConstructor
+	static class Outline
+	{
+		final String name;
+		final int width;
+		final Color color;
+		final int feather;
+	}
+
+	static final Outline[] OUTLINES = {
+		new Outline("width1", 1, Color.ORANGE, 0),
+		new Outline("width4", 4, Color.ORANGE, 0),
+		new Outline("width4_feather4", 4, Color.ORANGE, 4),
+		new Outline("width12", 12, Color.ORANGE, 0),
+		new Outline("width3_translucent", 3, new Color(0, 255, 255, 128), 0),
+		new Outline("width8_translucent_feather2", 8, new Color(0, 255, 255, 160), 2),
+	};
+
+	private Client client;
+	private BufferedImage canvas;
+	private List<RuneLiteObject> objects;
+
+	@Before
+	public void before()
+	{
+		canvas = new BufferedImage(CANVAS_WIDTH, CANVAS_HEIGHT, BufferedImage.TYPE_INT_RGB);
+		MainBufferProvider bufferProvider = mock(MainBufferProvider.class);
+		when(bufferProvider.getImage()).thenReturn(canvas);
+
+		client = mock(Client.class);
+		when(client.getBufferProvider()).thenReturn(bufferProvider);
+		when(client.isGpu()).thenReturn(true);
+		when(client.getViewportXOffset()).thenReturn(VIEWPORT_OFFSET);
+		when(client.getViewportYOffset()).thenReturn(VIEWPORT_OFFSET);
+		when(client.getViewportWidth()).thenReturn(VIEWPORT_WIDTH);
+		when(client.getViewportHeight()).thenReturn(VIEWPORT_HEIGHT);
+		when(client.getScale()).thenReturn(512);
+
+		Random random = new Random(42);
+		objects = new ArrayList<>();
+		objects.add(object(sphere(150, 150, 150, 24), -250, 1400, 0, 0));
+		objects.add(object(sphere(220, 120, 160, 32), 150, 900, 50, 300));
+		objects.add(object(soup(random, 60, 400), 0, 1200, -100, 512));
+		// partially outside of the viewport
+		objects.add(object(sphere(200, 200, 200, 16), 850, 1300, 0, 0));
+		// partially behind the camera
+		objects.add(object(soup(random, 30, 600), -100, 300, 150, 0));
+	}
+
+	@Test
+	public void testOutlines()
+	{
+		checkOutlines(new ModelOutlineRenderer(client, 1, Integer.MAX_VALUE));
+	}
+
+	@Test
+	public void testOutlinesInBands()
+	{
+		checkOutlines(new ModelOutlineRenderer(client, 3, 4096));
+		// as many bands as the margin between them allows
+		checkOutlines(new ModelOutlineRenderer(client, 64, 1));
+	}
+
+	private void checkOutlines(ModelOutlineRenderer renderer)
+	{
+		for (Outline outline : OUTLINES)
+		{
+			BufferedImage golden = ImageUtil.loadImageResource(ModelOutlineRendererTest.class, "outline_" + outline.name + ".png");
+			assertArrayEquals(outline.name, pixels(golden), pixels(render(renderer, outline)));
+		}
+	}
+
+	BufferedImage render(ModelOutlineRenderer renderer, Outline outline)
+	{
+		// a gradient, so blending is visible
+		for (int y = 0; y < CANVAS_HEIGHT; ++y)
+		{
+			int c = 40 + y * 160 / CANVAS_HEIGHT;
+			for (int x = 0; x < CANVAS_WIDTH; ++x)
+			{
+				canvas.setRGB(x, y, c << 16 | c << 8 | 80);
+			}
+		}
+
+		for (RuneLiteObject object : objects)
+		{
+			renderer.drawOutline(object, outline.width, outline.color, outline.feather);
+		}
+		return canvas;
+	}
+
+	private static int[] pixels(BufferedImage image)
+	{
+		return image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth());
+	}
+
+	static RuneLiteObject object(Model model, int x, int y, int z, int orientation)
+	{
+		RuneLiteObject object = mock(RuneLiteObject.class, withSettings().stubOnly());
+		when(object.getLocation()).thenReturn(new LocalPoint(x, y));
+		when(object.getModel()).thenReturn(model);
+		when(object.getZ()).thenReturn(z);
+		when(object.getOrientation()).thenReturn(orientation);
+		return object;
+	}
+
+	/**
+	 * An ellipsoid, with y up.
+	 */
+	static Model sphere(int radiusX, int radiusY, int radiusZ, int segments)
+	{
+		int rings = segments / 2;
+		float[] vx = new float[(rings + 1) * segments];
+		float[] vy = new float[vx.length];
+		float[] vz = new float[vx.length];
+		for (int ring = 0; ring <= rings; ++ring)
+		{
+			double phi = Math.PI * ring / rings;
+			for (int segment = 0; segment < segments; ++segment)
+			{
+				int v = ring * segments + segment;
+				double theta = 2 * Math.PI * segment / segments;
+				vx[v] = (float) (radiusX * Math.sin(phi) * Math.cos(theta));
+				vy[v] = (float) (radiusY * Math.cos(phi));
+				vz[v] = (float) (radiusZ * Math.sin(phi) * Math.sin(theta));
+			}
+		}
+
+		int faces = rings * segments * 2;
+		int[] f1 = new int[faces];
+		int[] f2 = new int[faces];
+		int[] f3 = new int[faces];
+		for (int ring = 0, f = 0; ring < rings; ++ring)
+		{
+			for (int segment = 0; segment < segments; ++segment)
+			{
+				int a = ring * segments + segment;
+				int b = ring * segments + (segment + 1) % segments;
+				int c = a + segments;
+				int d = b + segments;
+				f1[f] = a;
+				f2[f] = c;
+				f3[f++] = b;
+				f1[f] = b;
+				f2[f] = c;
+				f3[f++] = d;
+			}
+		}
+		return model(vx, vy, vz, f1, f2, f3, null);
+	}
+
+	/**
+	 * Random triangles, some of them transparent.
+	 */
+	static Model soup(Random random, int triangles, int spread)
+	{
+		float[] vx = new float[triangles * 3];
+		float[] vy = new float[vx.length];
+		float[] vz = new float[vx.length];
+		int[] f1 = new int[triangles];
+		int[] f2 = new int[triangles];
+		int[] f3 = new int[triangles];
+		byte[] transparencies = new byte[triangles];
+		for (int i = 0; i < triangles; ++i)
+		{
+			float cx = random.nextInt(spread) - spread / 2f;
+			float cy = random.nextInt(spread) - spread / 2f;
+			float cz = random.nextInt(spread) - spread / 2f;
+			for (int j = 0; j < 3; ++j)
+			{
+				vx[i * 3 + j] = cx + random.nextInt(160) - 80;
+				vy[i * 3 + j] = cy + random.nextInt(160) - 80;
+				vz[i * 3 + j] = cz + random.nextInt(160) - 80;
+			}
+			f1[i] = i * 3;
+			f2[i] = i * 3 + 1;
+			f3[i] = i * 3 + 2;
+			transparencies[i] = (byte) (random.nextInt(8) == 0 ? 255 : random.nextInt(200));
+		}
+		return model(vx, vy, vz, f1, f2, f3, transparencies);
+	}
+
+	private static Model model(float[] vx, float[] vy, float[] vz, int[] f1, int[] f2, int[] f3, byte[] transparencies)
+	{
+		Model model = mock(Model.class, withSettings().stubOnly());
+		when(model.getVerticesCount()).thenReturn(vx.length);
+		when(model.getVerticesX()).thenReturn(vx);
+		when(model.getVerticesY()).thenReturn(vy);
+		when(model.getVerticesZ()).thenReturn(vz);
+		when(model.getFaceCount()).thenReturn(f1.length);
+		when(model.getFaceIndices1()).thenReturn(f1);
+		when(model.getFaceIndices2()).thenReturn(f2);
+		when(model.getFaceIndices3()).thenReturn(f3);
+		when(model.getFaceTransparencies()).thenReturn(transparencies);
+		return model;
+	}
+}
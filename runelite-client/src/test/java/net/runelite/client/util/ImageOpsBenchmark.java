@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.RescaleOp;
+import java.util.Random;
+import java.util.function.UnaryOperator;
+import javax.swing.GrayFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Ignore;
+import org.junit.Test;
+
+/**
+ * Compares the {@link ImageUtil} pixel operations as they used to be written, with RescaleOp,
+ * GrayFilter, per-pixel getRGB/setRGB and repeated drawImage calls, against {@link ImageOps}.
+ */
+@Slf4j
+public class ImageOpsBenchmark
+{
+	private static final int ROUNDS = 10;
+	private static final int ITERATIONS = 500;
+	private static final Color COLOR = new Color(220, 138, 0);
+
+	@Test
+	@Ignore
+	public void benchmark()
+	{
+		// item icon sized, and panel image sized
+		for (int size : new int[]{36, 128})
+		{
+			BufferedImage image = randomImage(new Random(42), size);
+
+			compare(size, "luminanceOffset", image,
+				i -> rescale(i, 1f, -80f, false),
+				ImageOps.create().luminanceOffset(-80));
+			compare(size, "alphaOffset", image,
+				i -> rescale(i, .53f, 0f, true),
+				ImageOps.create().alphaOffset(.53f));
+			compare(size, "grayscale", image,
+				i -> ImageUtil.bufferedImageFromImage(GrayFilter.createDisabledImage(i)),
+				ImageOps.create().grayscale());
+			compare(size, "recolor", image,
+				ImageOpsBenchmark::recolor,
+				ImageOps.create().recolor(COLOR));
+			compare(size, "fill", image,
+				ImageOpsBenchmark::fill,
+				ImageOps.create().fill(COLOR));
+			compare(size, "outline", image,
+				ImageOpsBenchmark::outline,
+				ImageOps.create().outline(COLOR, false));
+			compare(size, "outline+alpha", image,
+				i -> rescale(outline(i), 1f, -100f, true),
+				ImageOps.create().outline(COLOR, false).alphaOffset(-100));
+
+			ImageOps ops = ImageOps.create().outline(COLOR, false).alphaOffset(-100);
+			long cached = time(image, ops::applyCached);
+			log.info("{}px outline+alpha: cached {} ns", size, cached);
+		}
+	}
+
+	private static void compare(int size, String name, BufferedImage image, UnaryOperator<BufferedImage> java2d, ImageOps ops)
+	{
+		long before = time(image, java2d);
+		long after = time(image, ops::apply);
+		log.info("{}px {}: java2d {} ns, ImageOps {} ns ({}x)", size, name, before, after, String.format("%.1f", (double) before / after));
+	}
+
+	private static long time(BufferedImage image, UnaryOperator<BufferedImage> op)
+	{
+		long best = Long.MAX_VALUE;
+		int sink = 0;
+		for (int round = 0; round < ROUNDS; ++round)
+		{
+			long start = System.nanoTime();
+			for (int i = 0; i < ITERATIONS; ++i)
+			{
+				sink += op.apply(image).getRGB(0, 0);
+			}
+			best = Math.min(best, (System.nanoTime() - start) / ITERATIONS);
+		}
+		// use the results, so that the work can't be optimized away
+		log.debug("Checksum {}", sink);
+		return best;
+	}
+
+	private static BufferedImage rescale(BufferedImage image, float scale, float offset, boolean alpha)
+	{
+		float[] scales = {1f, 1f, 1f, 1f};
+		float[] offsets = {0f, 0f, 0f, 0f};
+		for (int i = alpha ? 3 : 0; i < (alpha ? 4 : 3); ++i)
+		{
+			scales[i] = scale;
+			offsets[i] = offset;
+		}
+		return new RescaleOp(scales, offsets, null).filter(image, null);
+	}
+
+	private static BufferedImage recolor(BufferedImage image)
+	{
+		BufferedImage out = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g2d = out.createGraphics();
+		g2d.drawImage(image, 0, 0, null);
+		g2d.setComposite(AlphaComposite.SrcAtop);
+		g2d.setColor(COLOR);
+		g2d.fillRect(0, 0, out.getWidth(), out.getHeight());
+		g2d.dispose();
+		return out;
+	}
+
+	private static BufferedImage fill(BufferedImage image)
+	{
+		BufferedImage out = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB);
+		for (int x = 0; x < out.getWidth(); x++)
+		{
+			for (int y = 0; y < out.getHeight(); y++)
+			{
+				if ((image.getRGB(x, y) >>> 24) != 0)
+				{
+					out.setRGB(x, y, COLOR.getRGB());
+				}
+			}
+		}
+		return out;
+	}
+
+	private static BufferedImage outline(BufferedImage image)
+	{
+		BufferedImage filled = fill(image);
+		BufferedImage out = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g2d = out.createGraphics();
+		g2d.drawImage(filled, -1, 0, null);
+		g2d.drawImage(filled, 1, 0, null);
+		g2d.drawImage(filled, 0, -1, null);
+		g2d.drawImage(filled, 0, 1, null);
+		g2d.drawImage(image, 0, 0, null);
+		g2d.dispose();
+		return out;
+	}
+
+	private static BufferedImage randomImage(Random random, int size)
+	{
+		BufferedImage image = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+		// an opaque blob with antialiased edges on a transparent background, like an item icon
+		int center = size / 2;
+		for (int y = 0; y < size; ++y)
+		{
+			for (int x = 0; x < size; ++x)
+			{
+				double d = Math.hypot(x - center, y - center) - size / 3.0;
+				int alpha = d <= 0 ? 255 : d < 1 ? (int) (255 * (1 - d)) : 0;
+				image.setRGB(x, y, alpha << 24 | (random.nextInt() & 0xffffff));
+			}
+		}
+		return image;
+	}
+}
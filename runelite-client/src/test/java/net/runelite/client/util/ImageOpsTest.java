@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import javax.swing.GrayFilter;
+import net.runelite.client.callback.ClientThread;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import org.junit.Test;
+import static org.mockito.Mockito.mock;
+
+public class ImageOpsTest
+{
+	private static final int SIZE = 64;
+	private static final Color TRANSLUCENT = new Color(200, 100, 50, 128);
+
+	@Test
+	public void testSrcOver()
+	{
+		Random random = new Random(42);
+		int[] src = randomPixels(random);
+		int[] dst = randomPixels(random);
+
+		BufferedImage image = image(dst);
+		Graphics2D g2d = image.createGraphics();
+		g2d.drawImage(image(src), 0, 0, null);
+		g2d.dispose();
+
+		int[] expected = pixels(image);
+		for (int i = 0; i < src.length; ++i)
+		{
+			assertEquals(expected[i], ImageOps.srcOver(src[i], dst[i]));
+		}
+	}
+
+	@Test
+	public void testSrcAtop()
+	{
+		Random random = new Random(42);
+		int[] dst = randomPixels(random);
+		for (int i = 0; i < dst.length; ++i)
+		{
+			// recolor draws the image onto a transparent one first
+			dst[i] = ImageOps.srcOver(dst[i], 0);
+		}
+
+		for (Color color : new Color[]{Color.RED, TRANSLUCENT, new Color(0, true)})
+		{
+			BufferedImage image = image(dst);
+			Graphics2D g2d = image.createGraphics();
+			g2d.setComposite(AlphaComposite.SrcAtop);
+			g2d.setColor(color);
+			g2d.fillRect(0, 0, SIZE, SIZE);
+			g2d.dispose();
+
+			int[] expected = pixels(image);
+			for (int i = 0; i < dst.length; ++i)
+			{
+				assertEquals(expected[i], ImageOps.srcAtop(color.getRGB(), dst[i]));
+			}
+		}
+	}
+
+	@Test
+	public void testChain()
+	{
+		BufferedImage image = image(randomPixels(new Random(42)));
+
+		assertArrayEquals(
+			pixels(ImageUtil.alphaOffset(ImageUtil.outlineImage(image, TRANSLUCENT), -100)),
+			pixels(ImageOps.create().outline(TRANSLUCENT, false).alphaOffset(-100).apply(image)));
+		assertArrayEquals(
+			pixels(ImageUtil.luminanceScale(ImageUtil.grayscaleImage(image), 0.61f)),
+			pixels(ImageOps.create().grayscale().luminanceScale(0.61f).apply(image)));
+		assertArrayEquals(
+			pixels(ImageUtil.fillImage(ImageUtil.outlineImage(ImageUtil.luminanceOffset(image, -80), Color.RED, true), Color.BLUE)),
+			pixels(ImageOps.create().luminanceOffset(-80).outline(Color.RED, true).fill(Color.BLUE).apply(image)));
+		assertArrayEquals(
+			pixels(ImageUtil.recolorImage(ImageUtil.alphaOffset(image, 0.5f), TRANSLUCENT)),
+			pixels(ImageOps.create().alphaOffset(0.5f).recolor(TRANSLUCENT).apply(image)));
+	}
+
+	@Test
+	public void testGrayscaleAbgr()
+	{
+		// images loaded by ImageIO are usually 4BYTE_ABGR rather than INT_ARGB
+		int[] pixels = randomPixels(new Random(42));
+		BufferedImage image = new BufferedImage(SIZE, SIZE, BufferedImage.TYPE_4BYTE_ABGR);
+		image.setRGB(0, 0, SIZE, SIZE, pixels, 0, SIZE);
+
+		BufferedImage expected = ImageUtil.toARGB(GrayFilter.createDisabledImage(image));
+		assertArrayEquals(pixels(expected), pixels(ImageUtil.grayscaleImage(image)));
+	}
+
+	@Test
+	public void testEquals()
+	{
+		assertEquals(ImageOps.create().outline(Color.RED, false).alphaOffset(-100),
+			ImageOps.create().outline(new Color(255, 0, 0), false).alphaOffset(-100));
+		assertEquals(ImageOps.create().outline(Color.RED, false).alphaOffset(-100).hashCode(),
+			ImageOps.create().outline(new Color(255, 0, 0), false).alphaOffset(-100).hashCode());
+		assertNotEquals(ImageOps.create().outline(Color.RED, false).alphaOffset(-100),
+			ImageOps.create().alphaOffset(-100).outline(Color.RED, false));
+		assertNotEquals(ImageOps.create().alphaOffset(-100), ImageOps.create().alphaOffset(-100f));
+	}
+
+	@Test
+	public void testApplyCached()
+	{
+		BufferedImage image = image(randomPixels(new Random(42)));
+		BufferedImage copy = image(pixels(image));
+
+		BufferedImage outlined = ImageOps.create().outline(Color.RED, false).applyCached(image);
+		assertArrayEquals(pixels(ImageUtil.outlineImage(image, Color.RED)), pixels(outlined));
+		assertSame(outlined, ImageOps.create().outline(Color.RED, false).applyCached(image));
+		assertNotSame(outlined, ImageOps.create().outline(Color.BLUE, false).applyCached(image));
+		// images are matched by identity, not by content
+		assertNotSame(outlined, ImageOps.create().outline(Color.RED, false).applyCached(copy));
+	}
+
+	@Test
+	public void testApplyCachedAsync()
+	{
+		AsyncBufferedImage image = new AsyncBufferedImage(mock(ClientThread.class), SIZE, SIZE, BufferedImage.TYPE_INT_ARGB);
+		ImageOps ops = ImageOps.create().outline(Color.RED, false);
+
+		// the image is drawn into when it loads, so it isn't memoized before then
+		BufferedImage empty = ops.applyCached(image);
+		image.setRGB(0, 0, SIZE, SIZE, randomPixels(new Random(42)), 0, SIZE);
+		image.loaded();
+
+		BufferedImage outlined = ops.applyCached(image);
+		assertNotSame(empty, outlined);
+		assertArrayEquals(pixels(ImageUtil.outlineImage(image, Color.RED)), pixels(outlined));
+		assertSame(outlined, ops.applyCached(image));
+	}
+
+	private static int[] randomPixels(Random random)
+	{
+		int[] pixels = new int[SIZE * SIZE];
+		for (int i = 0; i < pixels.length; ++i)
+		{
+			switch (random.nextInt(4))
+			{
+				case 0:
+					// transparent
+					pixels[i] = random.nextInt() & 0xffffff;
+					break;
+				case 1:
+					// opaque
+					pixels[i] = random.nextInt() | 0xff000000;
+					break;
+				default:
+					pixels[i] = random.nextInt();
+					break;
+			}
+		}
+		return pixels;
+	}
+
+	private static BufferedImage image(int[] pixels)
+	{
+		BufferedImage image = new BufferedImage(SIZE, SIZE, BufferedImage.TYPE_INT_ARGB);
+		image.getRaster().setDataElements(0, 0, SIZE, SIZE, pixels);
+		return image;
+	}
+
+	private static int[] pixels(BufferedImage image)
+	{
+		return (int[]) image.getRaster().getDataElements(0, 0, image.getWidth(), image.getHeight(), null);
+	}
+}
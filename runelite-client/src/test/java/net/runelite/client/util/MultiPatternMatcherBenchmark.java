@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Ignore;
+import org.junit.Test;
+
+/**
+ * Compares matching chat messages against growing filter lists with a loop over one pattern per word,
+ * as the chat filter used to, and with {@link MultiPatternMatcher}.
+ */
+@Slf4j
+public class MultiPatternMatcherBenchmark
+{
+	private static final int MESSAGES = 2000;
+	private static final int ROUNDS = 10;
+
+	@Test
+	@Ignore
+	public void benchmark()
+	{
+		Random random = new Random(42);
+		List<String> messages = new ArrayList<>();
+		for (int i = 0; i < MESSAGES; ++i)
+		{
+			messages.add(randomText(random, 10 + random.nextInt(70)));
+		}
+
+		for (int numWords : new int[]{10, 100, 1000, 5000})
+		{
+			List<String> words = new ArrayList<>();
+			List<Pattern> patterns = new ArrayList<>();
+			for (int i = 0; i < numWords; ++i)
+			{
+				String word = randomText(random, 5 + random.nextInt(6)).replace(' ', 'x');
+				words.add(word);
+				patterns.add(Pattern.compile(Pattern.quote(word), Pattern.CASE_INSENSITIVE));
+			}
+			MultiPatternMatcher matcher = new MultiPatternMatcher(words, Collections.emptyList());
+
+			long loop = time(messages, m ->
+			{
+				int found = 0;
+				for (Pattern p : patterns)
+				{
+					if (p.matcher(m).find())
+					{
+						++found;
+					}
+				}
+				return found;
+			});
+			long combined = time(messages, m -> matcher.match(m) == null ? 0 : 1);
+			log.info("{} words: pattern loop {} ns/message, combined {} ns/message", numWords, loop, combined);
+		}
+	}
+
+	private interface Scan
+	{
+		int scan(String message);
+	}
+
+	private static long time(List<String> messages, Scan scan)
+	{
+		long best = Long.MAX_VALUE;
+		int sink = 0;
+		for (int round = 0; round < ROUNDS; ++round)
+		{
+			long start = System.nanoTime();
+			for (String message : messages)
+			{
+				sink += scan.scan(message);
+			}
+			best = Math.min(best, (System.nanoTime() - start) / messages.size());
+		}
+		// use the results, so that the work can't be optimized away
+		log.debug("Checksum {}", sink);
+		return best;
+	}
+
+	private static String randomText(Random random, int length)
+	{
+		char[] chars = new char[length];
+		for (int i = 0; i < length; ++i)
+		{
+			chars[i] = random.nextInt(6) == 0 ? ' ' : (char) ('a' + random.nextInt(26));
+		}
+		return new String(chars);
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.regex.Pattern;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class MultiPatternMatcherTest
+{
+	@Test
+	public void testWords()
+	{
+		MultiPatternMatcher matcher = new MultiPatternMatcher(Arrays.asList("he", "She", "his", "hers"), Collections.emptyList());
+		assertTrue(matcher.find("uSHErs"));
+		assertFalse(matcher.find("hi"));
+		assertEquals("u*****", censor(matcher, "ushers"));
+		assertEquals("***s", censor(matcher, "hiss"));
+		assertNull(matcher.match("hi"));
+	}
+
+	@Test
+	public void testOverlappingWord()
+	{
+		// each word matches like Matcher.find, so a word's matches do not overlap
+		MultiPatternMatcher matcher = new MultiPatternMatcher(Collections.singletonList("aa"), Collections.emptyList());
+		assertEquals("**a", censor(matcher, "aaa"));
+		assertEquals("****", censor(matcher, "aaaa"));
+	}
+
+	@Test
+	public void testPatterns()
+	{
+		MultiPatternMatcher matcher = new MultiPatternMatcher(Collections.singletonList("bar"), Arrays.asList(
+			Pattern.compile("fo+", Pattern.CASE_INSENSITIVE),
+			Pattern.compile("(a)\\1"),
+			Pattern.compile("^q", Pattern.MULTILINE)
+		));
+		assertEquals("*** ***", censor(matcher, "FOO BAR"));
+		assertEquals("x**x", censor(matcher, "xaax"));
+		assertEquals("*\n*", censor(matcher, "q\nq"));
+		assertFalse(matcher.find("a f"));
+	}
+
+	@Test
+	public void testUnmergeablePatterns()
+	{
+		// the same group name twice, and an unterminated quote, can't be merged into one alternation
+		MultiPatternMatcher matcher = new MultiPatternMatcher(Collections.emptyList(), Arrays.asList(
+			Pattern.compile("(?<n>gp)", Pattern.CASE_INSENSITIVE),
+			Pattern.compile("(?<n>bond)", Pattern.CASE_INSENSITIVE),
+			Pattern.compile("\\Q.x"),
+			Pattern.compile("(?<=a)b")
+		));
+		assertEquals("** ****", censor(matcher, "GP bond"));
+		assertEquals("**", censor(matcher, ".x"));
+		assertEquals("a*", censor(matcher, "ab"));
+		assertFalse(matcher.find("b x"));
+
+		// a comment in an inline comments group runs to the end of the alternation, which the patterns
+		// are matched separately for
+		matcher = new MultiPatternMatcher(Collections.emptyList(), Arrays.asList(
+			Pattern.compile("(?x)a b # comment"),
+			Pattern.compile("c")
+		));
+		assertEquals("**-*", censor(matcher, "ab-c"));
+		assertFalse(matcher.find("a b"));
+	}
+
+	@Test
+	public void testEmptyMatch()
+	{
+		MultiPatternMatcher matcher = new MultiPatternMatcher(Collections.emptyList(), Collections.singletonList(Pattern.compile("x*")));
+		BitSet matched = matcher.match("abc");
+		assertTrue(matched != null && matched.isEmpty());
+		assertTrue(matcher.find("abc"));
+	}
+
+	private static String censor(MultiPatternMatcher matcher, String text)
+	{
+		BitSet matched = matcher.match(text);
+		if (matched == null)
+		{
+			return text;
+		}
+
+		char[] chars = text.toCharArray();
+		matched.stream().forEach(i -> chars[i] = '*');
+		return new String(chars);
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.Adler32;
+import javax.imageio.ImageIO;
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class PngEncoderTest
+{
+	private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+	@After
+	public void after()
+	{
+		executor.shutdown();
+	}
+
+	@Test
+	public void testArgb() throws IOException
+	{
+		// tall enough to be split into several bands
+		BufferedImage image = image(BufferedImage.TYPE_INT_ARGB, 517, 700);
+		for (int level : new int[]{0, 1, 4, 9})
+		{
+			BufferedImage decoded = roundTrip(image, level);
+			assertTrue(decoded.getColorModel().hasAlpha());
+			assertPixelsEqual(image, decoded);
+		}
+	}
+
+	@Test
+	public void testRgb() throws IOException
+	{
+		BufferedImage image = image(BufferedImage.TYPE_INT_RGB, 300, 200);
+		BufferedImage decoded = roundTrip(image, 6);
+		assertFalse(decoded.getColorModel().hasAlpha());
+		assertPixelsEqual(image, decoded);
+	}
+
+	@Test
+	public void testOtherType() throws IOException
+	{
+		BufferedImage image = image(BufferedImage.TYPE_3BYTE_BGR, 33, 17);
+		assertPixelsEqual(image, roundTrip(image, 4));
+	}
+
+	@Test
+	public void testAdler32Combine()
+	{
+		byte[] data = new byte[100_000];
+		new Random(1).nextBytes(data);
+
+		Adler32 whole = new Adler32();
+		whole.update(data);
+
+		Adler32 first = new Adler32();
+		first.update(data, 0, 12345);
+		Adler32 second = new Adler32();
+		second.update(data, 12345, data.length - 12345);
+
+		assertEquals(whole.getValue(), PngEncoder.adler32Combine(first.getValue(), second.getValue(), data.length - 12345));
+	}
+
+	private BufferedImage roundTrip(BufferedImage image, int level) throws IOException
+	{
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		new PngEncoder(executor, level).write(image, out);
+		return ImageIO.read(new ByteArrayInputStream(out.toByteArray()));
+	}
+
+	private static BufferedImage image(int type, int width, int height)
+	{
+		BufferedImage image = new BufferedImage(width, height, type);
+		Graphics2D g = image.createGraphics();
+		// flat areas and gradients like a game screenshot, plus noise
+		g.setPaint(new GradientPaint(0, 0, Color.BLUE, width, height, new Color(255, 128, 0, 128)));
+		g.fillRect(0, 0, width, height);
+		g.setColor(Color.BLACK);
+		g.fillRect(width / 4, height / 4, width / 2, height / 8);
+		g.dispose();
+
+		Random random = new Random(42);
+		for (int i = 0; i < width * height / 10; ++i)
+		{
+			image.setRGB(random.nextInt(width), random.nextInt(height), random.nextInt());
+		}
+		return image;
+	}
+
+	private static void assertPixelsEqual(BufferedImage expected, BufferedImage actual)
+	{
+		assertEquals(expected.getWidth(), actual.getWidth());
+		assertEquals(expected.getHeight(), actual.getHeight());
+		boolean alpha = expected.getColorModel().hasAlpha();
+		for (int y = 0; y < expected.getHeight(); ++y)
+		{
+			for (int x = 0; x < expected.getWidth(); ++x)
+			{
+				int e = expected.getRGB(x, y);
+				int a = actual.getRGB(x, y);
+				assertEquals(alpha ? e : e & 0xffffff, alpha ? a : a & 0xffffff);
+			}
+		}
+	}
+}
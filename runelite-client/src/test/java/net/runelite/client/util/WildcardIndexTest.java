@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import com.google.common.collect.ImmutableList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.function.Function;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+public class WildcardIndexTest
+{
+	private static final WildcardIndex<String> INDEX = new WildcardIndex<>(Arrays.asList(
+		"Abyssal whip",
+		"rune*",
+		"*rune",
+		"*",
+		"d*e p*",
+		"*bones*",
+		"Rune*"
+	), Function.identity());
+
+	@Test
+	public void testMatches()
+	{
+		assertEquals(ImmutableList.of("Abyssal whip", "*"), INDEX.matches("abyssal WHIP"));
+		assertEquals(ImmutableList.of("rune*", "*"), INDEX.matches("Rune pouch").subList(0, 2));
+		assertEquals(ImmutableList.of("rune*", "*rune", "*", "Rune*"), INDEX.matches("Rune"));
+		assertEquals(ImmutableList.of("*rune", "*"), INDEX.matches("Nature rune"));
+		assertEquals(ImmutableList.of("*", "d*e p*"), INDEX.matches("Dragon axe pet"));
+		assertEquals(ImmutableList.of("*", "*bones*"), INDEX.matches("Big bones"));
+		assertEquals(ImmutableList.of("*"), INDEX.matches("Abyssal dagger"));
+	}
+
+	@Test
+	public void testNoWildcards()
+	{
+		WildcardIndex<String> index = new WildcardIndex<>(Arrays.asList("rune*", "string $ with special character"), Function.identity());
+		assertEquals(Collections.emptyList(), index.matches("Adamant dagger"));
+		assertEquals(ImmutableList.of("string $ with special character"), index.matches("string $ with special character"));
+		assertEquals(Collections.emptyList(), index.matches("run"));
+	}
+
+	@Test
+	public void testSameAsWildcardMatcher()
+	{
+		String[] patterns = {"rune*", "*rune", "a*b*c", "*ab*", "abc", "*", "a**"};
+		String[] names = {"", "rune", "Runes", "air rune", "abc", "axbxc", "xabx", "ab", "acb"};
+		for (String pattern : patterns)
+		{
+			WildcardIndex<String> index = new WildcardIndex<>(Collections.singletonList(pattern), Function.identity());
+			for (String name : names)
+			{
+				assertEquals(pattern + " " + name, WildcardMatcher.matches(pattern, name), !index.matches(name).isEmpty());
+			}
+		}
+	}
+}
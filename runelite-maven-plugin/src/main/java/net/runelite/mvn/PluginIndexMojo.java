@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.mvn;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+/**
+ * Writes an index of the classes annotated with {@code @PluginDescriptor} so the client
+ * does not need to scan and load every class in the plugin package at startup.
+ */
+@Mojo(
+	name = "build-plugin-index",
+	defaultPhase = LifecyclePhase.PROCESS_CLASSES
+)
+public class PluginIndexMojo extends AbstractMojo
+{
+	private static final String PLUGIN_DESCRIPTOR = "Lnet/runelite/client/plugins/PluginDescriptor;";
+
+	private static final int CONSTANT_UTF8 = 1;
+	private static final int CONSTANT_LONG = 5;
+	private static final int CONSTANT_DOUBLE = 6;
+
+	@Parameter(defaultValue = "${project.build.outputDirectory}", required = true)
+	private File classesDirectory;
+
+	@Parameter(required = true)
+	private String pluginPackage;
+
+	@Parameter(required = true)
+	private File indexFile;
+
+	@Override
+	public void execute() throws MojoExecutionException, MojoFailureException
+	{
+		File packageDirectory = new File(classesDirectory, pluginPackage.replace('.', '/'));
+		List<String> plugins = new ArrayList<>();
+
+		try
+		{
+			scan(packageDirectory, pluginPackage, plugins);
+		}
+		catch (IOException ex)
+		{
+			throw new MojoExecutionException("error scanning plugin classes", ex);
+		}
+
+		Collections.sort(plugins);
+
+		indexFile.getParentFile().mkdirs();
+		try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(indexFile.toPath(), StandardCharsets.UTF_8)))
+		{
+			for (String plugin : plugins)
+			{
+				out.println(plugin);
+			}
+		}
+		catch (IOException ex)
+		{
+			throw new MojoExecutionException("error writing plugin index", ex);
+		}
+
+		getLog().info("Indexed " + plugins.size() + " plugins");
+	}
+
+	private static void scan(File directory, String pkg, List<String> plugins) throws IOException
+	{
+		File[] files = directory.listFiles();
+		if (files == null)
+		{
+			return;
+		}
+
+		for (File file : files)
+		{
+			String name = file.getName();
+			if (file.isDirectory())
+			{
+				scan(file, pkg + "." + name, plugins);
+			}
+			// only top level classes can be plugins
+			else if (name.endsWith(".class") && name.indexOf('$') == -1 && hasUtf8Constant(file, PLUGIN_DESCRIPTOR))
+			{
+				plugins.add(pkg + "." + name.substring(0, name.length() - ".class".length()));
+			}
+		}
+	}
+
+	/**
+	 * Check the constant pool of a class file for a utf8 constant. Annotation types are stored
+	 * in the pool by descriptor, so this finds classes which are annotated with a type without
+	 * having to load them. It can have false positives, e.g. from fields of the annotation type,
+	 * which the client filters out when it loads the class.
+	 */
+	private static boolean hasUtf8Constant(File file, String constant) throws IOException
+	{
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file))))
+		{
+			if (in.readInt() != 0xCAFEBABE)
+			{
+				return false;
+			}
+
+			in.readUnsignedShort(); // minor version
+			in.readUnsignedShort(); // major version
+
+			int count = in.readUnsignedShort();
+			byte[] skip = new byte[8];
+			for (int i = 1; i < count; ++i)
+			{
+				int tag = in.readUnsignedByte();
+				switch (tag)
+				{
+					case CONSTANT_UTF8:
+						if (constant.equals(in.readUTF()))
+						{
+							return true;
+						}
+						break;
+					case CONSTANT_LONG:
+					case CONSTANT_DOUBLE:
+						in.readFully(skip, 0, 8);
+						// 8 byte constants take up two entries
+						++i;
+						break;
+					case 3: // Integer
+					case 4: // Float
+					case 9: // Fieldref
+					case 10: // Methodref
+					case 11: // InterfaceMethodref
+					case 12: // NameAndType
+					case 17: // Dynamic
+					case 18: // InvokeDynamic
+						in.readFully(skip, 0, 4);
+						break;
+					case 15: // MethodHandle
+						in.readFully(skip, 0, 3);
+						break;
+					case 7: // Class
+					case 8: // String
+					case 16: // MethodType
+					case 19: // Module
+					case 20: // Package
+						in.readFully(skip, 0, 2);
+						break;
+					default:
+						throw new IOException("unknown constant pool tag " + tag + " in " + file);
+				}
+			}
+			return false;
+		}
+	}
+}